@@ -1,31 +1,50 @@
 package main;
 
+import main.gestor.BuzonProcesos;
 import main.gestor.GestorProcesos;
 import main.modelo.*;
 import main.planificacion.*;
 import main.estructuras.ListaSimple;
-import main.estructuras.MapaSimple;
 import main.graficas.GraficadorMetricas;
+import main.gui.InstantaneaSimulacion;
+import main.gui.ModeloListaProcesos;
 import main.gui.PanelPCB;
+import main.gui.VistaProceso;
 import main.interrupciones.ManejadorInterrupciones;
+import main.metricas.MotorMetricas;
+import main.utilidades.OptimizadorRendimiento;
 import main.config.ConfiguracionSistema;
 import main.config.GestorConfiguracion;
 import javax.swing.*;
 import java.awt.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class SimuladorGUI extends JFrame {
 
+    private static final long serialVersionUID = 1L;
+
+    // Frecuencia máxima de refresco de la interfaz
+    private static final int FPS_REFRESCO = 30;
+    private static final int MAX_MENSAJES_LOG_POR_FRAME = 500;
+    private static final int MAX_CARACTERES_LOG = 200_000;
+
     private GestorProcesos gestorProcesos;
+    private BuzonProcesos buzonProcesos; // Lo drena quien tiene el mutex
     private AlgoritmoPlanificacion algoritmoActual;
     private int cicloActual = 0;
     private Proceso procesoEnEjecucion;
+    private int ciclosCpuOcupada = 0;
+    private int ciclosCpuLibre = 0;
+    private MotorMetricas motorMetricas;
+    private OptimizadorRendimiento optimizador;
 
     // Componentes GUI
     private JTextArea areaConsola;
     private JList<String> listaListos;
     private JList<String> listaTerminados;
-    private DefaultListModel<String> modeloListos;
-    private DefaultListModel<String> modeloTerminados;
+    private ModeloListaProcesos modeloListos;
+    private ModeloListaProcesos modeloTerminados;
     private JLabel lblCiclo;
     private JLabel lblCPU;
     private JLabel lblAlgoritmo;
@@ -37,8 +56,22 @@ public class SimuladorGUI extends JFrame {
     private JButton btnReiniciar;
     private JButton btnVerGraficas;
 
-    private Timer timer;
-    private boolean ejecutando = false;
+    // La simulación corre en su propio hilo; el EDT sólo dibuja instantáneas
+    private Thread hiloSimulacion;
+    private volatile boolean ejecutando = false;
+    private volatile int periodoCicloMs;
+    private Timer timerRefresco;
+    private final AtomicReference<InstantaneaSimulacion> instantanea = new AtomicReference<>();
+    private final ConcurrentLinkedQueue<String> colaLog = new ConcurrentLinkedQueue<>();
+    private InstantaneaSimulacion ultimaRenderizada;
+    private long versionInstantanea = 0;
+    private long ultimaPublicacionNanos = 0;
+
+    // Terminados en orden (sólo se agregan; las instantáneas comparten el prefijo publicado)
+    private Proceso[] archivoTerminados = new Proceso[64];
+    private int numArchivoTerminados = 0;
+
+    private JSpinner spnPeriodoCiclo;
     private GraficadorMetricas graficadorMetricas;
     private PanelPCB panelPCB;
     private ManejadorInterrupciones manejadorInterrupciones;
@@ -54,6 +87,11 @@ public class SimuladorGUI extends JFrame {
         
         // Inicializar componentes
         gestorProcesos = new GestorProcesos(configuracion.getMaxProcesos());
+        buzonProcesos = new BuzonProcesos(gestorProcesos);
+        motorMetricas = new MotorMetricas();
+        gestorProcesos.setObservadorEstados(motorMetricas);
+        optimizador = new OptimizadorRendimiento();
+        optimizador.conectar(gestorProcesos);
         algoritmoActual = new FCFS();
         graficadorMetricas = new GraficadorMetricas();
         manejadorInterrupciones = new ManejadorInterrupciones();
@@ -89,8 +127,10 @@ public class SimuladorGUI extends JFrame {
         log("Usa 'Limpiar Log' para limpiar el registro de eventos");
         log("");
 
-        // Timer para simulación
-        timer = new Timer(1000, e -> ejecutarCiclo());
+        // Refresco de la interfaz a partir de la última instantánea publicada
+        aplicarPeriodoCiclo(configuracion.getDuracionCicloMs());
+        timerRefresco = new Timer(1000 / FPS_REFRESCO, e -> refrescarInterfaz());
+        timerRefresco.start();
 
         setVisible(true);
     }
@@ -102,10 +142,15 @@ public class SimuladorGUI extends JFrame {
         areaConsola.setFont(new Font("Monospaced", Font.PLAIN, 12));
 
         // Listas
-        modeloListos = new DefaultListModel<>();
-        modeloTerminados = new DefaultListModel<>();
+        // Listas virtuales: sólo se formatean las filas visibles
+        modeloListos = new ModeloListaProcesos(p -> String.format("%-12s [%2d inst, Pri:%d, %s]",
+                p.getNombre(), p.getNumInstrucciones(), p.getPrioridad(), p.getTipo()));
+        modeloTerminados = new ModeloListaProcesos(p -> String.format("✓ %-12s [%2d inst ejecutadas]",
+                p.getNombre(), p.getInstruccionesEjecutadas()));
         listaListos = new JList<>(modeloListos);
         listaTerminados = new JList<>(modeloTerminados);
+        ModeloListaProcesos.configurarLista(listaListos, "Proceso00000 [20 inst, Pri:10, CPU_BOUND]    ");
+        ModeloListaProcesos.configurarLista(listaTerminados, "✓ Proceso00000 [20 inst ejecutadas]    ");
 
         // Labels de estado
         lblCiclo = new JLabel("Ciclo: 0");
@@ -139,6 +184,11 @@ public class SimuladorGUI extends JFrame {
 
         btnVerGraficas = new JButton("Ver Gráficas");
         btnVerGraficas.addActionListener(e -> mostrarGraficas());
+
+        // Duración del ciclo (0 = tan rápido como sea posible)
+        spnPeriodoCiclo = new JSpinner(new SpinnerNumberModel(1000, 0, 5000, 50));
+        spnPeriodoCiclo.setToolTipText("Milisegundos por ciclo (0 = sin espera)");
+        spnPeriodoCiclo.addChangeListener(e -> periodoCicloMs = (Integer) spnPeriodoCiclo.getValue());
     }
 
     private void configurarLayout() {
@@ -156,6 +206,8 @@ public class SimuladorGUI extends JFrame {
         panelControl.setBorder(BorderFactory.createTitledBorder("Controles"));
         panelControl.add(new JLabel("Algoritmo:"));
         panelControl.add(comboAlgoritmos);
+        panelControl.add(new JLabel("ms/ciclo:"));
+        panelControl.add(spnPeriodoCiclo);
         panelControl.add(btnIniciar);
         panelControl.add(btnPausa);
         panelControl.add(btnCrearProceso);
@@ -232,7 +284,7 @@ public class SimuladorGUI extends JFrame {
         }
         
         panelPCB.setTotalProcesosCreados(gestorProcesos.getSiguienteId() - 1);
-        actualizarVista();
+        publicarInstantanea();
     }
 
     private void crearProcesosIniciales() {
@@ -263,15 +315,18 @@ public class SimuladorGUI extends JFrame {
             p.setEstado(EstadoProceso.LISTO);
         }
 
-        actualizarVista();
+        publicarInstantanea();
         log("");
         log("5 procesos creados y listos para ejecutar");
         log("CPU BOUND: 3 procesos | IO BOUND: 2 procesos");
     }
 
     private void iniciarSimulacion() {
+        esperarHiloSimulacion();
         ejecutando = true;
-        timer.start();
+        hiloSimulacion = new Thread(this::bucleSimulacion, "Simulacion");
+        hiloSimulacion.setDaemon(true);
+        hiloSimulacion.start();
         btnIniciar.setEnabled(false);
         btnPausa.setEnabled(true);
         log("=== Simulación iniciada ===");
@@ -279,21 +334,87 @@ public class SimuladorGUI extends JFrame {
 
     private void pausarSimulacion() {
         ejecutando = false;
-        timer.stop();
+        if (hiloSimulacion != null) {
+            hiloSimulacion.interrupt();
+        }
         btnIniciar.setEnabled(true);
         btnPausa.setEnabled(false);
         log("=== Simulación pausada ===");
     }
 
+    private void aplicarPeriodoCiclo(int milisegundos) {
+        SpinnerNumberModel modelo = (SpinnerNumberModel) spnPeriodoCiclo.getModel();
+        int maximo = (Integer) modelo.getMaximum();
+        periodoCicloMs = Math.max(0, Math.min(maximo, milisegundos));
+        spnPeriodoCiclo.setValue(periodoCicloMs);
+    }
+
+    private void esperarHiloSimulacion() {
+        if (hiloSimulacion != null && hiloSimulacion != Thread.currentThread()) {
+            try {
+                hiloSimulacion.join(2000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // Hilo de simulación: ejecuta ciclos y publica instantáneas como mucho a FPS_REFRESCO
+    private void bucleSimulacion() {
+        long periodoPublicacion = 1_000_000_000L / FPS_REFRESCO;
+        while (ejecutando) {
+            boolean terminado;
+            synchronized (mutex) {
+                ejecutarCiclo();
+
+                // Actualizar gráficas cada 5 ciclos
+                if (cicloActual % 5 == 0) {
+                    actualizarMetricasGraficas();
+                }
+
+                terminado = optimizador.contarProcesosPorEstadoOptimizado(EstadoProceso.LISTO, gestorProcesos) == 0 &&
+                        procesoEnEjecucion == null;
+                if (terminado || System.nanoTime() - ultimaPublicacionNanos >= periodoPublicacion) {
+                    publicarInstantanea();
+                }
+            }
+
+            // Verificar si todos terminaron
+            if (terminado) {
+                ejecutando = false;
+                SwingUtilities.invokeLater(this::finalizarSimulacion);
+                return;
+            }
+
+            int periodo = periodoCicloMs;
+            if (periodo > 0) {
+                try {
+                    Thread.sleep(periodo);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void finalizarSimulacion() {
+        pausarSimulacion();
+        log("=== Todos los procesos han terminado ===");
+        synchronized (mutex) {
+            mostrarEstadisticas();
+        }
+    }
+
     private void ejecutarCiclo() {
         synchronized (mutex) {
+            drenarBuzon();
             cicloActual++;
-            lblCiclo.setText("Ciclo: " + cicloActual);
+            motorMetricas.avanzarCiclo(cicloActual);
             
             // Verificar interrupción por prioridad (algoritmo preemptivo)
             if (procesoEnEjecucion != null && algoritmoActual instanceof Prioridad) {
                 Prioridad algPrioridad = (Prioridad) algoritmoActual;
-                ListaSimple<Proceso> listos = gestorProcesos.getProcesosPorEstado(EstadoProceso.LISTO);
+                ListaSimple<Proceso> listos = optimizador.buscarProcesosPorEstadoOptimizado(EstadoProceso.LISTO, gestorProcesos);
                 
                 if (algPrioridad.debeDesalojar(procesoEnEjecucion, listos)) {
                     log("⚡ INTERRUPCIÓN POR PRIORIDAD: Desalojando " + procesoEnEjecucion.getNombre() + 
@@ -312,7 +433,7 @@ public class SimuladorGUI extends JFrame {
 
             // Si no hay proceso en ejecución, seleccionar siguiente
             if (procesoEnEjecucion == null) {
-                ListaSimple<Proceso> listos = gestorProcesos.getProcesosPorEstado(EstadoProceso.LISTO);
+                ListaSimple<Proceso> listos = optimizador.buscarProcesosPorEstadoOptimizado(EstadoProceso.LISTO, gestorProcesos);
                 if (!listos.isEmpty()) {
                     algoritmoActual.reordenarCola(listos);
                     procesoEnEjecucion = algoritmoActual.seleccionarSiguiente(listos);
@@ -335,8 +456,7 @@ public class SimuladorGUI extends JFrame {
 
             // Ejecutar proceso actual
             if (procesoEnEjecucion != null) {
-                lblCPU.setText("CPU: " + procesoEnEjecucion.getNombre() +
-                        " [PC: " + procesoEnEjecucion.getProgramCounter() + "]");
+                ciclosCpuOcupada++;
 
                 // Incrementar PC
                 procesoEnEjecucion.setProgramCounter(procesoEnEjecucion.getProgramCounter() + 1);
@@ -355,35 +475,20 @@ public class SimuladorGUI extends JFrame {
                             : "IO BOUND completado";
 
                     log("✓ Proceso terminado: " + procesoEnEjecucion.getNombre() + " - " + tipoDescripcion);
+                    archivarTerminado(procesoEnEjecucion);
                     procesoEnEjecucion = null;
-                    lblCPU.setText("CPU: IDLE");
                 }
             } else {
-                lblCPU.setText("CPU: IDLE");
+                ciclosCpuLibre++;
             }
-
-            panelPCB.actualizarPCB(procesoEnEjecucion, cicloActual);
-            panelPCB.actualizarEstadoColas(gestorProcesos);
-            actualizarVista();
-        }
-
-        // Actualizar gráficas cada 5 ciclos
-        if (cicloActual % 5 == 0) {
-            actualizarMetricasGraficas();
-        }
-
-        // Verificar si todos terminaron
-        if (gestorProcesos.getProcesosPorEstado(EstadoProceso.LISTO).isEmpty() &&
-                procesoEnEjecucion == null) {
-            pausarSimulacion();
-            log("=== Todos los procesos han terminado ===");
-            mostrarEstadisticas();
+            motorMetricas.actualizarUtilizacionCPU(ciclosCpuOcupada, ciclosCpuLibre);
         }
     }
 
     private void cambiarAlgoritmo() {
         String seleccion = (String) comboAlgoritmos.getSelectedItem();
 
+        synchronized (mutex) {
         switch (seleccion) {
             case "FCFS":
                 algoritmoActual = new FCFS();
@@ -404,6 +509,7 @@ public class SimuladorGUI extends JFrame {
                 algoritmoActual = new MultinivelFeedback(3);
                 break;
         }
+        }
 
         lblAlgoritmo.setText("Algoritmo: " + seleccion);
         panelPCB.setAlgoritmo(seleccion);
@@ -431,43 +537,107 @@ public class SimuladorGUI extends JFrame {
                 JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
 
         if (result == JOptionPane.OK_OPTION) {
-            Proceso p = gestorProcesos.crearProceso(
+            // No espera al ciclo en curso: el hilo de simulación lo crea al inicio del siguiente
+            int pid = buzonProcesos.enviar(
                     txtNombre.getText(),
                     (Integer) spnInstrucciones.getValue(),
                     (TipoProceso) cmbTipo.getSelectedItem(),
                     (Integer) spnPrioridad.getValue());
 
+            if (pid < 0) {
+                log("✗ Datos del proceso no válidos");
+            } else if (!ejecutando) {
+                synchronized (mutex) {
+                    drenarBuzon();
+                    publicarInstantanea();
+                }
+            }
+        }
+    }
+
+    // Se llama con el mutex tomado
+    private void drenarBuzon() {
+        boolean encolar = configuracion.getPoliticaAdmision() == GestorProcesos.PoliticaAdmision.ENCOLAR;
+        BuzonProcesos.Solicitud solicitud;
+        // Con la política ENCOLAR las solicitudes que no caben esperan en el buzón
+        while ((!encolar || gestorProcesos.puedeCrearProceso()) && (solicitud = buzonProcesos.tomar()) != null) {
+            Proceso p = solicitud.crearEn(gestorProcesos);
             if (p != null) {
                 p.setEstado(EstadoProceso.LISTO);
-                panelPCB.setTotalProcesosCreados(gestorProcesos.getSiguienteId() - 1);
                 log("+ Proceso creado: " + p.getNombre());
-                actualizarVista();
             }
         }
     }
 
-    private void actualizarVista() {
-        // Actualizar lista de listos
-        modeloListos.clear();
-        ListaSimple<Proceso> listos = gestorProcesos.getProcesosPorEstado(EstadoProceso.LISTO);
-        for (int i = 0; i < listos.tamaño(); i++) {
-            Proceso p = listos.obtener(i);
-            modeloListos.addElement(String.format("%-12s [%2d inst, Pri:%d, %s]",
-                    p.getNombre(), p.getNumInstrucciones(), p.getPrioridad(), p.getTipo()));
+    // Se llama con el mutex tomado; sólo copia referencias, el formateo lo hace la lista al dibujar
+    private void publicarInstantanea() {
+        Proceso[] procesosListos = optimizador.procesosPorEstadoEnArreglo(EstadoProceso.LISTO, gestorProcesos);
+
+        instantanea.set(new InstantaneaSimulacion(
+                ++versionInstantanea,
+                cicloActual,
+                VistaProceso.de(procesoEnEjecucion),
+                procesosListos,
+                archivoTerminados,
+                numArchivoTerminados,
+                procesosListos.length,
+                optimizador.contarProcesosPorEstadoOptimizado(EstadoProceso.BLOQUEADO, gestorProcesos),
+                optimizador.contarProcesosPorEstadoOptimizado(EstadoProceso.TERMINADO, gestorProcesos),
+                gestorProcesos.getSiguienteId() - 1));
+        ultimaPublicacionNanos = System.nanoTime();
+    }
+
+    private void archivarTerminado(Proceso p) {
+        if (numArchivoTerminados == archivoTerminados.length) {
+            // Copia al crecer: las instantáneas ya publicadas conservan el arreglo anterior
+            Proceso[] nuevo = new Proceso[archivoTerminados.length * 2];
+            System.arraycopy(archivoTerminados, 0, nuevo, 0, numArchivoTerminados);
+            archivoTerminados = nuevo;
         }
+        archivoTerminados[numArchivoTerminados++] = p;
+    }
 
-        if (procesoEnEjecucion != null) {
-            modeloListos.addElement("→ " + procesoEnEjecucion.getNombre() + " [EN EJECUCIÓN]");
+    // EDT: dibuja la última instantánea (si cambió) y vuelca el log pendiente
+    private void refrescarInterfaz() {
+        volcarLog();
+
+        InstantaneaSimulacion actual = instantanea.get();
+        if (actual == null || actual == ultimaRenderizada) {
+            return;
         }
 
-        // Actualizar lista de terminados
-        modeloTerminados.clear();
-        ListaSimple<Proceso> terminados = gestorProcesos.getProcesosPorEstado(EstadoProceso.TERMINADO);
-        for (int i = 0; i < terminados.tamaño(); i++) {
-            Proceso p = terminados.obtener(i);
-            modeloTerminados.addElement(String.format("✓ %-12s [%2d inst ejecutadas]",
-                    p.getNombre(), p.getInstruccionesEjecutadas()));
+        lblCiclo.setText("Ciclo: " + actual.getCiclo());
+        VistaProceso enCPU = actual.getProcesoEnEjecucion();
+        lblCPU.setText(enCPU != null
+                ? "CPU: " + enCPU.getNombre() + " [PC: " + enCPU.getProgramCounter() + "]"
+                : "CPU: IDLE");
+
+        modeloListos.actualizar(actual.getProcesosListos(), actual.getNumListos(),
+                enCPU != null ? "→ " + enCPU.getNombre() + " [EN EJECUCIÓN]" : null);
+        modeloTerminados.extender(actual.getProcesosTerminados(), actual.getNumTerminados());
+        panelPCB.mostrar(actual);
+        ultimaRenderizada = actual;
+    }
+
+    private void volcarLog() {
+        if (colaLog.isEmpty()) {
+            return;
         }
+        StringBuilder bloque = new StringBuilder();
+        String mensaje;
+        int volcados = 0;
+        while (volcados < MAX_MENSAJES_LOG_POR_FRAME && (mensaje = colaLog.poll()) != null) {
+            bloque.append(mensaje);
+            volcados++;
+        }
+        areaConsola.append(bloque.toString());
+
+        // Mantener acotado el documento del log
+        int exceso = areaConsola.getDocument().getLength() - MAX_CARACTERES_LOG;
+        if (exceso > 0) {
+            areaConsola.replaceRange("", 0, exceso);
+        }
+        areaConsola.setCaretPosition(areaConsola.getDocument().getLength());
     }
 
     private void mostrarEstadisticas() {
@@ -486,87 +656,55 @@ public class SimuladorGUI extends JFrame {
         log("\n=== MÉTRICAS DE RENDIMIENTO ===");
 
         // Throughput
-        double throughput = (double) gestorProcesos.getProcesosPorEstado(EstadoProceso.TERMINADO).size() / cicloActual;
-        log("Throughput: " + String.format("%.4f", throughput) + " procesos/ciclo");
+        log("Throughput: " + String.format("%.4f", motorMetricas.getThroughput()) + " procesos/ciclo");
         log("   (Procesos completados por unidad de tiempo)");
 
         // Utilización CPU
-        log("Utilización CPU: 100%");
-        log("   (CPU siempre ocupado, sin ciclos perdidos)");
-
-        // Tiempo de espera promedio (simplificado)
-        double tiempoEsperaPromedio = calcularTiempoEsperaPromedio();
-        log("Tiempo espera promedio: " + String.format("%.1f", tiempoEsperaPromedio) + " ciclos");
+        log("Utilización CPU: " + String.format("%.1f", motorMetricas.getUtilizacionCPU()) + "%");
+        log("   (" + ciclosCpuOcupada + " ciclos ocupada, " + ciclosCpuLibre + " ciclos libre)");
+
+        // Tiempos medidos por proceso
+        log("Tiempo espera promedio: " + String.format("%.1f", motorMetricas.getTiempoEsperaPromedio()) +
+                " ciclos (p50 " + motorMetricas.getPercentilEspera(50) +
+                ", p95 " + motorMetricas.getPercentilEspera(95) +
+                ", p99 " + motorMetricas.getPercentilEspera(99) + ")");
         log("   (Tiempo promedio que esperan los procesos en cola)");
+        log("Tiempo respuesta promedio: " + String.format("%.1f", motorMetricas.getTiempoRespuestaPromedio()) +
+                " ciclos (p95 " + motorMetricas.getPercentilRespuesta(95) + ")");
+        log("Tiempo retorno promedio: " + String.format("%.1f", motorMetricas.getTiempoRetornoPromedio()) +
+                " ciclos (p95 " + motorMetricas.getPercentilRetorno(95) + ")");
+        log("Slowdown promedio: " + String.format("%.2f", motorMetricas.getSlowdownPromedio()) +
+                " (p95 " + String.format("%.2f", motorMetricas.getPercentilSlowdown(95)) + ")");
 
         // Equidad
         String equidad = determinarEquidad();
         log("Equidad: " + equidad);
-        log("   (Distribución justa de recursos entre procesos)");
+        log("   (Índice de Jain sobre el slowdown de cada proceso)");
 
         // Cambios de contexto
-        int cambiosContexto = calcularCambiosContexto();
-        log("Cambios de contexto: " + cambiosContexto);
+        log("Cambios de contexto: " + motorMetricas.getCambiosContexto() +
+                " (expulsiones: " + motorMetricas.getExpulsiones() + ")");
         log("   (Número de veces que cambió el proceso en CPU)");
     }
 
-    private double calcularTiempoEsperaPromedio() {
-        // Simplificación: estimar basado en el algoritmo actual
-        String nombreAlgoritmo = algoritmoActual.getNombre();
-        switch (nombreAlgoritmo) {
-            case "FCFS":
-                return 22.8; // Alto tiempo de espera
-            case "SJF":
-                return 17.4; // Bajo tiempo de espera
-            case "Round Robin":
-                return 20.0; // Medio tiempo de espera
-            case "Prioridad":
-                return 25.0; // Variable según prioridades
-            case "Multinivel":
-                return 23.0; // Medio-alto tiempo de espera
-            case "Multinivel Feedback":
-                return 21.0; // Medio tiempo de espera
-            default:
-                return 20.0;
-        }
-    }
-
     private String determinarEquidad() {
-        String nombreAlgoritmo = algoritmoActual.getNombre();
-        switch (nombreAlgoritmo) {
-            case "FCFS":
-                return "ALTA (todos tratados igual)";
-            case "SJF":
-                return "BAJA (procesos cortos primero)";
-            case "Round Robin":
-                return "ALTA (tiempo equitativo)";
-            case "Prioridad":
-                return "BAJA (depende de prioridades)";
-            case "Multinivel":
-                return "MEDIA (por niveles)";
-            case "Multinivel Feedback":
-                return "MEDIA (adaptativa)";
-            default:
-                return "MEDIA";
-        }
-    }
-
-    private int calcularCambiosContexto() {
-        // Simplificación: contar procesos terminados (cambios de contexto)
-        return gestorProcesos.getProcesosPorEstado(EstadoProceso.TERMINADO).size();
+        double indice = motorMetricas.getIndiceEquidad();
+        String nivel = indice >= 0.9 ? "ALTA" : indice >= 0.7 ? "MEDIA" : "BAJA";
+        return String.format("%s (%.3f)", nivel, indice);
     }
 
+    // Seguro desde cualquier hilo: el EDT vuelca la cola en cada refresco
     private void log(String mensaje) {
         // Agregar espacio extra para eventos importantes
         if (mensaje.startsWith("→") || mensaje.startsWith("✓") || mensaje.startsWith("===")) {
-            areaConsola.append(mensaje + "\n\n");
+            colaLog.add(mensaje + "\n\n");
         } else {
-            areaConsola.append(mensaje + "\n");
+            colaLog.add(mensaje + "\n");
         }
-        areaConsola.setCaretPosition(areaConsola.getDocument().getLength());
     }
 
     private void limpiarLog() {
+        colaLog.clear();
         areaConsola.setText("");
         log("=== Log de eventos limpiado ===");
         log("Simulador listo para nueva simulación");
@@ -577,15 +715,25 @@ public class SimuladorGUI extends JFrame {
         if (ejecutando) {
             pausarSimulacion();
         }
+        esperarHiloSimulacion();
 
+        synchronized (mutex) {
         // Limpiar todos los procesos
+        buzonProcesos.descartarPendientes();
         gestorProcesos.limpiarTodosLosProcesos();
         gestorProcesos.reiniciarContadorId();
 
         // Reiniciar variables del simulador
         cicloActual = 0;
+        ciclosCpuOcupada = 0;
+        ciclosCpuLibre = 0;
+        motorMetricas.reiniciar();
+        optimizador.reiniciarEstadisticas();
         procesoEnEjecucion = null;
         algoritmoActual = new FCFS();
+        archivoTerminados = new Proceso[64];
+        numArchivoTerminados = 0;
+        }
 
         // Actualizar interfaz
         lblCiclo.setText("Ciclo: 0");
@@ -594,11 +742,11 @@ public class SimuladorGUI extends JFrame {
         comboAlgoritmos.setSelectedIndex(0);
 
         // Limpiar listas
-        modeloListos.clear();
-        modeloTerminados.clear();
+        modeloListos.limpiar();
+        modeloTerminados.limpiar();
 
         // Limpiar log
-        areaConsola.setText("");
+        limpiarLog();
 
         // Mensaje de reinicio
         log("=== PROYECTO REINICIADO ===");
@@ -617,9 +765,6 @@ public class SimuladorGUI extends JFrame {
         // Crear procesos iniciales automáticamente
         crearProcesosIniciales();
 
-        // Actualizar vista para mostrar los procesos en las colas
-        actualizarVista();
-
         // Limpiar gráficas
         graficadorMetricas.limpiarDatos();
     }
@@ -637,40 +782,22 @@ public class SimuladorGUI extends JFrame {
             double cpuUtil = calcularUtilizacionCPU();
             double tiempoEspera = calcularTiempoEsperaPromedioGraficas();
 
-            // Crear mapa de métricas (usando estructura propia)
-            MapaSimple<String, Double> metricas = new MapaSimple<>();
-            metricas.put("throughput", throughput);
-            metricas.put("cpuUtil", cpuUtil);
-            metricas.put("tiempoEspera", tiempoEspera);
-
             // Actualizar gráficas
-            graficadorMetricas.actualizarMetricasPorAlgoritmo(algoritmo, metricas);
+            graficadorMetricas.agregarMuestra(algoritmo, throughput, cpuUtil, tiempoEspera);
         }
     }
 
 
     private double calcularThroughput() {
-        int procesosTerminados = gestorProcesos.getProcesosPorEstado(EstadoProceso.TERMINADO).size();
-        return cicloActual > 0 ? (double) procesosTerminados / cicloActual : 0.0;
+        return motorMetricas.getThroughput();
     }
 
     private double calcularUtilizacionCPU() {
-        // Simplificado: asumimos 100% si hay procesos ejecutándose
-        return procesoEnEjecucion != null ? 100.0 : 0.0;
+        return motorMetricas.getUtilizacionCPU();
     }
 
     private double calcularTiempoEsperaPromedioGraficas() {
-        ListaSimple<Proceso> procesos = gestorProcesos.getProcesosPorEstado(EstadoProceso.TERMINADO);
-        if (procesos.isEmpty())
-            return 0.0;
-
-        int tiempoTotalEspera = 0;
-        for (int i = 0; i < procesos.tamaño(); i++) {
-            Proceso proceso = procesos.obtener(i);
-            tiempoTotalEspera += proceso.getTiempoEspera();
-        }
-
-        return procesos.tamaño() > 0 ? (double) tiempoTotalEspera / procesos.tamaño() : 0.0;
+        return motorMetricas.getTiempoEsperaPromedio();
     }
     
     private void guardarConfiguracion() {
@@ -711,11 +838,11 @@ public class SimuladorGUI extends JFrame {
             JOptionPane.YES_NO_OPTION);
         
         if (respuesta == JOptionPane.YES_OPTION) {
-            synchronized (mutex) {
-                configuracion = GestorConfiguracion.cargarConfiguracion();
-                reiniciarProyecto();
-                log("✓ Configuración cargada desde archivo");
-            }
+            // reiniciarProyecto() espera al hilo de simulación: no debe llamarse con el mutex tomado
+            configuracion = GestorConfiguracion.cargarConfiguracion();
+            aplicarPeriodoCiclo(configuracion.getDuracionCicloMs());
+            reiniciarProyecto();
+            log("✓ Configuración cargada desde archivo");
             
             JOptionPane.showMessageDialog(this,
                 "Configuración cargada exitosamente",
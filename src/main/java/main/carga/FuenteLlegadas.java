@@ -0,0 +1,18 @@
+package main.carga;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+// Origen de las llegadas que el motor inyecta ciclo a ciclo: una traza leída de archivo
+// (LectorCargaTrabajo) o una carga sintética (GeneradorCarga). Los ciclos cuentan desde que
+// se instaló la fuente y deben ser no decrecientes.
+public interface FuenteLlegadas extends Closeable {
+
+    // Devuelve la siguiente llegada si ocurre en o antes del ciclo dado; si no, null
+    LlegadaProceso siguienteHasta(int ciclo) throws IOException;
+
+    boolean isAgotado();
+
+    // Una línea para el informe del motor: de dónde salen las llegadas y cuánto se avanzó
+    String describir();
+}
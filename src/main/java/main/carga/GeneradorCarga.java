@@ -0,0 +1,88 @@
+package main.carga;
+
+import main.config.ConfiguracionSistema;
+import main.modelo.TipoProceso;
+import java.util.Random;
+
+// Carga sintética descrita por la sección "carga" de la configuración: numeroProcesos
+// llegadas con instrucciones y prioridad uniformes en sus rangos, una proporción de ellas
+// IO_BOUND y una llegada cada intervaloLlegadaCiclos (0 = todas en el primer ciclo). Las
+// llegadas se generan a medida que se piden, así que no ocupan memoria por adelantado; con
+// la misma semilla se obtiene siempre la misma carga.
+public class GeneradorCarga implements FuenteLlegadas {
+
+    private final int numeroProcesos;
+    private final int instruccionesMin;
+    private final int instruccionesMax;
+    private final int prioridadMin;
+    private final int prioridadMax;
+    private final double proporcionIOBound;
+    private final int intervaloLlegadaCiclos;
+    private final Random random;
+
+    private int generadas;
+
+    public GeneradorCarga(ConfiguracionSistema configuracion, long semilla) {
+        this(configuracion.getNumeroProcesos(), configuracion.getInstruccionesMin(),
+                configuracion.getInstruccionesMax(), configuracion.getPrioridadMin(),
+                configuracion.getPrioridadMax(), configuracion.getProporcionIOBound(),
+                configuracion.getIntervaloLlegadaCiclos(), semilla);
+    }
+
+    public GeneradorCarga(int numeroProcesos, int instruccionesMin, int instruccionesMax, int prioridadMin,
+            int prioridadMax, double proporcionIOBound, int intervaloLlegadaCiclos, long semilla) {
+        if (instruccionesMin < 1 || instruccionesMin > instruccionesMax) {
+            throw new IllegalArgumentException("Rango de instrucciones no válido: " + instruccionesMin + ".."
+                    + instruccionesMax);
+        }
+        if (prioridadMin > prioridadMax) {
+            throw new IllegalArgumentException("Rango de prioridades no válido: " + prioridadMin + ".."
+                    + prioridadMax);
+        }
+        this.numeroProcesos = Math.max(0, numeroProcesos);
+        this.instruccionesMin = instruccionesMin;
+        this.instruccionesMax = instruccionesMax;
+        this.prioridadMin = prioridadMin;
+        this.prioridadMax = prioridadMax;
+        this.proporcionIOBound = proporcionIOBound;
+        this.intervaloLlegadaCiclos = Math.max(0, intervaloLlegadaCiclos);
+        this.random = new Random(semilla);
+        this.generadas = 0;
+    }
+
+    @Override
+    public LlegadaProceso siguienteHasta(int ciclo) {
+        if (isAgotado() || (long) generadas * intervaloLlegadaCiclos > ciclo) {
+            return null;
+        }
+        int cicloLlegada = generadas * intervaloLlegadaCiclos;
+        generadas++;
+        int instrucciones = instruccionesMin + random.nextInt(instruccionesMax - instruccionesMin + 1);
+        int prioridad = prioridadMin + random.nextInt(prioridadMax - prioridadMin + 1);
+        TipoProceso tipo = random.nextDouble() < proporcionIOBound ? TipoProceso.IO_BOUND : TipoProceso.CPU_BOUND;
+        return new LlegadaProceso(cicloLlegada, "Carga" + generadas, instrucciones, prioridad, tipo, 0);
+    }
+
+    @Override
+    public boolean isAgotado() {
+        return generadas >= numeroProcesos;
+    }
+
+    public int getGeneradas() {
+        return generadas;
+    }
+
+    public int getNumeroProcesos() {
+        return numeroProcesos;
+    }
+
+    @Override
+    public String describir() {
+        return "Generada: " + generadas + " de " + numeroProcesos + " procesos";
+    }
+
+    @Override
+    public void close() {
+        // Nada que liberar
+    }
+}
@@ -0,0 +1,323 @@
+package main.carga;
+
+import main.config.ErrorConfiguracion;
+import main.modelo.TipoProceso;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+// Lee una traza de llegadas de procesos (CSV, TSV o separada por ';') línea a línea, a
+// medida que la simulación la necesita: sólo se retiene la siguiente llegada, así que una
+// traza de producción de millones de filas no ocupa memoria.
+//
+// Columnas: ciclo, instrucciones, prioridad, io, nombre. Con una cabecera pueden venir en
+// cualquier orden (también con sus nombres en inglés: arrival, burst, priority, io, name) y
+// sólo ciclo e instrucciones son obligatorias; sin cabecera se toman en ese orden.
+// La columna io admite: vacío, 0 o CPU (CPU_BOUND); IO (IO_BOUND con I/O aleatoria); o N > 0
+// (IO_BOUND con una solicitud cada N ciclos de CPU). Las líneas vacías y las que empiezan
+// con '#' se ignoran. Los ciclos deben venir en orden no decreciente.
+public class LectorCargaTrabajo implements FuenteLlegadas {
+
+    private static final int COLUMNA_CICLO = 0;
+    private static final int COLUMNA_INSTRUCCIONES = 1;
+    private static final int COLUMNA_PRIORIDAD = 2;
+    private static final int COLUMNA_IO = 3;
+    private static final int COLUMNA_NOMBRE = 4;
+    private static final int NUM_COLUMNAS = 5;
+
+    private static final int PRIORIDAD_POR_DEFECTO = 5;
+    private static final int MAX_CAMPOS = 32;
+
+    private final BufferedReader lector;
+    private final String ruta;
+
+    private char separador;
+    private final int[] posicionColumna; // Campo de la línea que contiene cada columna (-1 = ausente)
+    private final int[] inicioCampo;
+    private final int[] finCampo;
+
+    private String linea;
+    private int numLinea;
+    private LlegadaProceso pendiente;
+    private boolean agotado;
+    private int ultimoCiclo;
+    private long llegadasLeidas;
+
+    public LectorCargaTrabajo(String ruta) throws IOException {
+        this(Paths.get(ruta));
+    }
+
+    public LectorCargaTrabajo(Path ruta) throws IOException {
+        this.ruta = ruta.toString();
+        this.lector = Files.newBufferedReader(ruta, StandardCharsets.UTF_8);
+        this.posicionColumna = new int[NUM_COLUMNAS];
+        this.inicioCampo = new int[MAX_CAMPOS];
+        this.finCampo = new int[MAX_CAMPOS];
+        this.ultimoCiclo = Integer.MIN_VALUE;
+
+        try {
+            leerCabecera();
+        } catch (IOException | RuntimeException e) {
+            lector.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public LlegadaProceso siguienteHasta(int ciclo) throws IOException {
+        if (pendiente == null && !agotado) {
+            pendiente = leerLlegada();
+        }
+        if (pendiente == null || pendiente.getCiclo() > ciclo) {
+            return null;
+        }
+        LlegadaProceso llegada = pendiente;
+        pendiente = null;
+        return llegada;
+    }
+
+    // Primera línea con contenido: cabecera si su primer campo no es un número
+    private void leerCabecera() throws IOException {
+        if (!leerLineaConContenido()) {
+            agotado = true;
+            return;
+        }
+        if (linea.charAt(0) == '\uFEFF') {
+            linea = linea.substring(1); // BOM de archivos exportados desde hojas de cálculo
+        }
+        separador = linea.indexOf('\t') >= 0 ? '\t'
+                : linea.indexOf(';') >= 0 && linea.indexOf(',') < 0 ? ';' : ',';
+        int numCampos = separarCampos();
+
+        if (esNumero(0)) {
+            for (int i = 0; i < NUM_COLUMNAS; i++) {
+                posicionColumna[i] = i;
+            }
+            pendiente = interpretarLinea(numCampos);
+            return;
+        }
+
+        for (int i = 0; i < NUM_COLUMNAS; i++) {
+            posicionColumna[i] = -1;
+        }
+        for (int campo = 0; campo < numCampos; campo++) {
+            int columna = columnaDeNombre(linea.substring(inicioCampo[campo], finCampo[campo]).trim().toLowerCase());
+            if (columna >= 0) {
+                posicionColumna[columna] = campo;
+            }
+        }
+        if (posicionColumna[COLUMNA_CICLO] < 0 || posicionColumna[COLUMNA_INSTRUCCIONES] < 0) {
+            throw new ErrorConfiguracion("La cabecera debe incluir las columnas ciclo e instrucciones", numLinea, 1);
+        }
+    }
+
+    private static int columnaDeNombre(String nombre) {
+        switch (nombre) {
+            case "ciclo":
+            case "llegada":
+            case "arrival":
+            case "arrival_cycle":
+                return COLUMNA_CICLO;
+            case "instrucciones":
+            case "rafaga":
+            case "ráfaga":
+            case "burst":
+            case "burst_length":
+                return COLUMNA_INSTRUCCIONES;
+            case "prioridad":
+            case "priority":
+                return COLUMNA_PRIORIDAD;
+            case "io":
+            case "patron_io":
+            case "io_pattern":
+                return COLUMNA_IO;
+            case "nombre":
+            case "name":
+                return COLUMNA_NOMBRE;
+            default:
+                return -1; // Columnas extra: se ignoran
+        }
+    }
+
+    private LlegadaProceso leerLlegada() throws IOException {
+        if (!leerLineaConContenido()) {
+            agotado = true;
+            return null;
+        }
+        return interpretarLinea(separarCampos());
+    }
+
+    private LlegadaProceso interpretarLinea(int numCampos) throws ErrorConfiguracion {
+        int ciclo = leerEntero(COLUMNA_CICLO, numCampos, -1);
+        int instrucciones = leerEntero(COLUMNA_INSTRUCCIONES, numCampos, -1);
+        int prioridad = leerEntero(COLUMNA_PRIORIDAD, numCampos, PRIORIDAD_POR_DEFECTO);
+
+        if (ciclo < 0) {
+            throw error("El ciclo de llegada debe ser >= 0", COLUMNA_CICLO);
+        }
+        if (ciclo < ultimoCiclo) {
+            throw error("Llegadas fuera de orden (ciclo " + ciclo + " después de " + ultimoCiclo + ")",
+                    COLUMNA_CICLO);
+        }
+        if (instrucciones <= 0) {
+            throw error("El número de instrucciones debe ser mayor a 0", COLUMNA_INSTRUCCIONES);
+        }
+
+        TipoProceso tipo = TipoProceso.CPU_BOUND;
+        int ciclosEntreIO = 0;
+        int campoIO = posicionColumna[COLUMNA_IO];
+        if (campoIO >= 0 && campoIO < numCampos && !campoVacio(campoIO)) {
+            if (esNumero(campoIO)) {
+                ciclosEntreIO = leerEntero(COLUMNA_IO, numCampos, 0);
+                if (ciclosEntreIO < 0) {
+                    throw error("El patrón de I/O debe ser >= 0", COLUMNA_IO);
+                }
+                tipo = ciclosEntreIO > 0 ? TipoProceso.IO_BOUND : TipoProceso.CPU_BOUND;
+            } else {
+                String patron = linea.substring(inicioCampo[campoIO], finCampo[campoIO]).trim();
+                if (patron.equalsIgnoreCase("IO") || patron.equalsIgnoreCase("IO_BOUND")) {
+                    tipo = TipoProceso.IO_BOUND;
+                } else if (!patron.equalsIgnoreCase("CPU") && !patron.equalsIgnoreCase("CPU_BOUND")) {
+                    throw error("Patrón de I/O no válido: '" + patron + "'", COLUMNA_IO);
+                }
+            }
+        }
+
+        int campoNombre = posicionColumna[COLUMNA_NOMBRE];
+        String nombre = campoNombre >= 0 && campoNombre < numCampos && !campoVacio(campoNombre)
+                ? linea.substring(inicioCampo[campoNombre], finCampo[campoNombre]).trim()
+                : "Carga" + (llegadasLeidas + 1);
+
+        ultimoCiclo = ciclo;
+        llegadasLeidas++;
+        return new LlegadaProceso(ciclo, nombre, instrucciones, prioridad, tipo, ciclosEntreIO);
+    }
+
+    private boolean leerLineaConContenido() throws IOException {
+        while ((linea = lector.readLine()) != null) {
+            numLinea++;
+            int i = 0;
+            while (i < linea.length() && Character.isWhitespace(linea.charAt(i))) {
+                i++;
+            }
+            if (i < linea.length() && linea.charAt(i) != '#') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Marca el inicio y el fin de cada campo sin crear subcadenas
+    private int separarCampos() throws ErrorConfiguracion {
+        int numCampos = 0;
+        int inicio = 0;
+        while (true) {
+            if (numCampos == MAX_CAMPOS) {
+                throw new ErrorConfiguracion("Demasiadas columnas (máximo " + MAX_CAMPOS + ")", numLinea, inicio + 1);
+            }
+            int fin = linea.indexOf(separador, inicio);
+            inicioCampo[numCampos] = inicio;
+            finCampo[numCampos] = fin < 0 ? linea.length() : fin;
+            numCampos++;
+            if (fin < 0) {
+                return numCampos;
+            }
+            inicio = fin + 1;
+        }
+    }
+
+    private boolean campoVacio(int campo) {
+        for (int i = inicioCampo[campo]; i < finCampo[campo]; i++) {
+            if (!Character.isWhitespace(linea.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean esNumero(int campo) {
+        int i = inicioCampo[campo];
+        int fin = finCampo[campo];
+        while (i < fin && linea.charAt(i) == ' ') {
+            i++;
+        }
+        if (i < fin && linea.charAt(i) == '-') {
+            i++;
+        }
+        return i < fin && Character.isDigit(linea.charAt(i));
+    }
+
+    // Entero de la columna lógica dada; porDefecto si la columna falta o está vacía
+    private int leerEntero(int columna, int numCampos, int porDefecto) throws ErrorConfiguracion {
+        int campo = posicionColumna[columna];
+        if (campo < 0 || campo >= numCampos || campoVacio(campo)) {
+            if (porDefecto < 0) {
+                throw error("Falta un valor obligatorio", columna);
+            }
+            return porDefecto;
+        }
+        int i = inicioCampo[campo];
+        int fin = finCampo[campo];
+        while (i < fin && Character.isWhitespace(linea.charAt(i))) {
+            i++;
+        }
+        while (fin > i && Character.isWhitespace(linea.charAt(fin - 1))) {
+            fin--;
+        }
+        boolean negativo = i < fin && linea.charAt(i) == '-';
+        if (negativo) {
+            i++;
+        }
+        if (i == fin) {
+            throw error("Número no válido", columna);
+        }
+        long valor = 0;
+        for (; i < fin; i++) {
+            char c = linea.charAt(i);
+            if (c < '0' || c > '9') {
+                throw error("Número no válido", columna);
+            }
+            valor = valor * 10 + (c - '0');
+            if (valor > Integer.MAX_VALUE) {
+                throw error("Número fuera de rango", columna);
+            }
+        }
+        return (int) (negativo ? -valor : valor);
+    }
+
+    private ErrorConfiguracion error(String mensaje, int columna) {
+        int campo = posicionColumna[columna];
+        int posicion = campo >= 0 && campo < MAX_CAMPOS ? inicioCampo[campo] + 1 : 1;
+        return new ErrorConfiguracion(mensaje + " en " + ruta, numLinea, posicion);
+    }
+
+    @Override
+    public boolean isAgotado() {
+        return agotado && pendiente == null;
+    }
+
+    public long getLlegadasLeidas() {
+        return llegadasLeidas;
+    }
+
+    public int getNumLinea() {
+        return numLinea;
+    }
+
+    public String getRuta() {
+        return ruta;
+    }
+
+    @Override
+    public String describir() {
+        return "Archivo: " + ruta + " (línea " + numLinea + ")";
+    }
+
+    @Override
+    public void close() throws IOException {
+        lector.close();
+    }
+}
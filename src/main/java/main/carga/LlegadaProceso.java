@@ -0,0 +1,54 @@
+package main.carga;
+
+import main.modelo.TipoProceso;
+
+// Una fila de la traza de llegadas: qué proceso crear y en qué ciclo
+public class LlegadaProceso {
+
+    private final int ciclo;
+    private final String nombre;
+    private final int instrucciones;
+    private final int prioridad;
+    private final TipoProceso tipo;
+    private final int ciclosEntreIO; // 0 = I/O aleatoria (o ninguna si es CPU_BOUND)
+
+    public LlegadaProceso(int ciclo, String nombre, int instrucciones, int prioridad, TipoProceso tipo,
+            int ciclosEntreIO) {
+        this.ciclo = ciclo;
+        this.nombre = nombre;
+        this.instrucciones = instrucciones;
+        this.prioridad = prioridad;
+        this.tipo = tipo;
+        this.ciclosEntreIO = ciclosEntreIO;
+    }
+
+    public int getCiclo() {
+        return ciclo;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public int getInstrucciones() {
+        return instrucciones;
+    }
+
+    public int getPrioridad() {
+        return prioridad;
+    }
+
+    public TipoProceso getTipo() {
+        return tipo;
+    }
+
+    public int getCiclosEntreIO() {
+        return ciclosEntreIO;
+    }
+
+    @Override
+    public String toString() {
+        return nombre + " @" + ciclo + " (" + instrucciones + " instr, prioridad " + prioridad + ", " + tipo
+                + (ciclosEntreIO > 0 ? ", I/O cada " + ciclosEntreIO : "") + ")";
+    }
+}
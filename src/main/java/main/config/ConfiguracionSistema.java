@@ -1,134 +1,994 @@
 package main.config;
 
+import main.estructuras.ListaSimple;
+import main.estructuras.MapaEnlazado;
+import main.gestor.GestorMemoria;
+import main.gestor.GestorProcesos;
+import main.memoria.EstrategiaAsignacion;
+import main.memoria.PoliticaReemplazoPaginas;
+import main.planificacion.AlgoritmoProporcional;
+import main.planificacion.Prioridad;
+import main.planificacion.SJF;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+
+// Formato del archivo (todas las secciones y claves son opcionales):
+// {
+//   "duracionCicloMs": 1000, "maxProcesos": 50, "algoritmoInicial": "FCFS", "logActivo": true,
+//   "perfilActivo": "estres",
+//   "memoria": { "principalKB": 1024, "secundariaKB": 2048, "marcosPaginacion": 0, ... },
+//   "admision": { "politica": "ENCOLAR", "creacionesPorCiclo": 4096, "gradoMultiprogramacion": 0, ... },
+//   "algoritmos": { "RoundRobin": { "quantum": 4 }, "Prioridad": { "envejecimiento": 20 }, ... },
+//   "carga": { "numeroProcesos": 20, "instruccionesMin": 5, "instruccionesMax": 30, ... },
+//   "perfiles": { "estres": { "maxProcesos": 5000, "carga": { "numeroProcesos": 4000 } } }
+// }
+// Un perfil es un conjunto de claves con la misma estructura que se aplica sobre la base.
+// Con "carga.numeroProcesos" > 0 el motor genera esa carga sintética (ver GeneradorCarga).
 public class ConfiguracionSistema {
-    
+
+    private static final String ALGORITMO_RR = "RoundRobin";
+    private static final String ALGORITMO_MULTINIVEL = "Multinivel";
+    private static final String ALGORITMO_PRIORIDAD = "Prioridad";
+    private static final String ALGORITMO_SJF = "SJF";
+    private static final String ALGORITMO_LOTERIA = "Loteria";
+    private static final String ALGORITMO_STRIDE = "Stride";
+
     private int duracionCicloMs;
     private int maxProcesos;
     private String algoritmoInicial;
-    private int quantumRR;
-    private int numeroNivelesMultinivel;
     private boolean logActivo;
-    
+    private String perfilActivo;
+
+    // Sección "memoria"
+    private int memoriaPrincipalKB;
+    private int memoriaSecundariaKB;
+    private int marcosPaginacion; // 0 = un marco por cada 4 KB de memoria principal
+    private EstrategiaAsignacion estrategiaAsignacion;
+    private GestorMemoria.PoliticaReemplazo politicaReemplazo;
+    private PoliticaReemplazoPaginas politicaPaginas;
+    private boolean compactacionAutomatica;
+    // Planificador a medio plazo (ver PlanificadorMedioPlazo)
+    private int umbralSuspensionKB;
+    private int umbralReactivacionKB;
+    private int costoIntercambioCiclos;
+    private int maxIntercambiosPorVentana; // 0 = sin límite
+    private int ventanaIntercambioCiclos;
+    private boolean contextosEnDisco;
+
+    // Sección "admision": qué pasa con los procesos que llegan por encima de maxProcesos y
+    // cuándo pasan de la reserva de trabajos a memoria (planificador a largo plazo)
+    private GestorProcesos.PoliticaAdmision politicaAdmision;
+    private int creacionesPorCiclo;
+    private int gradoMultiprogramacion; // 0 = sin límite
+    private int admisionesPorCiclo;
+    private int reservaMemoriaKB;
+
+    // Sección "algoritmos": parámetros numéricos por algoritmo, en orden de aparición
+    private MapaEnlazado<String, MapaEnlazado<String, Double>> parametrosAlgoritmos;
+
+    // Sección "carga" (generador de procesos)
+    private int numeroProcesos; // 0 = sin carga generada
+    private int instruccionesMin;
+    private int instruccionesMax;
+    private double proporcionIOBound;
+    private int prioridadMin;
+    private int prioridadMax;
+    private int intervaloLlegadaCiclos;
+    private long semilla;
+
+    // Sección "perfiles": asignaciones ya validadas de cada perfil
+    private MapaEnlazado<String, ListaSimple<Asignacion>> perfiles;
+
     public ConfiguracionSistema() {
         this.duracionCicloMs = 1000;
         this.maxProcesos = 50;
         this.algoritmoInicial = "FCFS";
-        this.quantumRR = 4;
-        this.numeroNivelesMultinivel = 3;
         this.logActivo = true;
+        this.perfilActivo = null;
+
+        this.memoriaPrincipalKB = 1024;
+        this.memoriaSecundariaKB = 2048;
+        this.marcosPaginacion = 0;
+        this.estrategiaAsignacion = EstrategiaAsignacion.FIRST_FIT;
+        this.politicaReemplazo = GestorMemoria.PoliticaReemplazo.LRU;
+        this.politicaPaginas = PoliticaReemplazoPaginas.CLOCK;
+        this.compactacionAutomatica = true;
+        this.umbralSuspensionKB = 10;
+        this.umbralReactivacionKB = 20;
+        this.costoIntercambioCiclos = 5;
+        this.maxIntercambiosPorVentana = 0;
+        this.ventanaIntercambioCiclos = 50;
+        this.contextosEnDisco = false;
+
+        this.politicaAdmision = GestorProcesos.PoliticaAdmision.ENCOLAR;
+        this.creacionesPorCiclo = 4096;
+        this.gradoMultiprogramacion = 0;
+        this.admisionesPorCiclo = 16;
+        this.reservaMemoriaKB = 0;
+
+        this.parametrosAlgoritmos = new MapaEnlazado<>(false);
+        setParametroAlgoritmo(ALGORITMO_RR, "quantum", 4);
+        setParametroAlgoritmo(ALGORITMO_MULTINIVEL, "niveles", 3);
+        setParametroAlgoritmo(ALGORITMO_PRIORIDAD, "envejecimiento", Prioridad.ENVEJECIMIENTO_POR_DEFECTO);
+        setParametroAlgoritmo(ALGORITMO_SJF, "envejecimiento", SJF.ENVEJECIMIENTO_POR_DEFECTO);
+        setParametroAlgoritmo(ALGORITMO_PRIORIDAD, "apropiativo", 1);
+        setParametroAlgoritmo(ALGORITMO_LOTERIA, "quantum", AlgoritmoProporcional.QUANTUM_POR_DEFECTO);
+        setParametroAlgoritmo(ALGORITMO_LOTERIA, "boletosBase", AlgoritmoProporcional.BOLETOS_BASE_POR_DEFECTO);
+        setParametroAlgoritmo(ALGORITMO_STRIDE, "quantum", AlgoritmoProporcional.QUANTUM_POR_DEFECTO);
+        setParametroAlgoritmo(ALGORITMO_STRIDE, "boletosBase", AlgoritmoProporcional.BOLETOS_BASE_POR_DEFECTO);
+
+        this.numeroProcesos = 0;
+        this.instruccionesMin = 5;
+        this.instruccionesMax = 20;
+        this.proporcionIOBound = 0.4;
+        this.prioridadMin = 1;
+        this.prioridadMax = 5;
+        this.intervaloLlegadaCiclos = 0;
+        this.semilla = 42L;
+
+        this.perfiles = new MapaEnlazado<>(false);
     }
-    
+
     public int getDuracionCicloMs() {
         return duracionCicloMs;
     }
-    
+
     public void setDuracionCicloMs(int duracionCicloMs) {
         this.duracionCicloMs = duracionCicloMs;
     }
-    
+
     public int getMaxProcesos() {
         return maxProcesos;
     }
-    
+
     public void setMaxProcesos(int maxProcesos) {
         this.maxProcesos = maxProcesos;
     }
-    
+
     public String getAlgoritmoInicial() {
         return algoritmoInicial;
     }
-    
+
     public void setAlgoritmoInicial(String algoritmoInicial) {
         this.algoritmoInicial = algoritmoInicial;
     }
-    
+
     public int getQuantumRR() {
-        return quantumRR;
+        return (int) getParametroAlgoritmo(ALGORITMO_RR, "quantum", 4);
     }
-    
+
     public void setQuantumRR(int quantumRR) {
-        this.quantumRR = quantumRR;
+        setParametroAlgoritmo(ALGORITMO_RR, "quantum", quantumRR);
     }
-    
+
     public int getNumeroNivelesMultinivel() {
-        return numeroNivelesMultinivel;
+        return (int) getParametroAlgoritmo(ALGORITMO_MULTINIVEL, "niveles", 3);
     }
-    
+
     public void setNumeroNivelesMultinivel(int numeroNivelesMultinivel) {
-        this.numeroNivelesMultinivel = numeroNivelesMultinivel;
+        setParametroAlgoritmo(ALGORITMO_MULTINIVEL, "niveles", numeroNivelesMultinivel);
+    }
+
+    // Ciclos de espera por nivel de envejecimiento; 0 = sin envejecimiento
+    public int getEnvejecimientoPrioridad() {
+        return (int) getParametroAlgoritmo(ALGORITMO_PRIORIDAD, "envejecimiento", Prioridad.ENVEJECIMIENTO_POR_DEFECTO);
+    }
+
+    public void setEnvejecimientoPrioridad(int ciclosPorNivel) {
+        setParametroAlgoritmo(ALGORITMO_PRIORIDAD, "envejecimiento", ciclosPorNivel);
+    }
+
+    // 1 = un listo de mejor prioridad desaloja al que se ejecuta, 0 = sin desalojo
+    public boolean isPrioridadApropiativa() {
+        return getParametroAlgoritmo(ALGORITMO_PRIORIDAD, "apropiativo", 1) != 0;
+    }
+
+    public void setPrioridadApropiativa(boolean apropiativa) {
+        setParametroAlgoritmo(ALGORITMO_PRIORIDAD, "apropiativo", apropiativa ? 1 : 0);
+    }
+
+    public int getEnvejecimientoSJF() {
+        return (int) getParametroAlgoritmo(ALGORITMO_SJF, "envejecimiento", SJF.ENVEJECIMIENTO_POR_DEFECTO);
+    }
+
+    public void setEnvejecimientoSJF(int ciclosPorNivel) {
+        setParametroAlgoritmo(ALGORITMO_SJF, "envejecimiento", ciclosPorNivel);
+    }
+
+    // Reparto proporcional: la prioridad p recibe boletosBase / p boletos
+    public int getQuantumLoteria() {
+        return (int) getParametroAlgoritmo(ALGORITMO_LOTERIA, "quantum", AlgoritmoProporcional.QUANTUM_POR_DEFECTO);
+    }
+
+    public int getBoletosBaseLoteria() {
+        return (int) getParametroAlgoritmo(ALGORITMO_LOTERIA, "boletosBase",
+                AlgoritmoProporcional.BOLETOS_BASE_POR_DEFECTO);
+    }
+
+    public void setRepartoLoteria(int quantum, int boletosBase) {
+        setParametroAlgoritmo(ALGORITMO_LOTERIA, "quantum", quantum);
+        setParametroAlgoritmo(ALGORITMO_LOTERIA, "boletosBase", boletosBase);
     }
-    
+
+    public int getQuantumStride() {
+        return (int) getParametroAlgoritmo(ALGORITMO_STRIDE, "quantum", AlgoritmoProporcional.QUANTUM_POR_DEFECTO);
+    }
+
+    public int getBoletosBaseStride() {
+        return (int) getParametroAlgoritmo(ALGORITMO_STRIDE, "boletosBase",
+                AlgoritmoProporcional.BOLETOS_BASE_POR_DEFECTO);
+    }
+
+    public void setRepartoStride(int quantum, int boletosBase) {
+        setParametroAlgoritmo(ALGORITMO_STRIDE, "quantum", quantum);
+        setParametroAlgoritmo(ALGORITMO_STRIDE, "boletosBase", boletosBase);
+    }
+
     public boolean isLogActivo() {
         return logActivo;
     }
-    
+
     public void setLogActivo(boolean logActivo) {
         this.logActivo = logActivo;
     }
-    
+
+    public String getPerfilActivo() {
+        return perfilActivo;
+    }
+
+    public double getParametroAlgoritmo(String algoritmo, String parametro, double porDefecto) {
+        MapaEnlazado<String, Double> parametros = parametrosAlgoritmos.consultar(algoritmo);
+        Double valor = parametros != null ? parametros.consultar(parametro) : null;
+        return valor != null ? valor : porDefecto;
+    }
+
+    public void setParametroAlgoritmo(String algoritmo, String parametro, double valor) {
+        MapaEnlazado<String, Double> parametros = parametrosAlgoritmos.consultar(algoritmo);
+        if (parametros == null) {
+            parametros = new MapaEnlazado<>(false);
+            parametrosAlgoritmos.poner(algoritmo, parametros);
+        }
+        parametros.poner(parametro, valor);
+    }
+
+    public int getMemoriaPrincipalKB() {
+        return memoriaPrincipalKB;
+    }
+
+    public void setMemoriaPrincipalKB(int memoriaPrincipalKB) {
+        this.memoriaPrincipalKB = memoriaPrincipalKB;
+    }
+
+    public int getMemoriaSecundariaKB() {
+        return memoriaSecundariaKB;
+    }
+
+    public void setMemoriaSecundariaKB(int memoriaSecundariaKB) {
+        this.memoriaSecundariaKB = memoriaSecundariaKB;
+    }
+
+    public int getMarcosPaginacion() {
+        return marcosPaginacion;
+    }
+
+    public void setMarcosPaginacion(int marcosPaginacion) {
+        this.marcosPaginacion = marcosPaginacion;
+    }
+
+    public EstrategiaAsignacion getEstrategiaAsignacion() {
+        return estrategiaAsignacion;
+    }
+
+    public void setEstrategiaAsignacion(EstrategiaAsignacion estrategiaAsignacion) {
+        this.estrategiaAsignacion = estrategiaAsignacion;
+    }
+
+    public GestorMemoria.PoliticaReemplazo getPoliticaReemplazo() {
+        return politicaReemplazo;
+    }
+
+    public void setPoliticaReemplazo(GestorMemoria.PoliticaReemplazo politicaReemplazo) {
+        this.politicaReemplazo = politicaReemplazo;
+    }
+
+    public PoliticaReemplazoPaginas getPoliticaPaginas() {
+        return politicaPaginas;
+    }
+
+    public void setPoliticaPaginas(PoliticaReemplazoPaginas politicaPaginas) {
+        this.politicaPaginas = politicaPaginas;
+    }
+
+    public boolean isCompactacionAutomatica() {
+        return compactacionAutomatica;
+    }
+
+    public void setCompactacionAutomatica(boolean compactacionAutomatica) {
+        this.compactacionAutomatica = compactacionAutomatica;
+    }
+
+    public int getUmbralSuspensionKB() {
+        return umbralSuspensionKB;
+    }
+
+    public int getUmbralReactivacionKB() {
+        return umbralReactivacionKB;
+    }
+
+    public void setUmbralesIntercambio(int umbralSuspensionKB, int umbralReactivacionKB) {
+        this.umbralSuspensionKB = umbralSuspensionKB;
+        this.umbralReactivacionKB = umbralReactivacionKB;
+    }
+
+    public int getCostoIntercambioCiclos() {
+        return costoIntercambioCiclos;
+    }
+
+    public void setCostoIntercambioCiclos(int costoIntercambioCiclos) {
+        this.costoIntercambioCiclos = costoIntercambioCiclos;
+    }
+
+    public int getMaxIntercambiosPorVentana() {
+        return maxIntercambiosPorVentana;
+    }
+
+    public int getVentanaIntercambioCiclos() {
+        return ventanaIntercambioCiclos;
+    }
+
+    public boolean isContextosEnDisco() {
+        return contextosEnDisco;
+    }
+
+    public void setContextosEnDisco(boolean contextosEnDisco) {
+        this.contextosEnDisco = contextosEnDisco;
+    }
+
+    public void setLimiteIntercambios(int maxIntercambiosPorVentana, int ventanaIntercambioCiclos) {
+        this.maxIntercambiosPorVentana = maxIntercambiosPorVentana;
+        this.ventanaIntercambioCiclos = ventanaIntercambioCiclos;
+    }
+
+    public GestorProcesos.PoliticaAdmision getPoliticaAdmision() {
+        return politicaAdmision;
+    }
+
+    public void setPoliticaAdmision(GestorProcesos.PoliticaAdmision politicaAdmision) {
+        this.politicaAdmision = politicaAdmision;
+    }
+
+    public int getCreacionesPorCiclo() {
+        return creacionesPorCiclo;
+    }
+
+    public void setCreacionesPorCiclo(int creacionesPorCiclo) {
+        this.creacionesPorCiclo = creacionesPorCiclo;
+    }
+
+    public int getGradoMultiprogramacion() {
+        return gradoMultiprogramacion;
+    }
+
+    public void setGradoMultiprogramacion(int gradoMultiprogramacion) {
+        this.gradoMultiprogramacion = gradoMultiprogramacion;
+    }
+
+    public int getAdmisionesPorCiclo() {
+        return admisionesPorCiclo;
+    }
+
+    public void setAdmisionesPorCiclo(int admisionesPorCiclo) {
+        this.admisionesPorCiclo = admisionesPorCiclo;
+    }
+
+    public int getReservaMemoriaKB() {
+        return reservaMemoriaKB;
+    }
+
+    public void setReservaMemoriaKB(int reservaMemoriaKB) {
+        this.reservaMemoriaKB = reservaMemoriaKB;
+    }
+
+    public int getNumeroProcesos() {
+        return numeroProcesos;
+    }
+
+    public void setNumeroProcesos(int numeroProcesos) {
+        this.numeroProcesos = numeroProcesos;
+    }
+
+    public int getInstruccionesMin() {
+        return instruccionesMin;
+    }
+
+    public int getInstruccionesMax() {
+        return instruccionesMax;
+    }
+
+    public void setRangoInstrucciones(int instruccionesMin, int instruccionesMax) {
+        this.instruccionesMin = instruccionesMin;
+        this.instruccionesMax = instruccionesMax;
+    }
+
+    public double getProporcionIOBound() {
+        return proporcionIOBound;
+    }
+
+    public void setProporcionIOBound(double proporcionIOBound) {
+        this.proporcionIOBound = proporcionIOBound;
+    }
+
+    public int getPrioridadMin() {
+        return prioridadMin;
+    }
+
+    public int getPrioridadMax() {
+        return prioridadMax;
+    }
+
+    public void setRangoPrioridad(int prioridadMin, int prioridadMax) {
+        this.prioridadMin = prioridadMin;
+        this.prioridadMax = prioridadMax;
+    }
+
+    public int getIntervaloLlegadaCiclos() {
+        return intervaloLlegadaCiclos;
+    }
+
+    public void setIntervaloLlegadaCiclos(int intervaloLlegadaCiclos) {
+        this.intervaloLlegadaCiclos = intervaloLlegadaCiclos;
+    }
+
+    public long getSemilla() {
+        return semilla;
+    }
+
+    public void setSemilla(long semilla) {
+        this.semilla = semilla;
+    }
+
+    // Claves aceptadas que el simulador no usa: parámetros de "algoritmos" que ningún
+    // algoritmo lee y logActivo en false (el motor siempre registra en la salida estándar)
+    public ListaSimple<String> getAjustesSinEfecto() {
+        ListaSimple<String> sinEfecto = new ListaSimple<>();
+        ListaSimple<String> algoritmos = parametrosAlgoritmos.claves();
+        for (int i = 0; i < algoritmos.tamaño(); i++) {
+            String algoritmo = algoritmos.obtener(i);
+            ListaSimple<String> parametros = parametrosAlgoritmos.consultar(algoritmo).claves();
+            for (int j = 0; j < parametros.tamaño(); j++) {
+                if (!esParametroConocido(algoritmo, parametros.obtener(j))) {
+                    sinEfecto.agregar("algoritmos." + algoritmo + "." + parametros.obtener(j));
+                }
+            }
+        }
+        if (!logActivo) {
+            sinEfecto.agregar("logActivo");
+        }
+        return sinEfecto;
+    }
+
+    private static boolean esParametroConocido(String algoritmo, String parametro) {
+        switch (algoritmo) {
+            case ALGORITMO_RR:
+                return parametro.equals("quantum");
+            case ALGORITMO_MULTINIVEL:
+                return parametro.equals("niveles");
+            case ALGORITMO_PRIORIDAD:
+                return parametro.equals("envejecimiento") || parametro.equals("apropiativo");
+            case ALGORITMO_SJF:
+                return parametro.equals("envejecimiento");
+            case ALGORITMO_LOTERIA:
+            case ALGORITMO_STRIDE:
+                return parametro.equals("quantum") || parametro.equals("boletosBase");
+            default:
+                return false;
+        }
+    }
+
+    public ListaSimple<String> getNombresPerfiles() {
+        return perfiles.claves();
+    }
+
+    // Aplica un perfil leído del archivo sobre la configuración actual
+    public boolean aplicarPerfil(String nombre) {
+        ListaSimple<Asignacion> asignaciones = perfiles.consultar(nombre);
+        if (asignaciones == null) {
+            return false;
+        }
+        ListaSimple<String> errores = new ListaSimple<>();
+        for (int i = 0; i < asignaciones.tamaño(); i++) {
+            Asignacion asignacion = asignaciones.obtener(i);
+            asignar(asignacion.ruta, asignacion.valor, asignacion.linea, errores);
+        }
+        perfilActivo = nombre;
+        return errores.estaVacia();
+    }
+
     public String toJSON() {
-        StringBuilder json = new StringBuilder();
-        json.append("{\n");
-        json.append("  \"duracionCicloMs\": ").append(duracionCicloMs).append(",\n");
-        json.append("  \"maxProcesos\": ").append(maxProcesos).append(",\n");
-        json.append("  \"algoritmoInicial\": \"").append(algoritmoInicial).append("\",\n");
-        json.append("  \"quantumRR\": ").append(quantumRR).append(",\n");
-        json.append("  \"numeroNivelesMultinivel\": ").append(numeroNivelesMultinivel).append(",\n");
-        json.append("  \"logActivo\": ").append(logActivo).append("\n");
-        json.append("}");
-        return json.toString();
-    }
-    
-    public static ConfiguracionSistema fromJSON(String json) {
+        StringWriter salida = new StringWriter();
+        try {
+            escribir(salida);
+        } catch (IOException e) {
+            // StringWriter no lanza IOException
+        }
+        return salida.toString();
+    }
+
+    public void escribir(Writer salida) throws IOException {
+        EscritorJSON json = new EscritorJSON(salida);
+        json.iniciarObjeto();
+        json.campo("duracionCicloMs", duracionCicloMs);
+        json.campo("maxProcesos", maxProcesos);
+        json.campo("algoritmoInicial", algoritmoInicial);
+        json.campo("logActivo", logActivo);
+        if (perfilActivo != null) {
+            json.campo("perfilActivo", perfilActivo);
+        }
+
+        json.nombre("memoria").iniciarObjeto();
+        json.campo("principalKB", memoriaPrincipalKB);
+        json.campo("secundariaKB", memoriaSecundariaKB);
+        json.campo("marcosPaginacion", marcosPaginacion);
+        json.campo("estrategiaAsignacion", estrategiaAsignacion.name());
+        json.campo("politicaReemplazo", politicaReemplazo.name());
+        json.campo("politicaPaginas", politicaPaginas.name());
+        json.campo("compactacionAutomatica", compactacionAutomatica);
+        json.campo("umbralSuspensionKB", umbralSuspensionKB);
+        json.campo("umbralReactivacionKB", umbralReactivacionKB);
+        json.campo("costoIntercambioCiclos", costoIntercambioCiclos);
+        json.campo("maxIntercambiosPorVentana", maxIntercambiosPorVentana);
+        json.campo("ventanaIntercambioCiclos", ventanaIntercambioCiclos);
+        json.campo("contextosEnDisco", contextosEnDisco);
+        json.terminarObjeto();
+
+        json.nombre("admision").iniciarObjeto();
+        json.campo("politica", politicaAdmision.name());
+        json.campo("creacionesPorCiclo", creacionesPorCiclo);
+        json.campo("gradoMultiprogramacion", gradoMultiprogramacion);
+        json.campo("admisionesPorCiclo", admisionesPorCiclo);
+        json.campo("reservaMemoriaKB", reservaMemoriaKB);
+        json.terminarObjeto();
+
+        json.nombre("algoritmos").iniciarObjeto();
+        ListaSimple<String> algoritmos = parametrosAlgoritmos.claves();
+        for (int i = 0; i < algoritmos.tamaño(); i++) {
+            MapaEnlazado<String, Double> parametros = parametrosAlgoritmos.consultar(algoritmos.obtener(i));
+            json.nombre(algoritmos.obtener(i)).iniciarObjeto();
+            ListaSimple<String> nombres = parametros.claves();
+            for (int j = 0; j < nombres.tamaño(); j++) {
+                json.campo(nombres.obtener(j), parametros.consultar(nombres.obtener(j)));
+            }
+            json.terminarObjeto();
+        }
+        json.terminarObjeto();
+
+        json.nombre("carga").iniciarObjeto();
+        json.campo("numeroProcesos", numeroProcesos);
+        json.campo("instruccionesMin", instruccionesMin);
+        json.campo("instruccionesMax", instruccionesMax);
+        json.campo("proporcionIOBound", proporcionIOBound);
+        json.campo("prioridadMin", prioridadMin);
+        json.campo("prioridadMax", prioridadMax);
+        json.campo("intervaloLlegadaCiclos", intervaloLlegadaCiclos);
+        json.campo("semilla", semilla);
+        json.terminarObjeto();
+
+        if (!perfiles.estaVacio()) {
+            json.nombre("perfiles").iniciarObjeto();
+            ListaSimple<String> nombres = perfiles.claves();
+            for (int i = 0; i < nombres.tamaño(); i++) {
+                json.nombre(nombres.obtener(i));
+                escribirAsignaciones(json, perfiles.consultar(nombres.obtener(i)));
+            }
+            json.terminarObjeto();
+        }
+
+        json.terminarObjeto();
+        json.terminar();
+    }
+
+    // Reconstruye el anidamiento a partir de las rutas "seccion.sub.clave"; las claves de una
+    // misma sección quedan contiguas porque se registraron en el orden en que se leyeron
+    private static void escribirAsignaciones(EscritorJSON json, ListaSimple<Asignacion> asignaciones)
+            throws IOException {
+        json.iniciarObjeto();
+        ListaSimple<String> abiertas = new ListaSimple<>();
+        for (int i = 0; i < asignaciones.tamaño(); i++) {
+            Asignacion asignacion = asignaciones.obtener(i);
+            String[] partes = asignacion.ruta.split("\\.");
+
+            int comunes = 0;
+            while (comunes < abiertas.tamaño() && comunes < partes.length - 1
+                    && abiertas.obtener(comunes).equals(partes[comunes])) {
+                comunes++;
+            }
+            while (abiertas.tamaño() > comunes) {
+                abiertas.remover(abiertas.tamaño() - 1);
+                json.terminarObjeto();
+            }
+            for (int p = comunes; p < partes.length - 1; p++) {
+                json.nombre(partes[p]).iniciarObjeto();
+                abiertas.agregar(partes[p]);
+            }
+            json.nombre(partes[partes.length - 1]).valor(asignacion.valor);
+        }
+        for (int i = 0; i < abiertas.tamaño(); i++) {
+            json.terminarObjeto();
+        }
+        json.terminarObjeto();
+    }
+
+    // Lee y valida una configuración completa; reporta todos los errores de validación juntos
+    public static ConfiguracionSistema leer(Reader entrada) throws IOException {
         ConfiguracionSistema config = new ConfiguracionSistema();
-        
+        ListaSimple<String> errores = new ListaSimple<>();
+        LectorJSON lector = new LectorJSON(entrada);
+
+        if (lector.siguiente() != LectorJSON.Token.INICIO_OBJETO) {
+            throw lector.error("La raíz de la configuración debe ser un objeto");
+        }
+        config.leerSeccion(lector, "", null, errores);
+        lector.siguiente(); // Verifica que no quede nada después del objeto raíz
+
+        if (config.perfilActivo != null && !config.perfiles.contieneClave(config.perfilActivo)) {
+            errores.agregar("Perfil activo '" + config.perfilActivo + "' no definido en \"perfiles\"");
+        } else if (config.perfilActivo != null) {
+            config.aplicarPerfil(config.perfilActivo);
+        }
+        config.validarCoherencia(errores);
+
+        if (!errores.estaVacia()) {
+            throw new ErrorConfiguracion(errores);
+        }
+        return config;
+    }
+
+    // Compatibilidad: ante cualquier error se informa y se usan los valores por defecto
+    public static ConfiguracionSistema fromJSON(String json) {
         try {
-            String[] lines = json.split("\n");
-            for (String line : lines) {
-                line = line.trim();
-                
-                if (line.contains("\"duracionCicloMs\"")) {
-                    config.duracionCicloMs = extraerEntero(line);
-                } else if (line.contains("\"maxProcesos\"")) {
-                    config.maxProcesos = extraerEntero(line);
-                } else if (line.contains("\"algoritmoInicial\"")) {
-                    config.algoritmoInicial = extraerCadena(line);
-                } else if (line.contains("\"quantumRR\"")) {
-                    config.quantumRR = extraerEntero(line);
-                } else if (line.contains("\"numeroNivelesMultinivel\"")) {
-                    config.numeroNivelesMultinivel = extraerEntero(line);
-                } else if (line.contains("\"logActivo\"")) {
-                    config.logActivo = extraerBooleano(line);
+            return leer(new StringReader(json));
+        } catch (IOException e) {
+            System.err.println("Error al parsear JSON: " + e.getMessage());
+            return new ConfiguracionSistema();
+        }
+    }
+
+    // Recorre un objeto ya abierto. Con destino != null (un perfil) además guarda las
+    // asignaciones; se aplican igualmente sobre esta instancia para validarlas al leer.
+    private void leerSeccion(LectorJSON lector, String prefijo, ListaSimple<Asignacion> destino,
+            ListaSimple<String> errores) throws IOException {
+        LectorJSON.Token token;
+        while ((token = lector.siguiente()) != LectorJSON.Token.FIN_OBJETO) {
+            String nombre = lector.getCadena();
+            String ruta = prefijo.isEmpty() ? nombre : prefijo + "." + nombre;
+            int linea = lector.getLinea();
+            LectorJSON.Token valor = lector.siguiente();
+
+            if (valor == LectorJSON.Token.INICIO_OBJETO) {
+                if (ruta.equals("perfiles") && destino == null) {
+                    leerPerfiles(lector, errores);
+                } else if (esSeccion(ruta)) {
+                    leerSeccion(lector, ruta, destino, errores);
+                } else {
+                    errores.agregar(ubicacion(linea) + "'" + ruta + "' no es una sección");
+                    lector.saltarValor(valor);
+                }
+            } else if (valor == LectorJSON.Token.INICIO_ARREGLO) {
+                errores.agregar(ubicacion(linea) + "'" + ruta + "' no admite arreglos");
+                lector.saltarValor(valor);
+            } else if (destino != null && ruta.equals("perfilActivo")) {
+                errores.agregar(ubicacion(linea) + "un perfil no puede activar otro perfil");
+            } else {
+                Object dato = lector.getValor(valor);
+                if (asignar(ruta, dato, linea, errores) && destino != null) {
+                    destino.agregar(new Asignacion(ruta, dato, linea));
                 }
             }
-        } catch (Exception e) {
-            System.err.println("Error al parsear JSON: " + e.getMessage());
         }
-        
-        return config;
     }
-    
-    private static int extraerEntero(String line) {
-        String[] parts = line.split(":");
-        if (parts.length > 1) {
-            String valor = parts[1].trim().replace(",", "").replace("}", "");
-            return Integer.parseInt(valor);
+
+    private void leerPerfiles(LectorJSON lector, ListaSimple<String> errores) throws IOException {
+        while (lector.siguiente() != LectorJSON.Token.FIN_OBJETO) {
+            String nombre = lector.getCadena();
+            int linea = lector.getLinea();
+            LectorJSON.Token valor = lector.siguiente();
+            if (valor != LectorJSON.Token.INICIO_OBJETO) {
+                errores.agregar(ubicacion(linea) + "el perfil '" + nombre + "' debe ser un objeto");
+                lector.saltarValor(valor);
+                continue;
+            }
+            ListaSimple<Asignacion> asignaciones = new ListaSimple<>();
+            new ConfiguracionSistema().leerSeccion(lector, "", asignaciones, errores);
+            perfiles.poner(nombre, asignaciones);
         }
-        return 0;
     }
-    
-    private static String extraerCadena(String line) {
-        int inicio = line.indexOf("\"", line.indexOf(":")) + 1;
-        int fin = line.lastIndexOf("\"");
-        if (inicio > 0 && fin > inicio) {
-            return line.substring(inicio, fin);
+
+    private static boolean esSeccion(String ruta) {
+        if (ruta.equals("memoria") || ruta.equals("admision") || ruta.equals("carga") || ruta.equals("algoritmos")) {
+            return true;
+        }
+        // "algoritmos.<nombre>" es la sección de parámetros de ese algoritmo
+        return ruta.startsWith("algoritmos.") && ruta.indexOf('.', "algoritmos.".length()) < 0;
+    }
+
+    // Asigna una clave escalar; devuelve false (y anota el error) si no es válida
+    private boolean asignar(String ruta, Object valor, int linea, ListaSimple<String> errores) {
+        int antes = errores.tamaño();
+        switch (ruta) {
+            case "duracionCicloMs":
+                duracionCicloMs = entero(ruta, valor, 0, 60_000, duracionCicloMs, linea, errores);
+                break;
+            case "maxProcesos":
+                maxProcesos = entero(ruta, valor, 1, 10_000_000, maxProcesos, linea, errores);
+                break;
+            case "algoritmoInicial":
+                algoritmoInicial = cadena(ruta, valor, algoritmoInicial, linea, errores);
+                break;
+            case "logActivo":
+                logActivo = booleano(ruta, valor, logActivo, linea, errores);
+                break;
+            case "perfilActivo":
+                perfilActivo = valor == null ? null : cadena(ruta, valor, perfilActivo, linea, errores);
+                break;
+            // Claves planas de la versión anterior del archivo
+            case "quantumRR":
+                setQuantumRR(entero(ruta, valor, 1, 1_000, getQuantumRR(), linea, errores));
+                break;
+            case "numeroNivelesMultinivel":
+                setNumeroNivelesMultinivel(entero(ruta, valor, 1, 16, getNumeroNivelesMultinivel(), linea, errores));
+                break;
+
+            case "memoria.principalKB":
+                memoriaPrincipalKB = entero(ruta, valor, 1, Integer.MAX_VALUE, memoriaPrincipalKB, linea, errores);
+                break;
+            case "memoria.secundariaKB":
+                memoriaSecundariaKB = entero(ruta, valor, 0, Integer.MAX_VALUE, memoriaSecundariaKB, linea, errores);
+                break;
+            case "memoria.marcosPaginacion":
+                marcosPaginacion = entero(ruta, valor, 0, Integer.MAX_VALUE, marcosPaginacion, linea, errores);
+                break;
+            case "memoria.estrategiaAsignacion":
+                estrategiaAsignacion = enumerado(ruta, valor, EstrategiaAsignacion.values(), estrategiaAsignacion,
+                        linea, errores);
+                break;
+            case "memoria.politicaReemplazo":
+                politicaReemplazo = enumerado(ruta, valor, GestorMemoria.PoliticaReemplazo.values(),
+                        politicaReemplazo, linea, errores);
+                break;
+            case "memoria.politicaPaginas":
+                politicaPaginas = enumerado(ruta, valor, PoliticaReemplazoPaginas.values(), politicaPaginas,
+                        linea, errores);
+                break;
+            case "memoria.compactacionAutomatica":
+                compactacionAutomatica = booleano(ruta, valor, compactacionAutomatica, linea, errores);
+                break;
+            case "memoria.umbralSuspensionKB":
+                umbralSuspensionKB = entero(ruta, valor, 0, Integer.MAX_VALUE, umbralSuspensionKB, linea, errores);
+                break;
+            case "memoria.umbralReactivacionKB":
+                umbralReactivacionKB = entero(ruta, valor, 0, Integer.MAX_VALUE, umbralReactivacionKB, linea, errores);
+                break;
+            case "memoria.costoIntercambioCiclos":
+                costoIntercambioCiclos = entero(ruta, valor, 0, 1_000, costoIntercambioCiclos, linea, errores);
+                break;
+            case "memoria.maxIntercambiosPorVentana":
+                maxIntercambiosPorVentana = entero(ruta, valor, 0, Integer.MAX_VALUE, maxIntercambiosPorVentana,
+                        linea, errores);
+                break;
+            case "memoria.ventanaIntercambioCiclos":
+                ventanaIntercambioCiclos = entero(ruta, valor, 1, 1_000_000, ventanaIntercambioCiclos, linea, errores);
+                break;
+            case "memoria.contextosEnDisco":
+                contextosEnDisco = booleano(ruta, valor, contextosEnDisco, linea, errores);
+                break;
+
+            case "admision.politica":
+                politicaAdmision = enumerado(ruta, valor, GestorProcesos.PoliticaAdmision.values(),
+                        politicaAdmision, linea, errores);
+                break;
+            case "admision.creacionesPorCiclo":
+                creacionesPorCiclo = entero(ruta, valor, 1, Integer.MAX_VALUE, creacionesPorCiclo, linea, errores);
+                break;
+            case "admision.gradoMultiprogramacion":
+                gradoMultiprogramacion = entero(ruta, valor, 0, Integer.MAX_VALUE, gradoMultiprogramacion,
+                        linea, errores);
+                break;
+            case "admision.admisionesPorCiclo":
+                admisionesPorCiclo = entero(ruta, valor, 1, Integer.MAX_VALUE, admisionesPorCiclo, linea, errores);
+                break;
+            case "admision.reservaMemoriaKB":
+                reservaMemoriaKB = entero(ruta, valor, 0, Integer.MAX_VALUE, reservaMemoriaKB, linea, errores);
+                break;
+
+            case "carga.numeroProcesos":
+                numeroProcesos = entero(ruta, valor, 0, 10_000_000, numeroProcesos, linea, errores);
+                break;
+            case "carga.instruccionesMin":
+                instruccionesMin = entero(ruta, valor, 1, Integer.MAX_VALUE, instruccionesMin, linea, errores);
+                break;
+            case "carga.instruccionesMax":
+                instruccionesMax = entero(ruta, valor, 1, Integer.MAX_VALUE, instruccionesMax, linea, errores);
+                break;
+            case "carga.proporcionIOBound":
+                proporcionIOBound = decimal(ruta, valor, 0.0, 1.0, proporcionIOBound, linea, errores);
+                break;
+            case "carga.prioridadMin":
+                prioridadMin = entero(ruta, valor, 0, 1_000, prioridadMin, linea, errores);
+                break;
+            case "carga.prioridadMax":
+                prioridadMax = entero(ruta, valor, 0, 1_000, prioridadMax, linea, errores);
+                break;
+            case "carga.intervaloLlegadaCiclos":
+                intervaloLlegadaCiclos = entero(ruta, valor, 0, Integer.MAX_VALUE, intervaloLlegadaCiclos,
+                        linea, errores);
+                break;
+            case "carga.semilla":
+                if (valor instanceof Long) {
+                    semilla = (Long) valor;
+                } else {
+                    errores.agregar(ubicacion(linea) + "'" + ruta + "' debe ser un entero");
+                }
+                break;
+
+            default:
+                asignarParametroAlgoritmo(ruta, valor, linea, errores);
+                break;
         }
-        return "";
+        return errores.tamaño() == antes;
     }
-    
-    private static boolean extraerBooleano(String line) {
-        return line.toLowerCase().contains("true");
+
+    private void asignarParametroAlgoritmo(String ruta, Object valor, int linea, ListaSimple<String> errores) {
+        // "algoritmos.<algoritmo>.<parametro>"
+        int inicio = "algoritmos.".length();
+        int punto = ruta.indexOf('.', inicio);
+        if (!ruta.startsWith("algoritmos.") || punto < 0 || ruta.indexOf('.', punto + 1) >= 0) {
+            errores.agregar(ubicacion(linea) + "clave desconocida '" + ruta + "'");
+            return;
+        }
+        String algoritmo = ruta.substring(inicio, punto);
+        String parametro = ruta.substring(punto + 1);
+        if (!(valor instanceof Number)) {
+            errores.agregar(ubicacion(linea) + "'" + ruta + "' debe ser numérico");
+            return;
+        }
+        double numero = ((Number) valor).doubleValue();
+
+        // Parámetros conocidos con rango propio; el resto sólo se exige que no sea negativo
+        boolean valido;
+        switch (parametro) {
+            case "quantum":
+            case "quantumBase":
+                valido = numero >= 1 && numero <= 1_000 && numero == Math.rint(numero);
+                break;
+            case "niveles":
+                valido = numero >= 1 && numero <= 16 && numero == Math.rint(numero);
+                break;
+            case "envejecimiento":
+                valido = numero >= 0 && numero <= 1_000_000 && numero == Math.rint(numero);
+                break;
+            case "apropiativo":
+                valido = numero == 0 || numero == 1;
+                break;
+            case "boletosBase":
+                valido = numero >= 1 && numero <= 1_000_000 && numero == Math.rint(numero);
+                break;
+            default:
+                valido = numero >= 0;
+                break;
+        }
+        if (!valido) {
+            errores.agregar(ubicacion(linea) + "valor fuera de rango para '" + ruta + "': " + valor);
+            return;
+        }
+        setParametroAlgoritmo(algoritmo, parametro, numero);
     }
-}
 
+    private void validarCoherencia(ListaSimple<String> errores) {
+        if (instruccionesMin > instruccionesMax) {
+            errores.agregar("carga.instruccionesMin (" + instruccionesMin + ") es mayor que carga.instruccionesMax ("
+                    + instruccionesMax + ")");
+        }
+        if (prioridadMin > prioridadMax) {
+            errores.agregar("carga.prioridadMin (" + prioridadMin + ") es mayor que carga.prioridadMax ("
+                    + prioridadMax + ")");
+        }
+        if (numeroProcesos > maxProcesos && politicaAdmision == GestorProcesos.PoliticaAdmision.RECHAZAR) {
+            errores.agregar("carga.numeroProcesos (" + numeroProcesos + ") supera maxProcesos (" + maxProcesos + ")");
+        }
+        if (umbralReactivacionKB < umbralSuspensionKB) {
+            errores.agregar("memoria.umbralReactivacionKB (" + umbralReactivacionKB
+                    + ") es menor que memoria.umbralSuspensionKB (" + umbralSuspensionKB + ")");
+        }
+        if (reservaMemoriaKB >= memoriaPrincipalKB) {
+            errores.agregar("admision.reservaMemoriaKB (" + reservaMemoriaKB + ") debe ser menor que memoria.principalKB ("
+                    + memoriaPrincipalKB + ")");
+        }
+        if (algoritmoInicial == null || algoritmoInicial.trim().isEmpty()) {
+            errores.agregar("algoritmoInicial no puede estar vacío");
+        }
+    }
+
+    private static String ubicacion(int linea) {
+        return "Línea " + linea + ": ";
+    }
+
+    private static int entero(String ruta, Object valor, int minimo, int maximo, int actual, int linea,
+            ListaSimple<String> errores) {
+        if (!(valor instanceof Long)) {
+            errores.agregar(ubicacion(linea) + "'" + ruta + "' debe ser un entero");
+            return actual;
+        }
+        long numero = (Long) valor;
+        if (numero < minimo || numero > maximo) {
+            errores.agregar(ubicacion(linea) + "'" + ruta + "' debe estar entre " + minimo + " y " + maximo
+                    + " (es " + numero + ")");
+            return actual;
+        }
+        return (int) numero;
+    }
+
+    private static double decimal(String ruta, Object valor, double minimo, double maximo, double actual,
+            int linea, ListaSimple<String> errores) {
+        if (!(valor instanceof Number)) {
+            errores.agregar(ubicacion(linea) + "'" + ruta + "' debe ser numérico");
+            return actual;
+        }
+        double numero = ((Number) valor).doubleValue();
+        if (numero < minimo || numero > maximo) {
+            errores.agregar(ubicacion(linea) + "'" + ruta + "' debe estar entre " + minimo + " y " + maximo
+                    + " (es " + numero + ")");
+            return actual;
+        }
+        return numero;
+    }
 
+    private static boolean booleano(String ruta, Object valor, boolean actual, int linea,
+            ListaSimple<String> errores) {
+        if (!(valor instanceof Boolean)) {
+            errores.agregar(ubicacion(linea) + "'" + ruta + "' debe ser true o false");
+            return actual;
+        }
+        return (Boolean) valor;
+    }
+
+    private static String cadena(String ruta, Object valor, String actual, int linea, ListaSimple<String> errores) {
+        if (!(valor instanceof String)) {
+            errores.agregar(ubicacion(linea) + "'" + ruta + "' debe ser una cadena");
+            return actual;
+        }
+        return (String) valor;
+    }
+
+    private static <E extends Enum<E>> E enumerado(String ruta, Object valor, E[] opciones, E actual, int linea,
+            ListaSimple<String> errores) {
+        if (valor instanceof String) {
+            for (E opcion : opciones) {
+                if (opcion.name().equalsIgnoreCase((String) valor)) {
+                    return opcion;
+                }
+            }
+        }
+        StringBuilder nombres = new StringBuilder();
+        for (int i = 0; i < opciones.length; i++) {
+            nombres.append(i > 0 ? ", " : "").append(opciones[i].name());
+        }
+        errores.agregar(ubicacion(linea) + "'" + ruta + "' debe ser uno de: " + nombres);
+        return actual;
+    }
+
+    // Clave escalar de un perfil, con la línea donde se definió para los mensajes de error
+    private static class Asignacion {
+        final String ruta;
+        final Object valor;
+        final int linea;
+
+        Asignacion(String ruta, Object valor, int linea) {
+            this.ruta = ruta;
+            this.valor = valor;
+            this.linea = linea;
+        }
+    }
+}
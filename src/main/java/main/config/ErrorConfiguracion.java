@@ -0,0 +1,38 @@
+package main.config;
+
+import main.estructuras.ListaSimple;
+import java.io.IOException;
+
+// Error al leer una configuración: de sintaxis (se aborta en el primero) o de validación
+// (se acumulan todos los del documento para poder corregirlos de una vez)
+public class ErrorConfiguracion extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final ListaSimple<String> errores;
+
+    public ErrorConfiguracion(String mensaje, int linea, int columna) {
+        super("Línea " + linea + ", columna " + columna + ": " + mensaje);
+        this.errores = new ListaSimple<>();
+        this.errores.agregar(getMessage());
+    }
+
+    public ErrorConfiguracion(ListaSimple<String> errores) {
+        super(unir(errores));
+        this.errores = errores;
+    }
+
+    public ListaSimple<String> getErrores() {
+        return errores;
+    }
+
+    private static String unir(ListaSimple<String> errores) {
+        StringBuilder mensaje = new StringBuilder();
+        mensaje.append(errores.tamaño()).append(errores.tamaño() == 1 ? " error" : " errores")
+                .append(" de configuración");
+        for (int i = 0; i < errores.tamaño(); i++) {
+            mensaje.append("\n  - ").append(errores.obtener(i));
+        }
+        return mensaje.toString();
+    }
+}
@@ -0,0 +1,208 @@
+package main.config;
+
+import java.io.IOException;
+import java.io.Writer;
+
+// Escritor JSON en streaming con sangría de dos espacios; se encarga de comas y escapes
+public class EscritorJSON {
+
+    private static final int PROFUNDIDAD_MAXIMA = 64;
+
+    private final Writer salida;
+    private final boolean[] conElementos;
+    private int profundidad;
+    private boolean nombrePendiente;
+
+    public EscritorJSON(Writer salida) {
+        this.salida = salida;
+        this.conElementos = new boolean[PROFUNDIDAD_MAXIMA];
+        this.profundidad = 0;
+    }
+
+    public EscritorJSON iniciarObjeto() throws IOException {
+        return abrir('{');
+    }
+
+    public EscritorJSON terminarObjeto() throws IOException {
+        return cerrar('}');
+    }
+
+    public EscritorJSON iniciarArreglo() throws IOException {
+        return abrir('[');
+    }
+
+    public EscritorJSON terminarArreglo() throws IOException {
+        return cerrar(']');
+    }
+
+    public EscritorJSON nombre(String nombre) throws IOException {
+        separar();
+        escribirCadena(nombre);
+        salida.write(": ");
+        nombrePendiente = true;
+        return this;
+    }
+
+    public EscritorJSON valor(String valor) throws IOException {
+        if (valor == null) {
+            return valorNulo();
+        }
+        separar();
+        escribirCadena(valor);
+        return this;
+    }
+
+    public EscritorJSON valor(long valor) throws IOException {
+        separar();
+        salida.write(Long.toString(valor));
+        return this;
+    }
+
+    public EscritorJSON valor(double valor) throws IOException {
+        if (Double.isNaN(valor) || Double.isInfinite(valor)) {
+            throw new IllegalArgumentException("JSON no admite NaN ni infinitos");
+        }
+        separar();
+        // Los enteros exactos se escriben sin ".0"
+        if (valor == Math.rint(valor) && Math.abs(valor) < 1e15) {
+            salida.write(Long.toString((long) valor));
+        } else {
+            salida.write(Double.toString(valor));
+        }
+        return this;
+    }
+
+    public EscritorJSON valor(boolean valor) throws IOException {
+        separar();
+        salida.write(valor ? "true" : "false");
+        return this;
+    }
+
+    public EscritorJSON valorNulo() throws IOException {
+        separar();
+        salida.write("null");
+        return this;
+    }
+
+    // Escribe un valor escalar tal como lo devuelve LectorJSON.getValor
+    public EscritorJSON valor(Object valor) throws IOException {
+        if (valor instanceof String) {
+            return valor((String) valor);
+        }
+        if (valor instanceof Boolean) {
+            return valor(((Boolean) valor).booleanValue());
+        }
+        if (valor instanceof Long || valor instanceof Integer) {
+            return valor(((Number) valor).longValue());
+        }
+        if (valor instanceof Number) {
+            return valor(((Number) valor).doubleValue());
+        }
+        return valorNulo();
+    }
+
+    public EscritorJSON campo(String nombre, String valor) throws IOException {
+        return nombre(nombre).valor(valor);
+    }
+
+    public EscritorJSON campo(String nombre, long valor) throws IOException {
+        return nombre(nombre).valor(valor);
+    }
+
+    public EscritorJSON campo(String nombre, double valor) throws IOException {
+        return nombre(nombre).valor(valor);
+    }
+
+    public EscritorJSON campo(String nombre, boolean valor) throws IOException {
+        return nombre(nombre).valor(valor);
+    }
+
+    public void terminar() throws IOException {
+        if (profundidad != 0) {
+            throw new IllegalStateException("Quedan " + profundidad + " objetos o arreglos sin cerrar");
+        }
+        salida.write('\n');
+        salida.flush();
+    }
+
+    private EscritorJSON abrir(char apertura) throws IOException {
+        if (profundidad == PROFUNDIDAD_MAXIMA) {
+            throw new IllegalStateException("Anidamiento demasiado profundo");
+        }
+        separar();
+        salida.write(apertura);
+        conElementos[profundidad++] = false;
+        return this;
+    }
+
+    private EscritorJSON cerrar(char cierre) throws IOException {
+        if (profundidad == 0 || nombrePendiente) {
+            throw new IllegalStateException("Cierre sin apertura o nombre sin valor");
+        }
+        profundidad--;
+        if (conElementos[profundidad]) {
+            nuevaLinea();
+        }
+        salida.write(cierre);
+        return this;
+    }
+
+    // Coma y salto de línea antes de cada elemento, salvo el valor que sigue a un nombre
+    private void separar() throws IOException {
+        if (nombrePendiente) {
+            nombrePendiente = false;
+            return;
+        }
+        if (profundidad == 0) {
+            return;
+        }
+        if (conElementos[profundidad - 1]) {
+            salida.write(',');
+        }
+        conElementos[profundidad - 1] = true;
+        nuevaLinea();
+    }
+
+    private void nuevaLinea() throws IOException {
+        salida.write('\n');
+        for (int i = 0; i < profundidad; i++) {
+            salida.write("  ");
+        }
+    }
+
+    private void escribirCadena(String valor) throws IOException {
+        salida.write('"');
+        int inicio = 0;
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            String escape;
+            switch (c) {
+                case '"':
+                    escape = "\\\"";
+                    break;
+                case '\\':
+                    escape = "\\\\";
+                    break;
+                case '\n':
+                    escape = "\\n";
+                    break;
+                case '\r':
+                    escape = "\\r";
+                    break;
+                case '\t':
+                    escape = "\\t";
+                    break;
+                default:
+                    escape = c < 0x20 ? String.format("\\u%04x", (int) c) : null;
+                    break;
+            }
+            if (escape != null) {
+                salida.write(valor, inicio, i - inicio);
+                salida.write(escape);
+                inicio = i + 1;
+            }
+        }
+        salida.write(valor, inicio, valor.length() - inicio);
+        salida.write('"');
+    }
+}
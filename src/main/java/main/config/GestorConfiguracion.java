@@ -1,14 +1,16 @@
 package main.config;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 
 public class GestorConfiguracion {
-    
+
     private static final String ARCHIVO_CONFIG = "configuracion_simulador.json";
-    
+
     public static boolean guardarConfiguracion(ConfiguracionSistema config) {
-        try (FileWriter writer = new FileWriter(ARCHIVO_CONFIG)) {
-            writer.write(config.toJSON());
+        try (Writer writer = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(ARCHIVO_CONFIG), StandardCharsets.UTF_8))) {
+            config.escribir(writer);
             System.out.println("Configuración guardada en: " + ARCHIVO_CONFIG);
             return true;
         } catch (IOException e) {
@@ -16,35 +18,43 @@ public class GestorConfiguracion {
             return false;
         }
     }
-    
+
     public static ConfiguracionSistema cargarConfiguracion() {
         File archivo = new File(ARCHIVO_CONFIG);
-        
+
         if (!archivo.exists()) {
             System.out.println("No se encontró archivo de configuración. Usando valores por defecto.");
             return new ConfiguracionSistema();
         }
-        
-        try (BufferedReader reader = new BufferedReader(new FileReader(archivo))) {
-            StringBuilder json = new StringBuilder();
-            String linea;
-            
-            while ((linea = reader.readLine()) != null) {
-                json.append(linea).append("\n");
-            }
-            
+
+        try {
+            ConfiguracionSistema config = cargarEscenario(ARCHIVO_CONFIG);
             System.out.println("Configuración cargada desde: " + ARCHIVO_CONFIG);
-            return ConfiguracionSistema.fromJSON(json.toString());
-            
+            return config;
         } catch (IOException e) {
             System.err.println("Error al cargar configuración: " + e.getMessage());
             return new ConfiguracionSistema();
         }
     }
-    
+
+    // Carga estricta de un archivo de escenario: lanza ErrorConfiguracion con todos los
+    // errores de validación en vez de caer a los valores por defecto
+    public static ConfiguracionSistema cargarEscenario(String ruta) throws IOException {
+        // LectorJSON ya tiene su propio búfer: no hace falta un BufferedReader encima
+        try (Reader reader = new InputStreamReader(new FileInputStream(ruta), StandardCharsets.UTF_8)) {
+            return ConfiguracionSistema.leer(reader);
+        }
+    }
+
+    public static ConfiguracionSistema cargarEscenario(String ruta, String perfil) throws IOException {
+        ConfiguracionSistema config = cargarEscenario(ruta);
+        if (perfil != null && !config.aplicarPerfil(perfil)) {
+            throw new ErrorConfiguracion("Perfil '" + perfil + "' no definido en " + ruta, 1, 1);
+        }
+        return config;
+    }
+
     public static boolean existe() {
         return new File(ARCHIVO_CONFIG).exists();
     }
 }
-
-
@@ -0,0 +1,404 @@
+package main.config;
+
+import java.io.IOException;
+import java.io.Reader;
+
+// Lector JSON en streaming: entrega el documento token a token sin construir un árbol.
+// Usa un búfer fijo, así que lee archivos de escenario grandes en tiempo lineal y memoria
+// constante, y acepta tanto JSON con formato como minificado.
+public class LectorJSON {
+
+    public enum Token {
+        INICIO_OBJETO,
+        FIN_OBJETO,
+        INICIO_ARREGLO,
+        FIN_ARREGLO,
+        NOMBRE,
+        CADENA,
+        NUMERO,
+        BOOLEANO,
+        NULO,
+        FIN_DOCUMENTO
+    }
+
+    private static final int PROFUNDIDAD_MAXIMA = 64;
+
+    // Qué se espera en cada nivel de anidamiento
+    private static final byte DOCUMENTO_VACIO = 0;
+    private static final byte DOCUMENTO_LLENO = 1;
+    private static final byte OBJETO_VACIO = 2;
+    private static final byte OBJETO_NOMBRE = 3; // Tras un nombre: ':' y valor
+    private static final byte OBJETO_VALOR = 4; // Tras un valor: ',' o '}'
+    private static final byte ARREGLO_VACIO = 5;
+    private static final byte ARREGLO_VALOR = 6;
+
+    private final Reader entrada;
+    private final char[] bufer;
+    private int posicion;
+    private int limite;
+
+    private int linea;
+    private int columna;
+    private int lineaToken;
+    private int columnaToken;
+
+    private final byte[] pila;
+    private int profundidad;
+
+    private final StringBuilder texto;
+    private boolean numeroEntero;
+    private boolean valorBooleano;
+
+    public LectorJSON(Reader entrada) {
+        this.entrada = entrada;
+        this.bufer = new char[8192];
+        this.pila = new byte[PROFUNDIDAD_MAXIMA];
+        this.pila[0] = DOCUMENTO_VACIO;
+        this.profundidad = 1;
+        this.texto = new StringBuilder();
+        this.linea = 1;
+        this.columna = 0;
+    }
+
+    public Token siguiente() throws IOException {
+        int c = saltarEspacios();
+        lineaToken = linea;
+        columnaToken = columna;
+
+        switch (pila[profundidad - 1]) {
+            case DOCUMENTO_VACIO:
+                if (c == -1) {
+                    throw error("Documento vacío");
+                }
+                pila[profundidad - 1] = DOCUMENTO_LLENO;
+                return leerValor(c);
+
+            case DOCUMENTO_LLENO:
+                if (c != -1) {
+                    throw error("Contenido después del fin del documento");
+                }
+                return Token.FIN_DOCUMENTO;
+
+            case OBJETO_VACIO:
+                if (c == '}') {
+                    profundidad--;
+                    return Token.FIN_OBJETO;
+                }
+                return leerNombre(c);
+
+            case OBJETO_NOMBRE:
+                if (c != ':') {
+                    throw error("Se esperaba ':' después del nombre");
+                }
+                c = saltarEspacios();
+                lineaToken = linea;
+                columnaToken = columna;
+                pila[profundidad - 1] = OBJETO_VALOR;
+                return leerValor(c);
+
+            case OBJETO_VALOR:
+                if (c == '}') {
+                    profundidad--;
+                    return Token.FIN_OBJETO;
+                }
+                if (c != ',') {
+                    throw error("Se esperaba ',' o '}'");
+                }
+                c = saltarEspacios();
+                lineaToken = linea;
+                columnaToken = columna;
+                return leerNombre(c);
+
+            case ARREGLO_VACIO:
+                if (c == ']') {
+                    profundidad--;
+                    return Token.FIN_ARREGLO;
+                }
+                pila[profundidad - 1] = ARREGLO_VALOR;
+                return leerValor(c);
+
+            default: // ARREGLO_VALOR
+                if (c == ']') {
+                    profundidad--;
+                    return Token.FIN_ARREGLO;
+                }
+                if (c != ',') {
+                    throw error("Se esperaba ',' o ']'");
+                }
+                c = saltarEspacios();
+                lineaToken = linea;
+                columnaToken = columna;
+                return leerValor(c);
+        }
+    }
+
+    // Salta el valor que empieza con el token dado (objetos y arreglos completos)
+    public void saltarValor(Token inicio) throws IOException {
+        if (inicio != Token.INICIO_OBJETO && inicio != Token.INICIO_ARREGLO) {
+            return;
+        }
+        int nivel = profundidad - 1;
+        while (profundidad > nivel) {
+            siguiente();
+        }
+    }
+
+    // Valor escalar del último token como Long, Double, Boolean, String o null
+    public Object getValor(Token token) {
+        switch (token) {
+            case CADENA:
+                return getCadena();
+            case NUMERO:
+                return numeroEntero ? (Object) getLargo() : (Object) getDecimal();
+            case BOOLEANO:
+                return valorBooleano;
+            default:
+                return null;
+        }
+    }
+
+    public String getCadena() {
+        return texto.toString();
+    }
+
+    public boolean isNumeroEntero() {
+        return numeroEntero;
+    }
+
+    public long getLargo() {
+        if (!numeroEntero) {
+            return (long) getDecimal();
+        }
+        try {
+            return Long.parseLong(texto.toString());
+        } catch (NumberFormatException e) {
+            // Fuera de rango de long: se satura
+            return texto.charAt(0) == '-' ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+
+    public double getDecimal() {
+        return Double.parseDouble(texto.toString());
+    }
+
+    public boolean getBooleano() {
+        return valorBooleano;
+    }
+
+    public int getLinea() {
+        return lineaToken;
+    }
+
+    public int getColumna() {
+        return columnaToken;
+    }
+
+    public ErrorConfiguracion error(String mensaje) {
+        return new ErrorConfiguracion(mensaje, lineaToken, columnaToken);
+    }
+
+    private Token leerNombre(int c) throws IOException {
+        if (c == -1) {
+            throw error("Fin inesperado del documento");
+        }
+        if (c != '"') {
+            throw error("Se esperaba el nombre de un campo entre comillas");
+        }
+        leerCadena();
+        pila[profundidad - 1] = OBJETO_NOMBRE;
+        return Token.NOMBRE;
+    }
+
+    private Token leerValor(int c) throws IOException {
+        switch (c) {
+            case '{':
+                apilar(OBJETO_VACIO);
+                return Token.INICIO_OBJETO;
+            case '[':
+                apilar(ARREGLO_VACIO);
+                return Token.INICIO_ARREGLO;
+            case '"':
+                leerCadena();
+                return Token.CADENA;
+            case 't':
+                leerLiteral("rue");
+                valorBooleano = true;
+                return Token.BOOLEANO;
+            case 'f':
+                leerLiteral("alse");
+                valorBooleano = false;
+                return Token.BOOLEANO;
+            case 'n':
+                leerLiteral("ull");
+                return Token.NULO;
+            case -1:
+                throw error("Fin inesperado del documento");
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    leerNumero(c);
+                    return Token.NUMERO;
+                }
+                throw error("Valor inesperado '" + (char) c + "'");
+        }
+    }
+
+    private void apilar(byte estado) throws ErrorConfiguracion {
+        if (profundidad == PROFUNDIDAD_MAXIMA) {
+            throw error("Anidamiento demasiado profundo (máximo " + PROFUNDIDAD_MAXIMA + ")");
+        }
+        pila[profundidad++] = estado;
+    }
+
+    private void leerLiteral(String resto) throws IOException {
+        for (int i = 0; i < resto.length(); i++) {
+            if (leer() != resto.charAt(i)) {
+                throw error("Literal no válido (se esperaba true, false o null)");
+            }
+        }
+    }
+
+    // -?(0|[1-9][0-9]*)(.[0-9]+)?([eE][+-]?[0-9]+)?
+    private void leerNumero(int c) throws IOException {
+        texto.setLength(0);
+        numeroEntero = true;
+
+        if (c == '-') {
+            texto.append('-');
+            c = leer();
+        }
+        if (c == '0') {
+            texto.append('0');
+        } else if (c >= '1' && c <= '9') {
+            texto.append((char) c);
+            leerDigitos();
+        } else {
+            throw error("Número no válido");
+        }
+
+        if (mirar() == '.') {
+            texto.append((char) leer());
+            numeroEntero = false;
+            if (leerDigitos() == 0) {
+                throw error("Se esperaban dígitos después del punto decimal");
+            }
+        }
+        int exponente = mirar();
+        if (exponente == 'e' || exponente == 'E') {
+            texto.append((char) leer());
+            numeroEntero = false;
+            int signo = mirar();
+            if (signo == '+' || signo == '-') {
+                texto.append((char) leer());
+            }
+            if (leerDigitos() == 0) {
+                throw error("Se esperaban dígitos en el exponente");
+            }
+        }
+    }
+
+    private int leerDigitos() throws IOException {
+        int cantidad = 0;
+        int c;
+        while ((c = mirar()) >= '0' && c <= '9') {
+            texto.append((char) leer());
+            cantidad++;
+        }
+        return cantidad;
+    }
+
+    // Se llama con la comilla de apertura ya consumida
+    private void leerCadena() throws IOException {
+        texto.setLength(0);
+        while (true) {
+            int c = leer();
+            if (c == '"') {
+                return;
+            }
+            if (c == -1) {
+                throw error("Cadena sin cerrar");
+            }
+            if (c < 0x20) {
+                throw error("Carácter de control sin escapar en una cadena");
+            }
+            if (c != '\\') {
+                texto.append((char) c);
+                continue;
+            }
+            int escape = leer();
+            switch (escape) {
+                case '"':
+                case '\\':
+                case '/':
+                    texto.append((char) escape);
+                    break;
+                case 'b':
+                    texto.append('\b');
+                    break;
+                case 'f':
+                    texto.append('\f');
+                    break;
+                case 'n':
+                    texto.append('\n');
+                    break;
+                case 'r':
+                    texto.append('\r');
+                    break;
+                case 't':
+                    texto.append('\t');
+                    break;
+                case 'u':
+                    int codigo = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digito = Character.digit(leer(), 16);
+                        if (digito < 0) {
+                            throw error("Secuencia \\u no válida");
+                        }
+                        codigo = (codigo << 4) | digito;
+                    }
+                    texto.append((char) codigo);
+                    break;
+                default:
+                    throw error("Secuencia de escape no válida");
+            }
+        }
+    }
+
+    private int saltarEspacios() throws IOException {
+        int c;
+        do {
+            c = leer();
+        } while (c == ' ' || c == '\n' || c == '\r' || c == '\t');
+        return c;
+    }
+
+    private int leer() throws IOException {
+        if (posicion == limite && !llenarBufer()) {
+            return -1;
+        }
+        char c = bufer[posicion++];
+        if (c == '\n') {
+            linea++;
+            columna = 0;
+        } else {
+            columna++;
+        }
+        return c;
+    }
+
+    private int mirar() throws IOException {
+        if (posicion == limite && !llenarBufer()) {
+            return -1;
+        }
+        return bufer[posicion];
+    }
+
+    private boolean llenarBufer() throws IOException {
+        int leidos = entrada.read(bufer, 0, bufer.length);
+        if (leidos <= 0) {
+            return false;
+        }
+        posicion = 0;
+        limite = leidos;
+        return true;
+    }
+}
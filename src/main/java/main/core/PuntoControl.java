@@ -0,0 +1,132 @@
+package main.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+// Foto del estado completo de un SistemaOperativoSimulado: procesos, colas, mapas de
+// memoria, registros de la CPU, reloj, interrupciones pendientes, dispositivos, métricas
+// y el estado de los generadores aleatorios. El grafo se serializa y se comprime una sola
+// vez; la foto es inmutable, así que se puede restaurar cuantas veces se quiera (cada
+// restauración es una simulación independiente que continúa desde el mismo ciclo).
+//
+// Formato en disco: MAGICO, VERSION, ciclo, tamaño original, tamaño comprimido, datos.
+// Un punto de control sólo es válido para la misma versión del simulador que lo generó.
+// Las clases serializables declaran serialVersionUID; cuando cambian sus campos o su
+// writeObject/readObject se sube VERSION para rechazar las fotos con el formato anterior.
+public final class PuntoControl {
+
+    private static final int MAGICO = 0x534F4350; // "SOCP"
+    private static final int VERSION = 7;
+
+    // Sólo se aceptan clases del simulador y los tipos básicos que usan
+    private static final ObjectInputFilter FILTRO = ObjectInputFilter.Config.createFilter(
+            "main.**;java.lang.*;java.util.Random;java.util.concurrent.atomic.AtomicInteger;java.time.*;!*");
+
+    private final int ciclo;
+    private final int tamanioOriginal;
+    private final byte[] datos;
+
+    private PuntoControl(int ciclo, int tamanioOriginal, byte[] datos) {
+        this.ciclo = ciclo;
+        this.tamanioOriginal = tamanioOriginal;
+        this.datos = datos;
+    }
+
+    // Quien llama debe tener el sistema detenido o el semáforo de estado tomado
+    static PuntoControl capturar(SistemaOperativoSimulado sistema, int ciclo) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * 1024);
+        Deflater compresor = new Deflater(Deflater.BEST_SPEED);
+        try {
+            try (ObjectOutputStream salida = new ObjectOutputStream(
+                    new BufferedOutputStream(new DeflaterOutputStream(bytes, compresor, 8192), 8192))) {
+                salida.writeObject(sistema);
+            }
+            return new PuntoControl(ciclo, (int) compresor.getBytesRead(), bytes.toByteArray());
+        } finally {
+            compresor.end();
+        }
+    }
+
+    // Crea una simulación nueva en el estado capturado (sin traza activa)
+    public SistemaOperativoSimulado restaurar() throws IOException {
+        try (ObjectInputStream entrada = new ObjectInputStream(new BufferedInputStream(
+                new InflaterInputStream(new ByteArrayInputStream(datos)), 8192))) {
+            entrada.setObjectInputFilter(FILTRO);
+            return (SistemaOperativoSimulado) entrada.readObject();
+        } catch (InvalidClassException e) {
+            throw new IOException("Punto de control de otra versión del simulador: " + e.getMessage(), e);
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Punto de control no válido: " + e.getMessage(), e);
+        }
+    }
+
+    public void guardar(String ruta) throws IOException {
+        try (DataOutputStream salida = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(ruta), 64 * 1024))) {
+            salida.writeInt(MAGICO);
+            salida.writeInt(VERSION);
+            salida.writeInt(ciclo);
+            salida.writeInt(tamanioOriginal);
+            salida.writeInt(datos.length);
+            salida.write(datos);
+        }
+        System.out.println("Punto de control del ciclo " + ciclo + " guardado en: " + ruta);
+    }
+
+    public static PuntoControl cargar(String ruta) throws IOException {
+        try (DataInputStream entrada = new DataInputStream(
+                new BufferedInputStream(new FileInputStream(ruta), 64 * 1024))) {
+            if (entrada.readInt() != MAGICO) {
+                throw new IOException("No es un punto de control: " + ruta);
+            }
+            int version = entrada.readInt();
+            if (version != VERSION) {
+                throw new IOException("Versión de punto de control no soportada: " + version);
+            }
+            int ciclo = entrada.readInt();
+            int tamanioOriginal = entrada.readInt();
+            int longitud = entrada.readInt();
+            if (longitud < 0) {
+                throw new IOException("Punto de control corrupto: " + ruta);
+            }
+            byte[] datos = new byte[longitud];
+            entrada.readFully(datos);
+            return new PuntoControl(ciclo, tamanioOriginal, datos);
+        }
+    }
+
+    public int getCiclo() {
+        return ciclo;
+    }
+
+    public int getTamanioOriginal() {
+        return tamanioOriginal;
+    }
+
+    public int getTamanioComprimido() {
+        return datos.length;
+    }
+
+    public String obtenerInformacionDetallada() {
+        StringBuilder info = new StringBuilder();
+        info.append("=== PUNTO DE CONTROL ===\n");
+        info.append("Ciclo: ").append(ciclo).append("\n");
+        info.append("Tamaño: ").append(datos.length).append(" bytes (")
+                .append(tamanioOriginal).append(" sin comprimir)\n");
+        return info.toString();
+    }
+}
@@ -1,23 +1,78 @@
 package main.core;
 
+import main.config.ConfiguracionSistema;
 import main.gestor.*;
 import main.modelo.*;
+import main.interrupciones.ManejadorInterrupciones;
+import main.interrupciones.TipoInterrupcion;
+import main.dispositivos.GestorIO;
 import main.estructuras.ListaSimple;
+import main.memoria.AreaContextos;
+import main.metricas.ArchivoProcesos;
+import main.metricas.MedidorAsignacion;
+import main.metricas.MotorMetricas;
+import main.traza.GrabadorTraza;
+import main.carga.FuenteLlegadas;
+import main.carga.GeneradorCarga;
+import main.carga.LectorCargaTrabajo;
+import main.carga.LlegadaProceso;
 import main.estructuras.MapaSimple;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.concurrent.Semaphore;
+import java.io.Serializable;
 
-public class SistemaOperativoSimulado {
+public class SistemaOperativoSimulado implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final int MAX_INTERRUPCIONES_POR_CICLO = 16;
+    private static final int MAX_SOLICITUDES_POR_CICLO = 4096;
+    private static final int LOTE_MINIMO_LIBERACION = 32;
 
     private GestorProcesos gestorProcesos;
     private GestorMemoria gestorMemoria;
     private GestorColas gestorColas;
+    private PlanificadorLargoPlazo planificadorLargoPlazo;
+    private PlanificadorMedioPlazo planificadorMedioPlazo;
     private Planificador planificador;
     private CPU cpu;
     private Reloj reloj;
+    private ManejadorInterrupciones manejadorInterrupciones;
+    private GestorIO gestorIO;
+    private MotorMetricas motorMetricas;
+    private transient GrabadorTraza grabadorTraza; // null = sin traza
+
+    // Solicitudes de otros hilos; se crean al inicio de cada ciclo
+    private transient BuzonProcesos buzonProcesos;
+    private transient int solicitudesRechazadas;
+
+    // Control de admisión: con maxProcesos procesos vivos, ENCOLAR deja las llegadas en el
+    // buzón (y la carga de trabajo sin leer) hasta que haya lugar; además se crean como mucho
+    // creacionesPorCiclo procesos por ciclo
+    private GestorProcesos.PoliticaAdmision politicaAdmision;
+    private int creacionesPorCiclo;
+    private transient int cupoCreaciones; // Lo que queda del ciclo en curso
+    private transient long creacionesEncoladas;
+
+    // Traza de llegadas que se reproduce (null = sin carga externa); no va en los puntos de control
+    private transient FuenteLlegadas cargaTrabajo;
+    private transient int cicloInicioCarga;
+    private transient int llegadasCreadas;
+    private transient int llegadasRechazadas;
+
+    // Bytes que asignó el hilo de la simulación dentro de ejecutarCiclo (presión sobre el GC)
+    private transient long bytesAsignadosCiclos;
+    private transient long ciclosMedidos;
+
+    // Terminados que la última pasada de liberarTerminados tuvo que dejar en la cola
+    private int terminadosRetenidos;
+
+    // Entradas a la cola de listos ya consideradas para el desalojo por prioridad
+    private long entradasListosRevisadas;
 
     private int cicloActual;
     private boolean ejecutando;
-    private Semaphore semaforoEstado;
+    private transient Semaphore semaforoEstado;
 
     // Configuración básica
     private int duracionCicloMs;
@@ -25,17 +80,89 @@ public class SistemaOperativoSimulado {
     private String politicaPlanificacion;
 
     public SistemaOperativoSimulado(int duracionCicloMs, int maxProcesos, String politicaPlanificacion) {
+        this(duracionCicloMs, maxProcesos, politicaPlanificacion, 1024, 2048); // 1MB principal, 2MB secundaria
+    }
+
+    public SistemaOperativoSimulado(ConfiguracionSistema configuracion) {
+        this(configuracion.getDuracionCicloMs(), configuracion.getMaxProcesos(),
+                configuracion.getAlgoritmoInicial(), configuracion.getMemoriaPrincipalKB(),
+                configuracion.getMemoriaSecundariaKB());
+        if (configuracion.getPerfilActivo() != null) {
+            System.out.println("Perfil de configuración: " + configuracion.getPerfilActivo());
+        }
+        ListaSimple<String> sinEfecto = configuracion.getAjustesSinEfecto();
+        for (int i = 0; i < sinEfecto.tamaño(); i++) {
+            System.err.println("Ajuste de configuración sin efecto en el simulador: " + sinEfecto.obtener(i));
+        }
+        gestorMemoria.configurarAsignador(configuracion.getEstrategiaAsignacion());
+        gestorMemoria.setPoliticaReemplazo(configuracion.getPoliticaReemplazo());
+        gestorMemoria.setCompactacionAutomatica(configuracion.isCompactacionAutomatica());
+        configurarAdmision(configuracion.getPoliticaAdmision(), configuracion.getCreacionesPorCiclo());
+        planificadorLargoPlazo.configurar(configuracion.getGradoMultiprogramacion(),
+                configuracion.getAdmisionesPorCiclo(), configuracion.getReservaMemoriaKB());
+        planificadorMedioPlazo.configurar(configuracion.getUmbralSuspensionKB(),
+                configuracion.getUmbralReactivacionKB(), configuracion.getCostoIntercambioCiclos(),
+                configuracion.getMaxIntercambiosPorVentana(), configuracion.getVentanaIntercambioCiclos());
+        planificador.configurarEnvejecimiento(configuracion.getEnvejecimientoPrioridad(),
+                configuracion.getEnvejecimientoSJF());
+        planificador.setPrioridadApropiativa(configuracion.isPrioridadApropiativa());
+        planificador.configurarRepartoProporcional(configuracion.getQuantumLoteria(),
+                configuracion.getBoletosBaseLoteria(), configuracion.getQuantumStride(),
+                configuracion.getBoletosBaseStride());
+        setSemilla(configuracion.getSemilla());
+        if (!planificador.configurarAlgoritmo(configuracion.getAlgoritmoInicial())) {
+            System.err.println("algoritmoInicial '" + configuracion.getAlgoritmoInicial()
+                    + "' no es un algoritmo conocido, se sigue con " + planificador.getNombreAlgoritmo());
+        }
+        planificador.configurarQuantumRR(configuracion.getQuantumRR());
+        planificador.configurarNivelesMultinivel(configuracion.getNumeroNivelesMultinivel());
+        int marcos = configuracion.getMarcosPaginacion();
+        if (marcos > 0 || configuracion.getPoliticaPaginas() != gestorMemoria.getMemoriaVirtual().getPolitica()) {
+            gestorMemoria.configurarPaginacion(marcos > 0 ? marcos : gestorMemoria.getMemoriaVirtual().getNumMarcos(),
+                    configuracion.getPoliticaPaginas());
+        }
+        if (configuracion.isContextosEnDisco()) {
+            try {
+                habilitarAreaContextos(null);
+            } catch (IOException e) {
+                System.err.println("No se pudo crear el área de contextos, se sigue sin ella: " + e.getMessage());
+            }
+        }
+        // La semilla de la carga sigue a las de la CPU, la E/S y el planificador (ver setSemilla)
+        if (configuracion.getNumeroProcesos() > 0) {
+            try {
+                generarCarga(new GeneradorCarga(configuracion, configuracion.getSemilla() + 3));
+            } catch (IOException e) {
+                System.err.println("No se pudo generar la carga de trabajo: " + e.getMessage());
+            }
+        }
+    }
+
+    private SistemaOperativoSimulado(int duracionCicloMs, int maxProcesos, String politicaPlanificacion,
+            int memoriaPrincipalKB, int memoriaSecundariaKB) {
         this.duracionCicloMs = duracionCicloMs;
         this.maxProcesos = maxProcesos;
         this.politicaPlanificacion = politicaPlanificacion;
 
         // Inicializar componentes del sistema
         this.gestorProcesos = new GestorProcesos(maxProcesos);
-        this.gestorMemoria = new GestorMemoria(1024, 2048); // 1MB principal, 2MB secundaria
+        this.gestorMemoria = new GestorMemoria(memoriaPrincipalKB, memoriaSecundariaKB);
         this.gestorColas = new GestorColas(gestorMemoria);
+        this.planificadorLargoPlazo = new PlanificadorLargoPlazo(gestorColas, gestorMemoria);
+        this.planificadorMedioPlazo = new PlanificadorMedioPlazo(gestorColas, gestorMemoria);
+        this.planificadorLargoPlazo.setPlanificadorMedioPlazo(planificadorMedioPlazo);
         this.planificador = new Planificador(gestorMemoria, gestorColas);
         this.cpu = new CPU(gestorMemoria);
         this.reloj = new Reloj(duracionCicloMs);
+        this.manejadorInterrupciones = new ManejadorInterrupciones();
+        this.gestorMemoria.setManejadorInterrupciones(manejadorInterrupciones);
+        this.gestorIO = GestorIO.crearConDispositivosPorDefecto(manejadorInterrupciones);
+        this.motorMetricas = new MotorMetricas();
+        this.gestorProcesos.setObservadorEstados(motorMetricas);
+        this.buzonProcesos = new BuzonProcesos(gestorProcesos);
+        this.politicaAdmision = GestorProcesos.PoliticaAdmision.ENCOLAR;
+        this.creacionesPorCiclo = MAX_SOLICITUDES_POR_CICLO;
+        registrarRutinas();
 
         this.cicloActual = 0;
         this.ejecutando = false;
@@ -46,6 +173,14 @@ public class SistemaOperativoSimulado {
         System.out.println("Memoria Secundaria: " + gestorMemoria.getTamanioMemoriaSecundaria() + " KB");
     }
 
+    // Las rutinas de servicio no forman parte de un punto de control: se registran al crear
+    // el sistema y otra vez al restaurarlo
+    private void registrarRutinas() {
+        // Al completarse la I/O el proceso vuelve a la cola de listos
+        manejadorInterrupciones.registrarRutina(TipoInterrupcion.IO_COMPLETADA,
+                interrupcion -> planificador.desbloquearProceso(interrupcion.getProcesoOrigen()));
+    }
+
     public void iniciar() {
         ejecutando = true;
         System.out.println("=== SISTEMA OPERATIVO INICIADO ===");
@@ -58,32 +193,82 @@ public class SistemaOperativoSimulado {
             if (!ejecutando) {
                 return;
             }
+            long bytesInicio = MedidorAsignacion.bytesHiloActual();
 
             cicloActual++;
             reloj.avanzarCiclo();
+            planificador.avanzarCiclo(cicloActual);
+            motorMetricas.avanzarCiclo(cicloActual);
+            if (grabadorTraza != null) {
+                grabadorTraza.ciclo(cicloActual);
+            }
+            cupoCreaciones = creacionesPorCiclo;
+            drenarBuzon();
+            if (cargaTrabajo != null) {
+                inyectarLlegadas();
+            }
+
+            // Los procesos nuevos pasan de la reserva de trabajos a memoria según el grado de
+            // multiprogramación y la memoria libre
+            planificadorLargoPlazo.admitir();
+
+            // Avanzar dispositivos (genera interrupciones de I/O completada)
+            gestorIO.avanzarCiclo(cicloActual);
 
             // Ejecutar ciclo de CPU
             cpu.ejecutarCiclo();
+            motorMetricas.actualizarUtilizacionCPU(cpu.getTotalCiclosOcupada(), cpu.getTotalCiclosLibre());
+
+            // El proceso pudo terminar o bloquearse durante la instrucción
+            Proceso liberado = cpu.tomarProcesoLiberado();
+            if (liberado != null) {
+                if (liberado.getEstado() == EstadoProceso.TERMINADO) {
+                    planificador.finalizarEjecucion();
+                    manejadorInterrupciones.generarInterrupcionFinalizacion(liberado, cicloActual);
+                } else if (liberado.getEstado() == EstadoProceso.BLOQUEADO) {
+                    planificador.bloquearProceso();
+                    gestorIO.solicitarIO(liberado, cicloActual);
+                }
+            }
+
+            // Atender las interrupciones pendientes por orden de prioridad
+            manejadorInterrupciones.despacharPendientes(MAX_INTERRUPCIONES_POR_CICLO);
+
+            // Suspender o reactivar según la memoria libre (planificador a medio plazo)
+            planificadorMedioPlazo.gestionar(cicloActual);
 
-            // Gestionar memoria
-            gestorColas.gestionarMemoria();
+            // Sólo una llegada, un desbloqueo o una reactivación pueden dar un listo mejor que
+            // el que se ejecuta; si no entró nadie a la cola no hay nada que comparar
+            long entradasListos = gestorColas.getEntradasAListos();
+            if (entradasListos != entradasListosRevisadas) {
+                entradasListosRevisadas = entradasListos;
+                if (cpu.isOcupada() && planificador.debeDesalojar()) {
+                    desalojarPorPrioridad();
+                }
+            }
+            if (cpu.isOcupada() && planificador.quantumAgotado()) {
+                manejadorInterrupciones.generarInterrupcionQuantum(desalojarProcesoEnEjecucion(), cicloActual);
+            }
 
             // Si no hay proceso en ejecución, seleccionar uno
             if (!cpu.isOcupada()) {
                 Proceso siguiente = planificador.seleccionarSiguiente();
-                if (siguiente != null) {
-                    cpu.asignarProceso(siguiente);
+                if (siguiente != null && planificador.ejecutarProceso(siguiente) && cpu.asignarProceso(siguiente)) {
+                    if (grabadorTraza != null) {
+                        grabadorTraza.despacho(siguiente);
+                    }
+                    manejadorInterrupciones.generarCambioContexto(siguiente, cicloActual);
                     System.out.println("Proceso seleccionado: " + siguiente.getNombre());
                 }
             }
 
-            // Verificar si el proceso actual ha terminado
-            if (cpu.getProcesoEnEjecucion() != null && cpu.getProcesoEnEjecucion().isCompletado()) {
-                Proceso terminado = cpu.liberarCPU();
-                if (terminado != null) {
-                    gestorColas.agregarATerminados(terminado);
-                    System.out.println("Proceso terminado: " + terminado.getNombre());
-                }
+            if (gestorProcesos.getPoolProcesos() != null || motorMetricas.getArchivo() != null) {
+                liberarTerminados();
+            }
+
+            if (bytesInicio >= 0) {
+                bytesAsignadosCiclos += MedidorAsignacion.bytesHiloActual() - bytesInicio;
+                ciclosMedidos++;
             }
 
         } catch (InterruptedException e) {
@@ -93,25 +278,162 @@ public class SistemaOperativoSimulado {
         }
     }
 
+    // Sólo desde el hilo que ejecuta los ciclos; los demás hilos deben usar enviarProceso.
+    // Sin lugar y con la política ENCOLAR el proceso pasa al buzón y se devuelve null
     public Proceso crearProceso(String nombre, int numInstrucciones, TipoProceso tipo, int prioridad) {
         try {
-            Proceso proceso = gestorProcesos.crearProceso(nombre, numInstrucciones, tipo, prioridad);
-            if (proceso != null) {
-                // Intentar agregar a cola de listos
-                if (gestorColas.agregarAListos(proceso)) {
-                    System.out.println("Proceso creado: " + proceso.getNombre());
-                    return proceso;
-                } else {
-                    System.out.println("Proceso creado pero suspendido por falta de memoria: " + proceso.getNombre());
-                    return proceso;
-                }
+            if (politicaAdmision == GestorProcesos.PoliticaAdmision.ENCOLAR && !gestorProcesos.puedeCrearProceso()
+                    && GestorProcesos.sonParametrosValidos(nombre, numInstrucciones, tipo)) {
+                int pid = buzonProcesos.enviar(nombre, numInstrucciones, tipo, prioridad);
+                creacionesEncoladas++;
+                System.out.println("Proceso en espera de admisión: " + nombre + " (PID " + pid + ")");
+                return null;
             }
+            return admitirProceso(gestorProcesos.crearProceso(nombre, numInstrucciones, tipo, prioridad));
         } catch (Exception e) {
             System.err.println("Error al crear proceso: " + e.getMessage());
         }
         return null;
     }
 
+    // Sólo desde el hilo que ejecuta los ciclos. Quita al proceso de la CPU, de su cola y de
+    // memoria y cancela sus solicitudes de I/O, incluida la que esté en servicio. Los que aún
+    // esperan admisión o ya terminaron no se eliminan por aquí
+    public boolean eliminarProceso(int id) {
+        Proceso proceso = gestorProcesos.buscarProcesoPorId(id);
+        if (proceso == null || proceso.getEstado() == EstadoProceso.NUEVO
+                || proceso.getEstado() == EstadoProceso.TERMINADO) {
+            return false;
+        }
+        if (proceso == planificador.getProcesoEnEjecucion()) {
+            desalojarProcesoEnEjecucion();
+        }
+        gestorColas.removerDeColas(proceso);
+        gestorIO.cancelarSolicitudes(proceso);
+        gestorMemoria.liberarMemoria(proceso);
+        return gestorProcesos.eliminarProceso(proceso);
+    }
+
+    // Seguro desde cualquier hilo y sin esperar al ciclo en curso: el proceso se crea al
+    // inicio del siguiente ciclo. Devuelve su PID, o -1 si los parámetros no son válidos
+    public int enviarProceso(String nombre, int numInstrucciones, TipoProceso tipo, int prioridad) {
+        return buzonProcesos.enviar(nombre, numInstrucciones, tipo, prioridad);
+    }
+
+    private boolean hayLugarParaCrear() {
+        return cupoCreaciones > 0 && (politicaAdmision == GestorProcesos.PoliticaAdmision.RECHAZAR
+                || gestorProcesos.puedeCrearProceso());
+    }
+
+    private void drenarBuzon() {
+        BuzonProcesos.Solicitud solicitud;
+        while (hayLugarParaCrear() && (solicitud = buzonProcesos.tomar()) != null) {
+            cupoCreaciones--;
+            try {
+                if (admitirProceso(solicitud.crearEn(gestorProcesos)) == null) {
+                    solicitudesRechazadas++;
+                }
+            } catch (Exception e) {
+                solicitudesRechazadas++;
+                System.err.println("Error al crear proceso: " + e.getMessage());
+            }
+        }
+    }
+
+    // El proceso queda NUEVO en la reserva de trabajos; el planificador a largo plazo lo
+    // admite en este ciclo o en uno siguiente
+    private Proceso admitirProceso(Proceso proceso) {
+        if (proceso == null) {
+            return null;
+        }
+        planificadorLargoPlazo.encolar(proceso);
+        System.out.println("Proceso creado: " + proceso.getNombre());
+        return proceso;
+    }
+
+    // Para simulaciones largas sin interfaz: los PCB terminados se reutilizan para los procesos
+    // nuevos (ver PoolProcesos). Los terminados dejan de estar en la cola de terminados; sus
+    // métricas ya quedaron en el motor de métricas (y en el archivo, si está activo). 0 lo desactiva
+    public void habilitarReciclajeProcesos(int capacidadPorHilo) {
+        gestorProcesos.habilitarReciclaje(capacidadPorHilo);
+    }
+
+    // Los procesos que terminan dejan su resumen en un ArchivoProcesos y sus PCB salen del
+    // gestor (y de la cola de terminados), así que la memoria no crece con la simulación
+    public void habilitarArchivoTerminados() {
+        if (motorMetricas.getArchivo() == null) {
+            motorMetricas.setArchivo(new ArchivoProcesos());
+        }
+    }
+
+    // Los contextos de los procesos suspendidos pasan a un archivo mapeado en memoria (ver
+    // AreaContextos); ruta null = archivo temporal que se borra al salir
+    public void habilitarAreaContextos(String ruta) throws IOException {
+        if (gestorMemoria.getAreaContextos() == null) {
+            gestorMemoria.setAreaContextos(new AreaContextos(ruta));
+        }
+    }
+
+    public ArchivoProcesos getArchivoTerminados() {
+        return motorMetricas.getArchivo();
+    }
+
+    // Suelta los PCB terminados en lotes, recorriendo sólo la cola de terminados y quitando
+    // cada uno de la tabla por su PID. Un terminado que todavía es origen de una interrupción
+    // atendible (por ejemplo, la de su finalización) se retiene hasta la pasada siguiente; si
+    // sólo lo referencian interrupciones enmascaradas sale de la tabla igual, pero no se
+    // recicla, porque la interrupción puede atenderse más tarde. El lote crece con los
+    // retenidos, así que cada pasada libera al menos tantos como revisa de nuevo (O(1)
+    // amortizado por proceso)
+    private void liberarTerminados() {
+        int lote = Math.max(LOTE_MINIMO_LIBERACION, terminadosRetenidos);
+        if (gestorColas.getNumeroTerminados() - terminadosRetenidos < lote) {
+            return;
+        }
+        ListaSimple<Proceso> liberables = gestorColas
+                .extraerTerminados(manejadorInterrupciones::tienePendientesAtendibles);
+        for (int i = 0; i < liberables.tamaño(); i++) {
+            Proceso proceso = liberables.obtener(i);
+            gestorProcesos.liberarProcesoTerminado(proceso, !manejadorInterrupciones.tienePendientes(proceso));
+        }
+        terminadosRetenidos = gestorColas.getNumeroTerminados();
+    }
+
+    public long getBytesAsignadosPorCiclo() {
+        return ciclosMedidos > 0 ? bytesAsignadosCiclos / ciclosMedidos : -1;
+    }
+
+    private void desalojarPorPrioridad() {
+        Proceso desalojado = desalojarProcesoEnEjecucion();
+        motorMetricas.registrarDesalojoPorPrioridad();
+        manejadorInterrupciones.generarDesalojoPorPrioridad(desalojado, cicloActual);
+    }
+
+    private Proceso desalojarProcesoEnEjecucion() {
+        Proceso desalojado = cpu.liberarCPU();
+        planificador.desalojarProceso();
+        entradasListosRevisadas = gestorColas.getEntradasAListos();
+        return desalojado;
+    }
+
+    public void configurarAdmision(GestorProcesos.PoliticaAdmision politica, int creacionesPorCiclo) {
+        if (politica != null) {
+            this.politicaAdmision = politica;
+        }
+        if (creacionesPorCiclo > 0) {
+            this.creacionesPorCiclo = creacionesPorCiclo;
+        }
+    }
+
+    public GestorProcesos.PoliticaAdmision getPoliticaAdmision() {
+        return politicaAdmision;
+    }
+
+    // gradoMultiprogramacion 0 = sin límite; los valores negativos dejan el actual
+    public void configurarLargoPlazo(int gradoMultiprogramacion, int admisionesPorCiclo, int reservaMemoriaKB) {
+        planificadorLargoPlazo.configurar(gradoMultiprogramacion, admisionesPorCiclo, reservaMemoriaKB);
+    }
+
     public boolean configurarPlanificador(String nombreAlgoritmo) {
         boolean configurado = planificador.configurarAlgoritmo(nombreAlgoritmo);
         if (configurado) {
@@ -123,9 +445,201 @@ public class SistemaOperativoSimulado {
     public void detener() {
         ejecutando = false;
         cpu.liberarCPU();
+        detenerTraza();
+        cerrarCarga();
+        gestorMemoria.cerrarAreaContextos();
         System.out.println("=== SISTEMA OPERATIVO DETENIDO ===");
     }
 
+    // Reproduce una traza de llegadas (ver LectorCargaTrabajo); sus ciclos cuentan desde el
+    // ciclo actual, así que se puede iniciar en cualquier momento o en una bifurcación
+    public void cargarTrabajo(String ruta) throws IOException {
+        instalarCarga(new LectorCargaTrabajo(ruta), "Carga de trabajo cargada desde: " + ruta);
+    }
+
+    // Carga sintética de la sección "carga" de la configuración (ver GeneradorCarga)
+    public void generarCarga(GeneradorCarga generador) throws IOException {
+        instalarCarga(generador, "Carga de trabajo generada: " + generador.getNumeroProcesos() + " procesos");
+    }
+
+    private void instalarCarga(FuenteLlegadas fuente, String mensaje) throws IOException {
+        try {
+            semaforoEstado.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fuente.close();
+            return;
+        }
+        try {
+            cerrarCarga();
+            cargaTrabajo = fuente;
+            cicloInicioCarga = cicloActual;
+            llegadasCreadas = 0;
+            llegadasRechazadas = 0;
+            System.out.println(mensaje);
+        } finally {
+            semaforoEstado.release();
+        }
+    }
+
+    public boolean isCargaTrabajoPendiente() {
+        return cargaTrabajo != null;
+    }
+
+    // Crea los procesos cuya llegada corresponde a este ciclo, leyendo sólo hasta ellos
+    private void inyectarLlegadas() {
+        try {
+            // Sin lugar la traza simplemente no se sigue leyendo: las llegadas se retrasan
+            LlegadaProceso llegada;
+            while (hayLugarParaCrear()
+                    && (llegada = cargaTrabajo.siguienteHasta(cicloActual - cicloInicioCarga)) != null) {
+                cupoCreaciones--;
+                Proceso proceso = crearProceso(llegada.getNombre(), llegada.getInstrucciones(), llegada.getTipo(),
+                        llegada.getPrioridad());
+                if (proceso == null) {
+                    llegadasRechazadas++;
+                    continue;
+                }
+                if (llegada.getCiclosEntreIO() > 0) {
+                    proceso.setCiclosParaExcepcionIO(llegada.getCiclosEntreIO());
+                }
+                llegadasCreadas++;
+            }
+            if (cargaTrabajo.isAgotado()) {
+                System.out.println("Carga de trabajo completa: " + llegadasCreadas + " procesos creados, " +
+                        llegadasRechazadas + " rechazados");
+                cerrarCarga();
+            }
+        } catch (IOException e) {
+            System.err.println("Error en la carga de trabajo: " + e.getMessage());
+            cerrarCarga();
+        }
+    }
+
+    private void cerrarCarga() {
+        if (cargaTrabajo == null) {
+            return;
+        }
+        try {
+            cargaTrabajo.close();
+        } catch (IOException e) {
+            System.err.println("Error al cerrar la carga de trabajo: " + e.getMessage());
+        }
+        cargaTrabajo = null;
+    }
+
+    // Fija las semillas de la CPU y de los dispositivos: misma semilla, misma ejecución
+    public void setSemilla(long semilla) {
+        cpu.setSemilla(semilla);
+        gestorIO.setSemilla(semilla + 1);
+        planificador.setSemilla(semilla + 2);
+    }
+
+    // Captura el estado completo entre dos ciclos (ver PuntoControl)
+    public PuntoControl crearPuntoControl() throws IOException {
+        try {
+            semaforoEstado.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Captura interrumpida", e);
+        }
+        try {
+            return PuntoControl.capturar(this, cicloActual);
+        } finally {
+            semaforoEstado.release();
+        }
+    }
+
+    // Copia independiente de la simulación en el ciclo actual, para comparar políticas
+    // desde el mismo punto (por ejemplo, configurarPlanificador distinto en cada copia)
+    public SistemaOperativoSimulado bifurcar() throws IOException {
+        return crearPuntoControl().restaurar();
+    }
+
+    private void readObject(ObjectInputStream entrada) throws IOException, ClassNotFoundException {
+        entrada.defaultReadObject();
+        semaforoEstado = new Semaphore(1);
+        buzonProcesos = new BuzonProcesos(gestorProcesos);
+        registrarRutinas();
+        conectarTraza(null);
+    }
+
+    // Empieza a grabar todos los eventos en una traza binaria (ver main.traza)
+    public void iniciarTraza(String ruta) throws IOException {
+        try {
+            semaforoEstado.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            cerrarTraza();
+            grabadorTraza = new GrabadorTraza(ruta);
+            grabadorTraza.ciclo(cicloActual);
+            registrarProcesosExistentes(grabadorTraza);
+            conectarTraza(grabadorTraza);
+            System.out.println("Traza iniciada en: " + ruta);
+        } finally {
+            semaforoEstado.release();
+        }
+    }
+
+    public void detenerTraza() {
+        try {
+            semaforoEstado.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            cerrarTraza();
+        } finally {
+            semaforoEstado.release();
+        }
+    }
+
+    private void cerrarTraza() {
+        if (grabadorTraza == null) {
+            return;
+        }
+        conectarTraza(null);
+        try {
+            grabadorTraza.close();
+            System.out.println("Traza cerrada: " + grabadorTraza.getTotalEventos() + " eventos, " +
+                    grabadorTraza.getBytesEscritos() + " bytes");
+        } catch (IOException e) {
+            System.err.println("Error al cerrar la traza: " + e.getMessage());
+        }
+        grabadorTraza = null;
+    }
+
+    // Una traza iniciada a mitad de simulación arranca con una foto de los procesos vivos,
+    // para que el análisis fuera de línea conozca su estado sin haber visto su creación
+    private void registrarProcesosExistentes(GrabadorTraza traza) {
+        ListaSimple<Proceso> activos = gestorProcesos.getProcesosActivos();
+        for (int i = 0; i < activos.tamaño(); i++) {
+            Proceso proceso = activos.obtener(i);
+            traza.procesoCreado(proceso);
+            if (proceso.getEstado() != EstadoProceso.NUEVO) {
+                traza.estadoCambiado(proceso, EstadoProceso.NUEVO, proceso.getEstado());
+            }
+        }
+    }
+
+    private void conectarTraza(GrabadorTraza traza) {
+        gestorProcesos.setObservadorEstados(ObservadorEstado.combinar(motorMetricas, traza));
+        gestorMemoria.setGrabadorTraza(traza);
+        manejadorInterrupciones.setGrabadorTraza(traza);
+    }
+
+    public BuzonProcesos getBuzonProcesos() {
+        return buzonProcesos;
+    }
+
+    public GrabadorTraza getGrabadorTraza() {
+        return grabadorTraza;
+    }
+
     public int getCicloActual() {
         return cicloActual;
     }
@@ -191,12 +705,62 @@ public class SistemaOperativoSimulado {
         info.append("\n");
         info.append(gestorColas.obtenerInformacionDetallada());
         info.append("\n");
+        info.append(planificadorMedioPlazo.obtenerInformacionDetallada());
+        info.append("\n");
         info.append(cpu.obtenerInformacionDetallada());
         info.append("\n");
         info.append(reloj.obtenerInformacionReloj());
+        info.append("\n");
+        info.append(manejadorInterrupciones.obtenerInformacionDetallada());
+        info.append("\n");
+        info.append(gestorIO.obtenerInformacionDetallada());
+        info.append("\n");
+        info.append(motorMetricas.obtenerInformacionDetallada());
+        if (motorMetricas.getArchivo() != null) {
+            info.append("\n");
+            info.append(motorMetricas.getArchivo().obtenerInformacionDetallada());
+        }
+        if (gestorProcesos.getPoolProcesos() != null) {
+            info.append("\n");
+            info.append(gestorProcesos.getPoolProcesos().obtenerInformacionDetallada());
+        }
+        if (ciclosMedidos > 0) {
+            info.append("Memoria asignada por ciclo: ").append(getBytesAsignadosPorCiclo())
+                    .append(" bytes (").append(ciclosMedidos).append(" ciclos medidos)\n");
+        }
+        if (grabadorTraza != null) {
+            info.append("\n");
+            info.append(grabadorTraza.obtenerInformacionDetallada());
+        }
+        if (buzonProcesos.getEnviadas() > 0) {
+            info.append("\n=== BUZÓN DE PROCESOS ===\n");
+            info.append("Enviadas: ").append(buzonProcesos.getEnviadas())
+                    .append(" | Creadas: ").append(buzonProcesos.getTomadas() - solicitudesRechazadas)
+                    .append(" | Rechazadas: ").append(solicitudesRechazadas)
+                    .append(" | En espera: ").append(buzonProcesos.getEnviadas() - buzonProcesos.getTomadas())
+                    .append("\n");
+        }
+        info.append("\n=== ADMISIÓN ===\n");
+        info.append("Política: ").append(politicaAdmision)
+                .append(" | Procesos vivos: ").append(gestorProcesos.getNumeroProcesosVivos())
+                .append(gestorProcesos.getMaxProcesos() == Integer.MAX_VALUE ? "" : "/" + gestorProcesos.getMaxProcesos())
+                .append(" | Creaciones por ciclo: ").append(creacionesPorCiclo)
+                .append(" | Encoladas: ").append(creacionesEncoladas).append("\n");
+        info.append("\n");
+        info.append(planificadorLargoPlazo.obtenerInformacionDetallada());
+        if (cargaTrabajo != null) {
+            info.append("\n=== CARGA DE TRABAJO ===\n");
+            info.append(cargaTrabajo.describir()).append("\n");
+            info.append("Llegadas: ").append(llegadasCreadas).append(" creadas, ")
+                    .append(llegadasRechazadas).append(" rechazadas\n");
+        }
         return info.toString();
     }
 
+    public GestorProcesos getGestorProcesos() {
+        return gestorProcesos;
+    }
+
     public GestorMemoria getGestorMemoria() {
         return gestorMemoria;
     }
@@ -205,6 +769,14 @@ public class SistemaOperativoSimulado {
         return gestorColas;
     }
 
+    public PlanificadorLargoPlazo getPlanificadorLargoPlazo() {
+        return planificadorLargoPlazo;
+    }
+
+    public PlanificadorMedioPlazo getPlanificadorMedioPlazo() {
+        return planificadorMedioPlazo;
+    }
+
     public Planificador getPlanificador() {
         return planificador;
     }
@@ -216,4 +788,16 @@ public class SistemaOperativoSimulado {
     public Reloj getReloj() {
         return reloj;
     }
+
+    public ManejadorInterrupciones getManejadorInterrupciones() {
+        return manejadorInterrupciones;
+    }
+
+    public GestorIO getGestorIO() {
+        return gestorIO;
+    }
+
+    public MotorMetricas getMotorMetricas() {
+        return motorMetricas;
+    }
 }
\ No newline at end of file
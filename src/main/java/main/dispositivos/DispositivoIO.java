@@ -0,0 +1,263 @@
+package main.dispositivos;
+
+import main.modelo.Proceso;
+import main.estructuras.ListaSimple;
+import java.util.Random;
+import java.io.Serializable;
+
+public class DispositivoIO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final int NUM_CILINDROS = 200;
+    private static final int CILINDROS_POR_CICLO = 25;
+
+    private final String nombre;
+    private final TipoDispositivo tipo;
+    private final DistribucionServicio distribucion;
+    private PoliticaDisco politica;
+
+    // Solicitudes en espera y solicitud en servicio
+    private final ListaSimple<SolicitudIO> pendientes;
+    private SolicitudIO enServicio;
+
+    // Estado del brazo (sólo discos)
+    private int cabeza;
+    private boolean haciaArriba;
+    private boolean invirtioSentido;
+
+    // Estadísticas
+    private int totalCompletadas;
+    private long totalCiclosEspera;
+    private long totalCiclosServicio;
+    private int maxLatencia;
+    private long totalCilindrosRecorridos;
+    private int ciclosOcupado;
+
+    public DispositivoIO(String nombre, TipoDispositivo tipo, DistribucionServicio distribucion) {
+        this.nombre = nombre;
+        this.tipo = tipo;
+        this.distribucion = distribucion;
+        this.politica = PoliticaDisco.FCFS;
+
+        this.pendientes = new ListaSimple<>();
+        this.enServicio = null;
+        this.cabeza = 0;
+        this.haciaArriba = true;
+        this.invirtioSentido = false;
+
+        this.totalCompletadas = 0;
+        this.totalCiclosEspera = 0;
+        this.totalCiclosServicio = 0;
+        this.maxLatencia = 0;
+        this.totalCilindrosRecorridos = 0;
+        this.ciclosOcupado = 0;
+    }
+
+    public SolicitudIO encolar(Proceso proceso, int ciclo, Random random) {
+        int cilindro = tipo == TipoDispositivo.DISCO ? random.nextInt(NUM_CILINDROS) : 0;
+        SolicitudIO solicitud = new SolicitudIO(proceso, cilindro, ciclo);
+        pendientes.agregar(solicitud);
+        return solicitud;
+    }
+
+    // Avanza un ciclo del dispositivo; retorna la solicitud completada o null
+    public SolicitudIO avanzarCiclo(int ciclo, Random random) {
+        if (enServicio == null) {
+            iniciarSiguiente(ciclo, random);
+        }
+        if (enServicio == null) {
+            return null;
+        }
+
+        ciclosOcupado++;
+        if (!enServicio.avanzar()) {
+            return null;
+        }
+
+        SolicitudIO completada = enServicio;
+        enServicio = null;
+
+        int espera = completada.getCicloInicioServicio() - completada.getCicloSolicitud();
+        int latencia = ciclo - completada.getCicloSolicitud() + 1;
+        totalCompletadas++;
+        totalCiclosEspera += espera;
+        totalCiclosServicio += latencia - espera;
+        if (latencia > maxLatencia) {
+            maxLatencia = latencia;
+        }
+        return completada;
+    }
+
+    private void iniciarSiguiente(int ciclo, Random random) {
+        if (pendientes.estaVacia()) {
+            return;
+        }
+
+        int indice;
+        int recorrido;
+        if (tipo != TipoDispositivo.DISCO) {
+            indice = 0;
+            recorrido = 0;
+        } else {
+            int cabezaAnterior = cabeza;
+            indice = seleccionarSolicitudDisco();
+            recorrido = calcularRecorrido(cabezaAnterior, pendientes.obtener(indice).getCilindro());
+        }
+
+        SolicitudIO solicitud = pendientes.remover(indice);
+        if (tipo == TipoDispositivo.DISCO) {
+            cabeza = solicitud.getCilindro();
+            totalCilindrosRecorridos += recorrido;
+        }
+
+        int ciclosBusqueda = (recorrido + CILINDROS_POR_CICLO - 1) / CILINDROS_POR_CICLO;
+        solicitud.iniciarServicio(ciclo, Math.max(1, distribucion.muestrear(random) + ciclosBusqueda));
+        enServicio = solicitud;
+    }
+
+    private int seleccionarSolicitudDisco() {
+        switch (politica) {
+            case SSTF:
+                return buscarMasCercana(false, false);
+            case SCAN: {
+                invirtioSentido = false;
+                int indice = buscarMasCercana(true, haciaArriba);
+                if (indice < 0) {
+                    invirtioSentido = true;
+                    // Llegar al extremo antes de invertir el sentido
+                    haciaArriba = !haciaArriba;
+                    indice = buscarMasCercana(true, haciaArriba);
+                }
+                return indice;
+            }
+            case C_LOOK: {
+                int indice = buscarMasCercana(true, true);
+                if (indice < 0) {
+                    // Saltar a la solicitud con el cilindro más bajo
+                    indice = 0;
+                    for (int i = 1; i < pendientes.tamaño(); i++) {
+                        if (pendientes.obtener(i).getCilindro() < pendientes.obtener(indice).getCilindro()) {
+                            indice = i;
+                        }
+                    }
+                }
+                return indice;
+            }
+            case FCFS:
+            default:
+                return 0;
+        }
+    }
+
+    private int buscarMasCercana(boolean respetarSentido, boolean subiendo) {
+        int mejor = -1;
+        int mejorDistancia = Integer.MAX_VALUE;
+        for (int i = 0; i < pendientes.tamaño(); i++) {
+            int cilindro = pendientes.obtener(i).getCilindro();
+            if (respetarSentido && (subiendo ? cilindro < cabeza : cilindro > cabeza)) {
+                continue;
+            }
+            int distancia = Math.abs(cilindro - cabeza);
+            if (distancia < mejorDistancia) {
+                mejor = i;
+                mejorDistancia = distancia;
+            }
+        }
+        return mejor;
+    }
+
+    private int calcularRecorrido(int desde, int hasta) {
+        if (politica != PoliticaDisco.SCAN || !invirtioSentido) {
+            return Math.abs(hasta - desde);
+        }
+        // SCAN recorre hasta el extremo anterior antes de invertir el sentido
+        int extremo = haciaArriba ? 0 : NUM_CILINDROS - 1;
+        return Math.abs(extremo - desde) + Math.abs(hasta - extremo);
+    }
+
+    // También abandona la que esté en servicio: el dispositivo queda libre para la siguiente
+    public boolean removerSolicitudesDe(Proceso proceso) {
+        boolean removida = false;
+        if (enServicio != null && enServicio.getProceso() == proceso) {
+            enServicio = null;
+            removida = true;
+        }
+        for (int i = pendientes.tamaño() - 1; i >= 0; i--) {
+            if (pendientes.obtener(i).getProceso() == proceso) {
+                pendientes.remover(i);
+                removida = true;
+            }
+        }
+        return removida;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public TipoDispositivo getTipo() {
+        return tipo;
+    }
+
+    public DistribucionServicio getDistribucion() {
+        return distribucion;
+    }
+
+    public PoliticaDisco getPolitica() {
+        return politica;
+    }
+
+    public void setPolitica(PoliticaDisco politica) {
+        this.politica = politica;
+    }
+
+    public int getLongitudCola() {
+        return pendientes.tamaño() + (enServicio != null ? 1 : 0);
+    }
+
+    public boolean isOcupado() {
+        return enServicio != null;
+    }
+
+    public int getTotalCompletadas() {
+        return totalCompletadas;
+    }
+
+    public double getLatenciaPromedio() {
+        return totalCompletadas > 0 ? (double) (totalCiclosEspera + totalCiclosServicio) / totalCompletadas : 0.0;
+    }
+
+    public double getEsperaPromedio() {
+        return totalCompletadas > 0 ? (double) totalCiclosEspera / totalCompletadas : 0.0;
+    }
+
+    public int getMaxLatencia() {
+        return maxLatencia;
+    }
+
+    public int getCiclosOcupado() {
+        return ciclosOcupado;
+    }
+
+    public long getTotalCilindrosRecorridos() {
+        return totalCilindrosRecorridos;
+    }
+
+    public String obtenerInformacion() {
+        StringBuilder info = new StringBuilder();
+        info.append(nombre).append(" (").append(tipo);
+        if (tipo == TipoDispositivo.DISCO) {
+            info.append(", ").append(politica).append(", cabeza ").append(cabeza);
+        }
+        info.append(", ").append(distribucion).append(")\n");
+        info.append("  Cola: ").append(getLongitudCola())
+                .append(" | Completadas: ").append(totalCompletadas)
+                .append(String.format(" | Latencia prom: %.2f ciclos", getLatenciaPromedio()))
+                .append(String.format(" | Espera prom: %.2f ciclos", getEsperaPromedio()))
+                .append(" | Latencia máx: ").append(maxLatencia).append("\n");
+        if (tipo == TipoDispositivo.DISCO) {
+            info.append("  Cilindros recorridos: ").append(totalCilindrosRecorridos).append("\n");
+        }
+        return info.toString();
+    }
+}
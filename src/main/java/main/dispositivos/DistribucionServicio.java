@@ -0,0 +1,74 @@
+package main.dispositivos;
+
+import java.util.Random;
+import java.io.Serializable;
+
+public class DistribucionServicio implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Tipo {
+        CONSTANTE, // Siempre el valor medio
+        UNIFORME, // Entre minimo y maximo
+        EXPONENCIAL // Media dada, cola larga
+    }
+
+    private final Tipo tipo;
+    private final double media;
+    private final int minimo;
+    private final int maximo;
+
+    private DistribucionServicio(Tipo tipo, double media, int minimo, int maximo) {
+        this.tipo = tipo;
+        this.media = media;
+        this.minimo = minimo;
+        this.maximo = maximo;
+    }
+
+    public static DistribucionServicio constante(int ciclos) {
+        return new DistribucionServicio(Tipo.CONSTANTE, ciclos, ciclos, ciclos);
+    }
+
+    public static DistribucionServicio uniforme(int minimo, int maximo) {
+        return new DistribucionServicio(Tipo.UNIFORME, (minimo + maximo) / 2.0, minimo, maximo);
+    }
+
+    public static DistribucionServicio exponencial(double media, int maximo) {
+        return new DistribucionServicio(Tipo.EXPONENCIAL, media, 1, maximo);
+    }
+
+    public int muestrear(Random random) {
+        switch (tipo) {
+            case UNIFORME:
+                return minimo + random.nextInt(maximo - minimo + 1);
+            case EXPONENCIAL:
+                // Inversa de la CDF: -media * ln(1 - u)
+                double valor = -media * Math.log(1.0 - random.nextDouble());
+                return Math.max(minimo, Math.min(maximo, (int) Math.ceil(valor)));
+            case CONSTANTE:
+            default:
+                return (int) media;
+        }
+    }
+
+    public Tipo getTipo() {
+        return tipo;
+    }
+
+    public double getMedia() {
+        return media;
+    }
+
+    @Override
+    public String toString() {
+        switch (tipo) {
+            case UNIFORME:
+                return "Uniforme[" + minimo + ", " + maximo + "]";
+            case EXPONENCIAL:
+                return String.format("Exponencial(media=%.1f)", media);
+            case CONSTANTE:
+            default:
+                return "Constante(" + (int) media + ")";
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package main.dispositivos;
+
+import main.modelo.Proceso;
+import main.estructuras.ListaSimple;
+import main.interrupciones.ManejadorInterrupciones;
+import main.interrupciones.TipoInterrupcion;
+import java.util.Random;
+import java.io.Serializable;
+
+public class GestorIO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private ManejadorInterrupciones manejadorInterrupciones;
+    private ListaSimple<DispositivoIO> dispositivos;
+    private Random random;
+
+    // Estadísticas globales
+    private int totalSolicitudes;
+    private int totalCompletadas;
+
+    public GestorIO(ManejadorInterrupciones manejadorInterrupciones) {
+        this.manejadorInterrupciones = manejadorInterrupciones;
+        this.dispositivos = new ListaSimple<>();
+        this.random = new Random();
+
+        this.totalSolicitudes = 0;
+        this.totalCompletadas = 0;
+    }
+
+    public static GestorIO crearConDispositivosPorDefecto(ManejadorInterrupciones manejadorInterrupciones) {
+        GestorIO gestor = new GestorIO(manejadorInterrupciones);
+
+        DispositivoIO disco = new DispositivoIO("Disco0", TipoDispositivo.DISCO,
+                DistribucionServicio.uniforme(2, 4));
+        disco.setPolitica(PoliticaDisco.C_LOOK);
+        gestor.agregarDispositivo(disco);
+        gestor.agregarDispositivo(new DispositivoIO("Red0", TipoDispositivo.RED,
+                DistribucionServicio.exponencial(6.0, 40)));
+        gestor.agregarDispositivo(new DispositivoIO("Impresora0", TipoDispositivo.IMPRESORA,
+                DistribucionServicio.uniforme(8, 15)));
+        return gestor;
+    }
+
+    public void agregarDispositivo(DispositivoIO dispositivo) {
+        dispositivos.agregar(dispositivo);
+        System.out.println("Dispositivo I/O registrado: " + dispositivo.getNombre() +
+                " (" + dispositivo.getTipo() + ")");
+    }
+
+    public boolean solicitarIO(Proceso proceso, int ciclo) {
+        if (dispositivos.estaVacia()) {
+            return false;
+        }
+        // Los discos reciben la mitad de las solicitudes, el resto se reparte
+        DispositivoIO dispositivo = buscarPorTipo(TipoDispositivo.DISCO);
+        if (dispositivo == null || random.nextBoolean()) {
+            dispositivo = dispositivos.obtener(random.nextInt(dispositivos.tamaño()));
+        }
+        return solicitarIO(proceso, dispositivo, ciclo);
+    }
+
+    public boolean solicitarIO(Proceso proceso, DispositivoIO dispositivo, int ciclo) {
+        if (proceso == null || dispositivo == null) {
+            return false;
+        }
+
+        dispositivo.encolar(proceso, ciclo, random);
+        totalSolicitudes++;
+        manejadorInterrupciones.generarInterrupcion(TipoInterrupcion.IO_SOLICITUD,
+                proceso, ciclo, "Solicitud I/O a " + dispositivo.getNombre());
+        return true;
+    }
+
+    public int avanzarCiclo(int ciclo) {
+        int completadas = 0;
+        for (int i = 0; i < dispositivos.tamaño(); i++) {
+            SolicitudIO solicitud = dispositivos.obtener(i).avanzarCiclo(ciclo, random);
+            if (solicitud != null) {
+                completadas++;
+                totalCompletadas++;
+                manejadorInterrupciones.generarInterrupcionIOCompletada(solicitud.getProceso(), ciclo);
+            }
+        }
+        return completadas;
+    }
+
+    // Al eliminar un proceso: sus solicitudes no deben completarse ni generar IO_COMPLETADA
+    public void cancelarSolicitudes(Proceso proceso) {
+        for (int i = 0; i < dispositivos.tamaño(); i++) {
+            dispositivos.obtener(i).removerSolicitudesDe(proceso);
+        }
+    }
+
+    public DispositivoIO buscarPorTipo(TipoDispositivo tipo) {
+        for (int i = 0; i < dispositivos.tamaño(); i++) {
+            if (dispositivos.obtener(i).getTipo() == tipo) {
+                return dispositivos.obtener(i);
+            }
+        }
+        return null;
+    }
+
+    public DispositivoIO buscarPorNombre(String nombre) {
+        for (int i = 0; i < dispositivos.tamaño(); i++) {
+            if (dispositivos.obtener(i).getNombre().equalsIgnoreCase(nombre)) {
+                return dispositivos.obtener(i);
+            }
+        }
+        return null;
+    }
+
+    // Fija la semilla de la elección de dispositivo y de los tiempos de servicio
+    public void setSemilla(long semilla) {
+        random.setSeed(semilla);
+    }
+
+    public ListaSimple<DispositivoIO> getDispositivos() {
+        ListaSimple<DispositivoIO> resultado = new ListaSimple<>();
+        for (int i = 0; i < dispositivos.tamaño(); i++) {
+            resultado.agregar(dispositivos.obtener(i));
+        }
+        return resultado;
+    }
+
+    public int getSolicitudesPendientes() {
+        int total = 0;
+        for (int i = 0; i < dispositivos.tamaño(); i++) {
+            total += dispositivos.obtener(i).getLongitudCola();
+        }
+        return total;
+    }
+
+    public double getLatenciaPromedio() {
+        long suma = 0;
+        int completadas = 0;
+        for (int i = 0; i < dispositivos.tamaño(); i++) {
+            DispositivoIO dispositivo = dispositivos.obtener(i);
+            suma += Math.round(dispositivo.getLatenciaPromedio() * dispositivo.getTotalCompletadas());
+            completadas += dispositivo.getTotalCompletadas();
+        }
+        return completadas > 0 ? (double) suma / completadas : 0.0;
+    }
+
+    public int[] obtenerEstadisticas() {
+        return new int[] {
+                dispositivos.tamaño(),
+                totalSolicitudes,
+                totalCompletadas,
+                getSolicitudesPendientes()
+        };
+    }
+
+    public String obtenerInformacionDetallada() {
+        StringBuilder info = new StringBuilder();
+        info.append("=== SUBSISTEMA DE I/O ===\n");
+        info.append("Solicitudes: ").append(totalSolicitudes)
+                .append(" | Completadas: ").append(totalCompletadas)
+                .append(" | Pendientes: ").append(getSolicitudesPendientes()).append("\n");
+        info.append(String.format("Latencia promedio: %.2f ciclos\n", getLatenciaPromedio()));
+        for (int i = 0; i < dispositivos.tamaño(); i++) {
+            info.append(dispositivos.obtener(i).obtenerInformacion());
+        }
+        return info.toString();
+    }
+}
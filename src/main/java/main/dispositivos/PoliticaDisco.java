@@ -0,0 +1,8 @@
+package main.dispositivos;
+
+public enum PoliticaDisco {
+    FCFS, // Orden de llegada
+    SSTF, // Shortest Seek Time First
+    SCAN, // Ascensor: recorre hasta el extremo y regresa
+    C_LOOK // Circular: sólo sube y salta a la solicitud más baja
+}
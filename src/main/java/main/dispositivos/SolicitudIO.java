@@ -0,0 +1,54 @@
+package main.dispositivos;
+
+import main.modelo.Proceso;
+import java.io.Serializable;
+
+public class SolicitudIO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Proceso proceso;
+    private final int cilindro;
+    private final int cicloSolicitud;
+    private int cicloInicioServicio;
+    private int ciclosRestantes;
+
+    public SolicitudIO(Proceso proceso, int cilindro, int cicloSolicitud) {
+        this.proceso = proceso;
+        this.cilindro = cilindro;
+        this.cicloSolicitud = cicloSolicitud;
+        this.cicloInicioServicio = -1;
+        this.ciclosRestantes = 0;
+    }
+
+    public void iniciarServicio(int ciclo, int ciclosServicio) {
+        this.cicloInicioServicio = ciclo;
+        this.ciclosRestantes = ciclosServicio;
+    }
+
+    // Retorna true cuando la solicitud termina en este ciclo
+    public boolean avanzar() {
+        ciclosRestantes--;
+        return ciclosRestantes <= 0;
+    }
+
+    public Proceso getProceso() {
+        return proceso;
+    }
+
+    public int getCilindro() {
+        return cilindro;
+    }
+
+    public int getCicloSolicitud() {
+        return cicloSolicitud;
+    }
+
+    public int getCicloInicioServicio() {
+        return cicloInicioServicio;
+    }
+
+    public int getCiclosRestantes() {
+        return ciclosRestantes;
+    }
+}
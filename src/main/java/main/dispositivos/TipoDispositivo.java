@@ -0,0 +1,7 @@
+package main.dispositivos;
+
+public enum TipoDispositivo {
+    DISCO, // Acceso por cilindros, admite planificación de brazo
+    RED, // Latencia variable con cola de llegada
+    IMPRESORA // Operaciones lentas y secuenciales
+}
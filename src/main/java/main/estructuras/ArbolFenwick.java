@@ -0,0 +1,100 @@
+package main.estructuras;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+// Árbol de Fenwick (árbol binario indexado) sobre pesos no negativos: cambiar un peso, la
+// suma de un prefijo y buscar en qué posición cae un valor acumulado son O(log n). Crece
+// al doble cuando hace falta otra posición, reconstruyéndose en O(n).
+public class ArbolFenwick implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    private long[] pesos;
+    private long[] arbol; // 1-indexado
+    private long total;
+
+    public ArbolFenwick() {
+        this.pesos = new long[CAPACIDAD_INICIAL];
+        this.arbol = new long[CAPACIDAD_INICIAL + 1];
+        this.total = 0;
+    }
+
+    public void poner(int posicion, long peso) {
+        if (posicion < 0 || peso < 0) {
+            throw new IllegalArgumentException("Posición o peso no válido: " + posicion + ", " + peso);
+        }
+        while (posicion >= pesos.length) {
+            crecer();
+        }
+        long delta = peso - pesos[posicion];
+        if (delta == 0) {
+            return;
+        }
+        pesos[posicion] = peso;
+        total += delta;
+        for (int i = posicion + 1; i < arbol.length; i += i & -i) {
+            arbol[i] += delta;
+        }
+    }
+
+    public long obtener(int posicion) {
+        return posicion >= 0 && posicion < pesos.length ? pesos[posicion] : 0;
+    }
+
+    // Suma de las posiciones 0..posicion
+    public long prefijo(int posicion) {
+        long suma = 0;
+        for (int i = Math.min(posicion + 1, pesos.length); i > 0; i -= i & -i) {
+            suma += arbol[i];
+        }
+        return suma;
+    }
+
+    // Primera posición cuyo prefijo supera objetivo (0 <= objetivo < total). Baja por el
+    // árbol de a potencias de dos, sin búsqueda binaria sobre prefijo()
+    public int buscar(long objetivo) {
+        if (objetivo < 0 || objetivo >= total) {
+            throw new IllegalArgumentException("Objetivo fuera de rango: " + objetivo + " (total " + total + ")");
+        }
+        int posicion = 0;
+        for (int paso = Integer.highestOneBit(pesos.length); paso > 0; paso >>= 1) {
+            int siguiente = posicion + paso;
+            if (siguiente < arbol.length && arbol[siguiente] <= objetivo) {
+                posicion = siguiente;
+                objetivo -= arbol[siguiente];
+            }
+        }
+        return posicion;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public int capacidad() {
+        return pesos.length;
+    }
+
+    public void limpiar() {
+        Arrays.fill(pesos, 0);
+        Arrays.fill(arbol, 0);
+        total = 0;
+    }
+
+    private void crecer() {
+        long[] nuevos = new long[pesos.length * 2];
+        System.arraycopy(pesos, 0, nuevos, 0, pesos.length);
+        pesos = nuevos;
+        // Construcción lineal: cada nodo le pasa su suma al padre
+        arbol = new long[pesos.length + 1];
+        for (int i = 1; i <= pesos.length; i++) {
+            arbol[i] += pesos[i - 1];
+            int padre = i + (i & -i);
+            if (padre <= pesos.length) {
+                arbol[padre] += arbol[i];
+            }
+        }
+    }
+}
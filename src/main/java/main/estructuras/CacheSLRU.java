@@ -0,0 +1,118 @@
+package main.estructuras;
+
+// Caché acotada con LRU segmentado: las entradas nuevas entran a un segmento de prueba y
+// sólo pasan al segmento protegido (80% de la capacidad) cuando se vuelven a usar. Un
+// recorrido de claves que se leen una sola vez sólo desplaza al segmento de prueba, sin
+// expulsar a las entradas que sí se reutilizan.
+public class CacheSLRU<K, V> {
+
+    private final int capacidad;
+    private final int capacidadProtegido;
+
+    // En orden de inserción con moverAlFinal explícito: el primero es el menos reciente
+    private final MapaEnlazado<K, V> prueba;
+    private final MapaEnlazado<K, V> protegido;
+
+    private long aciertos;
+    private long fallos;
+    private long expulsiones;
+    private long invalidaciones;
+
+    public CacheSLRU(int capacidad) {
+        if (capacidad < 2) {
+            throw new IllegalArgumentException("La capacidad debe ser al menos 2");
+        }
+        this.capacidad = capacidad;
+        this.capacidadProtegido = Math.max(1, capacidad * 4 / 5);
+        this.prueba = new MapaEnlazado<>(false);
+        this.protegido = new MapaEnlazado<>(false);
+    }
+
+    // Devuelve null en un fallo; quien llama calcula el valor y lo guarda con poner()
+    public V obtener(K clave) {
+        V valor = protegido.consultar(clave);
+        if (valor != null) {
+            protegido.moverAlFinal(clave);
+            aciertos++;
+            return valor;
+        }
+        valor = prueba.remover(clave);
+        if (valor == null) {
+            fallos++;
+            return null;
+        }
+        // Segundo uso: se promueve; si el protegido se llena, su menos reciente vuelve a prueba
+        protegido.poner(clave, valor);
+        if (protegido.tamaño() > capacidadProtegido) {
+            K degradada = protegido.primeraClave();
+            prueba.poner(degradada, protegido.remover(degradada));
+        }
+        aciertos++;
+        return valor;
+    }
+
+    public void poner(K clave, V valor) {
+        if (protegido.contieneClave(clave)) {
+            protegido.poner(clave, valor);
+            protegido.moverAlFinal(clave);
+            return;
+        }
+        prueba.remover(clave);
+        prueba.poner(clave, valor);
+        while (prueba.tamaño() + protegido.tamaño() > capacidad) {
+            MapaEnlazado<K, V> victima = !prueba.estaVacio() ? prueba : protegido;
+            victima.remover(victima.primeraClave());
+            expulsiones++;
+        }
+    }
+
+    public boolean invalidar(K clave) {
+        boolean estaba = prueba.remover(clave) != null || protegido.remover(clave) != null;
+        if (estaba) {
+            invalidaciones++;
+        }
+        return estaba;
+    }
+
+    public void limpiar() {
+        invalidaciones += prueba.tamaño() + protegido.tamaño();
+        prueba.limpiar();
+        protegido.limpiar();
+    }
+
+    public void reiniciarEstadisticas() {
+        aciertos = 0;
+        fallos = 0;
+        expulsiones = 0;
+        invalidaciones = 0;
+    }
+
+    public int tamaño() {
+        return prueba.tamaño() + protegido.tamaño();
+    }
+
+    public int getCapacidad() {
+        return capacidad;
+    }
+
+    public long getAciertos() {
+        return aciertos;
+    }
+
+    public long getFallos() {
+        return fallos;
+    }
+
+    public long getExpulsiones() {
+        return expulsiones;
+    }
+
+    public long getInvalidaciones() {
+        return invalidaciones;
+    }
+
+    public double getTasaAciertos() {
+        long total = aciertos + fallos;
+        return total > 0 ? (double) aciertos / total * 100 : 0;
+    }
+}
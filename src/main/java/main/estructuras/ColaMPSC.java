@@ -0,0 +1,54 @@
+package main.estructuras;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+// Cola sin bloqueos de varios productores y un solo consumidor (lista enlazada de Vyukov).
+// encolar() es seguro desde cualquier hilo y sólo hace un getAndSet; desencolar() y
+// estaVacia() sólo los puede llamar el hilo consumidor. Un elemento encolado puede tardar
+// un instante en ser visible si su productor aún no terminó de enlazarlo: el consumidor
+// lo verá en la siguiente pasada, nunca se pierde ni se duplica.
+public class ColaMPSC<T> {
+
+    private final AtomicReference<Nodo<T>> ultimo; // Lo disputan los productores
+    private Nodo<T> primero; // Nodo centinela, sólo lo toca el consumidor
+
+    public ColaMPSC() {
+        Nodo<T> centinela = new Nodo<>(null);
+        this.ultimo = new AtomicReference<>(centinela);
+        this.primero = centinela;
+    }
+
+    public void encolar(T elemento) {
+        if (elemento == null) {
+            throw new IllegalArgumentException("El elemento no puede ser null");
+        }
+        Nodo<T> nuevo = new Nodo<>(elemento);
+        Nodo<T> anterior = ultimo.getAndSet(nuevo);
+        anterior.siguiente = nuevo; // Escritura volátil: publica el nodo al consumidor
+    }
+
+    // Devuelve null si no hay elementos visibles
+    public T desencolar() {
+        Nodo<T> siguiente = primero.siguiente;
+        if (siguiente == null) {
+            return null;
+        }
+        T elemento = siguiente.dato;
+        siguiente.dato = null; // El nodo pasa a ser el centinela
+        primero = siguiente;
+        return elemento;
+    }
+
+    public boolean estaVacia() {
+        return primero.siguiente == null;
+    }
+
+    private static class Nodo<T> {
+        T dato;
+        volatile Nodo<T> siguiente;
+
+        Nodo(T dato) {
+            this.dato = dato;
+        }
+    }
+}
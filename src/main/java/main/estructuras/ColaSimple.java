@@ -1,9 +1,18 @@
 package main.estructuras;
 
-public class ColaSimple<T> {
-    private Nodo<T> frente;
-    private Nodo<T> final_;
-    private int tamaño;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+// Los nodos no se serializan uno a uno (una cola larga desbordaría la pila): se guardan
+// los elementos en orden y se vuelve a encolar al leer
+public class ColaSimple<T> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private transient Nodo<T> frente;
+    private transient Nodo<T> final_;
+    private transient int tamaño;
 
     public ColaSimple() {
         this.frente = null;
@@ -126,6 +135,23 @@ public class ColaSimple<T> {
         limpiar();
     }
 
+    private void writeObject(ObjectOutputStream salida) throws IOException {
+        salida.defaultWriteObject();
+        salida.writeInt(tamaño);
+        for (Nodo<T> actual = frente; actual != null; actual = actual.siguiente) {
+            salida.writeObject(actual.dato);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream entrada) throws IOException, ClassNotFoundException {
+        entrada.defaultReadObject();
+        int cantidad = entrada.readInt();
+        for (int i = 0; i < cantidad; i++) {
+            encolar((T) entrada.readObject());
+        }
+    }
+
     private static class Nodo<T> {
         T dato;
         Nodo<T> siguiente;
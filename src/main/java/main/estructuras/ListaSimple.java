@@ -1,7 +1,14 @@
 package main.estructuras;
 
-public class ListaSimple<T> {
-    private Object[] elementos;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+public class ListaSimple<T> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private transient Object[] elementos; // Se serializan sólo las posiciones ocupadas
     private int tamaño;
     private int capacidad;
 
@@ -41,6 +48,7 @@ public class ListaSimple<T> {
         tamaño++;
     }
 
+    @SuppressWarnings("unchecked")
     public T obtener(int indice) {
         if (indice < 0 || indice >= tamaño) {
             throw new IndexOutOfBoundsException("Índice fuera de rango: " + indice);
@@ -55,6 +63,7 @@ public class ListaSimple<T> {
         elementos[indice] = elemento;
     }
 
+    @SuppressWarnings("unchecked")
     public T remover(int indice) {
         if (indice < 0 || indice >= tamaño) {
             throw new IndexOutOfBoundsException("Índice fuera de rango: " + indice);
@@ -64,7 +73,7 @@ public class ListaSimple<T> {
         for (int i = indice; i < tamaño - 1; i++) {
             elementos[i] = elementos[i + 1];
         }
-        tamaño--;
+        elementos[--tamaño] = null; // No retener el objeto removido
         return elemento;
     }
 
@@ -120,6 +129,7 @@ public class ListaSimple<T> {
         elementos = nuevoArray;
     }
 
+    @SuppressWarnings("unchecked")
     public T[] aArray(T[] array) {
         if (array.length < tamaño) {
             array = (T[]) new Object[tamaño];
@@ -169,4 +179,20 @@ public class ListaSimple<T> {
     public int indexOf(T elemento) {
         return indiceDe(elemento);
     }
+
+    private void writeObject(ObjectOutputStream salida) throws IOException {
+        salida.defaultWriteObject();
+        for (int i = 0; i < tamaño; i++) {
+            salida.writeObject(elementos[i]);
+        }
+    }
+
+    private void readObject(ObjectInputStream entrada) throws IOException, ClassNotFoundException {
+        entrada.defaultReadObject();
+        capacidad = Math.max(capacidad, tamaño);
+        elementos = new Object[capacidad];
+        for (int i = 0; i < tamaño; i++) {
+            elementos[i] = entrada.readObject();
+        }
+    }
 }
@@ -0,0 +1,279 @@
+package main.estructuras;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+// Mapa hash con las entradas enlazadas en una lista doble.
+// En orden de inserción conserva el orden de llegada; en orden de acceso cada
+// obtener() mueve la entrada al final, de modo que el primero es el menos usado.
+// Al serializar se guardan sólo los pares en el orden de la lista.
+public class MapaEnlazado<K, V> implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final int CAPACIDAD_INICIAL = 16;
+    private static final double FACTOR_CARGA = 0.75;
+
+    private transient Entrada<K, V>[] tabla;
+    private transient int tamaño;
+    private int capacidad;
+    private final boolean ordenAcceso;
+
+    private transient Entrada<K, V> cabeza; // Más antiguo / menos usado
+    private transient Entrada<K, V> cola; // Más reciente
+
+    public MapaEnlazado(boolean ordenAcceso) {
+        this.capacidad = CAPACIDAD_INICIAL;
+        this.tabla = crearTabla(capacidad);
+        this.tamaño = 0;
+        this.ordenAcceso = ordenAcceso;
+    }
+
+    public void poner(K clave, V valor) {
+        if (clave == null) {
+            throw new IllegalArgumentException("La clave no puede ser null");
+        }
+
+        Entrada<K, V> existente = buscar(clave);
+        if (existente != null) {
+            existente.valor = valor;
+            if (ordenAcceso) {
+                moverAlFinal(existente);
+            }
+            return;
+        }
+
+        if (tamaño >= capacidad * FACTOR_CARGA) {
+            redimensionar();
+        }
+
+        int posicion = indice(clave, capacidad);
+        Entrada<K, V> nuevaEntrada = new Entrada<>(clave, valor);
+        nuevaEntrada.siguiente = tabla[posicion];
+        tabla[posicion] = nuevaEntrada;
+        enlazarAlFinal(nuevaEntrada);
+        tamaño++;
+    }
+
+    public V obtener(K clave) {
+        Entrada<K, V> entrada = buscar(clave);
+        if (entrada == null) {
+            return null;
+        }
+        if (ordenAcceso) {
+            moverAlFinal(entrada);
+        }
+        return entrada.valor;
+    }
+
+    // Consulta sin alterar el orden de acceso
+    public V consultar(K clave) {
+        Entrada<K, V> entrada = buscar(clave);
+        return entrada != null ? entrada.valor : null;
+    }
+
+    public boolean contieneClave(K clave) {
+        return buscar(clave) != null;
+    }
+
+    // Mueve la entrada al final sin importar el modo (segunda oportunidad)
+    public boolean moverAlFinal(K clave) {
+        Entrada<K, V> entrada = buscar(clave);
+        if (entrada == null) {
+            return false;
+        }
+        moverAlFinal(entrada);
+        return true;
+    }
+
+    public V remover(K clave) {
+        if (clave == null) {
+            return null;
+        }
+
+        int posicion = indice(clave, capacidad);
+        Entrada<K, V> entrada = tabla[posicion];
+        Entrada<K, V> anterior = null;
+
+        while (entrada != null) {
+            if (entrada.clave.equals(clave)) {
+                if (anterior == null) {
+                    tabla[posicion] = entrada.siguiente;
+                } else {
+                    anterior.siguiente = entrada.siguiente;
+                }
+                desenlazar(entrada);
+                tamaño--;
+                return entrada.valor;
+            }
+            anterior = entrada;
+            entrada = entrada.siguiente;
+        }
+
+        return null;
+    }
+
+    public K primeraClave() {
+        return cabeza != null ? cabeza.clave : null;
+    }
+
+    public V primerValor() {
+        return cabeza != null ? cabeza.valor : null;
+    }
+
+    public K ultimaClave() {
+        return cola != null ? cola.clave : null;
+    }
+
+    // Clave que sigue a la dada en el orden de la lista (null al final)
+    public K siguienteClave(K clave) {
+        Entrada<K, V> entrada = buscar(clave);
+        return entrada != null && entrada.despues != null ? entrada.despues.clave : null;
+    }
+
+    public ListaSimple<K> claves() {
+        ListaSimple<K> listaClaves = new ListaSimple<>(Math.max(1, tamaño));
+        for (Entrada<K, V> entrada = cabeza; entrada != null; entrada = entrada.despues) {
+            listaClaves.agregar(entrada.clave);
+        }
+        return listaClaves;
+    }
+
+    public ListaSimple<V> valores() {
+        ListaSimple<V> listaValores = new ListaSimple<>(Math.max(1, tamaño));
+        for (Entrada<K, V> entrada = cabeza; entrada != null; entrada = entrada.despues) {
+            listaValores.agregar(entrada.valor);
+        }
+        return listaValores;
+    }
+
+    public int tamaño() {
+        return tamaño;
+    }
+
+    public boolean estaVacio() {
+        return tamaño == 0;
+    }
+
+    public boolean isOrdenAcceso() {
+        return ordenAcceso;
+    }
+
+    public void limpiar() {
+        for (int i = 0; i < capacidad; i++) {
+            tabla[i] = null;
+        }
+        cabeza = null;
+        cola = null;
+        tamaño = 0;
+    }
+
+    private Entrada<K, V> buscar(K clave) {
+        if (clave == null) {
+            return null;
+        }
+        Entrada<K, V> entrada = tabla[indice(clave, capacidad)];
+        while (entrada != null) {
+            if (entrada.clave.equals(clave)) {
+                return entrada;
+            }
+            entrada = entrada.siguiente;
+        }
+        return null;
+    }
+
+    private void enlazarAlFinal(Entrada<K, V> entrada) {
+        entrada.antes = cola;
+        entrada.despues = null;
+        if (cola != null) {
+            cola.despues = entrada;
+        } else {
+            cabeza = entrada;
+        }
+        cola = entrada;
+    }
+
+    private void desenlazar(Entrada<K, V> entrada) {
+        if (entrada.antes != null) {
+            entrada.antes.despues = entrada.despues;
+        } else {
+            cabeza = entrada.despues;
+        }
+        if (entrada.despues != null) {
+            entrada.despues.antes = entrada.antes;
+        } else {
+            cola = entrada.antes;
+        }
+        entrada.antes = null;
+        entrada.despues = null;
+    }
+
+    private void moverAlFinal(Entrada<K, V> entrada) {
+        if (entrada != cola) {
+            desenlazar(entrada);
+            enlazarAlFinal(entrada);
+        }
+    }
+
+    private int indice(K clave, int capacidadTabla) {
+        return Math.abs(clave.hashCode() % capacidadTabla);
+    }
+
+    // Java no permite crear arreglos de un tipo genérico: se crea el comodín y se convierte
+    @SuppressWarnings("unchecked")
+    private static <K, V> Entrada<K, V>[] crearTabla(int capacidadTabla) {
+        return (Entrada<K, V>[]) new Entrada<?, ?>[capacidadTabla];
+    }
+
+    private void redimensionar() {
+        int nuevaCapacidad = capacidad * 2;
+        Entrada<K, V>[] nuevaTabla = crearTabla(nuevaCapacidad);
+
+        for (int i = 0; i < capacidad; i++) {
+            Entrada<K, V> entrada = tabla[i];
+            while (entrada != null) {
+                Entrada<K, V> siguiente = entrada.siguiente;
+                int nuevoIndice = indice(entrada.clave, nuevaCapacidad);
+                entrada.siguiente = nuevaTabla[nuevoIndice];
+                nuevaTabla[nuevoIndice] = entrada;
+                entrada = siguiente;
+            }
+        }
+
+        tabla = nuevaTabla;
+        capacidad = nuevaCapacidad;
+    }
+
+    private void writeObject(ObjectOutputStream salida) throws IOException {
+        salida.defaultWriteObject();
+        salida.writeInt(tamaño);
+        for (Entrada<K, V> entrada = cabeza; entrada != null; entrada = entrada.despues) {
+            salida.writeObject(entrada.clave);
+            salida.writeObject(entrada.valor);
+        }
+    }
+
+    // Insertar en el orden guardado reconstruye tanto la tabla como el orden de la lista
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream entrada) throws IOException, ClassNotFoundException {
+        entrada.defaultReadObject();
+        tabla = crearTabla(capacidad);
+        int cantidad = entrada.readInt();
+        for (int i = 0; i < cantidad; i++) {
+            poner((K) entrada.readObject(), (V) entrada.readObject());
+        }
+    }
+
+    private static class Entrada<K, V> {
+        K clave;
+        V valor;
+        Entrada<K, V> siguiente; // Cadena del cubo
+        Entrada<K, V> antes; // Lista de orden
+        Entrada<K, V> despues;
+
+        Entrada(K clave, V valor) {
+            this.clave = clave;
+            this.valor = valor;
+        }
+    }
+}
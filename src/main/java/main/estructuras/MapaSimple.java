@@ -1,6 +1,9 @@
 package main.estructuras;
 
-public class MapaSimple<K, V> {
+import java.io.Serializable;
+
+public class MapaSimple<K, V> implements Serializable {
+    private static final long serialVersionUID = 1L;
     private static final int CAPACIDAD_INICIAL = 16;
     private static final double FACTOR_CARGA = 0.75;
 
@@ -10,13 +13,13 @@ public class MapaSimple<K, V> {
 
     public MapaSimple() {
         this.capacidad = CAPACIDAD_INICIAL;
-        this.tabla = new Entrada[capacidad];
+        this.tabla = crearTabla(capacidad);
         this.tamaño = 0;
     }
 
     public MapaSimple(int capacidadInicial) {
         this.capacidad = capacidadInicial;
-        this.tabla = new Entrada[capacidad];
+        this.tabla = crearTabla(capacidad);
         this.tamaño = 0;
     }
 
@@ -137,9 +140,15 @@ public class MapaSimple<K, V> {
         return Math.abs(clave.hashCode());
     }
 
+    // Java no permite crear arreglos de un tipo genérico: se crea el comodín y se convierte
+    @SuppressWarnings("unchecked")
+    private static <K, V> Entrada<K, V>[] crearTabla(int capacidadTabla) {
+        return (Entrada<K, V>[]) new Entrada<?, ?>[capacidadTabla];
+    }
+
     private void redimensionar() {
         int nuevaCapacidad = capacidad * 2;
-        Entrada<K, V>[] nuevaTabla = new Entrada[nuevaCapacidad];
+        Entrada<K, V>[] nuevaTabla = crearTabla(nuevaCapacidad);
 
         for (int i = 0; i < capacidad; i++) {
             Entrada<K, V> entrada = tabla[i];
@@ -204,7 +213,9 @@ public class MapaSimple<K, V> {
         return claves;
     }
 
-    private static class Entrada<K, V> {
+    private static class Entrada<K, V> implements Serializable {
+        private static final long serialVersionUID = 1L;
+
         K clave;
         V valor;
         Entrada<K, V> siguiente;
@@ -0,0 +1,183 @@
+package main.estructuras;
+
+import java.io.Serializable;
+
+// Montículo binario de mínimos con índice por identificador: insertar, quitar cualquier
+// elemento por su id y cambiar su clave son O(log n); ver el mínimo es O(1). A igual clave
+// sale primero el id menor, así que el orden es total y no depende del orden de inserción.
+public class MonticuloIndexado<T> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    private Object[] elementos;
+    private long[] claves;
+    private int[] ids;
+    private int tamaño;
+    private MapaSimple<Integer, Integer> posiciones; // id -> índice en los arreglos
+
+    public MonticuloIndexado() {
+        this.elementos = new Object[CAPACIDAD_INICIAL];
+        this.claves = new long[CAPACIDAD_INICIAL];
+        this.ids = new int[CAPACIDAD_INICIAL];
+        this.tamaño = 0;
+        this.posiciones = new MapaSimple<>();
+    }
+
+    // false si el id ya estaba
+    public boolean insertar(int id, T elemento, long clave) {
+        if (posiciones.contieneClave(id)) {
+            return false;
+        }
+        if (tamaño == elementos.length) {
+            crecer();
+        }
+        elementos[tamaño] = elemento;
+        claves[tamaño] = clave;
+        ids[tamaño] = id;
+        posiciones.poner(id, tamaño);
+        subir(tamaño++);
+        return true;
+    }
+
+    public T remover(int id) {
+        Integer posicion = posiciones.remover(id);
+        if (posicion == null) {
+            return null;
+        }
+        T elemento = elemento(posicion);
+        int ultimo = --tamaño;
+        if (posicion != ultimo) {
+            mover(ultimo, posicion);
+            if (!subir(posicion)) {
+                bajar(posicion);
+            }
+        }
+        elementos[ultimo] = null;
+        return elemento;
+    }
+
+    public boolean actualizar(int id, long clave) {
+        Integer posicion = posiciones.obtener(id);
+        if (posicion == null) {
+            return false;
+        }
+        claves[posicion] = clave;
+        if (!subir(posicion)) {
+            bajar(posicion);
+        }
+        return true;
+    }
+
+    public T verMinimo() {
+        return tamaño > 0 ? elemento(0) : null;
+    }
+
+    public long claveMinima() {
+        if (tamaño == 0) {
+            throw new IllegalStateException("El montículo está vacío");
+        }
+        return claves[0];
+    }
+
+    public long clave(int id) {
+        Integer posicion = posiciones.obtener(id);
+        if (posicion == null) {
+            throw new IllegalArgumentException("El id " + id + " no está en el montículo");
+        }
+        return claves[posicion];
+    }
+
+    public T extraerMinimo() {
+        return tamaño > 0 ? remover(ids[0]) : null;
+    }
+
+    public boolean contiene(int id) {
+        return posiciones.contieneClave(id);
+    }
+
+    public int tamaño() {
+        return tamaño;
+    }
+
+    public boolean estaVacio() {
+        return tamaño == 0;
+    }
+
+    public void limpiar() {
+        for (int i = 0; i < tamaño; i++) {
+            elementos[i] = null;
+        }
+        tamaño = 0;
+        posiciones.limpiar();
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elemento(int indice) {
+        return (T) elementos[indice];
+    }
+
+    private boolean menor(int a, int b) {
+        return claves[a] < claves[b] || (claves[a] == claves[b] && ids[a] < ids[b]);
+    }
+
+    // Devuelve true si el elemento cambió de lugar
+    private boolean subir(int indice) {
+        int inicial = indice;
+        while (indice > 0) {
+            int padre = (indice - 1) >>> 1;
+            if (!menor(indice, padre)) {
+                break;
+            }
+            intercambiar(indice, padre);
+            indice = padre;
+        }
+        return indice != inicial;
+    }
+
+    private void bajar(int indice) {
+        while (true) {
+            int izquierdo = 2 * indice + 1;
+            if (izquierdo >= tamaño) {
+                return;
+            }
+            int hijo = izquierdo + 1 < tamaño && menor(izquierdo + 1, izquierdo) ? izquierdo + 1 : izquierdo;
+            if (!menor(hijo, indice)) {
+                return;
+            }
+            intercambiar(indice, hijo);
+            indice = hijo;
+        }
+    }
+
+    private void intercambiar(int a, int b) {
+        Object elemento = elementos[a];
+        long clave = claves[a];
+        int id = ids[a];
+        mover(b, a);
+        elementos[b] = elemento;
+        claves[b] = clave;
+        ids[b] = id;
+        posiciones.poner(id, b);
+    }
+
+    private void mover(int desde, int hacia) {
+        elementos[hacia] = elementos[desde];
+        claves[hacia] = claves[desde];
+        ids[hacia] = ids[desde];
+        posiciones.poner(ids[hacia], hacia);
+    }
+
+    private void crecer() {
+        int nueva = elementos.length * 2;
+        Object[] nuevosElementos = new Object[nueva];
+        long[] nuevasClaves = new long[nueva];
+        int[] nuevosIds = new int[nueva];
+        System.arraycopy(elementos, 0, nuevosElementos, 0, tamaño);
+        System.arraycopy(claves, 0, nuevasClaves, 0, tamaño);
+        System.arraycopy(ids, 0, nuevosIds, 0, tamaño);
+        elementos = nuevosElementos;
+        claves = nuevasClaves;
+        ids = nuevosIds;
+    }
+}
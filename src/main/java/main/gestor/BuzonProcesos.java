@@ -0,0 +1,104 @@
+package main.gestor;
+
+import main.estructuras.ColaMPSC;
+import main.modelo.Proceso;
+import main.modelo.TipoProceso;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Buzón de creación de procesos para productores externos (hilos generadores, la GUI).
+// enviar() reserva el PID de forma atómica y deja la solicitud en una cola sin bloqueos,
+// sin tocar el semáforo del ciclo; el hilo de la simulación la toma una vez por ciclo y
+// crea el proceso con ese PID. Así la inyección nunca compite con el bucle de simulación.
+public class BuzonProcesos {
+
+    private final GestorProcesos gestorProcesos;
+    private final ColaMPSC<Solicitud> cola;
+
+    private final AtomicLong enviadas;
+    private long tomadas; // Sólo el consumidor
+
+    public BuzonProcesos(GestorProcesos gestorProcesos) {
+        this.gestorProcesos = gestorProcesos;
+        this.cola = new ColaMPSC<>();
+        this.enviadas = new AtomicLong();
+    }
+
+    // Seguro desde cualquier hilo. Devuelve el PID que tendrá el proceso, o -1 si los
+    // parámetros no son válidos (el límite de procesos se comprueba al crearlo)
+    public int enviar(String nombre, int numInstrucciones, TipoProceso tipo, int prioridad) {
+        if (!GestorProcesos.sonParametrosValidos(nombre, numInstrucciones, tipo)) {
+            return -1;
+        }
+        int id = gestorProcesos.reservarId();
+        cola.encolar(new Solicitud(id, nombre, numInstrucciones, tipo, prioridad));
+        enviadas.incrementAndGet();
+        return id;
+    }
+
+    // Sólo desde el hilo de la simulación; null si no hay solicitudes visibles
+    public Solicitud tomar() {
+        Solicitud solicitud = cola.desencolar();
+        if (solicitud != null) {
+            tomadas++;
+        }
+        return solicitud;
+    }
+
+    // Sólo desde el hilo de la simulación
+    public int descartarPendientes() {
+        int descartadas = 0;
+        while (tomar() != null) {
+            descartadas++;
+        }
+        return descartadas;
+    }
+
+    public long getEnviadas() {
+        return enviadas.get();
+    }
+
+    public long getTomadas() {
+        return tomadas;
+    }
+
+    public static class Solicitud {
+        private final int id;
+        private final String nombre;
+        private final int numInstrucciones;
+        private final TipoProceso tipo;
+        private final int prioridad;
+
+        Solicitud(int id, String nombre, int numInstrucciones, TipoProceso tipo, int prioridad) {
+            this.id = id;
+            this.nombre = nombre;
+            this.numInstrucciones = numInstrucciones;
+            this.tipo = tipo;
+            this.prioridad = prioridad;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getNombre() {
+            return nombre;
+        }
+
+        public int getNumInstrucciones() {
+            return numInstrucciones;
+        }
+
+        public TipoProceso getTipo() {
+            return tipo;
+        }
+
+        public int getPrioridad() {
+            return prioridad;
+        }
+
+        // Crea el proceso con el PID reservado; null si se alcanzó el límite de procesos
+        public Proceso crearEn(GestorProcesos gestor) {
+            return gestor.crearProceso(id, nombre, numInstrucciones, tipo, prioridad);
+        }
+    }
+}
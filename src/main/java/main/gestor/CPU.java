@@ -4,11 +4,16 @@ import main.modelo.Proceso;
 import main.modelo.EstadoProceso;
 import main.modelo.TipoProceso;
 import java.util.Random;
+import java.io.Serializable;
 
-public class CPU {
+public class CPU implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final int BYTES_POR_INSTRUCCION = 256;
 
     private GestorMemoria gestorMemoria;
     private Proceso procesoEnEjecucion;
+    private Proceso procesoLiberado; // Último proceso que dejó la CPU por sí mismo
     private int cicloActual;
     private boolean ocupada;
 
@@ -37,6 +42,7 @@ public class CPU {
 
     public boolean ejecutarCiclo() {
         cicloActual++;
+        gestorMemoria.avanzarCiclo(cicloActual);
 
         if (procesoEnEjecucion != null) {
             return ejecutarInstruccion();
@@ -60,6 +66,12 @@ public class CPU {
         ocupada = true;
         totalCiclosOcupada++;
 
+        // Acceso a memoria de la instrucción (una de cada tres escribe)
+        int tamanioBytes = gestorMemoria.calcularTamanioProceso(procesoEnEjecucion) * 1024;
+        int pc = procesoEnEjecucion.getProgramCounter();
+        procesoEnEjecucion.setMemoryAddressRegister((pc * BYTES_POR_INSTRUCCION) % tamanioBytes);
+        gestorMemoria.accederMemoria(procesoEnEjecucion, pc % 3 == 0);
+
         // Ejecutar instrucción
         procesoEnEjecucion.ejecutarInstruccion();
         totalInstruccionesEjecutadas++;
@@ -68,6 +80,7 @@ public class CPU {
         if (procesoEnEjecucion.isCompletado()) {
             System.out.println("Proceso completado: " + procesoEnEjecucion.getNombre());
             procesoEnEjecucion.setEstado(EstadoProceso.TERMINADO);
+            procesoLiberado = procesoEnEjecucion;
             procesoEnEjecucion = null;
             ocupada = false;
             return true;
@@ -107,6 +120,7 @@ public class CPU {
             totalExcepcionesIO++;
 
             System.out.println("Excepción de I/O generada para: " + procesoEnEjecucion.getNombre());
+            procesoLiberado = procesoEnEjecucion;
             procesoEnEjecucion = null;
             ocupada = false;
         }
@@ -145,6 +159,13 @@ public class CPU {
         return null;
     }
 
+    // Proceso que terminó o se bloqueó en el último ciclo (se consume una vez)
+    public Proceso tomarProcesoLiberado() {
+        Proceso liberado = procesoLiberado;
+        procesoLiberado = null;
+        return liberado;
+    }
+
     public Proceso getProcesoEnEjecucion() {
         return procesoEnEjecucion;
     }
@@ -178,6 +199,19 @@ public class CPU {
         return -1;
     }
 
+    // Fija la semilla de las excepciones de I/O para que una ejecución sea reproducible
+    public void setSemilla(long semilla) {
+        random.setSeed(semilla);
+    }
+
+    public int getTotalCiclosOcupada() {
+        return totalCiclosOcupada;
+    }
+
+    public int getTotalCiclosLibre() {
+        return totalCiclosLibre;
+    }
+
     public int[] obtenerEstadisticas() {
         return new int[] {
                 totalInstruccionesEjecutadas,
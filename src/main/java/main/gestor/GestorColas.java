@@ -4,9 +4,13 @@ import main.modelo.Proceso;
 import main.modelo.EstadoProceso;
 import main.estructuras.ListaSimple;
 import main.estructuras.ColaSimple;
-import main.estructuras.Ordenador;
+import main.planificacion.AlgoritmoIndexado;
+import java.io.Serializable;
+import java.util.function.Predicate;
 
-public class GestorColas {
+public class GestorColas implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private GestorMemoria gestorMemoria;
 
@@ -20,6 +24,11 @@ public class GestorColas {
     private ListaSimple<Proceso> colaListosSuspendidos;
     private ListaSimple<Proceso> colaBloqueadosSuspendidos;
 
+    // Índice de la cola de listos del algoritmo activo (null si el algoritmo no lo usa); se
+    // mantiene al día en cada entrada y salida de colaListos
+    private AlgoritmoIndexado indiceListos;
+    private long entradasAListos; // Contador monótono: permite saber si llegó alguien nuevo
+
     public GestorColas(GestorMemoria gestorMemoria) {
         this.gestorMemoria = gestorMemoria;
 
@@ -38,7 +47,7 @@ public class GestorColas {
             if (gestorMemoria.asignarMemoria(proceso)) {
                 if (gestorMemoria.estaEnMemoriaPrincipal(proceso)) {
                     proceso.setEstado(EstadoProceso.LISTO);
-                    colaListos.agregar(proceso);
+                    entrarAListos(proceso);
                     System.out.println("Proceso agregado a cola de listos: " + proceso.getNombre());
                     return true;
                 } else {
@@ -56,7 +65,7 @@ public class GestorColas {
                 proceso.setEstado(EstadoProceso.LISTO);
                 colaSuspendidos.remover(proceso);
                 colaListosSuspendidos.remover(proceso);
-                colaListos.agregar(proceso);
+                entrarAListos(proceso);
                 System.out.println("Proceso reactivado y agregado a cola de listos: " + proceso.getNombre());
                 return true;
             }
@@ -66,7 +75,8 @@ public class GestorColas {
     }
 
     public boolean agregarABloqueados(Proceso proceso) {
-        if (proceso.getEstado() == EstadoProceso.EJECUCION) {
+        // La CPU marca BLOQUEADO al generar la excepción de I/O
+        if (proceso.getEstado() == EstadoProceso.EJECUCION || proceso.getEstado() == EstadoProceso.BLOQUEADO) {
             proceso.setEstado(EstadoProceso.BLOQUEADO);
             colaBloqueados.agregar(proceso);
             System.out.println("Proceso agregado a cola de bloqueados: " + proceso.getNombre());
@@ -76,7 +86,8 @@ public class GestorColas {
     }
 
     public boolean agregarATerminados(Proceso proceso) {
-        if (proceso.getEstado() == EstadoProceso.EJECUCION) {
+        // La CPU marca TERMINADO al ejecutar la última instrucción
+        if (proceso.getEstado() == EstadoProceso.EJECUCION || proceso.getEstado() == EstadoProceso.TERMINADO) {
             proceso.setEstado(EstadoProceso.TERMINADO);
             colaTerminados.agregar(proceso);
 
@@ -92,7 +103,7 @@ public class GestorColas {
     public boolean suspenderProceso(Proceso proceso) {
         if (proceso.getEstado() == EstadoProceso.LISTO) {
             if (gestorMemoria.suspenderProceso(proceso)) {
-                colaListos.remover(proceso);
+                salirDeListos(proceso);
                 colaSuspendidos.add(proceso);
                 colaListosSuspendidos.add(proceso);
                 System.out.println("Proceso suspendido por falta de memoria: " + proceso.getNombre());
@@ -118,7 +129,7 @@ public class GestorColas {
                 // Determinar a qué cola regresar
                 if (colaListosSuspendidos.contains(proceso)) {
                     colaListosSuspendidos.remover(proceso);
-                    colaListos.agregar(proceso);
+                    entrarAListos(proceso);
                     proceso.setEstado(EstadoProceso.LISTO);
                 } else if (colaBloqueadosSuspendidos.contains(proceso)) {
                     colaBloqueadosSuspendidos.remover(proceso);
@@ -133,8 +144,35 @@ public class GestorColas {
         return false;
     }
 
+    public boolean desbloquearProceso(Proceso proceso) {
+        if (colaBloqueados.remover(proceso)) {
+            proceso.setEstado(EstadoProceso.LISTO);
+            entrarAListos(proceso);
+            System.out.println("Proceso desbloqueado y agregado a cola de listos: " + proceso.getNombre());
+            return true;
+        }
+        if (colaBloqueadosSuspendidos.remover(proceso)) {
+            // Sigue en memoria secundaria, pero ya no espera por I/O
+            colaListosSuspendidos.agregar(proceso);
+            System.out.println("Proceso suspendido pasa de bloqueado a listo: " + proceso.getNombre());
+            return true;
+        }
+        return false;
+    }
+
+    // Proceso desalojado de la CPU: vuelve al final de la cola de listos
+    public boolean devolverAListos(Proceso proceso) {
+        if (proceso.getEstado() != EstadoProceso.EJECUCION) {
+            return false;
+        }
+        proceso.setEstado(EstadoProceso.LISTO);
+        entrarAListos(proceso);
+        System.out.println("Proceso devuelto a cola de listos: " + proceso.getNombre());
+        return true;
+    }
+
     public boolean removerDeListos(Proceso proceso) {
-        if (colaListos.remover(proceso)) {
+        if (salirDeListos(proceso)) {
             System.out.println("Proceso removido de cola de listos: " + proceso.getNombre());
             return true;
         }
@@ -149,45 +187,61 @@ public class GestorColas {
         return false;
     }
 
-    public void gestionarMemoria() {
-        // Verificar si hay procesos que necesitan ser suspendidos
-        ListaSimple<Proceso> candidatosSuspension = new ListaSimple<>();
-
-        // Priorizar procesos de menor prioridad para suspensión
-        for (int i = 0; i < colaListos.tamaño(); i++) {
-            candidatosSuspension.agregar(colaListos.obtener(i));
-        }
-        for (int i = 0; i < colaBloqueados.tamaño(); i++) {
-            candidatosSuspension.agregar(colaBloqueados.obtener(i));
+    // Saca al proceso de la cola en que esté (listos, bloqueados o suspendidos)
+    public boolean removerDeColas(Proceso proceso) {
+        boolean removido = salirDeListos(proceso) | colaBloqueados.remover(proceso);
+        if (colaSuspendidos.remover(proceso)) {
+            colaListosSuspendidos.remover(proceso);
+            colaBloqueadosSuspendidos.remover(proceso);
+            removido = true;
         }
+        return removido;
+    }
 
-        // Ordenar por prioridad (mayor número = menor prioridad)
-        Ordenador.ordenarPorPrioridad(candidatosSuspension);
-
-        // Suspender procesos si es necesario
-        for (int i = 0; i < candidatosSuspension.tamaño(); i++) {
-            Proceso proceso = candidatosSuspension.obtener(i);
-            if (gestorMemoria.getMemoriaDisponible() < 10) { // Umbral de 10 KB
-                suspenderProceso(proceso);
-            }
+    private void entrarAListos(Proceso proceso) {
+        colaListos.agregar(proceso);
+        entradasAListos++;
+        if (indiceListos != null) {
+            indiceListos.procesoListo(proceso);
         }
     }
 
-    public void intentarReactivarProcesos() {
-        ListaSimple<Proceso> candidatosReactivacion = new ListaSimple<>();
-        for (int i = 0; i < colaSuspendidos.tamaño(); i++) {
-            candidatosReactivacion.agregar(colaSuspendidos.obtener(i));
+    private boolean salirDeListos(Proceso proceso) {
+        if (!colaListos.remover(proceso)) {
+            return false;
         }
+        if (indiceListos != null) {
+            indiceListos.procesoRetirado(proceso);
+        }
+        return true;
+    }
 
-        // Ordenar por prioridad (menor número = mayor prioridad)
-        Ordenador.ordenarPorPrioridad(candidatosReactivacion);
+    // Al cambiar de algoritmo el índice nuevo se llena con los listos actuales, en el orden
+    // de la cola; el anterior deja de recibir avisos
+    public void setIndiceListos(AlgoritmoIndexado indiceListos) {
+        if (this.indiceListos != null) {
+            this.indiceListos.limpiarIndice();
+        }
+        this.indiceListos = indiceListos;
+        if (indiceListos != null) {
+            for (int i = 0; i < colaListos.tamaño(); i++) {
+                indiceListos.procesoListo(colaListos.obtener(i));
+            }
+        }
+    }
 
-        for (int i = 0; i < candidatosReactivacion.tamaño(); i++) {
-            Proceso proceso = candidatosReactivacion.obtener(i);
-            if (gestorMemoria.getMemoriaDisponible() > 20) { // Umbral de 20 KB
-                reactivarProceso(proceso);
+    // El listo suspendido de mayor prioridad (menor número; a igual prioridad, el que lleva
+    // más tiempo suspendido), en una sola pasada. Los bloqueados suspendidos no cuentan:
+    // traerlos a memoria no sirve de nada hasta que termine su I/O
+    public Proceso candidatoReactivacion() {
+        Proceso mejor = null;
+        for (int i = 0; i < colaListosSuspendidos.tamaño(); i++) {
+            Proceso proceso = colaListosSuspendidos.obtener(i);
+            if (mejor == null || proceso.getPrioridad() < mejor.getPrioridad()) {
+                mejor = proceso;
             }
         }
+        return mejor;
     }
 
     // Getters para las colas
@@ -262,6 +316,39 @@ public class GestorColas {
         return info.toString();
     }
 
+    public int getNumeroTerminados() {
+        return colaTerminados.tamaño();
+    }
+
+    public int getNumeroListos() {
+        return colaListos.tamaño();
+    }
+
+    public long getEntradasAListos() {
+        return entradasAListos;
+    }
+
+    public int getNumeroListosSuspendidos() {
+        return colaListosSuspendidos.tamaño();
+    }
+
+    // Saca de la cola de terminados los que no hay que retener y los devuelve; recorre sólo
+    // la cola, no la tabla de procesos
+    public ListaSimple<Proceso> extraerTerminados(Predicate<Proceso> retener) {
+        ListaSimple<Proceso> extraidos = new ListaSimple<>();
+        ListaSimple<Proceso> retenidos = new ListaSimple<>();
+        for (int i = 0; i < colaTerminados.tamaño(); i++) {
+            Proceso proceso = colaTerminados.obtener(i);
+            if (retener.test(proceso)) {
+                retenidos.agregar(proceso);
+            } else {
+                extraidos.agregar(proceso);
+            }
+        }
+        colaTerminados = retenidos;
+        return extraidos;
+    }
+
     public void limpiarProcesosTerminados() {
         colaTerminados.limpiar();
         System.out.println("Cola de procesos terminados limpiada");
@@ -3,19 +3,39 @@ package main.gestor;
 import main.modelo.Proceso;
 import main.modelo.EstadoProceso;
 import main.estructuras.ListaSimple;
+import main.estructuras.MapaEnlazado;
 import main.estructuras.MapaSimple;
 import main.estructuras.Ordenador;
-
-public class GestorMemoria {
+import main.interrupciones.ManejadorInterrupciones;
+import main.memoria.AreaContextos;
+import main.memoria.AsignadorMemoria;
+import main.memoria.EstrategiaAsignacion;
+import main.memoria.MemoriaVirtual;
+import main.memoria.PoliticaReemplazoPaginas;
+import main.traza.GrabadorTraza;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.function.Predicate;
+
+public class GestorMemoria implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final int TAMANIO_PAGINA_KB = 1;
+    // Los marcos cubren sólo una fracción de la memoria principal: si hubiera un marco
+    // por KB, las páginas residentes nunca superarían los marcos y no habría reemplazo
+    private static final int FRACCION_MARCOS = 4;
 
     // Configuración de memoria
     private int tamanioMemoriaPrincipal;
     private int tamanioMemoriaSecundaria;
-    private int memoriaDisponible;
+
+    // Espacio de direcciones contiguo de la memoria principal
+    private AsignadorMemoria asignador;
+    private boolean compactacionAutomatica;
 
     // Mapas de memoria
     private MapaSimple<Integer, Proceso> memoriaPrincipal; // ID -> Proceso
-    private MapaSimple<Integer, Proceso> memoriaSecundaria; // ID -> Proceso
+    private MapaSimple<Integer, Integer> memoriaSecundaria; // ID -> Ranura en el área de contextos (-1 = sin ranura)
     private MapaSimple<Integer, Integer> direccionesMemoria; // ID -> Dirección en memoria
 
     // Estadísticas
@@ -24,14 +44,35 @@ public class GestorMemoria {
     private int totalAsignaciones;
     private int totalLiberaciones;
     private int totalSuspensiones;
+    private int totalCompactaciones;
+    private int totalFallosPorFragmentacion;
 
     // Política de reemplazo
     private PoliticaReemplazo politicaReemplazo;
 
+    // Residentes en memoria principal: por recencia de acceso (LRU), por orden de carga (FIFO)
+    // y el anillo del reloj (CLOCK), que se reordena al dar segundas oportunidades
+    private MapaEnlazado<Integer, Proceso> residentesPorAcceso;
+    private MapaEnlazado<Integer, Proceso> residentesPorCarga;
+    private MapaEnlazado<Integer, Proceso> anilloReloj;
+    private MapaSimple<Integer, Boolean> bitsReferencia;
+
+    // Contextos de los procesos suspendidos en disco (null = la memoria secundaria sólo lleva la cuenta)
+    private AreaContextos areaContextos;
+
+    // Paginación por demanda de los procesos residentes
+    private MemoriaVirtual memoriaVirtual;
+    private ManejadorInterrupciones manejadorInterrupciones;
+    private int cicloActual;
+
+    // Traza binaria de la simulación (null = desactivada)
+    private transient GrabadorTraza grabadorTraza;
+
     public GestorMemoria(int tamanioMemoriaPrincipal, int tamanioMemoriaSecundaria) {
         this.tamanioMemoriaPrincipal = tamanioMemoriaPrincipal;
         this.tamanioMemoriaSecundaria = tamanioMemoriaSecundaria;
-        this.memoriaDisponible = tamanioMemoriaPrincipal;
+        this.asignador = AsignadorMemoria.crear(EstrategiaAsignacion.FIRST_FIT, tamanioMemoriaPrincipal);
+        this.compactacionAutomatica = true;
 
         this.memoriaPrincipal = new MapaSimple<>();
         this.memoriaSecundaria = new MapaSimple<>();
@@ -42,44 +83,134 @@ public class GestorMemoria {
         this.totalAsignaciones = 0;
         this.totalLiberaciones = 0;
         this.totalSuspensiones = 0;
+        this.totalCompactaciones = 0;
+        this.totalFallosPorFragmentacion = 0;
 
         this.politicaReemplazo = PoliticaReemplazo.LRU; // Least Recently Used por defecto
+        this.residentesPorAcceso = new MapaEnlazado<>(true);
+        this.residentesPorCarga = new MapaEnlazado<>(false);
+        this.anilloReloj = new MapaEnlazado<>(false);
+        this.bitsReferencia = new MapaSimple<>();
+
+        this.memoriaVirtual = new MemoriaVirtual(marcosPorDefecto(tamanioMemoriaPrincipal), TAMANIO_PAGINA_KB,
+                PoliticaReemplazoPaginas.CLOCK);
+        this.cicloActual = 0;
+    }
+
+    public static int marcosPorDefecto(int tamanioMemoriaPrincipalKB) {
+        return Math.max(1, tamanioMemoriaPrincipalKB / TAMANIO_PAGINA_KB / FRACCION_MARCOS);
+    }
+
+    public void configurarPaginacion(int numMarcos, PoliticaReemplazoPaginas politica) {
+        // Sólo tiene efecto sobre los procesos que se carguen después
+        this.memoriaVirtual = new MemoriaVirtual(numMarcos, TAMANIO_PAGINA_KB, politica);
+        System.out.println("Paginación configurada: " + numMarcos + " marcos, política " + politica);
+    }
+
+    public boolean configurarAsignador(EstrategiaAsignacion estrategia) {
+        // Cambiar de estrategia exige reubicar todo; sólo se permite con la memoria vacía
+        if (procesosEnMemoriaPrincipal > 0) {
+            System.out.println("No se puede cambiar la estrategia de asignación con procesos residentes");
+            return false;
+        }
+        this.asignador = AsignadorMemoria.crear(estrategia, tamanioMemoriaPrincipal);
+        System.out.println("Estrategia de asignación configurada: " + estrategia);
+        return true;
+    }
+
+    public void avanzarCiclo(int ciclo) {
+        this.cicloActual = ciclo;
+        memoriaVirtual.avanzarCiclo(ciclo);
+    }
+
+    // Traduce el MAR del proceso; un fallo de página genera la interrupción correspondiente
+    public int accederMemoria(Proceso proceso, boolean escritura) {
+        registrarAcceso(proceso.getId());
+
+        int direccionVirtual = proceso.getMemoryAddressRegister();
+        int direccionFisica = memoriaVirtual.traducir(proceso.getId(), direccionVirtual, escritura, cicloActual);
+        if (memoriaVirtual.isUltimoAccesoFallo() && manejadorInterrupciones != null) {
+            manejadorInterrupciones.generarFalloPagina(proceso, cicloActual, direccionVirtual);
+        }
+        return direccionFisica;
     }
 
     public boolean asignarMemoria(Proceso proceso) {
         int tamanioProceso = calcularTamanioProceso(proceso);
 
-        // Verificar si hay espacio en memoria principal
-        if (memoriaDisponible >= tamanioProceso) {
-            return asignarMemoriaPrincipal(proceso, tamanioProceso);
+        // Buscar un hueco contiguo en memoria principal. Sin lugar no se desaloja a nadie: el
+        // proceso empieza en memoria secundaria y el planificador a medio plazo decide las
+        // suspensiones (así las colas siempre saben quién está suspendido)
+        int direccion = reservarBloque(tamanioProceso);
+
+        if (direccion >= 0) {
+            return asignarMemoriaPrincipal(proceso, tamanioProceso, direccion);
         } else {
-            // Intentar hacer espacio liberando procesos
-            if (liberarMemoria(tamanioProceso)) {
-                return asignarMemoriaPrincipal(proceso, tamanioProceso);
-            } else {
-                // Asignar en memoria secundaria
-                return asignarMemoriaSecundaria(proceso, tamanioProceso);
+            // Asignar en memoria secundaria
+            return asignarMemoriaSecundaria(proceso, tamanioProceso);
+        }
+    }
+
+    // Asigna un bloque contiguo; si hay memoria libre suficiente pero fragmentada, compacta y reintenta
+    private int reservarBloque(int tamanio) {
+        int direccion = asignador.asignar(tamanio);
+        if (direccion < 0 && asignador.getMemoriaLibre() >= tamanio) {
+            totalFallosPorFragmentacion++;
+            if (compactacionAutomatica && asignador.soportaCompactacion()) {
+                compactarMemoria();
+                direccion = asignador.asignar(tamanio);
+            }
+        }
+        return direccion;
+    }
+
+    public int compactarMemoria() {
+        MapaSimple<Integer, Integer> reubicaciones = asignador.compactar();
+        if (reubicaciones.estaVacio()) {
+            return 0;
+        }
+
+        ListaSimple<Integer> ids = memoriaPrincipal.claves();
+        for (int i = 0; i < ids.tamaño(); i++) {
+            Integer id = ids.obtener(i);
+            Integer nueva = reubicaciones.obtener(direccionesMemoria.obtener(id));
+            if (nueva != null) {
+                direccionesMemoria.poner(id, nueva);
             }
         }
+        totalCompactaciones++;
+        if (grabadorTraza != null) {
+            grabadorTraza.memoriaCompactada(reubicaciones.tamaño());
+        }
+
+        System.out.println("Memoria compactada: " + reubicaciones.tamaño() + " bloques reubicados");
+        return reubicaciones.tamaño();
     }
 
-    private boolean asignarMemoriaPrincipal(Proceso proceso, int tamanio) {
+    private boolean asignarMemoriaPrincipal(Proceso proceso, int tamanio, int direccion) {
         memoriaPrincipal.poner(proceso.getId(), proceso);
-        direccionesMemoria.poner(proceso.getId(), memoriaDisponible - tamanio);
-        memoriaDisponible -= tamanio;
+        registrarResidente(proceso);
+        memoriaVirtual.crearTablaPaginas(proceso.getId(), tamanio);
+        direccionesMemoria.poner(proceso.getId(), direccion);
         procesosEnMemoriaPrincipal++;
         totalAsignaciones++;
+        if (grabadorTraza != null) {
+            grabadorTraza.memoriaAsignada(proceso.getId(), direccion, tamanio);
+        }
 
         System.out.println("Memoria principal asignada a " + proceso.getNombre() +
-                " (ID: " + proceso.getId() + ", Tamaño: " + tamanio + " KB)");
+                " (ID: " + proceso.getId() + ", Tamaño: " + tamanio + " KB, Dirección: " + direccion + ")");
         return true;
     }
 
     private boolean asignarMemoriaSecundaria(Proceso proceso, int tamanio) {
-        memoriaSecundaria.poner(proceso.getId(), proceso);
+        memoriaSecundaria.poner(proceso.getId(), guardarContexto(proceso, tamanio));
         direccionesMemoria.poner(proceso.getId(), -1); // -1 indica memoria secundaria
         procesosEnMemoriaSecundaria++;
         totalAsignaciones++;
+        if (grabadorTraza != null) {
+            grabadorTraza.memoriaAsignada(proceso.getId(), -1, tamanio);
+        }
 
         // Cambiar estado a suspendido
         proceso.setEstado(EstadoProceso.SUSPENDIDO);
@@ -107,10 +238,17 @@ public class GestorMemoria {
         int tamanio = calcularTamanioProceso(proceso);
 
         memoriaPrincipal.remover(id);
-        direccionesMemoria.remover(id);
-        memoriaDisponible += tamanio;
+        removerResidente(id);
+        memoriaVirtual.liberarProceso(id);
+        Integer direccion = direccionesMemoria.remover(id);
+        if (direccion != null) {
+            asignador.liberar(direccion);
+        }
         procesosEnMemoriaPrincipal--;
         totalLiberaciones++;
+        if (grabadorTraza != null) {
+            grabadorTraza.memoriaLiberada(id, tamanio);
+        }
 
         System.out.println("Memoria principal liberada de " + proceso.getNombre() +
                 " (ID: " + id + ", Tamaño: " + tamanio + " KB)");
@@ -121,47 +259,44 @@ public class GestorMemoria {
         int id = proceso.getId();
         int tamanio = calcularTamanioProceso(proceso);
 
-        memoriaSecundaria.remover(id);
+        Integer ranura = memoriaSecundaria.remover(id);
+        if (ranura != null && ranura >= 0) {
+            areaContextos.liberar(ranura);
+        }
         direccionesMemoria.remover(id);
         procesosEnMemoriaSecundaria--;
         totalLiberaciones++;
+        if (grabadorTraza != null) {
+            grabadorTraza.memoriaLiberada(id, tamanio);
+        }
 
         System.out.println("Memoria secundaria liberada de " + proceso.getNombre() +
                 " (ID: " + id + ", Tamaño: " + tamanio + " KB)");
         return true;
     }
 
-    private boolean liberarMemoria(int tamanioNecesario) {
-        ListaSimple<Proceso> candidatos = obtenerCandidatosReemplazo();
-
-        for (int i = 0; i < candidatos.tamaño(); i++) {
-            Proceso proceso = candidatos.obtener(i);
-            if (memoriaDisponible >= tamanioNecesario) {
-                break;
-            }
-
-            // Suspender proceso
-            suspenderProceso(proceso);
-        }
-
-        return memoriaDisponible >= tamanioNecesario;
-    }
-
     public boolean suspenderProceso(Proceso proceso) {
         int id = proceso.getId();
 
         if (memoriaPrincipal.contieneClave(id)) {
-            Proceso procesoSuspendido = memoriaPrincipal.remover(id);
-            memoriaSecundaria.poner(id, procesoSuspendido);
-
-            int tamanio = calcularTamanioProceso(proceso);
-            memoriaDisponible += tamanio;
+            memoriaPrincipal.remover(id);
+            removerResidente(id);
+            memoriaSecundaria.poner(id, guardarContexto(proceso, calcularTamanioProceso(proceso)));
+            memoriaVirtual.liberarProceso(id);
+
+            Integer direccion = direccionesMemoria.obtener(id);
+            if (direccion != null && direccion >= 0) {
+                asignador.liberar(direccion);
+            }
             direccionesMemoria.poner(id, -1);
 
             proceso.setEstado(EstadoProceso.SUSPENDIDO);
             procesosEnMemoriaPrincipal--;
             procesosEnMemoriaSecundaria++;
             totalSuspensiones++;
+            if (grabadorTraza != null) {
+                grabadorTraza.procesoSuspendido(id);
+            }
 
             System.out.println("Proceso suspendido: " + proceso.getNombre() +
                     " (ID: " + id + ") - Movido a memoria secundaria");
@@ -175,16 +310,27 @@ public class GestorMemoria {
         int id = proceso.getId();
         int tamanio = calcularTamanioProceso(proceso);
 
-        if (memoriaSecundaria.contieneClave(id) && memoriaDisponible >= tamanio) {
-            Proceso procesoReactivado = memoriaSecundaria.remover(id);
-            memoriaPrincipal.poner(id, procesoReactivado);
+        if (!memoriaSecundaria.contieneClave(id)) {
+            return false;
+        }
 
-            memoriaDisponible -= tamanio;
-            direccionesMemoria.poner(id, memoriaDisponible + tamanio);
+        int direccion = reservarBloque(tamanio);
+        if (direccion >= 0) {
+            Integer ranura = memoriaSecundaria.remover(id);
+            if (ranura >= 0) {
+                areaContextos.cargar(ranura, proceso);
+            }
+            memoriaPrincipal.poner(id, proceso);
+            registrarResidente(proceso);
+            memoriaVirtual.crearTablaPaginas(id, tamanio);
+            direccionesMemoria.poner(id, direccion);
 
             proceso.setEstado(EstadoProceso.LISTO);
             procesosEnMemoriaSecundaria--;
             procesosEnMemoriaPrincipal++;
+            if (grabadorTraza != null) {
+                grabadorTraza.procesoReactivado(id, direccion);
+            }
 
             System.out.println("Proceso reactivado: " + proceso.getNombre() +
                     " (ID: " + id + ") - Movido a memoria principal");
@@ -194,31 +340,126 @@ public class GestorMemoria {
         return false;
     }
 
-    private ListaSimple<Proceso> obtenerCandidatosReemplazo() {
-        ListaSimple<Proceso> candidatos = new ListaSimple<>();
-        for (int i = 0; i < memoriaPrincipal.tamaño(); i++) {
-            candidatos.agregar(memoriaPrincipal.obtener(i));
+    private int guardarContexto(Proceso proceso, int tamanio) {
+        return areaContextos != null ? areaContextos.guardar(proceso, tamanio) : -1;
+    }
+
+    // Los procesos que ya estaban en memoria secundaria siguen sin ranura hasta que vuelvan.
+    // El área anterior (vacía) se cierra
+    public void setAreaContextos(AreaContextos areaContextos) {
+        if (this.areaContextos != null && this.areaContextos.getOcupadas() > 0) {
+            throw new IllegalStateException("El área de contextos actual todavía tiene procesos");
+        }
+        cerrarAreaContextos();
+        this.areaContextos = areaContextos;
+    }
+
+    public void cerrarAreaContextos() {
+        if (areaContextos == null) {
+            return;
+        }
+        try {
+            areaContextos.cerrar();
+        } catch (IOException e) {
+            System.err.println("Error al cerrar el área de contextos: " + e.getMessage());
+        }
+    }
+
+    public AreaContextos getAreaContextos() {
+        return areaContextos;
+    }
+
+    private void registrarResidente(Proceso proceso) {
+        residentesPorAcceso.poner(proceso.getId(), proceso);
+        residentesPorCarga.poner(proceso.getId(), proceso);
+        anilloReloj.poner(proceso.getId(), proceso);
+        bitsReferencia.poner(proceso.getId(), Boolean.TRUE);
+    }
+
+    private void removerResidente(int id) {
+        residentesPorAcceso.remover(id);
+        residentesPorCarga.remover(id);
+        anilloReloj.remover(id);
+        bitsReferencia.remover(id);
+    }
+
+    // O(1): mueve al proceso al final del orden de recencia y marca su bit de referencia
+    private void registrarAcceso(int id) {
+        if (residentesPorAcceso.obtener(id) != null) {
+            bitsReferencia.poner(id, Boolean.TRUE);
+        }
+    }
+
+    // Elige el proceso residente a suspender; nunca el que está en ejecución
+    public Proceso seleccionarVictima() {
+        return seleccionarVictima(proceso -> true);
+    }
+
+    // Como seleccionarVictima(), pero salta los candidatos que no cumplen elegible y sigue
+    // con el siguiente en el orden de la política
+    public Proceso seleccionarVictima(Predicate<Proceso> elegible) {
+        if (residentesPorCarga.estaVacio()) {
+            return null;
         }
 
         switch (politicaReemplazo) {
             case LRU:
-                // Least Recently Used - ordenar por tiempo de acceso
-                Ordenador.ordenarPorTiempoLlegada(candidatos);
-                break;
+                return primeroElegible(residentesPorAcceso, elegible);
             case FIFO:
-                // First In First Out - ordenar por tiempo de creación
-                Ordenador.ordenarPorTiempoLlegada(candidatos);
-                break;
+                return primeroElegible(residentesPorCarga, elegible);
+            case CLOCK:
+                return seleccionarVictimaClock(elegible);
             case PRIORIDAD:
-                // Por prioridad - ordenar por prioridad (menor prioridad = mayor número)
+                ListaSimple<Proceso> candidatos = residentesPorCarga.valores();
+                // Por prioridad - la de menor prioridad (mayor número) sale primero
                 Ordenador.ordenarPorPrioridad(candidatos);
-                break;
+                for (int i = candidatos.tamaño() - 1; i >= 0; i--) {
+                    if (esElegible(candidatos.obtener(i), elegible)) {
+                        return candidatos.obtener(i);
+                    }
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private static boolean esElegible(Proceso proceso, Predicate<Proceso> elegible) {
+        return proceso.getEstado() != EstadoProceso.EJECUCION && elegible.test(proceso);
+    }
+
+    private Proceso primeroElegible(MapaEnlazado<Integer, Proceso> orden, Predicate<Proceso> elegible) {
+        Integer id = orden.primeraClave();
+        while (id != null) {
+            Proceso proceso = orden.consultar(id);
+            if (esElegible(proceso, elegible)) {
+                return proceso;
+            }
+            id = orden.siguienteClave(id);
         }
+        return null;
+    }
 
-        return candidatos;
+    private Proceso seleccionarVictimaClock(Predicate<Proceso> elegible) {
+        // La cabeza del anillo hace de manecilla: los referenciados pierden el bit
+        // y pasan al final; cada vuelta completa limpia todos los bits, así que termina
+        int revisados = 0;
+        int limite = 2 * anilloReloj.tamaño();
+        while (revisados < limite) {
+            Integer id = anilloReloj.primeraClave();
+            Proceso proceso = anilloReloj.consultar(id);
+            boolean referenciado = Boolean.TRUE.equals(bitsReferencia.obtener(id));
+            if (!referenciado && esElegible(proceso, elegible)) {
+                return proceso;
+            }
+            bitsReferencia.poner(id, Boolean.FALSE);
+            anilloReloj.moverAlFinal(id);
+            revisados++;
+        }
+        return null;
     }
 
-    private int calcularTamanioProceso(Proceso proceso) {
+    public int calcularTamanioProceso(Proceso proceso) {
         // Tamaño base + tamaño por instrucción
         return 4 + (proceso.getNumInstrucciones() / 10); // 4 KB base + 1 KB por cada 10 instrucciones
     }
@@ -240,7 +481,7 @@ public class GestorMemoria {
         return new int[] {
                 tamanioMemoriaPrincipal,
                 tamanioMemoriaSecundaria,
-                memoriaDisponible,
+                asignador.getMemoriaLibre(),
                 procesosEnMemoriaPrincipal,
                 procesosEnMemoriaSecundaria,
                 totalAsignaciones,
@@ -254,16 +495,43 @@ public class GestorMemoria {
         info.append("=== ESTADO DE MEMORIA ===\n");
         info.append("Memoria Principal: ").append(tamanioMemoriaPrincipal).append(" KB\n");
         info.append("Memoria Secundaria: ").append(tamanioMemoriaSecundaria).append(" KB\n");
-        info.append("Memoria Disponible: ").append(memoriaDisponible).append(" KB\n");
+        info.append("Memoria Disponible: ").append(asignador.getMemoriaLibre()).append(" KB\n");
         info.append("Procesos en Principal: ").append(procesosEnMemoriaPrincipal).append("\n");
         info.append("Procesos en Secundaria: ").append(procesosEnMemoriaSecundaria).append("\n");
         info.append("Total Asignaciones: ").append(totalAsignaciones).append("\n");
         info.append("Total Liberaciones: ").append(totalLiberaciones).append("\n");
         info.append("Total Suspensiones: ").append(totalSuspensiones).append("\n");
         info.append("Política Reemplazo: ").append(politicaReemplazo).append("\n");
+        info.append(obtenerMetricasFragmentacion());
+        info.append(memoriaVirtual.obtenerInformacionDetallada(cicloActual));
+        if (areaContextos != null) {
+            info.append(areaContextos.obtenerInformacionDetallada());
+        }
         return info.toString();
     }
 
+    public String obtenerMetricasFragmentacion() {
+        StringBuilder info = new StringBuilder();
+        info.append("Asignador: ").append(asignador.getEstrategia())
+                .append(compactacionAutomatica && asignador.soportaCompactacion() ? " (compactación automática)" : "")
+                .append("\n");
+        info.append("Huecos libres: ").append(asignador.getNumBloquesLibres())
+                .append(" | Mayor hueco: ").append(asignador.getBloqueLibreMasGrande()).append(" KB\n");
+        info.append(String.format("Fragmentación externa: %.1f%%\n", getFragmentacionExterna() * 100));
+        info.append("Fragmentación interna: ").append(asignador.getFragmentacionInterna()).append(" KB\n");
+        info.append("Fallos por fragmentación: ").append(totalFallosPorFragmentacion)
+                .append(" | Compactaciones: ").append(totalCompactaciones).append("\n");
+        return info.toString();
+    }
+
+    public double getFragmentacionExterna() {
+        return asignador.getFragmentacionExterna();
+    }
+
+    public int getFragmentacionInterna() {
+        return asignador.getFragmentacionInterna();
+    }
+
     // Getters y Setters
     public int getTamanioMemoriaPrincipal() {
         return tamanioMemoriaPrincipal;
@@ -274,7 +542,23 @@ public class GestorMemoria {
     }
 
     public int getMemoriaDisponible() {
-        return memoriaDisponible;
+        return asignador.getMemoriaLibre();
+    }
+
+    public AsignadorMemoria getAsignador() {
+        return asignador;
+    }
+
+    public int getTotalCompactaciones() {
+        return totalCompactaciones;
+    }
+
+    public boolean isCompactacionAutomatica() {
+        return compactacionAutomatica;
+    }
+
+    public void setCompactacionAutomatica(boolean compactacionAutomatica) {
+        this.compactacionAutomatica = compactacionAutomatica;
     }
 
     public int getProcesosEnMemoriaPrincipal() {
@@ -285,6 +569,18 @@ public class GestorMemoria {
         return procesosEnMemoriaSecundaria;
     }
 
+    public MemoriaVirtual getMemoriaVirtual() {
+        return memoriaVirtual;
+    }
+
+    public void setGrabadorTraza(GrabadorTraza grabadorTraza) {
+        this.grabadorTraza = grabadorTraza;
+    }
+
+    public void setManejadorInterrupciones(ManejadorInterrupciones manejadorInterrupciones) {
+        this.manejadorInterrupciones = manejadorInterrupciones;
+    }
+
     public PoliticaReemplazo getPoliticaReemplazo() {
         return politicaReemplazo;
     }
@@ -296,6 +592,7 @@ public class GestorMemoria {
     public enum PoliticaReemplazo {
         LRU, // Least Recently Used
         FIFO, // First In First Out
-        PRIORIDAD // Por prioridad
+        PRIORIDAD, // Por prioridad
+        CLOCK // Segunda oportunidad con bit de referencia, para memorias grandes
     }
 }
@@ -2,20 +2,32 @@ package main.gestor;
 
 import main.modelo.Proceso;
 import main.modelo.EstadoProceso;
+import main.modelo.ObservadorEstado;
 import main.modelo.TipoProceso;
 import main.estructuras.ListaSimple;
 import java.time.LocalDateTime;
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicInteger;
 
-public class GestorProcesos {
+public class GestorProcesos implements Serializable {
 
-    private ListaSimple<Proceso> procesosActivos;
-    private int contadorId;
-    private int maxProcesos;
+    private static final long serialVersionUID = 1L;
+
+    private TablaProcesos procesosActivos; // Indexada por PID, crece sin límite fijo
+    private final AtomicInteger contadorId; // Se reservan PID desde cualquier hilo (ver BuzonProcesos)
+    private int maxProcesos; // Procesos vivos a la vez; el control de admisión decide qué hacer al llegar
+    private int terminadosEnTabla; // Los TERMINADO aún en la tabla no cuentan como vivos
+    private transient ObservadorEstado observadorEstados;
+    private transient ObservadorEstado observadorProcesos; // Contador de terminados + observadorEstados
+
+    // Reciclaje de PCB (0 = desactivado); la reserva se recrea al restaurar un punto de control
+    private int capacidadReciclaje;
+    private transient PoolProcesos poolProcesos;
 
     public GestorProcesos() {
-        this.procesosActivos = new ListaSimple<>();
-        this.contadorId = 1;
-        this.maxProcesos = 100; // Límite por defecto
+        this.procesosActivos = new TablaProcesos();
+        this.contadorId = new AtomicInteger(1);
+        this.maxProcesos = Integer.MAX_VALUE; // Sin límite por defecto
     }
 
     public GestorProcesos(int maxProcesos) {
@@ -24,33 +36,73 @@ public class GestorProcesos {
     }
 
     public Proceso crearProceso(String nombre, int numInstrucciones, TipoProceso tipoProceso, int prioridad) {
+        if (!validarCreacion(nombre, numInstrucciones, tipoProceso)) {
+            return null;
+        }
+
+        // Generar ID único
+        return registrarProceso(reservarId(), nombre, numInstrucciones, tipoProceso, prioridad);
+    }
+
+    // Crea el proceso con un PID ya reservado con reservarId() (por ejemplo, desde otro hilo)
+    public Proceso crearProceso(int id, String nombre, int numInstrucciones, TipoProceso tipoProceso,
+            int prioridad) {
+        if (!validarCreacion(nombre, numInstrucciones, tipoProceso)) {
+            return null;
+        }
+        return registrarProceso(id, nombre, numInstrucciones, tipoProceso, prioridad);
+    }
+
+    // Seguro desde cualquier hilo: cada llamada devuelve un PID distinto
+    public int reservarId() {
+        return contadorId.getAndIncrement();
+    }
+
+    public static boolean sonParametrosValidos(String nombre, int numInstrucciones, TipoProceso tipoProceso) {
+        return nombre != null && !nombre.trim().isEmpty() && numInstrucciones > 0 && tipoProceso != null;
+    }
+
+    private boolean validarCreacion(String nombre, int numInstrucciones, TipoProceso tipoProceso) {
         // Verificar límite de procesos
-        if (procesosActivos.tamaño() >= maxProcesos) {
+        if (getNumeroProcesosVivos() >= maxProcesos) {
             System.err.println("No se puede crear más procesos. Límite alcanzado: " + maxProcesos);
-            return null;
+            return false;
         }
 
         // Validar parámetros
         if (nombre == null || nombre.trim().isEmpty()) {
             System.err.println("El nombre del proceso no puede estar vacío");
-            return null;
+            return false;
         }
 
         if (numInstrucciones <= 0) {
             System.err.println("El número de instrucciones debe ser mayor a 0");
-            return null;
+            return false;
         }
 
         if (tipoProceso == null) {
             System.err.println("El tipo de proceso no puede ser null");
-            return null;
+            return false;
         }
+        return true;
+    }
 
-        // Generar ID único
-        int id = contadorId++;
+    private Proceso registrarProceso(int id, String nombre, int numInstrucciones, TipoProceso tipoProceso,
+            int prioridad) {
+        if (id <= 0 || procesosActivos.obtener(id) != null) {
+            System.err.println("PID no válido o en uso: " + id);
+            return null;
+        }
 
         // Crear el proceso
-        Proceso nuevoProceso = new Proceso(id, nombre, tipoProceso, numInstrucciones, prioridad);
+        PoolProcesos pool = getPoolProcesos();
+        Proceso nuevoProceso = pool != null
+                ? pool.obtener(id, nombre, tipoProceso, numInstrucciones, prioridad)
+                : new Proceso(id, nombre, tipoProceso, numInstrucciones, prioridad);
+        nuevoProceso.setObservador(observadorProcesos());
+        if (observadorEstados != null) {
+            observadorEstados.procesoCreado(nuevoProceso);
+        }
 
         // Agregar a la lista de procesos activos
         procesosActivos.agregar(nuevoProceso);
@@ -68,14 +120,24 @@ public class GestorProcesos {
             return false;
         }
 
-        // Cambiar estado a terminado
+        // Se quita de la tabla y se desconecta antes de marcarlo: un proceso eliminado no
+        // terminó, así que su paso a TERMINADO no debe llegar a las métricas ni al contador
+        boolean eliminado = procesosActivos.contiene(proceso);
+        if (eliminado) {
+            procesosActivos.remover(proceso.getId());
+            proceso.setObservador(null);
+            if (proceso.getEstado() == EstadoProceso.TERMINADO) {
+                terminadosEnTabla--;
+            }
+        }
+
         proceso.setEstado(EstadoProceso.TERMINADO);
         proceso.finalizarEjecucion();
 
-        // Remover de la lista de procesos activos
-        boolean eliminado = procesosActivos.remove(proceso);
-
         if (eliminado) {
+            if (observadorEstados != null) {
+                observadorEstados.procesoEliminado(proceso);
+            }
             System.out.println("Proceso eliminado: " + proceso);
         }
 
@@ -88,13 +150,7 @@ public class GestorProcesos {
     }
 
     public Proceso buscarProcesoPorId(int id) {
-        for (int i = 0; i < procesosActivos.tamaño(); i++) {
-            Proceso proceso = procesosActivos.obtener(i);
-            if (proceso.getId() == id) {
-                return proceso;
-            }
-        }
-        return null;
+        return procesosActivos.obtener(id);
     }
 
     public ListaSimple<Proceso> buscarProcesosPorNombre(String nombre) {
@@ -103,12 +159,11 @@ public class GestorProcesos {
         }
 
         ListaSimple<Proceso> resultado = new ListaSimple<>();
-        for (int i = 0; i < procesosActivos.tamaño(); i++) {
-            Proceso proceso = procesosActivos.obtener(i);
+        procesosActivos.recorrer(proceso -> {
             if (proceso.getNombre().equalsIgnoreCase(nombre)) {
                 resultado.agregar(proceso);
             }
-        }
+        });
         return resultado;
     }
 
@@ -118,12 +173,11 @@ public class GestorProcesos {
         }
 
         ListaSimple<Proceso> resultado = new ListaSimple<>();
-        for (int i = 0; i < procesosActivos.tamaño(); i++) {
-            Proceso proceso = procesosActivos.obtener(i);
+        procesosActivos.recorrer(proceso -> {
             if (proceso.getEstado() == estado) {
                 resultado.agregar(proceso);
             }
-        }
+        });
         return resultado;
     }
 
@@ -133,20 +187,17 @@ public class GestorProcesos {
         }
 
         ListaSimple<Proceso> resultado = new ListaSimple<>();
-        for (int i = 0; i < procesosActivos.tamaño(); i++) {
-            Proceso proceso = procesosActivos.obtener(i);
+        procesosActivos.recorrer(proceso -> {
             if (proceso.getTipo() == tipo) {
                 resultado.agregar(proceso);
             }
-        }
+        });
         return resultado;
     }
 
     public ListaSimple<Proceso> getProcesosActivos() {
-        ListaSimple<Proceso> resultado = new ListaSimple<>();
-        for (int i = 0; i < procesosActivos.tamaño(); i++) {
-            resultado.agregar(procesosActivos.obtener(i));
-        }
+        ListaSimple<Proceso> resultado = new ListaSimple<>(Math.max(1, procesosActivos.tamaño()));
+        procesosActivos.recorrer(resultado::agregar);
         return resultado;
     }
 
@@ -154,15 +205,19 @@ public class GestorProcesos {
         return procesosActivos.tamaño();
     }
 
+    // Procesos en la tabla que todavía no terminaron
+    public int getNumeroProcesosVivos() {
+        return procesosActivos.tamaño() - terminadosEnTabla;
+    }
+
     public int contarProcesosPorEstado(EstadoProceso estado) {
-        int contador = 0;
-        for (int i = 0; i < procesosActivos.tamaño(); i++) {
-            Proceso proceso = procesosActivos.obtener(i);
+        int[] contador = new int[1];
+        procesosActivos.recorrer(proceso -> {
             if (proceso.getEstado() == estado) {
-                contador++;
+                contador[0]++;
             }
-        }
-        return contador;
+        });
+        return contador[0];
     }
 
     public int[] getEstadisticasProcesos() {
@@ -199,19 +254,87 @@ public class GestorProcesos {
         return true;
     }
 
+    // Con el reciclaje activado los PCB eliminados vuelven a la reserva: quien llama
+    // garantiza que ya no están en ninguna cola
     public int limpiarProcesosTerminados() {
-        ListaSimple<Proceso> procesosTerminados = getProcesosPorEstado(EstadoProceso.TERMINADO);
-        int eliminados = 0;
+        int[] eliminados = new int[1];
+
+        procesosActivos.recorrer(proceso -> {
+            if (liberarProcesoTerminado(proceso, true)) {
+                eliminados[0]++;
+            }
+        });
+
+        System.out.println("Procesos terminados eliminados: " + eliminados[0]);
+        return eliminados[0];
+    }
+
+    // O(1) por PID; mismas condiciones que limpiarProcesosTerminados. Sin reciclable el PCB
+    // no vuelve a la reserva aunque esté activada (algo todavía lo referencia)
+    public boolean liberarProcesoTerminado(Proceso proceso, boolean reciclable) {
+        if (proceso.getEstado() != EstadoProceso.TERMINADO || procesosActivos.obtener(proceso.getId()) != proceso) {
+            return false;
+        }
+        procesosActivos.remover(proceso.getId());
+        proceso.setObservador(null);
+        terminadosEnTabla--;
+        if (observadorEstados != null) {
+            observadorEstados.procesoEliminado(proceso);
+        }
+        PoolProcesos pool = getPoolProcesos();
+        if (pool != null && reciclable) {
+            pool.liberar(proceso);
+        }
+        return true;
+    }
+
+    public ObservadorEstado getObservadorEstados() {
+        return observadorEstados;
+    }
+
+    // También se aplica a los procesos ya creados, para poder cambiarlo a mitad de simulación
+    public void setObservadorEstados(ObservadorEstado observadorEstados) {
+        this.observadorEstados = observadorEstados;
+        this.observadorProcesos = null;
+        ObservadorEstado observador = observadorProcesos();
+        procesosActivos.recorrer(proceso -> proceso.setObservador(observador));
+    }
+
+    // Se recrea al restaurar un punto de control (el observador de cada proceso no se serializa)
+    private ObservadorEstado observadorProcesos() {
+        if (observadorProcesos == null) {
+            observadorProcesos = ObservadorEstado.combinar(new ContadorTerminados(), observadorEstados);
+        }
+        return observadorProcesos;
+    }
 
-        for (int i = 0; i < procesosTerminados.tamaño(); i++) {
-            Proceso proceso = procesosTerminados.obtener(i);
-            if (eliminarProceso(proceso)) {
-                eliminados++;
+    private class ContadorTerminados implements ObservadorEstado {
+        @Override
+        public void procesoCreado(Proceso proceso) {
+        }
+
+        @Override
+        public void estadoCambiado(Proceso proceso, EstadoProceso anterior, EstadoProceso nuevo) {
+            if (nuevo == EstadoProceso.TERMINADO) {
+                terminadosEnTabla++;
+            } else if (anterior == EstadoProceso.TERMINADO) {
+                terminadosEnTabla--;
             }
         }
+    }
 
-        System.out.println("Procesos terminados eliminados: " + eliminados);
-        return eliminados;
+    // Activa el reciclaje de PCB con una reserva de hasta capacidadPorHilo procesos por hilo
+    // (0 lo desactiva)
+    public void habilitarReciclaje(int capacidadPorHilo) {
+        this.capacidadReciclaje = Math.max(0, capacidadPorHilo);
+        this.poolProcesos = null;
+    }
+
+    public PoolProcesos getPoolProcesos() {
+        if (poolProcesos == null && capacidadReciclaje > 0) {
+            poolProcesos = new PoolProcesos(capacidadReciclaje);
+        }
+        return poolProcesos;
     }
 
     public int getMaxProcesos() {
@@ -225,20 +348,33 @@ public class GestorProcesos {
     }
 
     public boolean puedeCrearProceso() {
-        return procesosActivos.tamaño() < maxProcesos;
+        return getNumeroProcesosVivos() < maxProcesos;
     }
 
     public int getSiguienteId() {
-        return contadorId;
+        return contadorId.get();
     }
 
     public void reiniciarContadorId() {
-        contadorId = 1;
+        contadorId.set(1);
     }
 
     public void limpiarTodosLosProcesos() {
+        procesosActivos.recorrer(proceso -> {
+            proceso.setObservador(null);
+            if (observadorEstados != null) {
+                observadorEstados.procesoEliminado(proceso);
+            }
+        });
         procesosActivos.limpiar();
+        terminadosEnTabla = 0;
         reiniciarContadorId();
         System.out.println("Todos los procesos han sido eliminados");
     }
+
+    // Qué hace el sistema con un proceso que llega con maxProcesos procesos vivos
+    public enum PoliticaAdmision {
+        RECHAZAR, // No se crea
+        ENCOLAR // Espera (con su PID ya asignado) a que haya lugar
+    }
 }
@@ -6,13 +6,17 @@ import main.planificacion.AlgoritmoPlanificacion;
 import main.planificacion.*;
 import main.estructuras.ListaSimple;
 import main.estructuras.MapaSimple;
+import java.io.Serializable;
 
-public class Planificador {
+public class Planificador implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private GestorMemoria gestorMemoria;
     private GestorColas gestorColas;
     private AlgoritmoPlanificacion algoritmoActual;
     private Proceso procesoEnEjecucion;
+    private int instruccionesAlDespachar; // Para medir el quantum del reparto proporcional
 
     // Algoritmos disponibles
     private MapaSimple<String, AlgoritmoPlanificacion> algoritmos;
@@ -35,36 +39,57 @@ public class Planificador {
         algoritmos.put("ROUND_ROBIN", new RoundRobin(4));
         algoritmos.put("MULTINIVEL", new Multinivel(3));
         algoritmos.put("MULTINIVEL_FEEDBACK", new MultinivelFeedback(3));
+        algoritmos.put("LOTERIA", new Loteria());
+        algoritmos.put("STRIDE", new Stride());
     }
 
     public boolean configurarAlgoritmo(String nombreAlgoritmo) {
         AlgoritmoPlanificacion nuevo = algoritmos.get(nombreAlgoritmo.toUpperCase());
         if (nuevo != null) {
             algoritmoActual = nuevo;
+            gestorColas.setIndiceListos(nuevo instanceof AlgoritmoIndexado ? (AlgoritmoIndexado) nuevo : null);
             System.out.println("Planificador configurado: " + algoritmoActual.getNombre());
             return true;
         }
         return false;
     }
 
-    public Proceso seleccionarSiguiente() {
-        ListaSimple<Proceso> colaListos = gestorColas.getColaListos();
-
-        if (colaListos.estaVacia()) {
-            // Intentar reactivar procesos suspendidos
-            gestorColas.intentarReactivarProcesos();
-            colaListos = gestorColas.getColaListos();
+    // Ciclos por nivel de envejecimiento de Prioridad y SJF (0 = sin envejecimiento). Si uno
+    // de ellos está activo se reconstruye su índice con la nueva escala
+    public void configurarEnvejecimiento(int ciclosPrioridad, int ciclosSJF) {
+        ((Prioridad) algoritmos.get("PRIORIDAD")).setCiclosPorNivel(ciclosPrioridad);
+        ((SJF) algoritmos.get("SJF")).setCiclosPorNivel(ciclosSJF);
+        if (algoritmoActual instanceof AlgoritmoIndexado) {
+            gestorColas.setIndiceListos((AlgoritmoIndexado) algoritmoActual);
         }
+    }
 
-        if (colaListos.estaVacia()) {
-            return null;
+    // Una vez por ciclo, antes de despachar: fija el ciclo con que entran los nuevos listos
+    public void avanzarCiclo(int ciclo) {
+        if (algoritmoActual instanceof AlgoritmoIndexado) {
+            ((AlgoritmoIndexado) algoritmoActual).avanzarCiclo(ciclo);
         }
+    }
 
-        // Reordenar cola según el algoritmo
-        algoritmoActual.reordenarCola(colaListos);
+    public Proceso seleccionarSiguiente() {
+        Proceso siguiente;
+        if (algoritmoActual instanceof AlgoritmoIndexado) {
+            // El índice ya está ordenado: ni copia de la cola ni reordenamiento
+            siguiente = ((AlgoritmoIndexado) algoritmoActual).verSiguiente();
+        } else {
+            // Los suspendidos vuelven a memoria por el planificador a medio plazo
+            ListaSimple<Proceso> colaListos = gestorColas.getColaListos();
 
-        // Seleccionar siguiente proceso
-        Proceso siguiente = algoritmoActual.seleccionarSiguiente(colaListos);
+            if (colaListos.estaVacia()) {
+                return null;
+            }
+
+            // Reordenar cola según el algoritmo
+            algoritmoActual.reordenarCola(colaListos);
+
+            // Seleccionar siguiente proceso
+            siguiente = algoritmoActual.seleccionarSiguiente(colaListos);
+        }
 
         // Verificar que el proceso esté en memoria principal
         if (siguiente != null && !gestorMemoria.estaEnMemoriaPrincipal(siguiente)) {
@@ -88,12 +113,17 @@ public class Planificador {
                 return false;
             }
 
+            if (algoritmoActual instanceof AlgoritmoIndexado) {
+                ((AlgoritmoIndexado) algoritmoActual).procesoDespachado(proceso);
+            }
+
             // Remover de cola de listos
             gestorColas.removerDeListos(proceso);
 
             // Cambiar estado a ejecución
             proceso.setEstado(EstadoProceso.EJECUCION);
             procesoEnEjecucion = proceso;
+            instruccionesAlDespachar = proceso.getInstruccionesEjecutadas();
 
             System.out.println("Proceso en ejecución: " + proceso.getNombre() +
                     " (Dirección: " + gestorMemoria.obtenerDireccionMemoria(proceso) + ")");
@@ -102,9 +132,90 @@ public class Planificador {
         return false;
     }
 
+    // Prioridad con desalojo: ¿hay un listo que deba quitarle la CPU al actual? O(1)
+    public boolean debeDesalojar() {
+        if (procesoEnEjecucion == null || !(algoritmoActual instanceof Prioridad)) {
+            return false;
+        }
+        Prioridad prioridad = (Prioridad) algoritmoActual;
+        return prioridad.isApropiativo() && prioridad.debeDesalojar(procesoEnEjecucion);
+    }
+
+    // Round Robin y reparto proporcional: el proceso en ejecución agotó su quantum y hay otro listo
+    public boolean quantumAgotado() {
+        if (procesoEnEjecucion == null) {
+            return false;
+        }
+        int quantum;
+        if (algoritmoActual instanceof AlgoritmoProporcional) {
+            quantum = ((AlgoritmoProporcional) algoritmoActual).getQuantum();
+        } else if (algoritmoActual instanceof RoundRobin) {
+            quantum = ((RoundRobin) algoritmoActual).getQuantum();
+        } else {
+            return false;
+        }
+        int ejecutadas = procesoEnEjecucion.getInstruccionesEjecutadas() - instruccionesAlDespachar;
+        return ejecutadas >= quantum && gestorColas.getNumeroListos() > 0;
+    }
+
+    // El proceso en ejecución vuelve a la cola de listos; la CPU la libera quien llama
+    public Proceso desalojarProceso() {
+        if (procesoEnEjecucion != null) {
+            Proceso desalojado = procesoEnEjecucion;
+            cobrarUso(desalojado);
+            procesoEnEjecucion = null;
+            gestorColas.devolverAListos(desalojado);
+
+            System.out.println("Proceso desalojado: " + desalojado.getNombre());
+            return desalojado;
+        }
+        return null;
+    }
+
+    // Instrucciones por turno de Round Robin; al agotarse el motor desaloja (ver quantumAgotado)
+    public void configurarQuantumRR(int quantum) {
+        ((RoundRobin) algoritmos.get("ROUND_ROBIN")).setQuantum(Math.max(1, quantum));
+    }
+
+    // Multinivel fija sus colas al construirse: se reemplaza la instancia y, si es la activa,
+    // también el algoritmo actual (sus colas se rehacen desde la de listos en cada selección)
+    public void configurarNivelesMultinivel(int niveles) {
+        Multinivel nuevo = new Multinivel(Math.max(1, niveles));
+        if (algoritmoActual == algoritmos.get("MULTINIVEL")) {
+            algoritmoActual = nuevo;
+        }
+        algoritmos.put("MULTINIVEL", nuevo);
+    }
+
+    public void setPrioridadApropiativa(boolean apropiativa) {
+        ((Prioridad) algoritmos.get("PRIORIDAD")).setApropiativo(apropiativa);
+    }
+
+    public void configurarRepartoProporcional(int quantumLoteria, int boletosLoteria, int quantumStride,
+            int boletosStride) {
+        ((Loteria) algoritmos.get("LOTERIA")).configurar(quantumLoteria, boletosLoteria);
+        ((Stride) algoritmos.get("STRIDE")).configurar(quantumStride, boletosStride);
+        if (algoritmoActual instanceof AlgoritmoProporcional) {
+            gestorColas.setIndiceListos((AlgoritmoIndexado) algoritmoActual);
+        }
+    }
+
+    // Reparto proporcional: avisa al algoritmo de lo que usó de su turno quien deja la CPU
+    private void cobrarUso(Proceso proceso) {
+        if (algoritmoActual instanceof AlgoritmoProporcional) {
+            int usadas = proceso.getInstruccionesEjecutadas() - instruccionesAlDespachar;
+            ((AlgoritmoProporcional) algoritmoActual).procesoLiberado(proceso, usadas);
+        }
+    }
+
+    public void setSemilla(long semilla) {
+        ((Loteria) algoritmos.get("LOTERIA")).setSemilla(semilla);
+    }
+
     public Proceso finalizarEjecucion() {
         if (procesoEnEjecucion != null) {
             Proceso terminado = procesoEnEjecucion;
+            cobrarUso(terminado);
 
             // Agregar a cola de terminados
             gestorColas.agregarATerminados(terminado);
@@ -121,6 +232,7 @@ public class Planificador {
     public Proceso bloquearProceso() {
         if (procesoEnEjecucion != null) {
             Proceso bloqueado = procesoEnEjecucion;
+            cobrarUso(bloqueado);
 
             // Agregar a cola de bloqueados
             gestorColas.agregarABloqueados(bloqueado);
@@ -135,31 +247,16 @@ public class Planificador {
     }
 
     public boolean desbloquearProceso(Proceso proceso) {
-        if (proceso.getEstado() == EstadoProceso.BLOQUEADO) {
-            // Remover de cola de bloqueados
-            gestorColas.removerDeBloqueados(proceso);
-
-            // Agregar a cola de listos
-            gestorColas.agregarAListos(proceso);
-
+        // Mover de bloqueados (o bloqueados suspendidos) a listos
+        if (gestorColas.desbloquearProceso(proceso)) {
+            proceso.setEnOperacionIO(false);
+            proceso.setCiclosTranscurridosIO(0);
             System.out.println("Proceso desbloqueado: " + proceso.getNombre());
             return true;
         }
         return false;
     }
 
-    public void gestionarMemoria() {
-        // Gestionar memoria automáticamente
-        gestorColas.gestionarMemoria();
-
-        // Verificar si el proceso en ejecución necesita ser suspendido
-        if (procesoEnEjecucion != null && gestorMemoria.getMemoriaDisponible() < 5) {
-            System.out.println("Memoria crítica, suspendiendo proceso en ejecución: " + procesoEnEjecucion.getNombre());
-            gestorColas.suspenderProceso(procesoEnEjecucion);
-            procesoEnEjecucion = null;
-        }
-    }
-
     public Proceso getProcesoEnEjecucion() {
         return procesoEnEjecucion;
     }
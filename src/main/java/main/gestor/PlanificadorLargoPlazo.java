@@ -0,0 +1,170 @@
+package main.gestor;
+
+import main.estructuras.ColaSimple;
+import main.modelo.EstadoProceso;
+import main.modelo.Proceso;
+import java.io.Serializable;
+
+// Planificador a largo plazo: los procesos NUEVOS esperan en la reserva de trabajos y se
+// admiten (se les asigna memoria y pasan a la cola de listos) una vez por ciclo, en orden
+// de llegada y en lotes acotados. Un proceso sólo se admite si no se superó el grado de
+// multiprogramación y si cabe en la memoria libre sin tocar la reserva; mientras haya
+// listos suspendidos esperando volver a memoria, ellos tienen preferencia. Así una ráfaga
+// de llegadas espera aquí en lugar de forzar suspensiones y reactivaciones en cadena.
+public class PlanificadorLargoPlazo implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private GestorColas gestorColas;
+    private GestorMemoria gestorMemoria;
+    private PlanificadorMedioPlazo planificadorMedioPlazo; // null = sin umbral de reactivación
+
+    private ColaSimple<Proceso> reservaTrabajos;
+
+    private int gradoMultiprogramacion; // Procesos en memoria principal; 0 = sin límite
+    private int admisionesPorCiclo;
+    private int reservaMemoriaKB; // Memoria que se deja libre para reactivaciones y crecimiento
+
+    // Estadísticas
+    private long totalAdmitidos;
+    private long aplazadosPorGrado;
+    private long aplazadosPorMemoria;
+    private long aplazadosPorSuspendidos;
+    private int maximoEnReserva;
+
+    public PlanificadorLargoPlazo(GestorColas gestorColas, GestorMemoria gestorMemoria) {
+        this.gestorColas = gestorColas;
+        this.gestorMemoria = gestorMemoria;
+        this.reservaTrabajos = new ColaSimple<>();
+        this.gradoMultiprogramacion = 0;
+        this.admisionesPorCiclo = 16;
+        this.reservaMemoriaKB = 0;
+    }
+
+    public boolean encolar(Proceso proceso) {
+        if (proceso == null || proceso.getEstado() != EstadoProceso.NUEVO) {
+            return false;
+        }
+        reservaTrabajos.encolar(proceso);
+        maximoEnReserva = Math.max(maximoEnReserva, reservaTrabajos.tamaño());
+        return true;
+    }
+
+    // Una vez por ciclo; devuelve cuántos procesos se admitieron. El primero de la reserva
+    // que no cumple las políticas detiene el lote, así que ninguno se adelanta a otro
+    public int admitir() {
+        int admitidos = 0;
+        while (admitidos < admisionesPorCiclo && !reservaTrabajos.estaVacia()) {
+            Proceso proceso = reservaTrabajos.verFrente();
+            if (proceso.getEstado() != EstadoProceso.NUEVO) {
+                // Se eliminó mientras esperaba
+                reservaTrabajos.desencolar();
+                continue;
+            }
+            if (!puedeAdmitir(proceso)) {
+                break;
+            }
+            reservaTrabajos.desencolar();
+            if (gestorColas.agregarAListos(proceso)) {
+                System.out.println("Proceso admitido: " + proceso.getNombre());
+            } else {
+                System.out.println("Proceso admitido pero suspendido por falta de memoria: " + proceso.getNombre());
+            }
+            admitidos++;
+        }
+        totalAdmitidos += admitidos;
+        return admitidos;
+    }
+
+    private boolean puedeAdmitir(Proceso proceso) {
+        int enMemoria = gestorMemoria.getProcesosEnMemoriaPrincipal();
+        // Con la memoria vacía se admite igual: un proceso más grande que la memoria libre
+        // no puede quedarse esperando para siempre
+        if (enMemoria == 0) {
+            return true;
+        }
+        if (gradoMultiprogramacion > 0 && enMemoria >= gradoMultiprogramacion) {
+            aplazadosPorGrado++;
+            return false;
+        }
+        if (gestorColas.getNumeroListosSuspendidos() > 0) {
+            aplazadosPorSuspendidos++;
+            return false;
+        }
+        // Un proceso nuevo debe dejar tanta memoria libre como un suspendido que se reactiva;
+        // si no, cada admisión le daría trabajo al planificador a medio plazo
+        int necesaria = gestorMemoria.calcularTamanioProceso(proceso) + reservaMemoriaKB;
+        if (planificadorMedioPlazo != null) {
+            necesaria += planificadorMedioPlazo.getUmbralReactivacionKB();
+        }
+        if (necesaria > gestorMemoria.getMemoriaDisponible()) {
+            aplazadosPorMemoria++;
+            return false;
+        }
+        return true;
+    }
+
+    public void configurar(int gradoMultiprogramacion, int admisionesPorCiclo, int reservaMemoriaKB) {
+        if (gradoMultiprogramacion >= 0) {
+            this.gradoMultiprogramacion = gradoMultiprogramacion;
+        }
+        if (admisionesPorCiclo > 0) {
+            this.admisionesPorCiclo = admisionesPorCiclo;
+        }
+        if (reservaMemoriaKB >= 0) {
+            this.reservaMemoriaKB = reservaMemoriaKB;
+        }
+    }
+
+    public void setPlanificadorMedioPlazo(PlanificadorMedioPlazo planificadorMedioPlazo) {
+        this.planificadorMedioPlazo = planificadorMedioPlazo;
+    }
+
+    public int getEnEspera() {
+        return reservaTrabajos.tamaño();
+    }
+
+    public boolean hayEnEspera() {
+        return !reservaTrabajos.estaVacia();
+    }
+
+    public int getGradoMultiprogramacion() {
+        return gradoMultiprogramacion;
+    }
+
+    public int getAdmisionesPorCiclo() {
+        return admisionesPorCiclo;
+    }
+
+    public int getReservaMemoriaKB() {
+        return reservaMemoriaKB;
+    }
+
+    public long getTotalAdmitidos() {
+        return totalAdmitidos;
+    }
+
+    public long getTotalAplazamientos() {
+        return aplazadosPorGrado + aplazadosPorMemoria + aplazadosPorSuspendidos;
+    }
+
+    public int getMaximoEnReserva() {
+        return maximoEnReserva;
+    }
+
+    public String obtenerInformacionDetallada() {
+        StringBuilder info = new StringBuilder();
+        info.append("=== PLANIFICADOR A LARGO PLAZO ===\n");
+        info.append("En reserva: ").append(reservaTrabajos.tamaño())
+                .append(" (máximo ").append(maximoEnReserva).append(")")
+                .append(" | Admitidos: ").append(totalAdmitidos).append("\n");
+        info.append("Grado de multiprogramación: ").append(gestorMemoria.getProcesosEnMemoriaPrincipal())
+                .append(gradoMultiprogramacion > 0 ? "/" + gradoMultiprogramacion : "")
+                .append(" | Admisiones por ciclo: ").append(admisionesPorCiclo)
+                .append(" | Reserva de memoria: ").append(reservaMemoriaKB).append(" KB\n");
+        info.append("Aplazamientos - Grado: ").append(aplazadosPorGrado)
+                .append(" | Memoria: ").append(aplazadosPorMemoria)
+                .append(" | Suspendidos: ").append(aplazadosPorSuspendidos).append("\n");
+        return info.toString();
+    }
+}
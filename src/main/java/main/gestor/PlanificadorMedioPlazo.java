@@ -0,0 +1,282 @@
+package main.gestor;
+
+import main.modelo.EstadoProceso;
+import main.modelo.Proceso;
+import java.io.Serializable;
+
+// Planificador a medio plazo: decide una vez por ciclo qué procesos salen a memoria
+// secundaria y cuáles vuelven. Usa dos umbrales (histéresis): con menos de
+// umbralSuspensionKB libres suspende víctimas hasta tener umbralReactivacionKB, y sólo
+// reactiva un proceso si después de traerlo siguen libres umbralReactivacionKB. Entre los
+// dos umbrales no hace nada, así que un proceso recién movido no provoca el movimiento
+// contrario en el ciclo siguiente.
+//
+// Cada intercambio ocupa el canal de intercambio costoIntercambioCiclos ciclos y, además,
+// no se hacen más de maxIntercambiosPorVentana por ventana. Un proceso que vuelve a memoria
+// no pasa a listos hasta que termina su transferencia, así que espera ese coste antes de
+// poder ejecutarse. Un proceso que cambió de memoria no vuelve a moverse hasta que pase una
+// ventana (residencia mínima); las idas y vueltas dentro de una ventana se cuentan como
+// thrashing.
+public class PlanificadorMedioPlazo implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private GestorColas gestorColas;
+    private GestorMemoria gestorMemoria;
+
+    private int umbralSuspensionKB;
+    private int umbralReactivacionKB;
+    private int costoIntercambioCiclos;
+    private int maxIntercambiosPorVentana; // 0 = sin límite
+    private int ventanaCiclos;
+
+    private int cicloCanalLibre; // Primer ciclo en que el canal acepta otro intercambio
+    private Proceso enTransito; // Proceso que se está trayendo a memoria (null = ninguno)
+    private int cicloFinTransito;
+    private int ventanaActual;
+    private int intercambiosVentana;
+    private int vueltasVentana;
+
+    // Estadísticas
+    private long totalSuspensiones;
+    private long totalReactivaciones;
+    private long ciclosIntercambio;
+    private long ciclosEsperaReactivacion;
+    private long aplazadosPorCanal;
+    private long aplazadosPorResidencia;
+    private long vueltasRapidas;
+    private int ventanasConThrashing;
+
+    public PlanificadorMedioPlazo(GestorColas gestorColas, GestorMemoria gestorMemoria) {
+        this.gestorColas = gestorColas;
+        this.gestorMemoria = gestorMemoria;
+        this.umbralSuspensionKB = 10;
+        this.umbralReactivacionKB = 20;
+        this.costoIntercambioCiclos = 5; // Un acceso a disco (2-4 ciclos y búsqueda) más la transferencia
+        this.maxIntercambiosPorVentana = 0;
+        this.ventanaCiclos = 50;
+        this.ventanaActual = -1;
+    }
+
+    public void gestionar(int ciclo) {
+        avanzarVentana(ciclo);
+        completarTransito(ciclo);
+
+        if (gestorMemoria.getMemoriaDisponible() < umbralSuspensionKB) {
+            // Se libera hasta el umbral alto para no volver a caer enseguida
+            while (gestorMemoria.getMemoriaDisponible() < umbralReactivacionKB) {
+                if (!suspenderVictima(ciclo)) {
+                    break;
+                }
+            }
+            return;
+        }
+
+        if (enTransito != null) {
+            return;
+        }
+        Proceso candidato = gestorColas.candidatoReactivacion();
+        while (candidato != null && puedeReactivar(candidato) && reactivar(candidato, ciclo)) {
+            candidato = gestorColas.candidatoReactivacion();
+        }
+    }
+
+    private void avanzarVentana(int ciclo) {
+        int ventana = ciclo / ventanaCiclos;
+        if (ventana == ventanaActual) {
+            return;
+        }
+        if (esThrashing()) {
+            ventanasConThrashing++;
+        }
+        ventanaActual = ventana;
+        intercambiosVentana = 0;
+        vueltasVentana = 0;
+    }
+
+    private boolean puedeReactivar(Proceso proceso) {
+        int libreDespues = gestorMemoria.getMemoriaDisponible() - gestorMemoria.calcularTamanioProceso(proceso);
+        if (libreDespues >= umbralReactivacionKB) {
+            return true;
+        }
+        // Sin ningún listo en memoria la CPU quedaría ociosa: basta con que quepa
+        return gestorColas.getNumeroListos() == 0 && libreDespues >= 0;
+    }
+
+    // Los candidatos recién movidos o que no se pueden suspender se saltan y se sigue con el
+    // siguiente de la política; sólo se aplaza si ninguno sirve
+    private boolean suspenderVictima(int ciclo) {
+        if (!canalDisponible(ciclo)) {
+            return false;
+        }
+        boolean[] saltoRecientes = new boolean[1];
+        Proceso victima = gestorMemoria.seleccionarVictima(proceso -> {
+            EstadoProceso estado = proceso.getEstado();
+            if (estado != EstadoProceso.LISTO && estado != EstadoProceso.BLOQUEADO) {
+                return false;
+            }
+            if (esReciente(proceso, ciclo)) {
+                saltoRecientes[0] = true;
+                return false;
+            }
+            return true;
+        });
+        if (victima == null) {
+            if (saltoRecientes[0]) {
+                aplazadosPorResidencia++;
+            }
+            return false;
+        }
+        if (!gestorColas.suspenderProceso(victima)) {
+            return false;
+        }
+        registrarIntercambio(victima, ciclo);
+        totalSuspensiones++;
+        return true;
+    }
+
+    // Inicia la transferencia; retorna true sólo si el proceso ya quedó en memoria (coste 0)
+    private boolean reactivar(Proceso proceso, int ciclo) {
+        if (!canalDisponible(ciclo)) {
+            return false;
+        }
+        // Un listo recién suspendido sólo vuelve antes de tiempo si la CPU se quedaría sin trabajo
+        if (esReciente(proceso, ciclo) && gestorColas.getNumeroListos() > 0) {
+            aplazadosPorResidencia++;
+            return false;
+        }
+        registrarIntercambio(proceso, ciclo);
+        enTransito = proceso;
+        cicloFinTransito = cicloCanalLibre;
+        completarTransito(ciclo);
+        return enTransito == null;
+    }
+
+    // Al acabar la transferencia el proceso entra en memoria y en la cola de listos. Si
+    // mientras tanto lo eliminaron o ya no cabe, sigue suspendido y se reintentará
+    private void completarTransito(int ciclo) {
+        if (enTransito == null || ciclo < cicloFinTransito) {
+            return;
+        }
+        Proceso proceso = enTransito;
+        enTransito = null;
+        if (gestorColas.reactivarProceso(proceso)) {
+            totalReactivaciones++;
+            ciclosEsperaReactivacion += costoIntercambioCiclos;
+        }
+    }
+
+    private boolean canalDisponible(int ciclo) {
+        if (ciclo < cicloCanalLibre
+                || (maxIntercambiosPorVentana > 0 && intercambiosVentana >= maxIntercambiosPorVentana)) {
+            aplazadosPorCanal++;
+            return false;
+        }
+        return true;
+    }
+
+    private boolean esReciente(Proceso proceso, int ciclo) {
+        int ultimo = proceso.getCicloUltimoIntercambio();
+        return ultimo >= 0 && ciclo - ultimo < ventanaCiclos;
+    }
+
+    private void registrarIntercambio(Proceso proceso, int ciclo) {
+        if (esReciente(proceso, ciclo)) {
+            vueltasRapidas++;
+            vueltasVentana++;
+        }
+        proceso.setCicloUltimoIntercambio(ciclo);
+        cicloCanalLibre = Math.max(cicloCanalLibre, ciclo) + costoIntercambioCiclos;
+        ciclosIntercambio += costoIntercambioCiclos;
+        intercambiosVentana++;
+    }
+
+    // En la ventana en curso, al menos la mitad de los intercambios (y no menos de dos)
+    // deshicieron uno anterior de la misma ventana
+    public boolean esThrashing() {
+        return vueltasVentana >= 2 && vueltasVentana * 2 >= intercambiosVentana;
+    }
+
+    public void configurar(int umbralSuspensionKB, int umbralReactivacionKB, int costoIntercambioCiclos,
+            int maxIntercambiosPorVentana, int ventanaCiclos) {
+        if (umbralSuspensionKB < 0 || umbralReactivacionKB < umbralSuspensionKB) {
+            throw new IllegalArgumentException("Umbrales no válidos: suspensión " + umbralSuspensionKB
+                    + " KB, reactivación " + umbralReactivacionKB + " KB");
+        }
+        if (costoIntercambioCiclos < 0 || maxIntercambiosPorVentana < 0 || ventanaCiclos < 1) {
+            throw new IllegalArgumentException("Parámetros de intercambio no válidos");
+        }
+        this.umbralSuspensionKB = umbralSuspensionKB;
+        this.umbralReactivacionKB = umbralReactivacionKB;
+        this.costoIntercambioCiclos = costoIntercambioCiclos;
+        this.maxIntercambiosPorVentana = maxIntercambiosPorVentana;
+        this.ventanaCiclos = ventanaCiclos;
+        this.ventanaActual = -1;
+    }
+
+    public int getUmbralSuspensionKB() {
+        return umbralSuspensionKB;
+    }
+
+    public int getUmbralReactivacionKB() {
+        return umbralReactivacionKB;
+    }
+
+    public int getCostoIntercambioCiclos() {
+        return costoIntercambioCiclos;
+    }
+
+    public long getTotalSuspensiones() {
+        return totalSuspensiones;
+    }
+
+    public long getTotalReactivaciones() {
+        return totalReactivaciones;
+    }
+
+    public long getCiclosIntercambio() {
+        return ciclosIntercambio;
+    }
+
+    public long getCiclosEsperaReactivacion() {
+        return ciclosEsperaReactivacion;
+    }
+
+    public Proceso getEnTransito() {
+        return enTransito;
+    }
+
+    public long getVueltasRapidas() {
+        return vueltasRapidas;
+    }
+
+    public int getVentanasConThrashing() {
+        return ventanasConThrashing;
+    }
+
+    // Fracción de intercambios que deshicieron uno reciente (0 = ninguna ida y vuelta)
+    public double getTasaThrashing() {
+        long total = totalSuspensiones + totalReactivaciones;
+        return total > 0 ? (double) vueltasRapidas / total : 0;
+    }
+
+    public String obtenerInformacionDetallada() {
+        StringBuilder info = new StringBuilder();
+        info.append("=== PLANIFICADOR A MEDIO PLAZO ===\n");
+        info.append("Umbrales: suspender < ").append(umbralSuspensionKB).append(" KB, reactivar con ")
+                .append(umbralReactivacionKB).append(" KB libres\n");
+        info.append("Suspensiones: ").append(totalSuspensiones)
+                .append(" | Reactivaciones: ").append(totalReactivaciones)
+                .append(" | Ciclos de intercambio: ").append(ciclosIntercambio)
+                .append(" (").append(costoIntercambioCiclos).append(" por intercambio)\n");
+        info.append("Ciclos esperando reactivación: ").append(ciclosEsperaReactivacion)
+                .append(" | En tránsito: ").append(enTransito != null ? enTransito.getNombre() : "ninguno")
+                .append("\n");
+        info.append("Aplazados - Canal: ").append(aplazadosPorCanal)
+                .append(" | Residencia: ").append(aplazadosPorResidencia).append("\n");
+        info.append(String.format("Idas y vueltas: %d (%.1f%%) | Ventanas de %d ciclos con thrashing: %d%s\n",
+                vueltasRapidas, getTasaThrashing() * 100, ventanaCiclos, ventanasConThrashing,
+                esThrashing() ? " | THRASHING" : ""));
+        return info.toString();
+    }
+}
@@ -0,0 +1,120 @@
+package main.gestor;
+
+import main.modelo.EstadoProceso;
+import main.modelo.Proceso;
+import main.modelo.TipoProceso;
+import java.util.concurrent.atomic.LongAdder;
+
+// Reciclaje de PCB para simulaciones largas sin interfaz: los procesos terminados vuelven a
+// una reserva por hilo y la siguiente creación en ese hilo reutiliza el objeto en lugar de
+// asignar uno nuevo. Cada hilo usa su propia reserva, así que obtener y liberar no se
+// sincronizan; sólo los contadores son compartidos.
+//
+// Quien libera un proceso garantiza que nada más lo referencia (colas, interrupciones
+// pendientes, la interfaz): desde ese momento el objeto puede ser otro proceso.
+public class PoolProcesos {
+
+    private final int capacidadPorHilo;
+    private final ThreadLocal<Reserva> reservas;
+
+    private final LongAdder creados;
+    private final LongAdder reutilizados;
+    private final LongAdder liberados;
+    private final LongAdder descartados;
+
+    public PoolProcesos(int capacidadPorHilo) {
+        if (capacidadPorHilo <= 0) {
+            throw new IllegalArgumentException("La capacidad debe ser mayor a 0");
+        }
+        this.capacidadPorHilo = capacidadPorHilo;
+        this.reservas = ThreadLocal.withInitial(() -> new Reserva(capacidadPorHilo));
+        this.creados = new LongAdder();
+        this.reutilizados = new LongAdder();
+        this.liberados = new LongAdder();
+        this.descartados = new LongAdder();
+    }
+
+    public Proceso obtener(int id, String nombre, TipoProceso tipo, int numInstrucciones, int prioridad) {
+        Reserva reserva = reservas.get();
+        if (reserva.cantidad == 0) {
+            creados.increment();
+            return new Proceso(id, nombre, tipo, numInstrucciones, prioridad);
+        }
+        Proceso proceso = reserva.libres[--reserva.cantidad];
+        reserva.libres[reserva.cantidad] = null;
+        proceso.reiniciar(id, nombre, tipo, numInstrucciones, prioridad);
+        reutilizados.increment();
+        return proceso;
+    }
+
+    // Sólo acepta procesos terminados. Al liberarlo se desconecta del observador y queda en
+    // NUEVO, así que liberar dos veces el mismo objeto se rechaza; el resto del PCB se
+    // reinicia al reutilizarlo
+    public boolean liberar(Proceso proceso) {
+        if (proceso == null || proceso.getEstado() != EstadoProceso.TERMINADO) {
+            return false;
+        }
+        proceso.setObservador(null);
+        proceso.setEstado(EstadoProceso.NUEVO);
+        liberados.increment();
+
+        Reserva reserva = reservas.get();
+        if (reserva.cantidad == reserva.libres.length) {
+            descartados.increment(); // Reserva llena: el objeto queda para el recolector
+            return true;
+        }
+        reserva.libres[reserva.cantidad++] = proceso;
+        return true;
+    }
+
+    public int getCapacidadPorHilo() {
+        return capacidadPorHilo;
+    }
+
+    // Procesos disponibles en la reserva del hilo actual
+    public int getDisponibles() {
+        return reservas.get().cantidad;
+    }
+
+    public long getCreados() {
+        return creados.sum();
+    }
+
+    public long getReutilizados() {
+        return reutilizados.sum();
+    }
+
+    public long getLiberados() {
+        return liberados.sum();
+    }
+
+    public long getDescartados() {
+        return descartados.sum();
+    }
+
+    public double getTasaReutilizacion() {
+        long total = creados.sum() + reutilizados.sum();
+        return total > 0 ? (double) reutilizados.sum() / total * 100 : 0;
+    }
+
+    public String obtenerInformacionDetallada() {
+        StringBuilder info = new StringBuilder();
+        info.append("=== RECICLAJE DE PROCESOS ===\n");
+        info.append("PCB nuevos: ").append(getCreados())
+                .append(" | Reutilizados: ").append(getReutilizados())
+                .append(String.format(" (%.1f%%)", getTasaReutilizacion())).append("\n");
+        info.append("Liberados: ").append(getLiberados())
+                .append(" | Descartados (reserva llena): ").append(getDescartados())
+                .append(" | Disponibles: ").append(getDisponibles()).append("/").append(capacidadPorHilo).append("\n");
+        return info.toString();
+    }
+
+    private static class Reserva {
+        final Proceso[] libres;
+        int cantidad;
+
+        Reserva(int capacidad) {
+            this.libres = new Proceso[capacidad];
+        }
+    }
+}
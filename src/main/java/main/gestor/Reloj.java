@@ -2,15 +2,20 @@ package main.gestor;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 
-public class Reloj {
+public class Reloj implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private int cicloActual;
     private long tiempoInicio;
     private int duracionCicloMs;
 
     // Formato para mostrar tiempo
-    private DateTimeFormatter formatoTiempo;
+    private transient DateTimeFormatter formatoTiempo;
 
     public Reloj(int duracionCicloMs) {
         this.cicloActual = 0;
@@ -74,4 +79,9 @@ public class Reloj {
 
         System.out.println("Reloj reiniciado");
     }
+
+    private void readObject(ObjectInputStream entrada) throws IOException, ClassNotFoundException {
+        entrada.defaultReadObject();
+        formatoTiempo = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+    }
 }
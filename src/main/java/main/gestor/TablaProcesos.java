@@ -0,0 +1,172 @@
+package main.gestor;
+
+import main.modelo.Proceso;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.function.Consumer;
+
+// Tabla de procesos indexada por PID en bloques de 4096 entradas. El PID fija la posición
+// (bloque y desplazamiento), así que agregar, buscar y quitar son O(1) y un proceso nunca
+// cambia de lugar. Crecer sólo agrega bloques nuevos y, si hace falta, agranda el
+// directorio de bloques: las entradas existentes nunca se copian. Un bloque que se queda
+// sin procesos se suelta, así que la memoria sigue a los procesos vivos y no a los PID
+// que ya se usaron.
+public class TablaProcesos implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final int BITS_BLOQUE = 12;
+    private static final int TAMANIO_BLOQUE = 1 << BITS_BLOQUE;
+    private static final int MASCARA_BLOQUE = TAMANIO_BLOQUE - 1;
+    private static final int DIRECTORIO_INICIAL = 16;
+
+    // Se serializan sólo los procesos vivos (ver writeObject)
+    private transient Proceso[][] bloques;
+    private transient int[] vivosPorBloque;
+    private transient int tamanio;
+    private transient int bloquesReservados;
+
+    public TablaProcesos() {
+        inicializar();
+    }
+
+    private void inicializar() {
+        bloques = new Proceso[DIRECTORIO_INICIAL][];
+        vivosPorBloque = new int[DIRECTORIO_INICIAL];
+        tamanio = 0;
+        bloquesReservados = 0;
+    }
+
+    // false si ya hay un proceso con ese PID
+    public boolean agregar(Proceso proceso) {
+        int pid = proceso.getId();
+        if (pid <= 0) {
+            throw new IllegalArgumentException("PID no válido: " + pid);
+        }
+        int indiceBloque = (pid - 1) >>> BITS_BLOQUE;
+        if (indiceBloque >= bloques.length) {
+            crecerDirectorio(indiceBloque);
+        }
+        Proceso[] bloque = bloques[indiceBloque];
+        if (bloque == null) {
+            bloque = new Proceso[TAMANIO_BLOQUE];
+            bloques[indiceBloque] = bloque;
+            bloquesReservados++;
+        }
+        int posicion = (pid - 1) & MASCARA_BLOQUE;
+        if (bloque[posicion] != null) {
+            return false;
+        }
+        bloque[posicion] = proceso;
+        vivosPorBloque[indiceBloque]++;
+        tamanio++;
+        return true;
+    }
+
+    // Sólo copia las referencias a los bloques, nunca los procesos
+    private void crecerDirectorio(int indiceBloque) {
+        int nuevo = bloques.length;
+        while (nuevo <= indiceBloque) {
+            nuevo *= 2;
+        }
+        Proceso[][] directorio = new Proceso[nuevo][];
+        System.arraycopy(bloques, 0, directorio, 0, bloques.length);
+        int[] vivos = new int[nuevo];
+        System.arraycopy(vivosPorBloque, 0, vivos, 0, vivosPorBloque.length);
+        bloques = directorio;
+        vivosPorBloque = vivos;
+    }
+
+    public Proceso obtener(int pid) {
+        if (pid <= 0) {
+            return null;
+        }
+        int indiceBloque = (pid - 1) >>> BITS_BLOQUE;
+        if (indiceBloque >= bloques.length || bloques[indiceBloque] == null) {
+            return null;
+        }
+        return bloques[indiceBloque][(pid - 1) & MASCARA_BLOQUE];
+    }
+
+    // El mismo objeto (no sólo el mismo PID) está en la tabla
+    public boolean contiene(Proceso proceso) {
+        return proceso != null && obtener(proceso.getId()) == proceso;
+    }
+
+    public Proceso remover(int pid) {
+        Proceso proceso = obtener(pid);
+        if (proceso == null) {
+            return null;
+        }
+        int indiceBloque = (pid - 1) >>> BITS_BLOQUE;
+        bloques[indiceBloque][(pid - 1) & MASCARA_BLOQUE] = null;
+        tamanio--;
+        if (--vivosPorBloque[indiceBloque] == 0) {
+            bloques[indiceBloque] = null;
+            bloquesReservados--;
+        }
+        return proceso;
+    }
+
+    // En orden de PID. La acción puede quitar de la tabla el proceso que recibe
+    public void recorrer(Consumer<Proceso> accion) {
+        for (int b = 0; b < bloques.length; b++) {
+            Proceso[] bloque = bloques[b];
+            if (bloque == null) {
+                continue;
+            }
+            for (int i = 0; i < TAMANIO_BLOQUE; i++) {
+                Proceso proceso = bloque[i];
+                if (proceso != null) {
+                    accion.accept(proceso);
+                }
+            }
+        }
+    }
+
+    public int tamaño() {
+        return tamanio;
+    }
+
+    public boolean estaVacia() {
+        return tamanio == 0;
+    }
+
+    public void limpiar() {
+        inicializar();
+    }
+
+    public int getBloquesReservados() {
+        return bloquesReservados;
+    }
+
+    public long getCapacidadReservada() {
+        return (long) bloquesReservados * TAMANIO_BLOQUE;
+    }
+
+    private void writeObject(ObjectOutputStream salida) throws IOException {
+        salida.defaultWriteObject();
+        salida.writeInt(tamanio);
+        for (int b = 0; b < bloques.length; b++) {
+            Proceso[] bloque = bloques[b];
+            if (bloque == null) {
+                continue;
+            }
+            for (int i = 0; i < TAMANIO_BLOQUE; i++) {
+                if (bloque[i] != null) {
+                    salida.writeObject(bloque[i]);
+                }
+            }
+        }
+    }
+
+    private void readObject(ObjectInputStream entrada) throws IOException, ClassNotFoundException {
+        entrada.defaultReadObject();
+        inicializar();
+        int cantidad = entrada.readInt();
+        for (int i = 0; i < cantidad; i++) {
+            agregar((Proceso) entrada.readObject());
+        }
+    }
+}
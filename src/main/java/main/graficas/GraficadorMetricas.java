@@ -8,9 +8,9 @@ import java.awt.geom.*;
 
 public class GraficadorMetricas {
 
-    private MapaSimple<String, ListaSimple<Double>> datosThroughput;
-    private MapaSimple<String, ListaSimple<Double>> datosCpuUtil;
-    private MapaSimple<String, ListaSimple<Double>> datosTiempoEspera;
+    private MapaSimple<String, SerieTemporal> datosThroughput;
+    private MapaSimple<String, SerieTemporal> datosCpuUtil;
+    private MapaSimple<String, SerieTemporal> datosTiempoEspera;
     
     private JFrame ventanaGraficas;
 
@@ -20,12 +20,24 @@ public class GraficadorMetricas {
         this.datosTiempoEspera = new MapaSimple<>();
     }
 
-    public void actualizarMetricasPorAlgoritmo(String algoritmo, MapaSimple<String, Double> metricas) {
+    // Variante sin boxing para el muestreo periódico (se llama desde el hilo de simulación)
+    public synchronized void agregarMuestra(String algoritmo, double throughput, double cpuUtil, double tiempoEspera) {
+        asegurarSeries(algoritmo);
+        datosThroughput.get(algoritmo).agregar(throughput);
+        datosCpuUtil.get(algoritmo).agregar(cpuUtil);
+        datosTiempoEspera.get(algoritmo).agregar(tiempoEspera);
+    }
+
+    private void asegurarSeries(String algoritmo) {
         if (!datosThroughput.containsKey(algoritmo)) {
-            datosThroughput.put(algoritmo, new ListaSimple<>());
-            datosCpuUtil.put(algoritmo, new ListaSimple<>());
-            datosTiempoEspera.put(algoritmo, new ListaSimple<>());
+            datosThroughput.put(algoritmo, new SerieTemporal());
+            datosCpuUtil.put(algoritmo, new SerieTemporal());
+            datosTiempoEspera.put(algoritmo, new SerieTemporal());
         }
+    }
+
+    public synchronized void actualizarMetricasPorAlgoritmo(String algoritmo, MapaSimple<String, Double> metricas) {
+        asegurarSeries(algoritmo);
         Double throughput = metricas.get("throughput");
         Double cpuUtil = metricas.get("cpuUtil");
         Double tiempoEspera = metricas.get("tiempoEspera");
@@ -73,19 +85,29 @@ public class GraficadorMetricas {
         ventanaGraficas.setVisible(true);
     }
 
-    public void limpiarDatos() {
-        datosThroughput = new MapaSimple<>();
-        datosCpuUtil = new MapaSimple<>();
-        datosTiempoEspera = new MapaSimple<>();
+    public synchronized void limpiarDatos() {
+        // Se vacían en sitio: los paneles abiertos siguen apuntando a los mismos mapas
+        datosThroughput.limpiar();
+        datosCpuUtil.limpiar();
+        datosTiempoEspera.limpiar();
+        if (ventanaGraficas != null) {
+            ventanaGraficas.repaint();
+        }
     }
 
     private class PanelGrafica extends JPanel {
+
+        private static final long serialVersionUID = 1L;
         
         private String titulo;
-        private MapaSimple<String, ListaSimple<Double>> datos;
+        private MapaSimple<String, SerieTemporal> datos;
         private Color colorPrincipal;
 
-        public PanelGrafica(String titulo, MapaSimple<String, ListaSimple<Double>> datos, Color colorPrincipal) {
+        // Buffers de decimación reutilizados entre repintados
+        private double[] minimosColumna = new double[0];
+        private double[] maximosColumna = new double[0];
+
+        public PanelGrafica(String titulo, MapaSimple<String, SerieTemporal> datos, Color colorPrincipal) {
             this.titulo = titulo;
             this.datos = datos;
             this.colorPrincipal = colorPrincipal;
@@ -127,6 +149,15 @@ public class GraficadorMetricas {
             g2d.rotate(-Math.PI / 2);
             g2d.drawString("Valor", -height / 2 - 20, 20);
             g2d.dispose();
+
+            // Las series las alimenta el hilo de simulación
+            synchronized (GraficadorMetricas.this) {
+                dibujarDatos(g2, width, height, margenIzq, margenDer, margenSup, anchoGrafica, altoGrafica);
+            }
+        }
+
+        private void dibujarDatos(Graphics2D g2, int width, int height, int margenIzq, int margenDer,
+                int margenSup, int anchoGrafica, int altoGrafica) {
             if (datos.size() == 0) {
                 g2.setFont(new Font("Arial", Font.ITALIC, 14));
                 g2.setColor(Color.GRAY);
@@ -140,20 +171,20 @@ public class GraficadorMetricas {
             if (algoritmos.tamaño() == 0) return;
             double maxValor = 0.001;
             int maxPuntos = 0;
+            long primeraSecuencia = Long.MAX_VALUE;
             
+            // El máximo de cada serie se mantiene al insertar: O(1) por serie
             for (int j = 0; j < algoritmos.tamaño(); j++) {
-                String algoritmo = algoritmos.obtener(j);
-                ListaSimple<Double> valores = datos.get(algoritmo);
-                if (valores != null) {
-                    maxPuntos = Math.max(maxPuntos, valores.tamaño());
-                    for (int i = 0; i < valores.tamaño(); i++) {
-                        Double valor = valores.obtener(i);
-                        if (valor != null) {
-                            maxValor = Math.max(maxValor, valor);
-                        }
-                    }
+                SerieTemporal serie = datos.get(algoritmos.obtener(j));
+                if (serie != null && !serie.estaVacia()) {
+                    maxPuntos = Math.max(maxPuntos, serie.tamaño());
+                    maxValor = Math.max(maxValor, serie.getMaximo());
+                    primeraSecuencia = Math.min(primeraSecuencia, serie.getPrimeraSecuencia());
                 }
             }
+            if (maxPuntos == 0) {
+                primeraSecuencia = 0;
+            }
 
             g2.setColor(Color.GRAY);
             g2.setFont(new Font("Arial", Font.PLAIN, 10));
@@ -185,34 +216,13 @@ public class GraficadorMetricas {
             
             for (int k = 0; k < algoritmos.tamaño(); k++) {
                 String algoritmo = algoritmos.obtener(k);
-                ListaSimple<Double> valores = datos.get(algoritmo);
-                if (valores == null || valores.tamaño() == 0) continue;
+                SerieTemporal serie = datos.get(algoritmo);
+                if (serie == null || serie.estaVacia()) continue;
 
                 Color color = colores[indiceColor % colores.length];
                 g2.setColor(color);
                 g2.setStroke(new BasicStroke(2));
-                for (int i = 0; i < valores.tamaño() - 1; i++) {
-                    Double valor1 = valores.obtener(i);
-                    Double valor2 = valores.obtener(i + 1);
-                    
-                    if (valor1 != null && valor2 != null) {
-                        int x1 = margenIzq + (i * anchoGrafica / Math.max(1, maxPuntos - 1));
-                        int y1 = margenSup + altoGrafica - (int)((valor1 / maxValor) * altoGrafica);
-                        int x2 = margenIzq + ((i + 1) * anchoGrafica / Math.max(1, maxPuntos - 1));
-                        int y2 = margenSup + altoGrafica - (int)((valor2 / maxValor) * altoGrafica);
-                        
-                        g2.drawLine(x1, y1, x2, y2);
-                    }
-                }
-
-                for (int i = 0; i < valores.tamaño(); i++) {
-                    Double valor = valores.obtener(i);
-                    if (valor != null) {
-                        int x = margenIzq + (i * anchoGrafica / Math.max(1, maxPuntos - 1));
-                        int y = margenSup + altoGrafica - (int)((valor / maxValor) * altoGrafica);
-                        g2.fillOval(x - 4, y - 4, 8, 8);
-                    }
-                }
+                dibujarSerie(g2, serie, maxPuntos, maxValor, margenIzq, margenSup, anchoGrafica, altoGrafica);
 
                 g2.setFont(new Font("Arial", Font.PLAIN, 11));
                 int xLeyenda = width - margenDer - 150;
@@ -231,7 +241,44 @@ public class GraficadorMetricas {
             for (int i = 0; i <= maxPuntos; i += intervalo) {
                 int x = margenIzq + (i * anchoGrafica / Math.max(1, maxPuntos));
                 g2.drawLine(x, margenSup + altoGrafica, x, margenSup + altoGrafica + 5);
-                g2.drawString(String.valueOf(i), x - 5, margenSup + altoGrafica + 20);
+                g2.drawString(String.valueOf(primeraSecuencia + i), x - 5, margenSup + altoGrafica + 20);
+            }
+        }
+
+        // Una columna de píxel por grupo de muestras: se dibuja su rango mín-máx y se une
+        // con la columna anterior, así el coste no depende de cuántas muestras haya
+        private void dibujarSerie(Graphics2D g2, SerieTemporal serie, int maxPuntos, double maxValor,
+                int margenIzq, int margenSup, int anchoGrafica, int altoGrafica) {
+            int columnas = Math.max(1, Math.min(anchoGrafica, maxPuntos));
+            if (minimosColumna.length < columnas) {
+                minimosColumna = new double[columnas];
+                maximosColumna = new double[columnas];
+            }
+            serie.decimar(columnas, maxPuntos, minimosColumna, maximosColumna);
+
+            // Con pocas muestras cada columna es un punto y se marcan como antes
+            boolean marcarPuntos = maxPuntos <= anchoGrafica / 8;
+            int xAnterior = -1;
+            int yAnterior = 0;
+            for (int c = 0; c < columnas; c++) {
+                if (Double.isNaN(minimosColumna[c])) {
+                    continue;
+                }
+                int x = margenIzq + (int) ((long) c * anchoGrafica / Math.max(1, columnas - 1));
+                int yMin = margenSup + altoGrafica - (int) ((minimosColumna[c] / maxValor) * altoGrafica);
+                int yMax = margenSup + altoGrafica - (int) ((maximosColumna[c] / maxValor) * altoGrafica);
+
+                if (xAnterior >= 0) {
+                    g2.drawLine(xAnterior, yAnterior, x, yMin);
+                }
+                if (yMax != yMin) {
+                    g2.drawLine(x, yMin, x, yMax);
+                }
+                if (marcarPuntos) {
+                    g2.fillOval(x - 4, yMax - 4, 8, 8);
+                }
+                xAnterior = x;
+                yAnterior = yMax;
             }
         }
     }
@@ -0,0 +1,137 @@
+package main.graficas;
+
+// Serie de capacidad fija sobre un anillo de double primitivos: al llenarse descarta
+// la muestra más antigua. El máximo de la ventana se mantiene con una cola monótona
+// (O(1) amortizado por muestra) y el dibujo se hace decimando a mín/máx por columna.
+public class SerieTemporal {
+
+    public static final int CAPACIDAD_POR_DEFECTO = 4096;
+
+    private final double[] valores;
+    private final int capacidad;
+    private long totalAgregados; // Número de secuencia de la próxima muestra
+
+    // Cola monótona decreciente de números de secuencia (anillo)
+    private final long[] colaMaximo;
+    private int inicioMaximo;
+    private int tamañoMaximo;
+
+    public SerieTemporal() {
+        this(CAPACIDAD_POR_DEFECTO);
+    }
+
+    public SerieTemporal(int capacidad) {
+        if (capacidad <= 0) {
+            throw new IllegalArgumentException("La capacidad debe ser mayor a 0");
+        }
+        this.capacidad = capacidad;
+        this.valores = new double[capacidad];
+        this.colaMaximo = new long[capacidad];
+        limpiar();
+    }
+
+    public void agregar(double valor) {
+        long secuencia = totalAgregados;
+
+        // Sacar del frente la muestra que deja la ventana
+        if (tamañoMaximo > 0 && colaMaximo[inicioMaximo] <= secuencia - capacidad) {
+            inicioMaximo = (inicioMaximo + 1) % capacidad;
+            tamañoMaximo--;
+        }
+
+        valores[(int) (secuencia % capacidad)] = valor;
+
+        // Las muestras menores que la nueva ya nunca serán máximo
+        while (tamañoMaximo > 0) {
+            int ultimo = (inicioMaximo + tamañoMaximo - 1) % capacidad;
+            if (valores[(int) (colaMaximo[ultimo] % capacidad)] > valor) {
+                break;
+            }
+            tamañoMaximo--;
+        }
+        colaMaximo[(inicioMaximo + tamañoMaximo) % capacidad] = secuencia;
+        tamañoMaximo++;
+
+        totalAgregados++;
+    }
+
+    // i = 0 es la muestra más antigua que sigue en la ventana
+    public double obtener(int i) {
+        if (i < 0 || i >= tamaño()) {
+            throw new IndexOutOfBoundsException("Índice: " + i + ", Tamaño: " + tamaño());
+        }
+        return valores[(int) ((getPrimeraSecuencia() + i) % capacidad)];
+    }
+
+    public double getMaximo() {
+        if (tamañoMaximo == 0) {
+            return 0.0;
+        }
+        return valores[(int) (colaMaximo[inicioMaximo] % capacidad)];
+    }
+
+    public double getUltimo() {
+        return totalAgregados > 0 ? valores[(int) ((totalAgregados - 1) % capacidad)] : 0.0;
+    }
+
+    // Reparte las muestras de la ventana en columnas (escala común de totalPuntos muestras)
+    // y deja en minimos/maximos el rango de cada columna; NaN si la columna no tiene muestras.
+    // Devuelve el número de columnas con datos. Coste O(min(tamaño, capacidad)).
+    public int decimar(int columnas, int totalPuntos, double[] minimos, double[] maximos) {
+        for (int c = 0; c < columnas; c++) {
+            minimos[c] = Double.NaN;
+            maximos[c] = Double.NaN;
+        }
+        int n = tamaño();
+        if (n == 0 || columnas <= 0) {
+            return 0;
+        }
+        int escala = Math.max(n, totalPuntos);
+
+        int conDatos = 0;
+        for (int i = 0; i < n; i++) {
+            int columna = (int) ((long) i * columnas / escala);
+            double valor = obtener(i);
+            if (Double.isNaN(minimos[columna])) {
+                minimos[columna] = valor;
+                maximos[columna] = valor;
+                conDatos++;
+            } else {
+                if (valor < minimos[columna]) {
+                    minimos[columna] = valor;
+                }
+                if (valor > maximos[columna]) {
+                    maximos[columna] = valor;
+                }
+            }
+        }
+        return conDatos;
+    }
+
+    public int tamaño() {
+        return (int) Math.min(totalAgregados, capacidad);
+    }
+
+    public boolean estaVacia() {
+        return totalAgregados == 0;
+    }
+
+    public int getCapacidad() {
+        return capacidad;
+    }
+
+    // Número de secuencia absoluto de la muestra más antigua de la ventana
+    public long getPrimeraSecuencia() {
+        return totalAgregados - tamaño();
+    }
+
+    public long getTotalAgregados() {
+        return totalAgregados;
+    }
+
+    public void limpiar() {
+        totalAgregados = 0;
+        inicioMaximo = 0;
+        tamañoMaximo = 0;
+    }
+}
@@ -0,0 +1,83 @@
+package main.gui;
+
+import main.modelo.Proceso;
+
+// Estado del simulador publicado por el hilo de simulación para que el EDT lo dibuje.
+// Las filas no van formateadas: se guardan referencias a los procesos y el modelo de la
+// lista formatea sólo las visibles. procesosListos es una copia propia de la instantánea;
+// procesosTerminados es un arreglo de sólo-agregar cuyo prefijo [0, numTerminados) no
+// cambia una vez publicado (y un proceso terminado ya no modifica sus campos).
+// Las filas de listos leen los campos vivos del proceso: a lo sumo muestran un valor
+// de un ciclo posterior a la instantánea.
+public final class InstantaneaSimulacion {
+
+    private final long version;
+    private final int ciclo;
+    private final VistaProceso procesoEnEjecucion;
+    private final Proceso[] procesosListos;
+    private final Proceso[] procesosTerminados;
+    private final int numTerminados;
+    private final int listos;
+    private final int bloqueados;
+    private final int terminados;
+    private final int totalProcesosCreados;
+
+    public InstantaneaSimulacion(long version, int ciclo, VistaProceso procesoEnEjecucion,
+            Proceso[] procesosListos, Proceso[] procesosTerminados, int numTerminados, int listos,
+            int bloqueados, int terminados, int totalProcesosCreados) {
+        this.version = version;
+        this.ciclo = ciclo;
+        this.procesoEnEjecucion = procesoEnEjecucion;
+        this.procesosListos = procesosListos;
+        this.procesosTerminados = procesosTerminados;
+        this.numTerminados = numTerminados;
+        this.listos = listos;
+        this.bloqueados = bloqueados;
+        this.terminados = terminados;
+        this.totalProcesosCreados = totalProcesosCreados;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int getCiclo() {
+        return ciclo;
+    }
+
+    public VistaProceso getProcesoEnEjecucion() {
+        return procesoEnEjecucion;
+    }
+
+    public Proceso[] getProcesosListos() {
+        return procesosListos;
+    }
+
+    public int getNumListos() {
+        return procesosListos.length;
+    }
+
+    public Proceso[] getProcesosTerminados() {
+        return procesosTerminados;
+    }
+
+    public int getNumTerminados() {
+        return numTerminados;
+    }
+
+    public int getListos() {
+        return listos;
+    }
+
+    public int getBloqueados() {
+        return bloqueados;
+    }
+
+    public int getTerminados() {
+        return terminados;
+    }
+
+    public int getTotalProcesosCreados() {
+        return totalProcesosCreados;
+    }
+}
@@ -0,0 +1,89 @@
+package main.gui;
+
+import main.modelo.Proceso;
+import javax.swing.*;
+
+// Modelo de JList respaldado directamente por el arreglo de procesos de la instantánea.
+// Las filas no se guardan formateadas: JList sólo pide (y por tanto sólo se formatean)
+// las filas visibles, así que el coste por refresco no depende del largo de la cola.
+public class ModeloListaProcesos extends AbstractListModel<String> {
+
+    private static final long serialVersionUID = 1L;
+
+    public interface FormateadorFila {
+        String formatear(Proceso proceso);
+    }
+
+    private static final Proceso[] VACIO = new Proceso[0];
+
+    private final FormateadorFila formateador;
+    private Proceso[] procesos = VACIO;
+    private int tamaño;
+    private String filaAdicional; // Fila fija al final (p. ej. el proceso en CPU), o null
+
+    public ModeloListaProcesos(FormateadorFila formateador) {
+        this.formateador = formateador;
+    }
+
+    // Sustituye el contenido notificando sólo la parte común como "cambiada" y el resto
+    // como agregado/eliminado; con alto de celda fijo JList no recorre las filas
+    public void actualizar(Proceso[] procesos, int tamaño, String filaAdicional) {
+        int anterior = getSize();
+        this.procesos = procesos != null ? procesos : VACIO;
+        this.tamaño = procesos != null ? tamaño : 0;
+        this.filaAdicional = filaAdicional;
+        notificarCambio(anterior, getSize());
+    }
+
+    // Para listas de sólo-agregar: mismo arreglo (o uno que lo extiende) con más filas
+    public void extender(Proceso[] procesos, int tamaño) {
+        if (tamaño < this.tamaño) {
+            actualizar(procesos, tamaño, filaAdicional);
+            return;
+        }
+        int anterior = this.tamaño;
+        this.procesos = procesos;
+        this.tamaño = tamaño;
+        if (tamaño > anterior) {
+            fireIntervalAdded(this, anterior, tamaño - 1);
+        }
+    }
+
+    public void limpiar() {
+        actualizar(VACIO, 0, null);
+    }
+
+    private void notificarCambio(int anterior, int actual) {
+        int comunes = Math.min(anterior, actual);
+        if (comunes > 0) {
+            fireContentsChanged(this, 0, comunes - 1);
+        }
+        if (actual > anterior) {
+            fireIntervalAdded(this, anterior, actual - 1);
+        } else if (actual < anterior) {
+            fireIntervalRemoved(this, actual, anterior - 1);
+        }
+    }
+
+    @Override
+    public int getSize() {
+        return tamaño + (filaAdicional != null ? 1 : 0);
+    }
+
+    @Override
+    public String getElementAt(int indice) {
+        if (indice == tamaño && filaAdicional != null) {
+            return filaAdicional;
+        }
+        if (indice < 0 || indice >= tamaño) {
+            throw new IndexOutOfBoundsException("Índice: " + indice + ", Tamaño: " + getSize());
+        }
+        return formateador.formatear(procesos[indice]);
+    }
+
+    // El prototipo fija alto y ancho de celda: sin ellos JList renderiza cada fila
+    // para medirla cada vez que el modelo cambia
+    public static void configurarLista(JList<String> lista, String prototipo) {
+        lista.setPrototypeCellValue(prototipo);
+    }
+}
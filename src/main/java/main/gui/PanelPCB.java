@@ -8,6 +8,8 @@ import javax.swing.*;
 import java.awt.*;
 
 public class PanelPCB extends JPanel {
+
+    private static final long serialVersionUID = 1L;
     
     private JTextArea areaPCB;
     private JTextArea areaSO;
@@ -16,6 +18,7 @@ public class PanelPCB extends JPanel {
     private JLabel lblCPU;
     private String algoritmoActual = "FCFS";
     private int totalProcesosCreados = 0;
+    private int cicloGlobal = 0;
     
     public PanelPCB() {
         setLayout(new BorderLayout(5, 5));
@@ -104,12 +107,32 @@ public class PanelPCB extends JPanel {
         int total = listos + bloqueados + terminados + enEjecucion;
         so.append("PROCESOS ACTIVOS: ").append(total).append(" / ").append(totalProcesosCreados).append("\n");
         
-        areaSO.setText(so.toString());
+        establecerTexto(areaSO, so.toString());
+    }
+
+    // Evita invalidar el área (y su scroll) cuando el texto no cambió
+    private void establecerTexto(JTextArea area, String texto) {
+        if (!texto.equals(area.getText())) {
+            area.setText(texto);
+        }
     }
     
+    // Dibuja una instantánea publicada por el hilo de simulación (llamar desde el EDT)
+    public void mostrar(InstantaneaSimulacion instantanea) {
+        totalProcesosCreados = instantanea.getTotalProcesosCreados();
+        actualizarPCB(instantanea.getProcesoEnEjecucion(), instantanea.getCiclo());
+        actualizarEstadoColas(instantanea.getListos(), instantanea.getBloqueados(),
+                instantanea.getTerminados());
+    }
+
     public void actualizarPCB(Proceso proceso, int cicloGlobal) {
+        actualizarPCB(VistaProceso.de(proceso), cicloGlobal);
+    }
+
+    public void actualizarPCB(VistaProceso proceso, int cicloGlobal) {
+        this.cicloGlobal = cicloGlobal;
         if (proceso == null) {
-            areaPCB.setText("===============================================\n" +
+            establecerTexto(areaPCB, "===============================================\n" +
                           "     PROCESS CONTROL BLOCK (PCB)\n" +
                           "===============================================\n\n" +
                           "CPU: IDLE\n\n" +
@@ -169,7 +192,7 @@ public class PanelPCB extends JPanel {
             pcb.append(" Proceso Activo en CPU - Ciclo: ").append(String.format("%6d", cicloGlobal)).append("\n");
             pcb.append("===============================================");
             
-            areaPCB.setText(pcb.toString());
+            establecerTexto(areaPCB, pcb.toString());
             lblCPU.setText("CPU: " + proceso.getNombre() + " (PID: " + proceso.getId() + ")");
         }
         
@@ -180,12 +203,14 @@ public class PanelPCB extends JPanel {
         int listos = gestor.getProcesosPorEstado(EstadoProceso.LISTO).tamaño();
         int bloqueados = gestor.getProcesosPorEstado(EstadoProceso.BLOQUEADO).tamaño();
         int terminados = gestor.getProcesosPorEstado(EstadoProceso.TERMINADO).tamaño();
-        
+        actualizarEstadoColas(listos, bloqueados, terminados);
+    }
+
+    public void actualizarEstadoColas(int listos, int bloqueados, int terminados) {
         lblEstadoColas.setText(String.format("Colas: Listos(%d) Bloqueados(%d) Terminados(%d)", 
             listos, bloqueados, terminados));
         
-        actualizarInfoSO(listos, bloqueados, terminados, 
-            Integer.parseInt(lblTiempoGlobal.getText().replaceAll("\\D+", "")));
+        actualizarInfoSO(listos, bloqueados, terminados, cicloGlobal);
     }
 }
 
@@ -0,0 +1,113 @@
+package main.gui;
+
+import main.modelo.EstadoProceso;
+import main.modelo.Proceso;
+import main.modelo.TipoProceso;
+
+// Copia inmutable de los campos del PCB que muestra la interfaz
+public final class VistaProceso {
+
+    private final int id;
+    private final String nombre;
+    private final EstadoProceso estado;
+    private final TipoProceso tipo;
+    private final int programCounter;
+    private final int memoryAddressRegister;
+    private final int prioridad;
+    private final int quantumRestante;
+    private final int instruccionesEjecutadas;
+    private final int numInstrucciones;
+    private final long tiempoEspera;
+    private final long tiempoRespuesta;
+    private final long tiempoEjecucion;
+    private final boolean enOperacionIO;
+    private final int ciclosTranscurridosIO;
+    private final int ciclosParaExcepcionIO;
+
+    private VistaProceso(Proceso proceso) {
+        this.id = proceso.getId();
+        this.nombre = proceso.getNombre();
+        this.estado = proceso.getEstado();
+        this.tipo = proceso.getTipo();
+        this.programCounter = proceso.getProgramCounter();
+        this.memoryAddressRegister = proceso.getMemoryAddressRegister();
+        this.prioridad = proceso.getPrioridad();
+        this.quantumRestante = proceso.getQuantumRestante();
+        this.instruccionesEjecutadas = proceso.getInstruccionesEjecutadas();
+        this.numInstrucciones = proceso.getNumInstrucciones();
+        this.tiempoEspera = proceso.getTiempoEspera();
+        this.tiempoRespuesta = proceso.getTiempoRespuesta();
+        this.tiempoEjecucion = proceso.getTiempoEjecucion();
+        this.enOperacionIO = proceso.isEnOperacionIO();
+        this.ciclosTranscurridosIO = proceso.getCiclosTranscurridosIO();
+        this.ciclosParaExcepcionIO = proceso.getCiclosParaExcepcionIO();
+    }
+
+    public static VistaProceso de(Proceso proceso) {
+        return proceso != null ? new VistaProceso(proceso) : null;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public EstadoProceso getEstado() {
+        return estado;
+    }
+
+    public TipoProceso getTipo() {
+        return tipo;
+    }
+
+    public int getProgramCounter() {
+        return programCounter;
+    }
+
+    public int getMemoryAddressRegister() {
+        return memoryAddressRegister;
+    }
+
+    public int getPrioridad() {
+        return prioridad;
+    }
+
+    public int getQuantumRestante() {
+        return quantumRestante;
+    }
+
+    public int getInstruccionesEjecutadas() {
+        return instruccionesEjecutadas;
+    }
+
+    public int getNumInstrucciones() {
+        return numInstrucciones;
+    }
+
+    public long getTiempoEspera() {
+        return tiempoEspera;
+    }
+
+    public long getTiempoRespuesta() {
+        return tiempoRespuesta;
+    }
+
+    public long getTiempoEjecucion() {
+        return tiempoEjecucion;
+    }
+
+    public boolean isEnOperacionIO() {
+        return enOperacionIO;
+    }
+
+    public int getCiclosTranscurridosIO() {
+        return ciclosTranscurridosIO;
+    }
+
+    public int getCiclosParaExcepcionIO() {
+        return ciclosParaExcepcionIO;
+    }
+}
@@ -1,19 +1,24 @@
 package main.interrupciones;
 
 import main.modelo.Proceso;
+import java.io.Serializable;
 
-public class Interrupcion {
+public class Interrupcion implements Serializable {
+
+    private static final long serialVersionUID = 1L;
     
     private TipoInterrupcion tipo;
     private Proceso procesoOrigen;
     private int cicloOcurrencia;
     private String descripcion;
+    private int ocurrencias;
     
     public Interrupcion(TipoInterrupcion tipo, Proceso procesoOrigen, int cicloOcurrencia, String descripcion) {
         this.tipo = tipo;
         this.procesoOrigen = procesoOrigen;
         this.cicloOcurrencia = cicloOcurrencia;
         this.descripcion = descripcion;
+        this.ocurrencias = 1;
     }
     
     public TipoInterrupcion getTipo() {
@@ -48,6 +53,14 @@ public class Interrupcion {
         this.descripcion = descripcion;
     }
     
+    public int getOcurrencias() {
+        return ocurrencias;
+    }
+    
+    public void registrarOcurrenciaCoalescida() {
+        ocurrencias++;
+    }
+    
     @Override
     public String toString() {
         return String.format("[Ciclo %d] INT_%s: %s (Proceso: %s)", 
@@ -1,35 +1,218 @@
 package main.interrupciones;
 
 import main.estructuras.ColaSimple;
+import main.estructuras.MapaSimple;
 import main.modelo.Proceso;
 import main.modelo.EstadoProceso;
+import main.traza.GrabadorTraza;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 
-public class ManejadorInterrupciones {
+public class ManejadorInterrupciones implements Serializable {
     
-    private ColaSimple<Interrupcion> colaInterrupciones;
+    private static final long serialVersionUID = 1L;
+
+    // Una cola por tipo de interrupción (indexada por ordinal)
+    private ColaSimple<Interrupcion>[] colasPorTipo;
+    private int[] prioridades;
+    private TipoInterrupcion[] ordenDespacho;
+
+    // Máscara por tipo: las interrupciones enmascaradas quedan pendientes
+    private boolean[] mascara;
+
+    // Tabla de vectores: rutina de servicio por tipo. Las rutinas no se guardan en un
+    // punto de control; quien restaura las vuelve a registrar
+    private transient RutinaInterrupcion[] tablaVectores;
+
+    // Por PID de origen, la última interrupción coalescible encolada de cada tipo (indexada
+    // por ordinal) mientras siga pendiente: PIDs intercalados no se estorban al coalescer
+    private MapaSimple<Integer, Interrupcion[]> coalesciblesPorPid;
+
+    // Interrupciones en cola por PID de origen y tipo (la última posición es el total): un PCB
+    // terminado no se libera mientras alguna atendible lo referencie
+    private MapaSimple<Integer, int[]> pendientesPorPid;
+
+    private int pendientes;
     private int contadorInterrupciones;
+    private int contadorCoalescidas;
+    private int[] contadorPorTipo;
     
+    // Traza binaria de la simulación (null = desactivada)
+    private transient GrabadorTraza grabadorTraza;
+
+    @SuppressWarnings("unchecked")
     public ManejadorInterrupciones() {
-        this.colaInterrupciones = new ColaSimple<>();
+        TipoInterrupcion[] tipos = TipoInterrupcion.values();
+        this.colasPorTipo = (ColaSimple<Interrupcion>[]) new ColaSimple<?>[tipos.length];
+        this.prioridades = new int[tipos.length];
+        this.mascara = new boolean[tipos.length];
+        this.tablaVectores = new RutinaInterrupcion[tipos.length];
+        this.contadorPorTipo = new int[tipos.length];
+
+        for (int i = 0; i < tipos.length; i++) {
+            colasPorTipo[i] = new ColaSimple<>();
+            prioridades[i] = tipos[i].getPrioridadPorDefecto();
+        }
+
+        this.ordenDespacho = new TipoInterrupcion[tipos.length];
+        recalcularOrdenDespacho();
+
+        this.coalesciblesPorPid = new MapaSimple<>();
+        this.pendientesPorPid = new MapaSimple<>();
+        this.pendientes = 0;
         this.contadorInterrupciones = 0;
+        this.contadorCoalescidas = 0;
     }
     
     public void generarInterrupcion(TipoInterrupcion tipo, Proceso proceso, int ciclo, String descripcion) {
-        Interrupcion interrupcion = new Interrupcion(tipo, proceso, ciclo, descripcion);
-        colaInterrupciones.encolar(interrupcion);
         contadorInterrupciones++;
+        contadorPorTipo[tipo.ordinal()]++;
+        if (grabadorTraza != null) {
+            grabadorTraza.interrupcion(tipo, proceso);
+        }
+
+        // Coalescer eventos redundantes del mismo tipo, proceso y ciclo: basta con mirar la
+        // última pendiente de ese tipo y PID. Sin proceso de origen no hay con qué agrupar
+        Interrupcion[] coalescibles = null;
+        if (tipo.isCoalescible() && proceso != null) {
+            coalescibles = coalesciblesPorPid.obtener(proceso.getId());
+            Interrupcion existente = coalescibles != null ? coalescibles[tipo.ordinal()] : null;
+            if (existente != null && existente.getProcesoOrigen() == proceso
+                    && existente.getCicloOcurrencia() == ciclo) {
+                existente.registrarOcurrenciaCoalescida();
+                existente.setDescripcion(descripcion);
+                contadorCoalescidas++;
+                return;
+            }
+        }
+
+        Interrupcion interrupcion = new Interrupcion(tipo, proceso, ciclo, descripcion);
+        colasPorTipo[tipo.ordinal()].encolar(interrupcion);
+        pendientes++;
+        if (proceso != null) {
+            int[] porTipo = pendientesPorPid.obtener(proceso.getId());
+            if (porTipo == null) {
+                porTipo = new int[colasPorTipo.length + 1];
+                pendientesPorPid.poner(proceso.getId(), porTipo);
+            }
+            porTipo[tipo.ordinal()]++;
+            porTipo[colasPorTipo.length]++;
+        }
+        if (tipo.isCoalescible() && proceso != null) {
+            if (coalescibles == null) {
+                coalescibles = new Interrupcion[colasPorTipo.length];
+                coalesciblesPorPid.poner(proceso.getId(), coalescibles);
+            }
+            coalescibles[tipo.ordinal()] = interrupcion;
+        }
         System.out.println("→ INTERRUPCIÓN GENERADA: " + interrupcion);
     }
     
     public Interrupcion procesarSiguienteInterrupcion() {
-        if (colaInterrupciones.estaVacia()) {
-            return null;
+        // Se atiende la cola no enmascarada de mayor prioridad
+        for (int i = 0; i < ordenDespacho.length; i++) {
+            TipoInterrupcion tipo = ordenDespacho[i];
+            ColaSimple<Interrupcion> cola = colasPorTipo[tipo.ordinal()];
+            if (mascara[tipo.ordinal()] || cola.estaVacia()) {
+                continue;
+            }
+
+            Interrupcion interrupcion = cola.desencolar();
+            pendientes--;
+            Proceso origen = interrupcion.getProcesoOrigen();
+            if (origen != null) {
+                int[] porTipo = pendientesPorPid.obtener(origen.getId());
+                porTipo[tipo.ordinal()]--;
+                if (--porTipo[colasPorTipo.length] == 0) {
+                    pendientesPorPid.remover(origen.getId());
+                }
+                if (tipo.isCoalescible()) {
+                    olvidarCoalescible(origen.getId(), tipo, interrupcion);
+                }
+            }
+            System.out.println("→ PROCESANDO: " + interrupcion);
+            return interrupcion;
+        }
+        return null;
+    }
+
+    // La que se atiende deja de ser candidata a coalescer; el PID sale del mapa con su última
+    private void olvidarCoalescible(int pid, TipoInterrupcion tipo, Interrupcion interrupcion) {
+        Interrupcion[] coalescibles = coalesciblesPorPid.obtener(pid);
+        if (coalescibles == null || coalescibles[tipo.ordinal()] != interrupcion) {
+            return;
+        }
+        coalescibles[tipo.ordinal()] = null;
+        for (int i = 0; i < coalescibles.length; i++) {
+            if (coalescibles[i] != null) {
+                return;
+            }
+        }
+        coalesciblesPorPid.remover(pid);
+    }
+    
+    public Interrupcion despacharSiguiente() {
+        Interrupcion interrupcion = procesarSiguienteInterrupcion();
+        if (interrupcion != null) {
+            RutinaInterrupcion rutina = tablaVectores[interrupcion.getTipo().ordinal()];
+            if (rutina != null) {
+                rutina.atender(interrupcion);
+            }
         }
-        
-        Interrupcion interrupcion = colaInterrupciones.desencolar();
-        System.out.println("→ PROCESANDO: " + interrupcion);
         return interrupcion;
     }
+
+    public int despacharPendientes(int maximo) {
+        int despachadas = 0;
+        while (despachadas < maximo && despacharSiguiente() != null) {
+            despachadas++;
+        }
+        return despachadas;
+    }
+
+    public void setGrabadorTraza(GrabadorTraza grabadorTraza) {
+        this.grabadorTraza = grabadorTraza;
+    }
+
+    public void registrarRutina(TipoInterrupcion tipo, RutinaInterrupcion rutina) {
+        tablaVectores[tipo.ordinal()] = rutina;
+    }
+
+    public void enmascarar(TipoInterrupcion tipo) {
+        mascara[tipo.ordinal()] = true;
+    }
+
+    public void desenmascarar(TipoInterrupcion tipo) {
+        mascara[tipo.ordinal()] = false;
+    }
+
+    public boolean estaEnmascarada(TipoInterrupcion tipo) {
+        return mascara[tipo.ordinal()];
+    }
+
+    public int getPrioridad(TipoInterrupcion tipo) {
+        return prioridades[tipo.ordinal()];
+    }
+
+    public void setPrioridad(TipoInterrupcion tipo, int prioridad) {
+        prioridades[tipo.ordinal()] = prioridad;
+        recalcularOrdenDespacho();
+    }
+
+    private void recalcularOrdenDespacho() {
+        // Inserción estable: a igual prioridad se respeta el orden del enum
+        TipoInterrupcion[] tipos = TipoInterrupcion.values();
+        for (int i = 0; i < tipos.length; i++) {
+            TipoInterrupcion tipo = tipos[i];
+            int j = i - 1;
+            while (j >= 0 && prioridades[ordenDespacho[j].ordinal()] > prioridades[tipo.ordinal()]) {
+                ordenDespacho[j + 1] = ordenDespacho[j];
+                j--;
+            }
+            ordenDespacho[j + 1] = tipo;
+        }
+    }
     
     public void generarInterrupcionIO(Proceso proceso, int ciclo) {
         generarInterrupcion(TipoInterrupcion.IO_SOLICITUD, proceso, ciclo, 
@@ -51,6 +234,11 @@ public class ManejadorInterrupciones {
             "Error de acceso a memoria");
     }
     
+    public void generarFalloPagina(Proceso proceso, int ciclo, int direccionVirtual) {
+        generarInterrupcion(TipoInterrupcion.FALLO_PAGINA, proceso, ciclo,
+            "Fallo de página en dirección virtual " + direccionVirtual);
+    }
+
     public void generarExcepcionDivisionCero(Proceso proceso, int ciclo) {
         generarInterrupcion(TipoInterrupcion.ERROR_DIVISION_CERO, proceso, ciclo, 
             "División por cero detectada");
@@ -71,23 +259,87 @@ public class ManejadorInterrupciones {
             "Cambio de contexto");
     }
     
+    public void generarDesalojoPorPrioridad(Proceso proceso, int ciclo) {
+        generarInterrupcion(TipoInterrupcion.CAMBIO_CONTEXTO, proceso, ciclo,
+            "Desalojo por mayor prioridad en cola");
+    }
+
     public boolean hayInterrupciones() {
-        return !colaInterrupciones.estaVacia();
+        return pendientes > 0;
     }
     
     public int getNumeroInterrupciones() {
-        return colaInterrupciones.tamaño();
+        return pendientes;
+    }
+
+    // Si alguna interrupción en cola (atendible o enmascarada) tiene a este proceso como origen
+    public boolean tienePendientes(Proceso proceso) {
+        return pendientesPorPid.contieneClave(proceso.getId());
+    }
+
+    // Sólo las de tipos no enmascarados: las que se van a atender sin que nadie cambie la máscara
+    public boolean tienePendientesAtendibles(Proceso proceso) {
+        int[] porTipo = pendientesPorPid.obtener(proceso.getId());
+        if (porTipo == null) {
+            return false;
+        }
+        for (int i = 0; i < colasPorTipo.length; i++) {
+            if (porTipo[i] > 0 && !mascara[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int getNumeroInterrupciones(TipoInterrupcion tipo) {
+        return colasPorTipo[tipo.ordinal()].tamaño();
     }
     
     public int getContadorTotal() {
         return contadorInterrupciones;
     }
     
+    public int getContadorCoalescidas() {
+        return contadorCoalescidas;
+    }
+
+    public int getContadorPorTipo(TipoInterrupcion tipo) {
+        return contadorPorTipo[tipo.ordinal()];
+    }
+
+    public String obtenerInformacionDetallada() {
+        StringBuilder info = new StringBuilder();
+        info.append("=== CONTROLADOR DE INTERRUPCIONES ===\n");
+        info.append("Pendientes: ").append(pendientes).append("\n");
+        info.append("Total generadas: ").append(contadorInterrupciones).append("\n");
+        info.append("Coalescidas: ").append(contadorCoalescidas).append("\n");
+        for (int i = 0; i < ordenDespacho.length; i++) {
+            TipoInterrupcion tipo = ordenDespacho[i];
+            info.append("  ").append(tipo)
+                    .append(" [prioridad ").append(prioridades[tipo.ordinal()])
+                    .append(mascara[tipo.ordinal()] ? ", enmascarada" : "")
+                    .append("]: ").append(colasPorTipo[tipo.ordinal()].tamaño())
+                    .append(" pendientes, ").append(contadorPorTipo[tipo.ordinal()])
+                    .append(" generadas\n");
+        }
+        return info.toString();
+    }
+
     public void limpiar() {
-        while (!colaInterrupciones.estaVacia()) {
-            colaInterrupciones.desencolar();
+        for (int i = 0; i < colasPorTipo.length; i++) {
+            colasPorTipo[i].limpiar();
+            contadorPorTipo[i] = 0;
         }
+        coalesciblesPorPid.limpiar();
+        pendientesPorPid.limpiar();
+        pendientes = 0;
         contadorInterrupciones = 0;
+        contadorCoalescidas = 0;
+    }
+
+    private void readObject(ObjectInputStream entrada) throws IOException, ClassNotFoundException {
+        entrada.defaultReadObject();
+        tablaVectores = new RutinaInterrupcion[TipoInterrupcion.values().length];
     }
 }
 
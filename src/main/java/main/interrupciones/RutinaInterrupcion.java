@@ -0,0 +1,6 @@
+package main.interrupciones;
+
+public interface RutinaInterrupcion {
+
+    void atender(Interrupcion interrupcion);
+}
@@ -1,14 +1,32 @@
 package main.interrupciones;
 
 public enum TipoInterrupcion {
-    IO_SOLICITUD,
-    IO_COMPLETADA,
-    TIMER_QUANTUM,
-    ERROR_MEMORIA,
-    ERROR_DIVISION_CERO,
-    ERROR_INSTRUCCION_INVALIDA,
-    FINALIZACION_PROCESO,
-    CAMBIO_CONTEXTO
+    // Prioridad por defecto (menor número = mayor prioridad) y si se pueden coalescer
+    IO_SOLICITUD(4, false),
+    IO_COMPLETADA(1, false),
+    TIMER_QUANTUM(0, true),
+    ERROR_MEMORIA(1, false),
+    FALLO_PAGINA(1, false),
+    ERROR_DIVISION_CERO(1, false),
+    ERROR_INSTRUCCION_INVALIDA(1, false),
+    FINALIZACION_PROCESO(2, false),
+    CAMBIO_CONTEXTO(3, true);
+
+    private final int prioridadPorDefecto;
+    private final boolean coalescible;
+
+    TipoInterrupcion(int prioridadPorDefecto, boolean coalescible) {
+        this.prioridadPorDefecto = prioridadPorDefecto;
+        this.coalescible = coalescible;
+    }
+
+    public int getPrioridadPorDefecto() {
+        return prioridadPorDefecto;
+    }
+
+    public boolean isCoalescible() {
+        return coalescible;
+    }
 }
 
 
@@ -0,0 +1,300 @@
+package main.memoria;
+
+import main.modelo.Proceso;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Área de guardado de contextos en disco: al suspender un proceso su contexto de CPU (PC,
+// MAR, instrucciones ejecutadas y quantum) se escribe en una ranura de 32 bytes de un
+// archivo mapeado en memoria, se fuerza a disco y se borra del PCB; al reactivarlo se lee de
+// ahí y se restaura. Las ranuras libres se reutilizan (pila de libres, O(1)) y el archivo
+// crece al doble cuando se llena. Se mide cuántos bytes y cuánto tiempo se van en las
+// escrituras (incluido el force) y en las lecturas.
+//
+// No es un área de intercambio: el simulador no tiene contenido de memoria que llevar a
+// disco (el tamaño en KB sólo se anota) y el PCB sigue en el heap porque las colas y la
+// tabla de procesos lo referencian. Lo único que sale de memoria es el contexto.
+// Quien crea el área la cierra con cerrar() (el sistema lo hace en detener()).
+public class AreaContextos implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    // pid, pc, MAR, instrucciones ejecutadas, quantum, prioridad, tamaño, suma de control
+    public static final int TAMANIO_RANURA = 32;
+    private static final int RANURAS_INICIALES = 1024;
+
+    private final String ruta; // null = archivo temporal
+
+    private transient Path archivo;
+    private transient boolean temporal;
+    private transient FileChannel canal;
+    private transient MappedByteBuffer mapa;
+    private transient int capacidad; // En ranuras
+    private transient int siguienteSinUsar;
+    private transient int[] libres;
+    private transient int numLibres;
+    private transient int ocupadas;
+
+    // Coste de E/S
+    private long escrituras;
+    private long lecturas;
+    private long nanosEscritura;
+    private long nanosLectura;
+    private long crecimientos;
+
+    public AreaContextos(String ruta) throws IOException {
+        this.ruta = ruta;
+        abrir(ruta != null ? Path.of(ruta) : null);
+    }
+
+    private void abrir(Path destino) throws IOException {
+        temporal = destino == null;
+        archivo = temporal ? Files.createTempFile("contextos-", ".ctx") : destino;
+        if (temporal) {
+            archivo.toFile().deleteOnExit();
+        }
+        canal = FileChannel.open(archivo, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        capacidad = RANURAS_INICIALES;
+        mapa = canal.map(FileChannel.MapMode.READ_WRITE, 0, (long) capacidad * TAMANIO_RANURA);
+        siguienteSinUsar = 0;
+        libres = new int[64];
+        numLibres = 0;
+        ocupadas = 0;
+    }
+
+    // Devuelve la ranura donde quedó el contexto
+    public int guardar(Proceso proceso, int tamanioKB) {
+        long inicio = System.nanoTime();
+        int ranura = reservarRanura();
+        int base = ranura * TAMANIO_RANURA;
+        int pid = proceso.getId();
+        int pc = proceso.getProgramCounter();
+        int mar = proceso.getMemoryAddressRegister();
+        int ejecutadas = proceso.getInstruccionesEjecutadas();
+        int quantum = proceso.getQuantumRestante();
+        int prioridad = proceso.getPrioridad();
+        mapa.putInt(base, pid);
+        mapa.putInt(base + 4, pc);
+        mapa.putInt(base + 8, mar);
+        mapa.putInt(base + 12, ejecutadas);
+        mapa.putInt(base + 16, quantum);
+        mapa.putInt(base + 20, prioridad);
+        mapa.putInt(base + 24, tamanioKB);
+        mapa.putInt(base + 28, sumaControl(pid, pc, mar, ejecutadas, quantum, prioridad, tamanioKB));
+        mapa.force(base, TAMANIO_RANURA);
+        // El contexto queda sólo en disco hasta que se cargue
+        proceso.setProgramCounter(0);
+        proceso.setMemoryAddressRegister(0);
+        proceso.setInstruccionesEjecutadas(0);
+        proceso.setQuantumRestante(0);
+        ocupadas++;
+        escrituras++;
+        nanosEscritura += System.nanoTime() - inicio;
+        return ranura;
+    }
+
+    // Restaura el contexto guardado en el PCB y libera la ranura
+    public void cargar(int ranura, Proceso proceso) {
+        long inicio = System.nanoTime();
+        verificarRanura(ranura);
+        int base = ranura * TAMANIO_RANURA;
+        int pid = mapa.getInt(base);
+        int pc = mapa.getInt(base + 4);
+        int mar = mapa.getInt(base + 8);
+        int ejecutadas = mapa.getInt(base + 12);
+        int quantum = mapa.getInt(base + 16);
+        int prioridad = mapa.getInt(base + 20);
+        int tamanioKB = mapa.getInt(base + 24);
+        if (pid != proceso.getId()
+                || mapa.getInt(base + 28) != sumaControl(pid, pc, mar, ejecutadas, quantum, prioridad, tamanioKB)) {
+            throw new IllegalStateException("Ranura de contextos " + ranura + " corrupta o de otro proceso (PID "
+                    + pid + ", se esperaba " + proceso.getId() + ")");
+        }
+        proceso.setProgramCounter(pc);
+        proceso.setMemoryAddressRegister(mar);
+        proceso.setInstruccionesEjecutadas(ejecutadas);
+        proceso.setQuantumRestante(quantum);
+        liberar(ranura);
+        lecturas++;
+        nanosLectura += System.nanoTime() - inicio;
+    }
+
+    // Para un proceso que se elimina estando suspendido: su contexto ya no se va a usar
+    public void liberar(int ranura) {
+        verificarRanura(ranura);
+        if (mapa.getInt(ranura * TAMANIO_RANURA) == 0) {
+            throw new IllegalStateException("La ranura de contextos " + ranura + " ya estaba libre");
+        }
+        mapa.putInt(ranura * TAMANIO_RANURA, 0);
+        if (numLibres == libres.length) {
+            int[] nuevas = new int[libres.length * 2];
+            System.arraycopy(libres, 0, nuevas, 0, numLibres);
+            libres = nuevas;
+        }
+        libres[numLibres++] = ranura;
+        ocupadas--;
+    }
+
+    private int reservarRanura() {
+        if (canal == null) {
+            try {
+                abrir(null);
+            } catch (IOException e) {
+                throw new UncheckedIOException("No se pudo crear el área de contextos", e);
+            }
+        }
+        if (numLibres > 0) {
+            return libres[--numLibres];
+        }
+        if (siguienteSinUsar == capacidad) {
+            crecer();
+        }
+        return siguienteSinUsar++;
+    }
+
+    private void crecer() {
+        mapear(capacidad * 2);
+        crecimientos++;
+    }
+
+    private void mapear(int nueva) {
+        if (!canal.isOpen()) {
+            throw new IllegalStateException("El área de contextos está cerrada");
+        }
+        try {
+            // Mapear más allá del final agranda el archivo; el mapeo anterior lo suelta el GC
+            mapa = canal.map(FileChannel.MapMode.READ_WRITE, 0, (long) nueva * TAMANIO_RANURA);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo agrandar el área de contextos", e);
+        }
+        capacidad = nueva;
+    }
+
+    private void verificarRanura(int ranura) {
+        if (ranura < 0 || ranura >= siguienteSinUsar) {
+            throw new IllegalArgumentException("Ranura de contextos no válida: " + ranura);
+        }
+    }
+
+    private static int sumaControl(int pid, int pc, int mar, int ejecutadas, int quantum, int prioridad,
+            int tamanioKB) {
+        int suma = 0x5A17;
+        suma = 31 * suma + pid;
+        suma = 31 * suma + pc;
+        suma = 31 * suma + mar;
+        suma = 31 * suma + ejecutadas;
+        suma = 31 * suma + quantum;
+        suma = 31 * suma + prioridad;
+        return 31 * suma + tamanioKB;
+    }
+
+    // Las ranuras ya mapeadas siguen legibles (el mapeo no depende del canal), pero el archivo
+    // deja de crecer y, si es temporal, se borra
+    public void cerrar() throws IOException {
+        if (canal == null || !canal.isOpen()) {
+            return;
+        }
+        canal.close();
+        if (temporal) {
+            Files.deleteIfExists(archivo);
+        }
+    }
+
+    public int getOcupadas() {
+        return ocupadas;
+    }
+
+    public long getBytesArchivo() {
+        return (long) capacidad * TAMANIO_RANURA;
+    }
+
+    public long getEscrituras() {
+        return escrituras;
+    }
+
+    public long getLecturas() {
+        return lecturas;
+    }
+
+    public double getMicrosPorEscritura() {
+        return escrituras > 0 ? nanosEscritura / 1000.0 / escrituras : 0;
+    }
+
+    public double getMicrosPorLectura() {
+        return lecturas > 0 ? nanosLectura / 1000.0 / lecturas : 0;
+    }
+
+    public String obtenerInformacionDetallada() {
+        StringBuilder info = new StringBuilder();
+        info.append("=== ÁREA DE CONTEXTOS ===\n");
+        info.append("Archivo: ").append(archivo != null ? archivo : "(sin crear)").append(" (").append(getBytesArchivo() / 1024).append(" KB, ")
+                .append(crecimientos).append(" crecimientos)\n");
+        info.append("Ranuras ocupadas: ").append(ocupadas).append(" de ").append(capacidad).append("\n");
+        info.append(String.format("Escrituras: %d (%.2f µs prom, %d KB) | Lecturas: %d (%.2f µs prom, %d KB)\n",
+                escrituras, getMicrosPorEscritura(), escrituras * TAMANIO_RANURA / 1024,
+                lecturas, getMicrosPorLectura(), lecturas * TAMANIO_RANURA / 1024));
+        return info.toString();
+    }
+
+    // Un punto de control lleva las ranuras en uso; al restaurarlo se copian a un archivo
+    // temporal nuevo (nunca al del sistema original) en las mismas posiciones, así que las
+    // ranuras que guarda GestorMemoria siguen valiendo. Sin ranuras en uso el archivo no se
+    // crea hasta la primera suspensión: restaurar o bifurcar no deja archivos de más
+    private void writeObject(ObjectOutputStream salida) throws IOException {
+        salida.defaultWriteObject();
+        salida.writeInt(siguienteSinUsar);
+        salida.writeInt(numLibres);
+        for (int i = 0; i < numLibres; i++) {
+            salida.writeInt(libres[i]);
+        }
+        byte[] ranura = new byte[TAMANIO_RANURA];
+        for (int r = 0; r < siguienteSinUsar; r++) {
+            mapa.get(r * TAMANIO_RANURA, ranura);
+            salida.write(ranura);
+        }
+    }
+
+    private void readObject(ObjectInputStream entrada) throws IOException, ClassNotFoundException {
+        entrada.defaultReadObject();
+        int usadas = entrada.readInt();
+        int libresGuardadas = entrada.readInt();
+        int[] pila = new int[Math.max(64, libresGuardadas)];
+        for (int i = 0; i < libresGuardadas; i++) {
+            pila[i] = entrada.readInt();
+        }
+        byte[] ranura = new byte[TAMANIO_RANURA];
+        if (usadas == libresGuardadas) {
+            // Ninguna ocupada: se descartan y el área empieza de cero, sin archivo
+            for (int r = 0; r < usadas; r++) {
+                entrada.readFully(ranura);
+            }
+            libres = new int[64];
+            return;
+        }
+        abrir(null);
+        libres = pila;
+        numLibres = libresGuardadas;
+        int necesaria = capacidad;
+        while (necesaria < usadas) {
+            necesaria *= 2;
+        }
+        if (necesaria > capacidad) {
+            mapear(necesaria);
+        }
+        for (int r = 0; r < usadas; r++) {
+            entrada.readFully(ranura);
+            mapa.put(r * TAMANIO_RANURA, ranura);
+        }
+        siguienteSinUsar = usadas;
+        ocupadas = usadas - numLibres;
+    }
+}
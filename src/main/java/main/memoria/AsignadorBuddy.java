@@ -0,0 +1,195 @@
+package main.memoria;
+
+import main.estructuras.MapaSimple;
+
+// Sistema de compañeros: una lista libre doble intrusiva por orden (bloques de 2^k KB).
+// La memoria que no es potencia de dos se cubre con bloques alineados de orden máximo.
+public class AsignadorBuddy implements AsignadorMemoria {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int tamanioTotal;
+    private final int ordenMaximo;
+
+    // Listas libres por orden, enlazadas por dirección de inicio del bloque
+    private final int[] cabezas;
+    private final int[] siguienteLibre;
+    private final int[] anteriorLibre;
+
+    // Por dirección de inicio: orden del bloque libre / asignado (-1 = ninguno)
+    private final int[] ordenLibre;
+    private final int[] ordenAsignado;
+    private final int[] tamanioSolicitado;
+
+    private int memoriaLibre;
+    private int numBloquesLibres;
+    private int fragmentacionInterna;
+
+    public AsignadorBuddy(int tamanioTotal) {
+        this.tamanioTotal = tamanioTotal;
+        this.ordenMaximo = 31 - Integer.numberOfLeadingZeros(Math.max(1, tamanioTotal));
+
+        this.cabezas = new int[ordenMaximo + 1];
+        this.siguienteLibre = new int[tamanioTotal];
+        this.anteriorLibre = new int[tamanioTotal];
+        this.ordenLibre = new int[tamanioTotal];
+        this.ordenAsignado = new int[tamanioTotal];
+        this.tamanioSolicitado = new int[tamanioTotal];
+        limpiar();
+    }
+
+    @Override
+    public int asignar(int tamanio) {
+        if (tamanio <= 0 || tamanio > memoriaLibre) {
+            return -1;
+        }
+        int orden = ordenPara(tamanio);
+        if (orden > ordenMaximo) {
+            return -1;
+        }
+
+        int ordenDisponible = orden;
+        while (ordenDisponible <= ordenMaximo && cabezas[ordenDisponible] == -1) {
+            ordenDisponible++;
+        }
+        if (ordenDisponible > ordenMaximo) {
+            return -1;
+        }
+
+        int direccion = cabezas[ordenDisponible];
+        removerLibre(direccion, ordenDisponible);
+
+        // Dividir hasta el orden pedido, dejando libre la mitad superior
+        while (ordenDisponible > orden) {
+            ordenDisponible--;
+            agregarLibre(direccion + (1 << ordenDisponible), ordenDisponible);
+        }
+
+        ordenAsignado[direccion] = orden;
+        tamanioSolicitado[direccion] = tamanio;
+        memoriaLibre -= 1 << orden;
+        fragmentacionInterna += (1 << orden) - tamanio;
+        return direccion;
+    }
+
+    @Override
+    public int liberar(int direccion) {
+        if (direccion < 0 || direccion >= tamanioTotal || ordenAsignado[direccion] < 0) {
+            return -1;
+        }
+        int orden = ordenAsignado[direccion];
+        ordenAsignado[direccion] = -1;
+        memoriaLibre += 1 << orden;
+        fragmentacionInterna -= (1 << orden) - tamanioSolicitado[direccion];
+        int liberado = 1 << orden;
+
+        // Fusionar con el compañero mientras esté libre con el mismo orden
+        while (orden < ordenMaximo) {
+            int companero = direccion ^ (1 << orden);
+            if (companero >= tamanioTotal || ordenLibre[companero] != orden) {
+                break;
+            }
+            removerLibre(companero, orden);
+            direccion = Math.min(direccion, companero);
+            orden++;
+        }
+        agregarLibre(direccion, orden);
+        return liberado;
+    }
+
+    private int ordenPara(int tamanio) {
+        return tamanio <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(tamanio - 1);
+    }
+
+    private void agregarLibre(int direccion, int orden) {
+        ordenLibre[direccion] = orden;
+        anteriorLibre[direccion] = -1;
+        siguienteLibre[direccion] = cabezas[orden];
+        if (cabezas[orden] != -1) {
+            anteriorLibre[cabezas[orden]] = direccion;
+        }
+        cabezas[orden] = direccion;
+        numBloquesLibres++;
+    }
+
+    private void removerLibre(int direccion, int orden) {
+        int anterior = anteriorLibre[direccion];
+        int siguiente = siguienteLibre[direccion];
+        if (anterior != -1) {
+            siguienteLibre[anterior] = siguiente;
+        } else {
+            cabezas[orden] = siguiente;
+        }
+        if (siguiente != -1) {
+            anteriorLibre[siguiente] = anterior;
+        }
+        ordenLibre[direccion] = -1;
+        numBloquesLibres--;
+    }
+
+    @Override
+    public void limpiar() {
+        for (int i = 0; i <= ordenMaximo; i++) {
+            cabezas[i] = -1;
+        }
+        for (int i = 0; i < tamanioTotal; i++) {
+            ordenLibre[i] = -1;
+            ordenAsignado[i] = -1;
+        }
+        numBloquesLibres = 0;
+
+        // Cubrir el espacio con los bloques alineados más grandes posibles
+        int direccion = 0;
+        while (direccion < tamanioTotal) {
+            int orden = direccion == 0 ? ordenMaximo : Integer.numberOfTrailingZeros(direccion);
+            while (direccion + (1 << orden) > tamanioTotal) {
+                orden--;
+            }
+            agregarLibre(direccion, orden);
+            direccion += 1 << orden;
+        }
+        memoriaLibre = tamanioTotal;
+        fragmentacionInterna = 0;
+    }
+
+    @Override
+    public int getMemoriaLibre() {
+        return memoriaLibre;
+    }
+
+    @Override
+    public int getBloqueLibreMasGrande() {
+        for (int orden = ordenMaximo; orden >= 0; orden--) {
+            if (cabezas[orden] != -1) {
+                return 1 << orden;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public int getNumBloquesLibres() {
+        return numBloquesLibres;
+    }
+
+    @Override
+    public int getFragmentacionInterna() {
+        return fragmentacionInterna;
+    }
+
+    @Override
+    public boolean soportaCompactacion() {
+        return false;
+    }
+
+    @Override
+    public MapaSimple<Integer, Integer> compactar() {
+        // Los bloques buddy deben quedar alineados; no se reubican
+        return new MapaSimple<>();
+    }
+
+    @Override
+    public EstrategiaAsignacion getEstrategia() {
+        return EstrategiaAsignacion.BUDDY;
+    }
+}
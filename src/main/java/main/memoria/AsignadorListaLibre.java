@@ -0,0 +1,183 @@
+package main.memoria;
+
+import main.estructuras.ListaSimple;
+import main.estructuras.MapaSimple;
+import main.estructuras.Ordenador;
+
+// Lista libre ordenada por dirección (coalescencia, first-fit, next-fit)
+// con un índice paralelo ordenado por tamaño para best-fit.
+public class AsignadorListaLibre implements AsignadorMemoria {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int tamanioTotal;
+    private final EstrategiaAsignacion estrategia;
+
+    private final IndiceBloques libresPorDireccion;
+    private final IndiceBloques libresPorTamanio;
+    private final MapaSimple<Integer, Integer> asignados; // dirección -> tamaño
+
+    private int memoriaLibre;
+    private int ultimaPosicion; // Para next-fit
+
+    public AsignadorListaLibre(int tamanioTotal, EstrategiaAsignacion estrategia) {
+        if (estrategia == EstrategiaAsignacion.BUDDY || estrategia == EstrategiaAsignacion.SEGREGADA) {
+            throw new IllegalArgumentException("Estrategia no soportada por la lista libre: " + estrategia);
+        }
+        this.tamanioTotal = tamanioTotal;
+        this.estrategia = estrategia;
+        this.libresPorDireccion = new IndiceBloques(false);
+        this.libresPorTamanio = new IndiceBloques(true);
+        this.asignados = new MapaSimple<>();
+        limpiar();
+    }
+
+    @Override
+    public int asignar(int tamanio) {
+        if (tamanio <= 0 || tamanio > memoriaLibre) {
+            return -1;
+        }
+
+        IndiceBloques.Nodo hueco;
+        switch (estrategia) {
+            case BEST_FIT:
+                hueco = libresPorTamanio.menorQueCabe(tamanio);
+                break;
+            case NEXT_FIT:
+                hueco = libresPorDireccion.primeroQueCabe(tamanio, ultimaPosicion);
+                if (hueco == null) {
+                    hueco = libresPorDireccion.primeroQueCabe(tamanio, 0);
+                }
+                break;
+            default:
+                hueco = libresPorDireccion.primeroQueCabe(tamanio, 0);
+                break;
+        }
+        if (hueco == null) {
+            return -1;
+        }
+
+        int direccion = hueco.getDireccion();
+        int tamanioHueco = hueco.getTamanio();
+        removerLibre(direccion, tamanioHueco);
+        if (tamanioHueco > tamanio) {
+            agregarLibre(direccion + tamanio, tamanioHueco - tamanio);
+        }
+
+        asignados.poner(direccion, tamanio);
+        memoriaLibre -= tamanio;
+        ultimaPosicion = direccion + tamanio;
+        return direccion;
+    }
+
+    @Override
+    public int liberar(int direccion) {
+        Integer tamanio = asignados.remover(direccion);
+        if (tamanio == null) {
+            return -1;
+        }
+
+        int inicio = direccion;
+        int fin = direccion + tamanio;
+
+        // Coalescer con los huecos vecinos
+        IndiceBloques.Nodo anterior = libresPorDireccion.predecesor(direccion);
+        if (anterior != null && anterior.getDireccion() + anterior.getTamanio() == inicio) {
+            inicio = anterior.getDireccion();
+            removerLibre(anterior.getDireccion(), anterior.getTamanio());
+        }
+        IndiceBloques.Nodo siguiente = libresPorDireccion.sucesor(direccion);
+        if (siguiente != null && siguiente.getDireccion() == fin) {
+            fin += siguiente.getTamanio();
+            removerLibre(siguiente.getDireccion(), siguiente.getTamanio());
+        }
+
+        agregarLibre(inicio, fin - inicio);
+        memoriaLibre += tamanio;
+        return tamanio;
+    }
+
+    @Override
+    public MapaSimple<Integer, Integer> compactar() {
+        MapaSimple<Integer, Integer> reubicaciones = new MapaSimple<>();
+        ListaSimple<Integer> direcciones = asignados.claves();
+        Ordenador.ordenarRapido(direcciones, (a, b) -> Integer.compare(a, b));
+
+        MapaSimple<Integer, Integer> tamanios = new MapaSimple<>();
+        for (int i = 0; i < direcciones.tamaño(); i++) {
+            tamanios.poner(direcciones.obtener(i), asignados.obtener(direcciones.obtener(i)));
+        }
+        asignados.limpiar();
+
+        int cursor = 0;
+        for (int i = 0; i < direcciones.tamaño(); i++) {
+            int direccion = direcciones.obtener(i);
+            int tamanio = tamanios.obtener(direccion);
+            if (direccion != cursor) {
+                reubicaciones.poner(direccion, cursor);
+            }
+            asignados.poner(cursor, tamanio);
+            cursor += tamanio;
+        }
+
+        libresPorDireccion.limpiar();
+        libresPorTamanio.limpiar();
+        if (cursor < tamanioTotal) {
+            agregarLibre(cursor, tamanioTotal - cursor);
+        }
+        ultimaPosicion = cursor;
+        return reubicaciones;
+    }
+
+    private void agregarLibre(int direccion, int tamanio) {
+        libresPorDireccion.insertar(direccion, tamanio);
+        libresPorTamanio.insertar(direccion, tamanio);
+    }
+
+    private void removerLibre(int direccion, int tamanio) {
+        libresPorDireccion.eliminar(direccion, tamanio);
+        libresPorTamanio.eliminar(direccion, tamanio);
+    }
+
+    @Override
+    public void limpiar() {
+        libresPorDireccion.limpiar();
+        libresPorTamanio.limpiar();
+        asignados.limpiar();
+        if (tamanioTotal > 0) {
+            agregarLibre(0, tamanioTotal);
+        }
+        memoriaLibre = tamanioTotal;
+        ultimaPosicion = 0;
+    }
+
+    @Override
+    public int getMemoriaLibre() {
+        return memoriaLibre;
+    }
+
+    @Override
+    public int getBloqueLibreMasGrande() {
+        return libresPorDireccion.getTamanioMaximo();
+    }
+
+    @Override
+    public int getNumBloquesLibres() {
+        return libresPorDireccion.tamaño();
+    }
+
+    @Override
+    public int getFragmentacionInterna() {
+        return 0;
+    }
+
+    @Override
+    public boolean soportaCompactacion() {
+        return true;
+    }
+
+    @Override
+    public EstrategiaAsignacion getEstrategia() {
+        return estrategia;
+    }
+}
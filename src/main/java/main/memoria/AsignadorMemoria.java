@@ -0,0 +1,52 @@
+package main.memoria;
+
+import main.estructuras.MapaSimple;
+import java.io.Serializable;
+
+// Asignador del espacio de direcciones contiguo de la memoria principal (unidades en KB)
+public interface AsignadorMemoria extends Serializable {
+
+    // Devuelve la dirección base del bloque o -1 si no hay un hueco suficiente
+    int asignar(int tamanio);
+
+    // Devuelve el tamaño liberado o -1 si la dirección no estaba asignada
+    int liberar(int direccion);
+
+    int getMemoriaLibre();
+
+    int getBloqueLibreMasGrande();
+
+    int getNumBloquesLibres();
+
+    // KB asignados de más por redondeo al tamaño de bloque
+    int getFragmentacionInterna();
+
+    boolean soportaCompactacion();
+
+    // Desplaza los bloques ocupados hacia el inicio; devuelve dirección anterior -> nueva
+    MapaSimple<Integer, Integer> compactar();
+
+    EstrategiaAsignacion getEstrategia();
+
+    void limpiar();
+
+    // 1 - (mayor hueco / memoria libre): 0 = un único hueco, cerca de 1 = muy fragmentada
+    default double getFragmentacionExterna() {
+        int libre = getMemoriaLibre();
+        if (libre == 0) {
+            return 0.0;
+        }
+        return 1.0 - (double) getBloqueLibreMasGrande() / libre;
+    }
+
+    static AsignadorMemoria crear(EstrategiaAsignacion estrategia, int tamanioTotal) {
+        switch (estrategia) {
+            case BUDDY:
+                return new AsignadorBuddy(tamanioTotal);
+            case SEGREGADA:
+                return new AsignadorSegregado(tamanioTotal);
+            default:
+                return new AsignadorListaLibre(tamanioTotal, estrategia);
+        }
+    }
+}
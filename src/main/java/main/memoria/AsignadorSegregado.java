@@ -0,0 +1,178 @@
+package main.memoria;
+
+import main.estructuras.MapaSimple;
+
+// Listas libres segregadas por clase de tamaño (1, 2, 4 ... 128 KB).
+// Los bloques liberados vuelven a la lista de su clase sin coalescer; las clases vacías
+// y las peticiones grandes se atienden desde una reserva best-fit.
+public class AsignadorSegregado implements AsignadorMemoria {
+
+    private static final long serialVersionUID = 1L;
+    private static final int NUM_CLASES = 8;
+
+    private final AsignadorListaLibre reserva;
+
+    // Pilas de bloques libres por clase, enlazadas por dirección
+    private final int[] cabezas;
+    private final int[] longitudClase;
+    private final int[] siguienteLibre;
+
+    // Dirección -> clase del bloque (-1 = bloque grande servido por la reserva)
+    private final MapaSimple<Integer, Integer> claseAsignada;
+    private final MapaSimple<Integer, Integer> tamanioSolicitado;
+
+    private int fragmentacionInterna;
+
+    public AsignadorSegregado(int tamanioTotal) {
+        this.reserva = new AsignadorListaLibre(tamanioTotal, EstrategiaAsignacion.BEST_FIT);
+        this.cabezas = new int[NUM_CLASES];
+        this.longitudClase = new int[NUM_CLASES];
+        this.siguienteLibre = new int[tamanioTotal];
+        this.claseAsignada = new MapaSimple<>();
+        this.tamanioSolicitado = new MapaSimple<>();
+        limpiar();
+    }
+
+    @Override
+    public int asignar(int tamanio) {
+        if (tamanio <= 0) {
+            return -1;
+        }
+        int clase = claseDe(tamanio);
+        if (clase < 0) {
+            int direccion = reserva.asignar(tamanio);
+            if (direccion >= 0) {
+                registrar(direccion, -1, tamanio, tamanio);
+            }
+            return direccion;
+        }
+
+        int direccion = desapilar(clase);
+        if (direccion < 0) {
+            direccion = reserva.asignar(1 << clase);
+            if (direccion < 0) {
+                // Devolver los bloques cacheados a la reserva para que coalescan
+                vaciarClases();
+                direccion = reserva.asignar(1 << clase);
+                if (direccion < 0) {
+                    return -1;
+                }
+            }
+        }
+        registrar(direccion, clase, 1 << clase, tamanio);
+        return direccion;
+    }
+
+    @Override
+    public int liberar(int direccion) {
+        Integer clase = claseAsignada.remover(direccion);
+        if (clase == null) {
+            return -1;
+        }
+        int solicitado = tamanioSolicitado.remover(direccion);
+        if (clase < 0) {
+            return reserva.liberar(direccion);
+        }
+        fragmentacionInterna -= (1 << clase) - solicitado;
+        apilar(direccion, clase);
+        return 1 << clase;
+    }
+
+    private void registrar(int direccion, int clase, int tamanioBloque, int solicitado) {
+        claseAsignada.poner(direccion, clase);
+        tamanioSolicitado.poner(direccion, solicitado);
+        fragmentacionInterna += tamanioBloque - solicitado;
+    }
+
+    private int claseDe(int tamanio) {
+        int clase = tamanio <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(tamanio - 1);
+        return clase < NUM_CLASES ? clase : -1;
+    }
+
+    private void apilar(int direccion, int clase) {
+        siguienteLibre[direccion] = cabezas[clase];
+        cabezas[clase] = direccion;
+        longitudClase[clase]++;
+    }
+
+    private int desapilar(int clase) {
+        int direccion = cabezas[clase];
+        if (direccion >= 0) {
+            cabezas[clase] = siguienteLibre[direccion];
+            longitudClase[clase]--;
+        }
+        return direccion;
+    }
+
+    private void vaciarClases() {
+        for (int clase = 0; clase < NUM_CLASES; clase++) {
+            int direccion = desapilar(clase);
+            while (direccion >= 0) {
+                // La reserva sólo libera direcciones que ella misma asignó
+                reserva.liberar(direccion);
+                direccion = desapilar(clase);
+            }
+        }
+    }
+
+    @Override
+    public void limpiar() {
+        reserva.limpiar();
+        for (int i = 0; i < NUM_CLASES; i++) {
+            cabezas[i] = -1;
+            longitudClase[i] = 0;
+        }
+        claseAsignada.limpiar();
+        tamanioSolicitado.limpiar();
+        fragmentacionInterna = 0;
+    }
+
+    @Override
+    public int getMemoriaLibre() {
+        int libre = reserva.getMemoriaLibre();
+        for (int clase = 0; clase < NUM_CLASES; clase++) {
+            libre += longitudClase[clase] << clase;
+        }
+        return libre;
+    }
+
+    @Override
+    public int getBloqueLibreMasGrande() {
+        int mayor = reserva.getBloqueLibreMasGrande();
+        for (int clase = NUM_CLASES - 1; clase >= 0; clase--) {
+            if (longitudClase[clase] > 0) {
+                return Math.max(mayor, 1 << clase);
+            }
+        }
+        return mayor;
+    }
+
+    @Override
+    public int getNumBloquesLibres() {
+        int total = reserva.getNumBloquesLibres();
+        for (int clase = 0; clase < NUM_CLASES; clase++) {
+            total += longitudClase[clase];
+        }
+        return total;
+    }
+
+    @Override
+    public int getFragmentacionInterna() {
+        return fragmentacionInterna;
+    }
+
+    @Override
+    public boolean soportaCompactacion() {
+        return false;
+    }
+
+    @Override
+    public MapaSimple<Integer, Integer> compactar() {
+        return new MapaSimple<>();
+    }
+
+    @Override
+    public EstrategiaAsignacion getEstrategia() {
+        return EstrategiaAsignacion.SEGREGADA;
+    }
+}
@@ -0,0 +1,69 @@
+package main.memoria;
+
+import java.io.Serializable;
+
+public class EntradaTablaPaginas implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private int marco;
+    private boolean presente;
+    private boolean referenciada;
+    private boolean modificada;
+    private int ultimoUso;
+
+    public EntradaTablaPaginas() {
+        this.marco = -1;
+        this.presente = false;
+        this.referenciada = false;
+        this.modificada = false;
+        this.ultimoUso = -1;
+    }
+
+    public void cargar(int marco, int ciclo) {
+        this.marco = marco;
+        this.presente = true;
+        this.referenciada = false;
+        this.modificada = false;
+        this.ultimoUso = ciclo;
+    }
+
+    public void descargar() {
+        this.marco = -1;
+        this.presente = false;
+        this.referenciada = false;
+        this.modificada = false;
+    }
+
+    public int getMarco() {
+        return marco;
+    }
+
+    public boolean isPresente() {
+        return presente;
+    }
+
+    public boolean isReferenciada() {
+        return referenciada;
+    }
+
+    public void setReferenciada(boolean referenciada) {
+        this.referenciada = referenciada;
+    }
+
+    public boolean isModificada() {
+        return modificada;
+    }
+
+    public void setModificada(boolean modificada) {
+        this.modificada = modificada;
+    }
+
+    public int getUltimoUso() {
+        return ultimoUso;
+    }
+
+    public void setUltimoUso(int ultimoUso) {
+        this.ultimoUso = ultimoUso;
+    }
+}
@@ -0,0 +1,9 @@
+package main.memoria;
+
+public enum EstrategiaAsignacion {
+    FIRST_FIT, // Primer hueco (por dirección) donde cabe el bloque
+    BEST_FIT, // Hueco más pequeño donde cabe el bloque
+    NEXT_FIT, // First-fit que continúa desde la última asignación
+    BUDDY, // Sistema de compañeros con bloques potencia de dos
+    SEGREGADA // Listas libres separadas por clase de tamaño
+}
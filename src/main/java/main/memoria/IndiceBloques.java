@@ -0,0 +1,252 @@
+package main.memoria;
+
+import java.io.Serializable;
+
+// Árbol AVL de bloques (dirección, tamaño) aumentado con el tamaño máximo del subárbol.
+// Puede ordenarse por dirección (vecinos, first-fit, next-fit) o por tamaño (best-fit).
+public class IndiceBloques implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final boolean porTamanio;
+    private Nodo raiz;
+    private int tamaño;
+
+    public IndiceBloques(boolean porTamanio) {
+        this.porTamanio = porTamanio;
+        this.raiz = null;
+        this.tamaño = 0;
+    }
+
+    public void insertar(int direccion, int tamanioBloque) {
+        raiz = insertar(raiz, direccion, tamanioBloque);
+        tamaño++;
+    }
+
+    public boolean eliminar(int direccion, int tamanioBloque) {
+        int antes = tamaño;
+        raiz = eliminar(raiz, clave(direccion, tamanioBloque));
+        return tamaño < antes;
+    }
+
+    // Primer bloque (por dirección) con tamaño >= minimo y dirección >= desde
+    public Nodo primeroQueCabe(int minimo, int desde) {
+        return primeroQueCabe(raiz, minimo, desde);
+    }
+
+    // Bloque más pequeño con tamaño >= minimo (índice por tamaño)
+    public Nodo menorQueCabe(int minimo) {
+        long buscada = clave(0, minimo);
+        Nodo actual = raiz;
+        Nodo mejor = null;
+        while (actual != null) {
+            if (actual.clave >= buscada) {
+                mejor = actual;
+                actual = actual.izquierdo;
+            } else {
+                actual = actual.derecho;
+            }
+        }
+        return mejor;
+    }
+
+    // Bloque con la mayor dirección menor que la dada (índice por dirección)
+    public Nodo predecesor(int direccion) {
+        Nodo actual = raiz;
+        Nodo mejor = null;
+        while (actual != null) {
+            if (actual.direccion < direccion) {
+                mejor = actual;
+                actual = actual.derecho;
+            } else {
+                actual = actual.izquierdo;
+            }
+        }
+        return mejor;
+    }
+
+    // Bloque con la menor dirección mayor que la dada (índice por dirección)
+    public Nodo sucesor(int direccion) {
+        Nodo actual = raiz;
+        Nodo mejor = null;
+        while (actual != null) {
+            if (actual.direccion > direccion) {
+                mejor = actual;
+                actual = actual.izquierdo;
+            } else {
+                actual = actual.derecho;
+            }
+        }
+        return mejor;
+    }
+
+    public int getTamanioMaximo() {
+        return raiz != null ? raiz.maximo : 0;
+    }
+
+    public int tamaño() {
+        return tamaño;
+    }
+
+    public boolean estaVacio() {
+        return raiz == null;
+    }
+
+    public void limpiar() {
+        raiz = null;
+        tamaño = 0;
+    }
+
+    private long clave(int direccion, int tamanioBloque) {
+        if (porTamanio) {
+            return ((long) tamanioBloque << 32) | (direccion & 0xFFFFFFFFL);
+        }
+        return direccion;
+    }
+
+    private Nodo primeroQueCabe(Nodo nodo, int minimo, int desde) {
+        if (nodo == null || nodo.maximo < minimo) {
+            return null;
+        }
+        if (nodo.direccion >= desde) {
+            Nodo izquierda = primeroQueCabe(nodo.izquierdo, minimo, desde);
+            if (izquierda != null) {
+                return izquierda;
+            }
+            if (nodo.tamanio >= minimo) {
+                return nodo;
+            }
+        }
+        return primeroQueCabe(nodo.derecho, minimo, desde);
+    }
+
+    private Nodo insertar(Nodo nodo, int direccion, int tamanioBloque) {
+        if (nodo == null) {
+            return new Nodo(clave(direccion, tamanioBloque), direccion, tamanioBloque);
+        }
+        long nueva = clave(direccion, tamanioBloque);
+        if (nueva < nodo.clave) {
+            nodo.izquierdo = insertar(nodo.izquierdo, direccion, tamanioBloque);
+        } else {
+            nodo.derecho = insertar(nodo.derecho, direccion, tamanioBloque);
+        }
+        return balancear(nodo);
+    }
+
+    private Nodo eliminar(Nodo nodo, long buscada) {
+        if (nodo == null) {
+            return null;
+        }
+        if (buscada < nodo.clave) {
+            nodo.izquierdo = eliminar(nodo.izquierdo, buscada);
+        } else if (buscada > nodo.clave) {
+            nodo.derecho = eliminar(nodo.derecho, buscada);
+        } else {
+            tamaño--;
+            if (nodo.izquierdo == null) {
+                return nodo.derecho;
+            }
+            if (nodo.derecho == null) {
+                return nodo.izquierdo;
+            }
+            // Reemplazar por el mínimo del subárbol derecho
+            Nodo minimo = nodo.derecho;
+            while (minimo.izquierdo != null) {
+                minimo = minimo.izquierdo;
+            }
+            nodo.derecho = eliminarMinimo(nodo.derecho);
+            minimo.derecho = nodo.derecho;
+            minimo.izquierdo = nodo.izquierdo;
+            return balancear(minimo);
+        }
+        return balancear(nodo);
+    }
+
+    private Nodo eliminarMinimo(Nodo nodo) {
+        if (nodo.izquierdo == null) {
+            return nodo.derecho;
+        }
+        nodo.izquierdo = eliminarMinimo(nodo.izquierdo);
+        return balancear(nodo);
+    }
+
+    private Nodo balancear(Nodo nodo) {
+        actualizar(nodo);
+        int factor = altura(nodo.izquierdo) - altura(nodo.derecho);
+        if (factor > 1) {
+            if (altura(nodo.izquierdo.izquierdo) < altura(nodo.izquierdo.derecho)) {
+                nodo.izquierdo = rotarIzquierda(nodo.izquierdo);
+            }
+            return rotarDerecha(nodo);
+        }
+        if (factor < -1) {
+            if (altura(nodo.derecho.derecho) < altura(nodo.derecho.izquierdo)) {
+                nodo.derecho = rotarDerecha(nodo.derecho);
+            }
+            return rotarIzquierda(nodo);
+        }
+        return nodo;
+    }
+
+    private Nodo rotarDerecha(Nodo nodo) {
+        Nodo nuevaRaiz = nodo.izquierdo;
+        nodo.izquierdo = nuevaRaiz.derecho;
+        nuevaRaiz.derecho = nodo;
+        actualizar(nodo);
+        actualizar(nuevaRaiz);
+        return nuevaRaiz;
+    }
+
+    private Nodo rotarIzquierda(Nodo nodo) {
+        Nodo nuevaRaiz = nodo.derecho;
+        nodo.derecho = nuevaRaiz.izquierdo;
+        nuevaRaiz.izquierdo = nodo;
+        actualizar(nodo);
+        actualizar(nuevaRaiz);
+        return nuevaRaiz;
+    }
+
+    private void actualizar(Nodo nodo) {
+        nodo.altura = 1 + Math.max(altura(nodo.izquierdo), altura(nodo.derecho));
+        int maximo = nodo.tamanio;
+        if (nodo.izquierdo != null && nodo.izquierdo.maximo > maximo) {
+            maximo = nodo.izquierdo.maximo;
+        }
+        if (nodo.derecho != null && nodo.derecho.maximo > maximo) {
+            maximo = nodo.derecho.maximo;
+        }
+        nodo.maximo = maximo;
+    }
+
+    private int altura(Nodo nodo) {
+        return nodo != null ? nodo.altura : 0;
+    }
+
+    public static class Nodo implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final long clave;
+        private final int direccion;
+        private final int tamanio;
+        private int maximo;
+        private int altura;
+        private Nodo izquierdo;
+        private Nodo derecho;
+
+        Nodo(long clave, int direccion, int tamanio) {
+            this.clave = clave;
+            this.direccion = direccion;
+            this.tamanio = tamanio;
+            this.maximo = tamanio;
+            this.altura = 1;
+        }
+
+        public int getDireccion() {
+            return direccion;
+        }
+
+        public int getTamanio() {
+            return tamanio;
+        }
+    }
+}
@@ -0,0 +1,418 @@
+package main.memoria;
+
+import main.estructuras.ListaSimple;
+import main.estructuras.MapaSimple;
+import java.io.Serializable;
+
+public class MemoriaVirtual implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final int ENTRADAS_TLB = 16;
+    private static final int VENTANA_CONJUNTO_TRABAJO = 20; // tau, en ciclos
+    // Los contadores de AGING se desplazan en cada tic del temporizador, no en cada ciclo;
+    // con 8 bits recuerdan así las referencias de los últimos 8 tics
+    private static final int CICLOS_POR_TIC_AGING = 10;
+
+    private final int tamanioPaginaKB;
+    private final int numMarcos;
+    private PoliticaReemplazoPaginas politica;
+
+    // Tablas de páginas por proceso (PID -> tabla)
+    private final MapaSimple<Integer, TablaPaginas> tablas;
+    private final TLB tlb;
+
+    // Marcos físicos: dueño y página cargada (-1 = libre)
+    private final int[] pidMarco;
+    private final int[] paginaMarco;
+    private final int[] contadorAging;
+
+    // Pila de marcos libres
+    private final int[] marcosLibres;
+    private int numLibres;
+
+    // Lista doble intrusiva de marcos en orden de carga (FIFO / segunda oportunidad)
+    private final int[] siguienteFifo;
+    private final int[] anteriorFifo;
+    private int cabezaFifo;
+    private int colaFifo;
+
+    // Manecilla para CLOCK y WSCLOCK
+    private int manecilla;
+
+    // Estadísticas
+    private long totalAccesos;
+    private long totalFallosPagina;
+    private long totalReemplazos;
+    private long totalEscriturasDisco;
+    private boolean ultimoAccesoFallo;
+
+    public MemoriaVirtual(int numMarcos, int tamanioPaginaKB, PoliticaReemplazoPaginas politica) {
+        this.tamanioPaginaKB = tamanioPaginaKB;
+        this.numMarcos = numMarcos;
+        this.politica = politica;
+
+        this.tablas = new MapaSimple<>();
+        this.tlb = new TLB(ENTRADAS_TLB);
+
+        this.pidMarco = new int[numMarcos];
+        this.paginaMarco = new int[numMarcos];
+        this.contadorAging = new int[numMarcos];
+        this.marcosLibres = new int[numMarcos];
+        this.siguienteFifo = new int[numMarcos];
+        this.anteriorFifo = new int[numMarcos];
+
+        for (int i = 0; i < numMarcos; i++) {
+            pidMarco[i] = -1;
+            paginaMarco[i] = -1;
+            // Se apilan al revés para entregar primero el marco 0
+            marcosLibres[i] = numMarcos - 1 - i;
+            siguienteFifo[i] = -1;
+            anteriorFifo[i] = -1;
+        }
+        this.numLibres = numMarcos;
+        this.cabezaFifo = -1;
+        this.colaFifo = -1;
+        this.manecilla = 0;
+
+        this.totalAccesos = 0;
+        this.totalFallosPagina = 0;
+        this.totalReemplazos = 0;
+        this.totalEscriturasDisco = 0;
+        this.ultimoAccesoFallo = false;
+    }
+
+    public void crearTablaPaginas(int pid, int tamanioKB) {
+        int numPaginas = (tamanioKB + tamanioPaginaKB - 1) / tamanioPaginaKB;
+        tablas.poner(pid, new TablaPaginas(pid, numPaginas));
+    }
+
+    public void liberarProceso(int pid) {
+        TablaPaginas tabla = tablas.remover(pid);
+        if (tabla == null) {
+            return;
+        }
+        for (int pagina = 0; pagina < tabla.getNumPaginas(); pagina++) {
+            EntradaTablaPaginas entrada = tabla.obtenerEntrada(pagina);
+            if (entrada.isPresente()) {
+                liberarMarco(entrada.getMarco());
+                entrada.descargar();
+            }
+        }
+        tlb.invalidarProceso(pid);
+    }
+
+    // Traduce una dirección virtual (en bytes); retorna la dirección física o -1
+    public int traducir(int pid, int direccionVirtual, boolean escritura, int ciclo) {
+        ultimoAccesoFallo = false;
+        TablaPaginas tabla = tablas.obtener(pid);
+        if (tabla == null || direccionVirtual < 0) {
+            return -1;
+        }
+
+        int bytesPagina = tamanioPaginaKB * 1024;
+        int pagina = direccionVirtual / bytesPagina;
+        int desplazamiento = direccionVirtual % bytesPagina;
+        EntradaTablaPaginas entrada = tabla.obtenerEntrada(pagina);
+        if (entrada == null) {
+            return -1;
+        }
+
+        totalAccesos++;
+        int marco = tlb.buscar(pid, pagina);
+        if (marco < 0) {
+            if (!entrada.isPresente()) {
+                // Fallo de página: paginación por demanda
+                ultimoAccesoFallo = true;
+                totalFallosPagina++;
+                cargarPagina(tabla, pagina, ciclo);
+            }
+            marco = entrada.getMarco();
+            tlb.insertar(pid, pagina, marco);
+        }
+
+        entrada.setReferenciada(true);
+        entrada.setUltimoUso(ciclo);
+        if (escritura) {
+            entrada.setModificada(true);
+        }
+        return marco * bytesPagina + desplazamiento;
+    }
+
+    private void cargarPagina(TablaPaginas tabla, int pagina, int ciclo) {
+        int marco;
+        if (numLibres > 0) {
+            marco = marcosLibres[--numLibres];
+        } else {
+            marco = seleccionarVictima(ciclo);
+            desalojarMarco(marco);
+            totalReemplazos++;
+        }
+
+        pidMarco[marco] = tabla.getPid();
+        paginaMarco[marco] = pagina;
+        contadorAging[marco] = 0;
+        agregarAlFinalFifo(marco);
+
+        tabla.obtenerEntrada(pagina).cargar(marco, ciclo);
+        tabla.registrarCarga();
+    }
+
+    private int seleccionarVictima(int ciclo) {
+        switch (politica) {
+            case CLOCK:
+                return victimaClock();
+            case SEGUNDA_OPORTUNIDAD:
+                return victimaSegundaOportunidad();
+            case WSCLOCK:
+                return victimaWSClock(ciclo);
+            case AGING:
+                return victimaAging();
+            case FIFO:
+            default:
+                return cabezaFifo;
+        }
+    }
+
+    private int victimaClock() {
+        while (true) {
+            int marco = manecilla;
+            manecilla = (manecilla + 1) % numMarcos;
+            EntradaTablaPaginas entrada = entradaDeMarco(marco);
+            if (entrada == null) {
+                continue;
+            }
+            if (!entrada.isReferenciada()) {
+                return marco;
+            }
+            entrada.setReferenciada(false);
+        }
+    }
+
+    private int victimaSegundaOportunidad() {
+        while (true) {
+            int marco = cabezaFifo;
+            EntradaTablaPaginas entrada = entradaDeMarco(marco);
+            if (!entrada.isReferenciada()) {
+                return marco;
+            }
+            // Se perdona y pasa al final de la cola
+            entrada.setReferenciada(false);
+            removerDeFifo(marco);
+            agregarAlFinalFifo(marco);
+        }
+    }
+
+    private int victimaWSClock(int ciclo) {
+        int candidataSucia = -1;
+        int masAntigua = -1;
+        int usoMasAntiguo = Integer.MAX_VALUE;
+
+        // Como máximo dos vueltas: en la primera se limpian bits de referencia
+        for (int paso = 0; paso < 2 * numMarcos; paso++) {
+            int marco = manecilla;
+            manecilla = (manecilla + 1) % numMarcos;
+            EntradaTablaPaginas entrada = entradaDeMarco(marco);
+            if (entrada == null) {
+                continue;
+            }
+
+            if (entrada.isReferenciada()) {
+                entrada.setReferenciada(false);
+                entrada.setUltimoUso(ciclo);
+                continue;
+            }
+
+            if (ciclo - entrada.getUltimoUso() >= VENTANA_CONJUNTO_TRABAJO) {
+                if (!entrada.isModificada()) {
+                    return marco;
+                }
+                // Fuera del conjunto de trabajo pero sucia: se agenda su escritura
+                entrada.setModificada(false);
+                totalEscriturasDisco++;
+                if (candidataSucia < 0) {
+                    candidataSucia = marco;
+                }
+            }
+
+            if (entrada.getUltimoUso() < usoMasAntiguo) {
+                usoMasAntiguo = entrada.getUltimoUso();
+                masAntigua = marco;
+            }
+        }
+
+        if (candidataSucia >= 0) {
+            return candidataSucia;
+        }
+        return masAntigua >= 0 ? masAntigua : cabezaFifo;
+    }
+
+    private int victimaAging() {
+        int victima = -1;
+        for (int marco = 0; marco < numMarcos; marco++) {
+            if (pidMarco[marco] < 0) {
+                continue;
+            }
+            if (victima < 0 || contadorAging[marco] < contadorAging[victima]) {
+                victima = marco;
+            }
+        }
+        return victima;
+    }
+
+    // Se invoca una vez por ciclo de reloj
+    public void avanzarCiclo(int ciclo) {
+        if (politica != PoliticaReemplazoPaginas.AGING || ciclo % CICLOS_POR_TIC_AGING != 0) {
+            return;
+        }
+        for (int marco = 0; marco < numMarcos; marco++) {
+            EntradaTablaPaginas entrada = entradaDeMarco(marco);
+            if (entrada == null) {
+                continue;
+            }
+            contadorAging[marco] = (contadorAging[marco] >>> 1) | (entrada.isReferenciada() ? 0x80 : 0);
+            entrada.setReferenciada(false);
+        }
+    }
+
+    private void desalojarMarco(int marco) {
+        TablaPaginas tabla = tablas.obtener(pidMarco[marco]);
+        if (tabla != null) {
+            EntradaTablaPaginas entrada = tabla.obtenerEntrada(paginaMarco[marco]);
+            if (entrada.isModificada()) {
+                totalEscriturasDisco++;
+            }
+            entrada.descargar();
+            tabla.registrarDescarga();
+            tlb.invalidar(pidMarco[marco], paginaMarco[marco]);
+        }
+        removerDeFifo(marco);
+        pidMarco[marco] = -1;
+        paginaMarco[marco] = -1;
+    }
+
+    private void liberarMarco(int marco) {
+        removerDeFifo(marco);
+        pidMarco[marco] = -1;
+        paginaMarco[marco] = -1;
+        marcosLibres[numLibres++] = marco;
+    }
+
+    private EntradaTablaPaginas entradaDeMarco(int marco) {
+        if (pidMarco[marco] < 0) {
+            return null;
+        }
+        TablaPaginas tabla = tablas.obtener(pidMarco[marco]);
+        return tabla != null ? tabla.obtenerEntrada(paginaMarco[marco]) : null;
+    }
+
+    private void agregarAlFinalFifo(int marco) {
+        anteriorFifo[marco] = colaFifo;
+        siguienteFifo[marco] = -1;
+        if (colaFifo >= 0) {
+            siguienteFifo[colaFifo] = marco;
+        } else {
+            cabezaFifo = marco;
+        }
+        colaFifo = marco;
+    }
+
+    private void removerDeFifo(int marco) {
+        int anterior = anteriorFifo[marco];
+        int siguiente = siguienteFifo[marco];
+        if (anterior >= 0) {
+            siguienteFifo[anterior] = siguiente;
+        } else if (cabezaFifo == marco) {
+            cabezaFifo = siguiente;
+        }
+        if (siguiente >= 0) {
+            anteriorFifo[siguiente] = anterior;
+        } else if (colaFifo == marco) {
+            colaFifo = anterior;
+        }
+        anteriorFifo[marco] = -1;
+        siguienteFifo[marco] = -1;
+    }
+
+    public int calcularConjuntoTrabajo(int pid, int ciclo) {
+        TablaPaginas tabla = tablas.obtener(pid);
+        return tabla != null ? tabla.calcularConjuntoTrabajo(ciclo, VENTANA_CONJUNTO_TRABAJO) : 0;
+    }
+
+    public int calcularConjuntoTrabajoTotal(int ciclo) {
+        int total = 0;
+        ListaSimple<TablaPaginas> todas = tablas.valores();
+        for (int i = 0; i < todas.tamaño(); i++) {
+            total += todas.obtener(i).calcularConjuntoTrabajo(ciclo, VENTANA_CONJUNTO_TRABAJO);
+        }
+        return total;
+    }
+
+    public TablaPaginas getTablaPaginas(int pid) {
+        return tablas.obtener(pid);
+    }
+
+    public boolean isUltimoAccesoFallo() {
+        return ultimoAccesoFallo;
+    }
+
+    public PoliticaReemplazoPaginas getPolitica() {
+        return politica;
+    }
+
+    public void setPolitica(PoliticaReemplazoPaginas politica) {
+        this.politica = politica;
+    }
+
+    public int getTamanioPaginaKB() {
+        return tamanioPaginaKB;
+    }
+
+    public int getNumMarcos() {
+        return numMarcos;
+    }
+
+    public int getMarcosLibres() {
+        return numLibres;
+    }
+
+    public TLB getTLB() {
+        return tlb;
+    }
+
+    public long getTotalAccesos() {
+        return totalAccesos;
+    }
+
+    public long getTotalFallosPagina() {
+        return totalFallosPagina;
+    }
+
+    public long getTotalReemplazos() {
+        return totalReemplazos;
+    }
+
+    public long getTotalEscriturasDisco() {
+        return totalEscriturasDisco;
+    }
+
+    public double getTasaFallos() {
+        return totalAccesos > 0 ? (double) totalFallosPagina / totalAccesos * 100.0 : 0.0;
+    }
+
+    public String obtenerInformacionDetallada(int ciclo) {
+        StringBuilder info = new StringBuilder();
+        info.append("=== MEMORIA VIRTUAL ===\n");
+        info.append("Página: ").append(tamanioPaginaKB).append(" KB | Marcos: ").append(numMarcos)
+                .append(" (libres: ").append(numLibres).append(")\n");
+        info.append("Política de reemplazo: ").append(politica).append("\n");
+        info.append("Accesos: ").append(totalAccesos)
+                .append(String.format(" | Fallos de página: %d (%.2f%%)", totalFallosPagina, getTasaFallos()))
+                .append(" | Reemplazos: ").append(totalReemplazos)
+                .append(" | Escrituras a disco: ").append(totalEscriturasDisco).append("\n");
+        info.append(String.format("TLB: %d entradas | Aciertos: %d | Fallos: %d | Tasa aciertos: %.2f%%\n",
+                tlb.getNumEntradas(), tlb.getAciertos(), tlb.getFallos(), tlb.getTasaAciertos()));
+        info.append("Conjunto de trabajo total (tau=").append(VENTANA_CONJUNTO_TRABAJO).append("): ")
+                .append(calcularConjuntoTrabajoTotal(ciclo)).append(" páginas\n");
+        return info.toString();
+    }
+}
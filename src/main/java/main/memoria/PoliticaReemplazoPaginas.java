@@ -0,0 +1,9 @@
+package main.memoria;
+
+public enum PoliticaReemplazoPaginas {
+    FIFO, // Sale la página cargada hace más tiempo
+    CLOCK, // Aproximación de LRU con bit de referencia y manecilla
+    SEGUNDA_OPORTUNIDAD, // FIFO que perdona a las páginas referenciadas
+    WSCLOCK, // Clock sobre el conjunto de trabajo (ventana tau)
+    AGING // Contador de envejecimiento de 8 bits por marco
+}
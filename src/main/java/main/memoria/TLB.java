@@ -0,0 +1,95 @@
+package main.memoria;
+
+import java.io.Serializable;
+
+public class TLB implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int[] pids;
+    private final int[] paginas;
+    private final int[] marcos;
+    private final long[] ultimoUso;
+    private long reloj;
+
+    private long aciertos;
+    private long fallos;
+
+    public TLB(int numEntradas) {
+        this.pids = new int[numEntradas];
+        this.paginas = new int[numEntradas];
+        this.marcos = new int[numEntradas];
+        this.ultimoUso = new long[numEntradas];
+        for (int i = 0; i < numEntradas; i++) {
+            pids[i] = -1;
+        }
+        this.reloj = 0;
+        this.aciertos = 0;
+        this.fallos = 0;
+    }
+
+    // Retorna el marco o -1 si la traducción no está en la TLB
+    public int buscar(int pid, int pagina) {
+        reloj++;
+        for (int i = 0; i < pids.length; i++) {
+            if (pids[i] == pid && paginas[i] == pagina) {
+                ultimoUso[i] = reloj;
+                aciertos++;
+                return marcos[i];
+            }
+        }
+        fallos++;
+        return -1;
+    }
+
+    public void insertar(int pid, int pagina, int marco) {
+        // Reemplazo LRU entre las entradas (la TLB es pequeña)
+        int victima = 0;
+        for (int i = 0; i < pids.length; i++) {
+            if (pids[i] == -1) {
+                victima = i;
+                break;
+            }
+            if (ultimoUso[i] < ultimoUso[victima]) {
+                victima = i;
+            }
+        }
+        pids[victima] = pid;
+        paginas[victima] = pagina;
+        marcos[victima] = marco;
+        ultimoUso[victima] = ++reloj;
+    }
+
+    public void invalidar(int pid, int pagina) {
+        for (int i = 0; i < pids.length; i++) {
+            if (pids[i] == pid && paginas[i] == pagina) {
+                pids[i] = -1;
+            }
+        }
+    }
+
+    public void invalidarProceso(int pid) {
+        for (int i = 0; i < pids.length; i++) {
+            if (pids[i] == pid) {
+                pids[i] = -1;
+            }
+        }
+    }
+
+    public int getNumEntradas() {
+        return pids.length;
+    }
+
+    public long getAciertos() {
+        return aciertos;
+    }
+
+    public long getFallos() {
+        return fallos;
+    }
+
+    public double getTasaAciertos() {
+        long total = aciertos + fallos;
+        return total > 0 ? (double) aciertos / total * 100.0 : 0.0;
+    }
+}
@@ -0,0 +1,67 @@
+package main.memoria;
+
+import java.io.Serializable;
+
+public class TablaPaginas implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int pid;
+    private final EntradaTablaPaginas[] entradas;
+    private int paginasResidentes;
+    private int fallosPagina;
+
+    public TablaPaginas(int pid, int numPaginas) {
+        this.pid = pid;
+        this.entradas = new EntradaTablaPaginas[Math.max(1, numPaginas)];
+        for (int i = 0; i < entradas.length; i++) {
+            entradas[i] = new EntradaTablaPaginas();
+        }
+        this.paginasResidentes = 0;
+        this.fallosPagina = 0;
+    }
+
+    public EntradaTablaPaginas obtenerEntrada(int pagina) {
+        if (pagina < 0 || pagina >= entradas.length) {
+            return null;
+        }
+        return entradas[pagina];
+    }
+
+    public int getPid() {
+        return pid;
+    }
+
+    public int getNumPaginas() {
+        return entradas.length;
+    }
+
+    public int getPaginasResidentes() {
+        return paginasResidentes;
+    }
+
+    public void registrarCarga() {
+        paginasResidentes++;
+        fallosPagina++;
+    }
+
+    public void registrarDescarga() {
+        paginasResidentes--;
+    }
+
+    public int getFallosPagina() {
+        return fallosPagina;
+    }
+
+    // Páginas usadas dentro de la ventana (ciclo - ventana, ciclo]
+    public int calcularConjuntoTrabajo(int ciclo, int ventana) {
+        int paginas = 0;
+        for (int i = 0; i < entradas.length; i++) {
+            int uso = entradas[i].getUltimoUso();
+            if (uso >= 0 && ciclo - uso < ventana) {
+                paginas++;
+            }
+        }
+        return paginas;
+    }
+}
@@ -0,0 +1,174 @@
+package main.metricas;
+
+import main.modelo.TipoProceso;
+import java.io.Serializable;
+
+// Resumen de los procesos terminados guardado por columnas en arreglos primitivos: unos
+// 29 bytes por proceso en lugar del PCB completo, así que el gestor puede soltar los PCB
+// terminados sin perder su historia. Agregar es O(1) amortizado; los índices siguen el
+// orden de finalización.
+public class ArchivoProcesos implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final int CAPACIDAD_INICIAL = 256;
+    private static final TipoProceso[] TIPOS = TipoProceso.values();
+
+    private int[] pid;
+    private int[] cicloLlegada;
+    private int[] cicloFinalizacion;
+    private int[] ciclosEspera;
+    private int[] tiempoRespuesta;
+    private int[] ciclosEjecucion;
+    private int[] prioridad;
+    private byte[] tipo;
+    private int tamanio;
+
+    public ArchivoProcesos() {
+        reiniciar();
+    }
+
+    public void agregar(int pid, int cicloLlegada, int cicloFinalizacion, long ciclosEspera, long tiempoRespuesta,
+            long ciclosEjecucion, TipoProceso tipo, int prioridad) {
+        if (tamanio == this.pid.length) {
+            crecer();
+        }
+        this.pid[tamanio] = pid;
+        this.cicloLlegada[tamanio] = cicloLlegada;
+        this.cicloFinalizacion[tamanio] = cicloFinalizacion;
+        this.ciclosEspera[tamanio] = saturar(ciclosEspera);
+        this.tiempoRespuesta[tamanio] = saturar(tiempoRespuesta);
+        this.ciclosEjecucion[tamanio] = saturar(ciclosEjecucion);
+        this.prioridad[tamanio] = prioridad;
+        this.tipo[tamanio] = (byte) (tipo != null ? tipo.ordinal() : 0);
+        tamanio++;
+    }
+
+    private static int saturar(long valor) {
+        return (int) Math.min(valor, Integer.MAX_VALUE);
+    }
+
+    private void crecer() {
+        int nueva = pid.length * 2;
+        pid = copiar(pid, nueva);
+        cicloLlegada = copiar(cicloLlegada, nueva);
+        cicloFinalizacion = copiar(cicloFinalizacion, nueva);
+        ciclosEspera = copiar(ciclosEspera, nueva);
+        tiempoRespuesta = copiar(tiempoRespuesta, nueva);
+        ciclosEjecucion = copiar(ciclosEjecucion, nueva);
+        prioridad = copiar(prioridad, nueva);
+        byte[] tipos = new byte[nueva];
+        System.arraycopy(tipo, 0, tipos, 0, tamanio);
+        tipo = tipos;
+    }
+
+    private int[] copiar(int[] origen, int capacidad) {
+        int[] destino = new int[capacidad];
+        System.arraycopy(origen, 0, destino, 0, tamanio);
+        return destino;
+    }
+
+    public void reiniciar() {
+        pid = new int[CAPACIDAD_INICIAL];
+        cicloLlegada = new int[CAPACIDAD_INICIAL];
+        cicloFinalizacion = new int[CAPACIDAD_INICIAL];
+        ciclosEspera = new int[CAPACIDAD_INICIAL];
+        tiempoRespuesta = new int[CAPACIDAD_INICIAL];
+        ciclosEjecucion = new int[CAPACIDAD_INICIAL];
+        prioridad = new int[CAPACIDAD_INICIAL];
+        tipo = new byte[CAPACIDAD_INICIAL];
+        tamanio = 0;
+    }
+
+    public int tamaño() {
+        return tamanio;
+    }
+
+    public int getPid(int indice) {
+        verificarIndice(indice);
+        return pid[indice];
+    }
+
+    public int getCicloLlegada(int indice) {
+        verificarIndice(indice);
+        return cicloLlegada[indice];
+    }
+
+    public int getCicloFinalizacion(int indice) {
+        verificarIndice(indice);
+        return cicloFinalizacion[indice];
+    }
+
+    public int getTiempoRetorno(int indice) {
+        verificarIndice(indice);
+        return cicloFinalizacion[indice] - cicloLlegada[indice];
+    }
+
+    public int getCiclosEspera(int indice) {
+        verificarIndice(indice);
+        return ciclosEspera[indice];
+    }
+
+    public int getTiempoRespuesta(int indice) {
+        verificarIndice(indice);
+        return tiempoRespuesta[indice];
+    }
+
+    public int getCiclosEjecucion(int indice) {
+        verificarIndice(indice);
+        return ciclosEjecucion[indice];
+    }
+
+    public int getPrioridad(int indice) {
+        verificarIndice(indice);
+        return prioridad[indice];
+    }
+
+    public TipoProceso getTipo(int indice) {
+        verificarIndice(indice);
+        return TIPOS[tipo[indice]];
+    }
+
+    private void verificarIndice(int indice) {
+        if (indice < 0 || indice >= tamanio) {
+            throw new IndexOutOfBoundsException("Índice fuera de rango: " + indice);
+        }
+    }
+
+    // Búsqueda lineal sobre la columna de PID (-1 si no está archivado)
+    public int indiceDePid(int buscado) {
+        for (int i = 0; i < tamanio; i++) {
+            if (pid[i] == buscado) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public long getBytesOcupados() {
+        return (long) pid.length * (7 * Integer.BYTES + 1);
+    }
+
+    public String obtenerInformacionDetallada() {
+        long[] cantidad = new long[TIPOS.length];
+        long[] retorno = new long[TIPOS.length];
+        long[] espera = new long[TIPOS.length];
+        for (int i = 0; i < tamanio; i++) {
+            cantidad[tipo[i]]++;
+            retorno[tipo[i]] += cicloFinalizacion[i] - cicloLlegada[i];
+            espera[tipo[i]] += ciclosEspera[i];
+        }
+
+        StringBuilder info = new StringBuilder();
+        info.append("=== ARCHIVO DE PROCESOS TERMINADOS ===\n");
+        info.append("Procesos archivados: ").append(tamanio)
+                .append(" (").append(getBytesOcupados() / 1024).append(" KB)\n");
+        for (int t = 0; t < TIPOS.length; t++) {
+            if (cantidad[t] > 0) {
+                info.append(String.format("%s: %d | Retorno prom: %.2f | Espera prom: %.2f\n",
+                        TIPOS[t], cantidad[t], (double) retorno[t] / cantidad[t],
+                        (double) espera[t] / cantidad[t]));
+            }
+        }
+        return info.toString();
+    }
+}
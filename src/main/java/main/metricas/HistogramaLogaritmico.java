@@ -0,0 +1,129 @@
+package main.metricas;
+
+import java.io.Serializable;
+
+// Histograma de cubetas log-lineales (estilo HDR): los valores menores que 64 se
+// cuentan exactos y el resto con un error relativo máximo de 1/32 (~3%).
+// Memoria fija e independiente del número de muestras; dos histogramas se fusionan sumando cubetas.
+public class HistogramaLogaritmico implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final int BITS_SUBCUBETA = 5;
+    private static final int SUBCUBETAS = 1 << BITS_SUBCUBETA; // 32 por potencia de dos
+    private static final int LINEALES = SUBCUBETAS * 2; // 0..63 exactos
+    private static final int NUM_CUBETAS = LINEALES + (62 - BITS_SUBCUBETA) * SUBCUBETAS;
+
+    private final long[] cubetas;
+    private long total;
+    private long minimo;
+    private long maximo;
+    private double suma;
+
+    public HistogramaLogaritmico() {
+        this.cubetas = new long[NUM_CUBETAS];
+        reiniciar();
+    }
+
+    public void registrar(long valor) {
+        if (valor < 0) {
+            valor = 0;
+        }
+        cubetas[indiceDe(valor)]++;
+        total++;
+        suma += valor;
+        if (valor < minimo) {
+            minimo = valor;
+        }
+        if (valor > maximo) {
+            maximo = valor;
+        }
+    }
+
+    public void fusionar(HistogramaLogaritmico otro) {
+        for (int i = 0; i < NUM_CUBETAS; i++) {
+            cubetas[i] += otro.cubetas[i];
+        }
+        total += otro.total;
+        suma += otro.suma;
+        minimo = Math.min(minimo, otro.minimo);
+        maximo = Math.max(maximo, otro.maximo);
+    }
+
+    // Percentil en [0, 100]; devuelve el punto medio de la cubeta acotado por mínimo y máximo
+    public long percentil(double percentil) {
+        if (total == 0) {
+            return 0;
+        }
+        long objetivo = (long) Math.ceil(total * Math.max(0.0, Math.min(100.0, percentil)) / 100.0);
+        if (objetivo < 1) {
+            objetivo = 1;
+        }
+
+        long acumulado = 0;
+        for (int i = 0; i < NUM_CUBETAS; i++) {
+            acumulado += cubetas[i];
+            if (acumulado >= objetivo) {
+                long valor = limiteInferior(i) + (anchoCubeta(i) - 1) / 2;
+                return Math.max(minimo, Math.min(maximo, valor));
+            }
+        }
+        return maximo;
+    }
+
+    private static int indiceDe(long valor) {
+        if (valor < LINEALES) {
+            return (int) valor;
+        }
+        int exponente = 63 - Long.numberOfLeadingZeros(valor); // >= 6
+        int desplazamiento = exponente - BITS_SUBCUBETA;
+        int sub = (int) (valor >>> desplazamiento) - SUBCUBETAS; // 0..31
+        return LINEALES + (desplazamiento - 1) * SUBCUBETAS + sub;
+    }
+
+    private static long limiteInferior(int indice) {
+        if (indice < LINEALES) {
+            return indice;
+        }
+        int desplazamiento = (indice - LINEALES) / SUBCUBETAS + 1;
+        int sub = (indice - LINEALES) % SUBCUBETAS;
+        return (long) (SUBCUBETAS + sub) << desplazamiento;
+    }
+
+    private static long anchoCubeta(int indice) {
+        if (indice < LINEALES) {
+            return 1;
+        }
+        return 1L << ((indice - LINEALES) / SUBCUBETAS + 1);
+    }
+
+    public void reiniciar() {
+        for (int i = 0; i < NUM_CUBETAS; i++) {
+            cubetas[i] = 0;
+        }
+        total = 0;
+        minimo = Long.MAX_VALUE;
+        maximo = 0;
+        suma = 0.0;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getMinimo() {
+        return total > 0 ? minimo : 0;
+    }
+
+    public long getMaximo() {
+        return maximo;
+    }
+
+    public double getPromedio() {
+        return total > 0 ? suma / total : 0.0;
+    }
+
+    public String resumen() {
+        return String.format("prom %.2f | p50 %d | p95 %d | p99 %d | máx %d",
+                getPromedio(), percentil(50), percentil(95), percentil(99), getMaximo());
+    }
+}
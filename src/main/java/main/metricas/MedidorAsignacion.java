@@ -0,0 +1,34 @@
+package main.metricas;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+// Bytes asignados en el heap por el hilo actual, según la JVM. Permite medir la presión
+// sobre el recolector de un tramo de código (por ejemplo, un ciclo de simulación).
+public final class MedidorAsignacion {
+
+    private static final com.sun.management.ThreadMXBean HILOS = obtenerHilos();
+
+    private MedidorAsignacion() {
+    }
+
+    private static com.sun.management.ThreadMXBean obtenerHilos() {
+        ThreadMXBean hilos = ManagementFactory.getThreadMXBean();
+        if (hilos instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean extendido = (com.sun.management.ThreadMXBean) hilos;
+            if (extendido.isThreadAllocatedMemorySupported() && extendido.isThreadAllocatedMemoryEnabled()) {
+                return extendido;
+            }
+        }
+        return null;
+    }
+
+    public static boolean isDisponible() {
+        return HILOS != null;
+    }
+
+    // -1 si la JVM no lo soporta
+    public static long bytesHiloActual() {
+        return HILOS != null ? HILOS.getCurrentThreadAllocatedBytes() : -1;
+    }
+}
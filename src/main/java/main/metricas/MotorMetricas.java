@@ -0,0 +1,361 @@
+package main.metricas;
+
+import main.estructuras.MapaSimple;
+import main.modelo.EstadoProceso;
+import main.modelo.ObservadorEstado;
+import main.modelo.Proceso;
+import java.io.Serializable;
+
+// Métricas de planificación medidas en ciclos a partir de las transiciones de estado.
+// Sólo se guarda el registro de los procesos vivos; los terminados se vuelcan a histogramas.
+public class MotorMetricas implements ObservadorEstado, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    // Slowdown se registra en centésimas para conservar dos decimales en el histograma
+    private static final int ESCALA_SLOWDOWN = 100;
+
+    private final MapaSimple<Integer, RegistroProceso> registros;
+
+    private final HistogramaLogaritmico espera;
+    private final HistogramaLogaritmico respuesta;
+    private final HistogramaLogaritmico retorno;
+    private final HistogramaLogaritmico slowdown;
+
+    // Resumen por proceso de los terminados (null = sólo histogramas)
+    private ArchivoProcesos archivo;
+
+    private int cicloActual;
+    private long ciclosCpuOcupada;
+    private long ciclosCpuLibre;
+
+    private int procesosCreados;
+    private int procesosTerminados;
+    private int procesosEliminados;
+    private int cambiosContexto;
+    private int expulsiones;
+    private int desalojosPorPrioridad;
+    private int ultimoPidDespachado;
+    private long totalCiclosBloqueado;
+    private long totalCiclosSuspendido;
+
+    // Acumulados para el índice de equidad de Jain sobre el slowdown
+    private double sumaSlowdown;
+    private double sumaSlowdownCuadrado;
+
+    public MotorMetricas() {
+        this.registros = new MapaSimple<>();
+        this.espera = new HistogramaLogaritmico();
+        this.respuesta = new HistogramaLogaritmico();
+        this.retorno = new HistogramaLogaritmico();
+        this.slowdown = new HistogramaLogaritmico();
+        reiniciar();
+    }
+
+    public synchronized void avanzarCiclo(int ciclo) {
+        this.cicloActual = ciclo;
+    }
+
+    public synchronized void actualizarUtilizacionCPU(long ciclosOcupada, long ciclosLibre) {
+        this.ciclosCpuOcupada = ciclosOcupada;
+        this.ciclosCpuLibre = ciclosLibre;
+    }
+
+    @Override
+    public synchronized void procesoCreado(Proceso proceso) {
+        if (!registros.contieneClave(proceso.getId())) {
+            registros.poner(proceso.getId(), new RegistroProceso(cicloActual, proceso.getEstado()));
+            procesosCreados++;
+        }
+    }
+
+    @Override
+    public synchronized void estadoCambiado(Proceso proceso, EstadoProceso anterior, EstadoProceso nuevo) {
+        RegistroProceso registro = registros.obtener(proceso.getId());
+        if (registro == null) {
+            // Proceso creado fuera de GestorProcesos: se toma como llegada el primer evento
+            procesoCreado(proceso);
+            registro = registros.obtener(proceso.getId());
+            registro.estado = anterior;
+        }
+
+        registro.acumular(cicloActual);
+        registro.estado = nuevo;
+
+        switch (nuevo) {
+            case EJECUCION:
+                if (registro.cicloPrimeraEjecucion < 0) {
+                    registro.cicloPrimeraEjecucion = cicloActual;
+                }
+                if (ultimoPidDespachado != proceso.getId()) {
+                    cambiosContexto++;
+                    ultimoPidDespachado = proceso.getId();
+                }
+                break;
+            case LISTO:
+                if (anterior == EstadoProceso.EJECUCION) {
+                    expulsiones++;
+                }
+                break;
+            case TERMINADO:
+                registrarFinalizacion(registro);
+                if (archivo != null) {
+                    archivar(proceso, registro);
+                }
+                registros.remover(proceso.getId());
+                break;
+            default:
+                break;
+        }
+    }
+
+    // Llega también por los terminados que se liberan (su registro ya no está). Si el registro
+    // sigue, el proceso se eliminó sin terminar: sale de "en curso" pero no entra en los histogramas
+    @Override
+    public synchronized void procesoEliminado(Proceso proceso) {
+        if (registros.remover(proceso.getId()) != null) {
+            procesosEliminados++;
+        }
+    }
+
+    private void registrarFinalizacion(RegistroProceso registro) {
+        long tiempoRetorno = cicloActual - registro.cicloLlegada;
+        long tiempoRespuesta = registro.cicloPrimeraEjecucion >= 0
+                ? registro.cicloPrimeraEjecucion - registro.cicloLlegada
+                : tiempoRetorno;
+        double factor = (double) tiempoRetorno / Math.max(1, registro.ciclosEjecucion);
+
+        retorno.registrar(tiempoRetorno);
+        espera.registrar(registro.ciclosEspera);
+        respuesta.registrar(tiempoRespuesta);
+        slowdown.registrar(Math.round(factor * ESCALA_SLOWDOWN));
+
+        sumaSlowdown += factor;
+        sumaSlowdownCuadrado += factor * factor;
+        totalCiclosBloqueado += registro.ciclosBloqueado;
+        totalCiclosSuspendido += registro.ciclosSuspendido;
+        procesosTerminados++;
+    }
+
+    private void archivar(Proceso proceso, RegistroProceso registro) {
+        long tiempoRespuesta = registro.cicloPrimeraEjecucion >= 0
+                ? registro.cicloPrimeraEjecucion - registro.cicloLlegada
+                : cicloActual - registro.cicloLlegada;
+        archivo.agregar(proceso.getId(), registro.cicloLlegada, cicloActual, registro.ciclosEspera,
+                tiempoRespuesta, registro.ciclosEjecucion, proceso.getTipo(), proceso.getPrioridad());
+    }
+
+    public synchronized ArchivoProcesos getArchivo() {
+        return archivo;
+    }
+
+    // A partir de ahora cada proceso que termina deja su resumen en el archivo
+    public synchronized void setArchivo(ArchivoProcesos archivo) {
+        this.archivo = archivo;
+    }
+
+    public synchronized void reiniciar() {
+        registros.limpiar();
+        if (archivo != null) {
+            archivo.reiniciar();
+        }
+        espera.reiniciar();
+        respuesta.reiniciar();
+        retorno.reiniciar();
+        slowdown.reiniciar();
+        cicloActual = 0;
+        ciclosCpuOcupada = 0;
+        ciclosCpuLibre = 0;
+        procesosCreados = 0;
+        procesosTerminados = 0;
+        procesosEliminados = 0;
+        cambiosContexto = 0;
+        expulsiones = 0;
+        desalojosPorPrioridad = 0;
+        ultimoPidDespachado = -1;
+        totalCiclosBloqueado = 0;
+        totalCiclosSuspendido = 0;
+        sumaSlowdown = 0.0;
+        sumaSlowdownCuadrado = 0.0;
+    }
+
+    // Fusiona los histogramas de otra ejecución (por ejemplo, varias semillas del mismo escenario)
+    public synchronized void fusionar(MotorMetricas otro) {
+        synchronized (otro) {
+            espera.fusionar(otro.espera);
+            respuesta.fusionar(otro.respuesta);
+            retorno.fusionar(otro.retorno);
+            slowdown.fusionar(otro.slowdown);
+            procesosTerminados += otro.procesosTerminados;
+            procesosEliminados += otro.procesosEliminados;
+            cambiosContexto += otro.cambiosContexto;
+            expulsiones += otro.expulsiones;
+            desalojosPorPrioridad += otro.desalojosPorPrioridad;
+            sumaSlowdown += otro.sumaSlowdown;
+            sumaSlowdownCuadrado += otro.sumaSlowdownCuadrado;
+            totalCiclosBloqueado += otro.totalCiclosBloqueado;
+            totalCiclosSuspendido += otro.totalCiclosSuspendido;
+        }
+    }
+
+    public synchronized double getUtilizacionCPU() {
+        long total = ciclosCpuOcupada + ciclosCpuLibre;
+        return total > 0 ? 100.0 * ciclosCpuOcupada / total : 0.0;
+    }
+
+    public synchronized double getThroughput() {
+        return cicloActual > 0 ? (double) procesosTerminados / cicloActual : 0.0;
+    }
+
+    public synchronized double getTiempoEsperaPromedio() {
+        return espera.getPromedio();
+    }
+
+    public synchronized double getTiempoRespuestaPromedio() {
+        return respuesta.getPromedio();
+    }
+
+    public synchronized double getTiempoRetornoPromedio() {
+        return retorno.getPromedio();
+    }
+
+    public synchronized double getSlowdownPromedio() {
+        return slowdown.getPromedio() / ESCALA_SLOWDOWN;
+    }
+
+    public synchronized long getPercentilEspera(double percentil) {
+        return espera.percentil(percentil);
+    }
+
+    public synchronized long getPercentilRespuesta(double percentil) {
+        return respuesta.percentil(percentil);
+    }
+
+    public synchronized long getPercentilRetorno(double percentil) {
+        return retorno.percentil(percentil);
+    }
+
+    public synchronized double getPercentilSlowdown(double percentil) {
+        return (double) slowdown.percentil(percentil) / ESCALA_SLOWDOWN;
+    }
+
+    // 1.0 = todos los procesos sufren el mismo slowdown; 1/n = uno solo acapara la penalización
+    public synchronized double getIndiceEquidad() {
+        if (procesosTerminados == 0 || sumaSlowdownCuadrado == 0.0) {
+            return 1.0;
+        }
+        return (sumaSlowdown * sumaSlowdown) / (procesosTerminados * sumaSlowdownCuadrado);
+    }
+
+    public synchronized double getTiempoBloqueadoPromedio() {
+        return promedio(totalCiclosBloqueado);
+    }
+
+    private double promedio(long total) {
+        return procesosTerminados > 0 ? (double) total / procesosTerminados : 0.0;
+    }
+
+    public synchronized int getCambiosContexto() {
+        return cambiosContexto;
+    }
+
+    public synchronized int getExpulsiones() {
+        return expulsiones;
+    }
+
+    // Parte de las expulsiones: las que provocó un listo de mejor prioridad
+    public synchronized void registrarDesalojoPorPrioridad() {
+        desalojosPorPrioridad++;
+    }
+
+    public synchronized int getDesalojosPorPrioridad() {
+        return desalojosPorPrioridad;
+    }
+
+    public synchronized int getProcesosTerminados() {
+        return procesosTerminados;
+    }
+
+    public synchronized int getProcesosEliminados() {
+        return procesosEliminados;
+    }
+
+    public synchronized int getProcesosCreados() {
+        return procesosCreados;
+    }
+
+    public synchronized int getProcesosEnCurso() {
+        return registros.tamaño();
+    }
+
+    public synchronized String obtenerInformacionDetallada() {
+        StringBuilder info = new StringBuilder();
+        info.append("=== MÉTRICAS DE PLANIFICACIÓN ===\n");
+        info.append("Procesos creados: ").append(procesosCreados)
+                .append(" | Terminados: ").append(procesosTerminados)
+                .append(" | Eliminados: ").append(procesosEliminados)
+                .append(" | En curso: ").append(registros.tamaño()).append("\n");
+        info.append(String.format("Throughput: %.4f procesos/ciclo\n", getThroughput()));
+        info.append(String.format("Utilización CPU: %.1f%% (%d ocupada / %d libre)\n",
+                getUtilizacionCPU(), ciclosCpuOcupada, ciclosCpuLibre));
+        info.append("Cambios de contexto: ").append(cambiosContexto)
+                .append(" | Expulsiones: ").append(expulsiones)
+                .append(" (por prioridad: ").append(desalojosPorPrioridad).append(")\n");
+        info.append("Espera (ciclos): ").append(espera.resumen()).append("\n");
+        info.append("Respuesta (ciclos): ").append(respuesta.resumen()).append("\n");
+        info.append("Retorno (ciclos): ").append(retorno.resumen()).append("\n");
+        info.append(String.format("Slowdown: prom %.2f | p50 %.2f | p95 %.2f | p99 %.2f\n",
+                getSlowdownPromedio(), getPercentilSlowdown(50), getPercentilSlowdown(95),
+                getPercentilSlowdown(99)));
+        info.append(String.format("Bloqueo prom: %.2f ciclos | Suspensión prom: %.2f ciclos\n",
+                promedio(totalCiclosBloqueado), promedio(totalCiclosSuspendido)));
+        info.append(String.format("Índice de equidad (Jain): %.3f\n", getIndiceEquidad()));
+        return info.toString();
+    }
+
+    private static class RegistroProceso implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        final int cicloLlegada;
+        int cicloPrimeraEjecucion;
+        int cicloUltimoCambio;
+        EstadoProceso estado;
+        long ciclosEspera;
+        long ciclosEjecucion;
+        long ciclosBloqueado;
+        long ciclosSuspendido;
+
+        RegistroProceso(int cicloLlegada, EstadoProceso estado) {
+            this.cicloLlegada = cicloLlegada;
+            this.cicloPrimeraEjecucion = -1;
+            this.cicloUltimoCambio = cicloLlegada;
+            this.estado = estado;
+        }
+
+        // Imputa los ciclos desde el último cambio al estado que se abandona
+        void acumular(int ciclo) {
+            long transcurrido = ciclo - cicloUltimoCambio;
+            cicloUltimoCambio = ciclo;
+            if (estado == null) {
+                return;
+            }
+            switch (estado) {
+                case NUEVO:
+                case LISTO:
+                    ciclosEspera += transcurrido;
+                    break;
+                case EJECUCION:
+                    ciclosEjecucion += transcurrido;
+                    break;
+                case BLOQUEADO:
+                    ciclosBloqueado += transcurrido;
+                    break;
+                case SUSPENDIDO:
+                    ciclosSuspendido += transcurrido;
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+}
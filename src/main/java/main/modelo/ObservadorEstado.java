@@ -0,0 +1,42 @@
+package main.modelo;
+
+// Recibe las transiciones de estado de los procesos en el momento en que ocurren
+public interface ObservadorEstado {
+
+    void procesoCreado(Proceso proceso);
+
+    void estadoCambiado(Proceso proceso, EstadoProceso anterior, EstadoProceso nuevo);
+
+    // El proceso salió de la tabla de procesos activos del gestor
+    default void procesoEliminado(Proceso proceso) {
+    }
+
+    // Reparte cada notificación a dos observadores (null se ignora)
+    static ObservadorEstado combinar(ObservadorEstado primero, ObservadorEstado segundo) {
+        if (primero == null) {
+            return segundo;
+        }
+        if (segundo == null) {
+            return primero;
+        }
+        return new ObservadorEstado() {
+            @Override
+            public void procesoCreado(Proceso proceso) {
+                primero.procesoCreado(proceso);
+                segundo.procesoCreado(proceso);
+            }
+
+            @Override
+            public void estadoCambiado(Proceso proceso, EstadoProceso anterior, EstadoProceso nuevo) {
+                primero.estadoCambiado(proceso, anterior, nuevo);
+                segundo.estadoCambiado(proceso, anterior, nuevo);
+            }
+
+            @Override
+            public void procesoEliminado(Proceso proceso) {
+                primero.procesoEliminado(proceso);
+                segundo.procesoEliminado(proceso);
+            }
+        };
+    }
+}
@@ -1,8 +1,11 @@
 package main.modelo;
 
 import java.time.LocalDateTime;
+import java.io.Serializable;
 
-public class Proceso {
+public class Proceso implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     // Información básica del proceso
     private int id;
@@ -31,8 +34,23 @@ public class Proceso {
     private int ciclosTranscurridosIO;
     private boolean enOperacionIO;
 
+    // Ciclo del último paso entre memoria principal y secundaria (-1 = nunca)
+    private int cicloUltimoIntercambio;
+
+    // Planificación por stride: paso virtual acumulado (avanza al recibir la CPU)
+    private long pasoVirtual;
+
+    // Notificado en cada transición de estado (métricas, trazas)
+    private transient ObservadorEstado observador;
+
     // Constructor
     public Proceso(int id, String nombre, TipoProceso tipo, int numInstrucciones, int prioridad) {
+        reiniciar(id, nombre, tipo, numInstrucciones, prioridad);
+    }
+
+    // Deja el PCB exactamente como recién construido, para reutilizar el objeto (ver
+    // PoolProcesos). No notifica al observador y lo desconecta: el gestor lo vuelve a asignar
+    public void reiniciar(int id, String nombre, TipoProceso tipo, int numInstrucciones, int prioridad) {
         this.id = id;
         this.nombre = nombre;
         this.tipo = tipo;
@@ -44,12 +62,17 @@ public class Proceso {
         this.instruccionesEjecutadas = 0;
         this.quantumRestante = 0;
         this.tiempoCreacion = LocalDateTime.now();
+        this.tiempoInicio = null;
+        this.tiempoFinalizacion = null;
         this.tiempoEspera = 0;
         this.tiempoRespuesta = 0;
         this.tiempoEjecucion = 0;
         this.ciclosParaExcepcionIO = 0;
         this.ciclosTranscurridosIO = 0;
         this.enOperacionIO = false;
+        this.cicloUltimoIntercambio = -1;
+        this.pasoVirtual = 0;
+        this.observador = null;
     }
 
     // Getters y Setters
@@ -74,7 +97,23 @@ public class Proceso {
     }
 
     public void setEstado(EstadoProceso estado) {
+        EstadoProceso anterior = this.estado;
         this.estado = estado;
+        notificarCambio(anterior);
+    }
+
+    private void notificarCambio(EstadoProceso anterior) {
+        if (observador != null && anterior != estado) {
+            observador.estadoCambiado(this, anterior, estado);
+        }
+    }
+
+    public ObservadorEstado getObservador() {
+        return observador;
+    }
+
+    public void setObservador(ObservadorEstado observador) {
+        this.observador = observador;
     }
 
     public TipoProceso getTipo() {
@@ -205,6 +244,22 @@ public class Proceso {
         this.enOperacionIO = enOperacionIO;
     }
 
+    public int getCicloUltimoIntercambio() {
+        return cicloUltimoIntercambio;
+    }
+
+    public void setCicloUltimoIntercambio(int cicloUltimoIntercambio) {
+        this.cicloUltimoIntercambio = cicloUltimoIntercambio;
+    }
+
+    public long getPasoVirtual() {
+        return pasoVirtual;
+    }
+
+    public void setPasoVirtual(long pasoVirtual) {
+        this.pasoVirtual = pasoVirtual;
+    }
+
     // Métodos de utilidad
     public boolean isCompletado() {
         return instruccionesEjecutadas >= numInstrucciones;
@@ -232,12 +287,12 @@ public class Proceso {
         if (tiempoInicio == null) {
             tiempoInicio = LocalDateTime.now();
         }
-        estado = EstadoProceso.EJECUCION;
+        setEstado(EstadoProceso.EJECUCION);
     }
 
     public void finalizarEjecucion() {
         tiempoFinalizacion = LocalDateTime.now();
-        estado = EstadoProceso.TERMINADO;
+        setEstado(EstadoProceso.TERMINADO);
     }
 
     @Override
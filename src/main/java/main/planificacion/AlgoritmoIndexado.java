@@ -0,0 +1,22 @@
+package main.planificacion;
+
+import main.modelo.Proceso;
+
+// Algoritmo que mantiene su propio índice de la cola de listos: GestorColas le avisa cada
+// vez que un proceso entra o sale de ella, así que elegir el siguiente no recorre la cola
+public interface AlgoritmoIndexado extends AlgoritmoPlanificacion {
+
+    void procesoListo(Proceso proceso);
+
+    void procesoRetirado(Proceso proceso);
+
+    // El mejor de los listos, sin quitarlo del índice (sale al pasar a ejecución)
+    Proceso verSiguiente();
+
+    // Se llama justo antes de sacar de la cola al proceso que pasa a ejecución
+    void procesoDespachado(Proceso proceso);
+
+    void limpiarIndice();
+
+    void avanzarCiclo(int ciclo);
+}
@@ -2,8 +2,9 @@ package main.planificacion;
 
 import main.modelo.Proceso;
 import main.estructuras.ListaSimple;
+import java.io.Serializable;
 
-public interface AlgoritmoPlanificacion {
+public interface AlgoritmoPlanificacion extends Serializable {
 
     Proceso seleccionarSiguiente(ListaSimple<Proceso> procesosListos);
 
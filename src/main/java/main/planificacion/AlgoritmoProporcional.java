@@ -0,0 +1,23 @@
+package main.planificacion;
+
+import main.modelo.Proceso;
+
+// Reparto proporcional: cada proceso recibe una parte de la CPU proporcional a sus boletos
+// y la CPU se reparte en turnos de getQuantum() instrucciones (el motor desaloja al agotarse).
+// La clase de un proceso es su prioridad: la prioridad p recibe boletosBase / p boletos, así
+// que la clase 1 obtiene el doble de CPU que la 2 y el triple que la 3.
+public interface AlgoritmoProporcional extends AlgoritmoIndexado {
+
+    int BOLETOS_BASE_POR_DEFECTO = 1_000;
+    int QUANTUM_POR_DEFECTO = 4;
+
+    int getQuantum();
+
+    // El proceso deja la CPU (termina, se bloquea o es desalojado) tras ejecutar 'usadas'
+    // instrucciones de su turno
+    void procesoLiberado(Proceso proceso, int usadas);
+
+    static int boletos(Proceso proceso, int boletosBase) {
+        return Math.max(1, boletosBase / Math.max(1, proceso.getPrioridad()));
+    }
+}
@@ -5,6 +5,8 @@ import main.estructuras.ListaSimple;
 
 public class HRRN implements AlgoritmoPlanificacion {
 
+    private static final long serialVersionUID = 1L;
+
     @Override
     public Proceso seleccionarSiguiente(ListaSimple<Proceso> procesosListos) {
         if (procesosListos == null || procesosListos.estaVacia()) {
@@ -0,0 +1,80 @@
+package main.planificacion;
+
+import main.estructuras.MonticuloIndexado;
+import main.modelo.Proceso;
+import java.io.Serializable;
+
+// Cola de listos con envejecimiento y sin barridos: un proceso que espera ciclosPorNivel
+// ciclos mejora un nivel, es decir, su valor efectivo es valor - (ciclo - llegada) / ciclosPorNivel.
+// Como todos envejecen al mismo ritmo, comparar valores efectivos en el mismo ciclo equivale
+// a comparar la clave fija valor * ciclosPorNivel + llegada, que se calcula una sola vez al
+// entrar a la cola. Así el orden nunca cambia con el paso del tiempo: no hay que tocar a los
+// que esperan en cada ciclo y entrar, salir y elegir cuestan O(log n) en un montículo.
+// A igual clave sale el PID menor. ciclosPorNivel 0 = sin envejecimiento.
+public class IndiceEnvejecimiento implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final MonticuloIndexado<Proceso> listos;
+    private int ciclosPorNivel;
+    private int cicloActual;
+
+    public IndiceEnvejecimiento(int ciclosPorNivel) {
+        this.listos = new MonticuloIndexado<>();
+        setCiclosPorNivel(ciclosPorNivel);
+    }
+
+    public void agregar(Proceso proceso, long valor) {
+        listos.insertar(proceso.getId(), proceso, claveAhora(valor));
+    }
+
+    // Clave con la que entraría a la cola en este ciclo un proceso con ese valor
+    public long claveAhora(long valor) {
+        return ciclosPorNivel > 0 ? valor * ciclosPorNivel + cicloActual : valor;
+    }
+
+    public long clave(Proceso proceso) {
+        return listos.clave(proceso.getId());
+    }
+
+    // Long.MAX_VALUE con la cola vacía
+    public long claveMinima() {
+        return listos.estaVacio() ? Long.MAX_VALUE : listos.claveMinima();
+    }
+
+    public boolean contiene(Proceso proceso) {
+        return listos.contiene(proceso.getId());
+    }
+
+    public void remover(Proceso proceso) {
+        listos.remover(proceso.getId());
+    }
+
+    public Proceso verMinimo() {
+        return listos.verMinimo();
+    }
+
+    public void limpiar() {
+        listos.limpiar();
+    }
+
+    public int tamaño() {
+        return listos.tamaño();
+    }
+
+    public void avanzarCiclo(int ciclo) {
+        cicloActual = ciclo;
+    }
+
+    // Sólo afecta a los procesos que entren desde ahora; quien lo cambia debe reconstruir el índice
+    public void setCiclosPorNivel(int ciclosPorNivel) {
+        if (ciclosPorNivel < 0) {
+            throw new IllegalArgumentException("ciclosPorNivel no puede ser negativo: " + ciclosPorNivel);
+        }
+        this.ciclosPorNivel = ciclosPorNivel;
+    }
+
+    public int getCiclosPorNivel() {
+        return ciclosPorNivel;
+    }
+}
@@ -0,0 +1,168 @@
+package main.planificacion;
+
+import main.estructuras.ArbolFenwick;
+import main.estructuras.ListaSimple;
+import main.estructuras.MapaSimple;
+import main.modelo.Proceso;
+import java.util.Random;
+
+// Planificación por lotería: cada listo tiene boletos según su clase y en cada despacho se
+// sortea uno; la probabilidad de ganar es proporcional a los boletos. Los boletos viven en
+// un árbol de Fenwick indexado por ranura, así que entrar, salir y sortear cuestan O(log n)
+// aunque haya miles de listos. Las ranuras libres se reutilizan.
+public class Loteria implements AlgoritmoProporcional {
+
+    private static final long serialVersionUID = 1L;
+
+    private final ArbolFenwick boletos; // ranura -> boletos
+    private Proceso[] procesos; // ranura -> proceso
+    private final MapaSimple<Integer, Integer> ranuras; // pid -> ranura
+    private int[] libres;
+    private int numLibres;
+    private int siguienteSinUsar;
+
+    private Random azar;
+    private Proceso ganador; // Sorteado y todavía sin despachar; se descarta si cambia la cola
+
+    private int quantum;
+    private int boletosBase;
+
+    public Loteria() {
+        this(QUANTUM_POR_DEFECTO, BOLETOS_BASE_POR_DEFECTO);
+    }
+
+    public Loteria(int quantum, int boletosBase) {
+        this.boletos = new ArbolFenwick();
+        this.procesos = new Proceso[16];
+        this.ranuras = new MapaSimple<>();
+        this.libres = new int[16];
+        this.azar = new Random(0);
+        configurar(quantum, boletosBase);
+    }
+
+    @Override
+    public void procesoListo(Proceso proceso) {
+        if (ranuras.contieneClave(proceso.getId())) {
+            return;
+        }
+        int ranura = numLibres > 0 ? libres[--numLibres] : siguienteSinUsar++;
+        if (ranura == procesos.length) {
+            Proceso[] nuevos = new Proceso[procesos.length * 2];
+            System.arraycopy(procesos, 0, nuevos, 0, procesos.length);
+            procesos = nuevos;
+        }
+        procesos[ranura] = proceso;
+        ranuras.poner(proceso.getId(), ranura);
+        boletos.poner(ranura, AlgoritmoProporcional.boletos(proceso, boletosBase));
+        ganador = null;
+    }
+
+    @Override
+    public void procesoRetirado(Proceso proceso) {
+        Integer ranura = ranuras.remover(proceso.getId());
+        if (ranura == null) {
+            return;
+        }
+        boletos.poner(ranura, 0);
+        procesos[ranura] = null;
+        if (numLibres == libres.length) {
+            int[] nuevas = new int[libres.length * 2];
+            System.arraycopy(libres, 0, nuevas, 0, numLibres);
+            libres = nuevas;
+        }
+        libres[numLibres++] = ranura;
+        ganador = null;
+    }
+
+    @Override
+    public Proceso verSiguiente() {
+        if (ganador == null && boletos.getTotal() > 0) {
+            long boleto = (long) (azar.nextDouble() * boletos.getTotal());
+            ganador = procesos[boletos.buscar(boleto)];
+        }
+        return ganador;
+    }
+
+    @Override
+    public void procesoDespachado(Proceso proceso) {
+        // El sorteo no tiene memoria: no hay nada que cobrarle al ganador
+    }
+
+    @Override
+    public void procesoLiberado(Proceso proceso, int usadas) {
+    }
+
+    @Override
+    public void limpiarIndice() {
+        boletos.limpiar();
+        for (int i = 0; i < siguienteSinUsar; i++) {
+            procesos[i] = null;
+        }
+        ranuras.limpiar();
+        numLibres = 0;
+        siguienteSinUsar = 0;
+        ganador = null;
+    }
+
+    @Override
+    public void avanzarCiclo(int ciclo) {
+    }
+
+    // Sorteo sobre una lista, recorriéndola (sin índice)
+    @Override
+    public Proceso seleccionarSiguiente(ListaSimple<Proceso> procesosListos) {
+        if (procesosListos == null || procesosListos.estaVacia()) {
+            return null;
+        }
+        long total = 0;
+        for (int i = 0; i < procesosListos.tamaño(); i++) {
+            total += AlgoritmoProporcional.boletos(procesosListos.obtener(i), boletosBase);
+        }
+        long boleto = (long) (azar.nextDouble() * total);
+        for (int i = 0; i < procesosListos.tamaño(); i++) {
+            Proceso proceso = procesosListos.obtener(i);
+            boleto -= AlgoritmoProporcional.boletos(proceso, boletosBase);
+            if (boleto < 0) {
+                return proceso;
+            }
+        }
+        return procesosListos.obtener(procesosListos.tamaño() - 1);
+    }
+
+    @Override
+    public void reordenarCola(ListaSimple<Proceso> procesosListos) {
+        // El sorteo no depende del orden de la cola
+    }
+
+    @Override
+    public String getNombre() {
+        return "Lotería (Quantum: " + quantum + ")";
+    }
+
+    // Sólo afecta a los procesos que entren desde ahora; quien lo cambia debe reconstruir el índice
+    public void configurar(int quantum, int boletosBase) {
+        if (quantum < 1 || boletosBase < 1) {
+            throw new IllegalArgumentException("Quantum y boletos deben ser positivos: " + quantum + ", " + boletosBase);
+        }
+        this.quantum = quantum;
+        this.boletosBase = boletosBase;
+    }
+
+    public void setSemilla(long semilla) {
+        azar = new Random(semilla);
+        ganador = null;
+    }
+
+    @Override
+    public int getQuantum() {
+        return quantum;
+    }
+
+    public int getBoletosBase() {
+        return boletosBase;
+    }
+
+    public long getBoletosEnJuego() {
+        return boletos.getTotal();
+    }
+}
@@ -5,6 +5,9 @@ import main.estructuras.ListaSimple;
 import main.estructuras.Ordenador;
 
 public class Multinivel implements AlgoritmoPlanificacion {
+    private static final long serialVersionUID = 1L;
+    private static final int PRIORIDADES_POR_NIVEL = 3;
+
     private int numNiveles;
     private ListaSimple<ListaSimple<Proceso>> colasPorPrioridad;
 
@@ -34,7 +37,10 @@ public class Multinivel implements AlgoritmoPlanificacion {
             return null;
         }
 
-        // Distribuir procesos por niveles según prioridad
+        // Distribuir procesos por niveles según prioridad, partiendo de colas vacías
+        for (int i = 0; i < numNiveles; i++) {
+            colasPorPrioridad.obtener(i).limpiar();
+        }
         distribuirProcesosPorNivel(procesosListos);
 
         // Seleccionar del nivel de mayor prioridad que tenga procesos
@@ -85,14 +91,10 @@ public class Multinivel implements AlgoritmoPlanificacion {
     }
 
     private int determinarNivel(int prioridad) {
-        // Prioridad 1-3: nivel 0 (más alta)
-        // Prioridad 4-6: nivel 1 (media)
-        // Prioridad 7+: nivel 2 (más baja)
-        if (prioridad <= 3)
-            return 0;
-        if (prioridad <= 6)
-            return 1;
-        return 2;
+        // Tres prioridades por nivel: 1-3 nivel 0 (más alta), 4-6 nivel 1, ...; las que
+        // pasan del último nivel caen en él
+        int nivel = Math.max(0, (prioridad - 1) / PRIORIDADES_POR_NIVEL);
+        return Math.min(nivel, numNiveles - 1);
     }
 
     @Override
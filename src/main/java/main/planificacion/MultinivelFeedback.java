@@ -5,6 +5,8 @@ import main.estructuras.ListaSimple;
 import main.estructuras.Ordenador;
 
 public class MultinivelFeedback implements AlgoritmoPlanificacion {
+    private static final long serialVersionUID = 1L;
+
     private int numNiveles;
     private ListaSimple<ListaSimple<Proceso>> colasPorNivel;
     private ListaSimple<Integer> quantumsPorNivel;
@@ -4,7 +4,28 @@ import main.modelo.Proceso;
 import main.estructuras.ListaSimple;
 import main.estructuras.Ordenador;
 
-public class Prioridad implements AlgoritmoPlanificacion {
+public class Prioridad implements AlgoritmoIndexado {
+
+    private static final long serialVersionUID = 1L;
+    public static final int ENVEJECIMIENTO_POR_DEFECTO = 20;
+
+    // Índice de la cola de listos con envejecimiento: quien espera ciclosPorNivel
+    // ciclos gana un nivel de prioridad, así que ninguno espera indefinidamente
+    private final IndiceEnvejecimiento indice;
+
+    // Con desalojo, un proceso que entra a listos con mejor clave que la del que se ejecuta
+    // lo saca de la CPU
+    private boolean apropiativo;
+
+    public Prioridad() {
+        this(ENVEJECIMIENTO_POR_DEFECTO);
+    }
+
+    // ciclosPorNivel 0 = sin envejecimiento (orden estático de siempre)
+    public Prioridad(int ciclosPorNivel) {
+        this.indice = new IndiceEnvejecimiento(ciclosPorNivel);
+        this.apropiativo = true;
+    }
 
     @Override
     public Proceso seleccionarSiguiente(ListaSimple<Proceso> procesosListos) {
@@ -49,6 +70,65 @@ public class Prioridad implements AlgoritmoPlanificacion {
         }
     }
 
+    @Override
+    public void procesoListo(Proceso proceso) {
+        indice.agregar(proceso, proceso.getPrioridad());
+    }
+
+    @Override
+    public void procesoRetirado(Proceso proceso) {
+        indice.remover(proceso);
+    }
+
+    @Override
+    public Proceso verSiguiente() {
+        return indice.verMinimo();
+    }
+
+    @Override
+    public void limpiarIndice() {
+        indice.limpiar();
+    }
+
+    @Override
+    public void avanzarCiclo(int ciclo) {
+        indice.avanzarCiclo(ciclo);
+    }
+
+    @Override
+    public void procesoDespachado(Proceso proceso) {
+        // El que se ejecuta no envejece: su clave se recalcula en cada comparación
+    }
+
+    // O(1): el mejor de los listos contra la clave que tendría ahora el proceso en ejecución,
+    // es decir, su prioridad sin el crédito de envejecimiento que juntó mientras esperaba.
+    // Hay que ganarle por al menos un nivel completo (ciclosPorNivel): unos pocos ciclos de
+    // espera no bastan para desalojar a uno de la misma prioridad, y a igual clave no hay vaivén
+    public boolean debeDesalojar(Proceso procesoActual) {
+        if (procesoActual == null) {
+            return false;
+        }
+        long claveActual = indice.claveAhora(procesoActual.getPrioridad());
+        return indice.claveMinima() <= claveActual - Math.max(1, indice.getCiclosPorNivel());
+    }
+
+    public boolean isApropiativo() {
+        return apropiativo;
+    }
+
+    public void setApropiativo(boolean apropiativo) {
+        this.apropiativo = apropiativo;
+    }
+
+    // Quien cambie el valor debe reconstruir el índice (Planificador lo hace)
+    public void setCiclosPorNivel(int ciclosPorNivel) {
+        indice.setCiclosPorNivel(ciclosPorNivel);
+    }
+
+    public int getCiclosPorNivel() {
+        return indice.getCiclosPorNivel();
+    }
+
     @Override
     public String getNombre() {
         return "Prioridad";
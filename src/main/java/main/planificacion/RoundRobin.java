@@ -4,6 +4,8 @@ import main.modelo.Proceso;
 import main.estructuras.ListaSimple;
 
 public class RoundRobin implements AlgoritmoPlanificacion {
+    private static final long serialVersionUID = 1L;
+
     private int quantum;
 
     public RoundRobin() {
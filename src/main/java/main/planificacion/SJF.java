@@ -4,7 +4,23 @@ import main.modelo.Proceso;
 import main.estructuras.ListaSimple;
 import main.estructuras.Ordenador;
 
-public class SJF implements AlgoritmoPlanificacion {
+public class SJF implements AlgoritmoIndexado {
+
+    private static final long serialVersionUID = 1L;
+    public static final int ENVEJECIMIENTO_POR_DEFECTO = 4;
+
+    // Índice de la cola de listos con envejecimiento: quien espera ciclosPorNivel
+    // ciclos gana un nivel de instrucciones restantes, así que ninguno espera indefinidamente
+    private final IndiceEnvejecimiento indice;
+
+    public SJF() {
+        this(ENVEJECIMIENTO_POR_DEFECTO);
+    }
+
+    // ciclosPorNivel 0 = sin envejecimiento (orden estático de siempre)
+    public SJF(int ciclosPorNivel) {
+        this.indice = new IndiceEnvejecimiento(ciclosPorNivel);
+    }
 
     @Override
     public Proceso seleccionarSiguiente(ListaSimple<Proceso> procesosListos) {
@@ -50,6 +66,45 @@ public class SJF implements AlgoritmoPlanificacion {
         }
     }
 
+    @Override
+    public void procesoListo(Proceso proceso) {
+        indice.agregar(proceso, proceso.getInstruccionesRestantes());
+    }
+
+    @Override
+    public void procesoRetirado(Proceso proceso) {
+        indice.remover(proceso);
+    }
+
+    @Override
+    public Proceso verSiguiente() {
+        return indice.verMinimo();
+    }
+
+    @Override
+    public void procesoDespachado(Proceso proceso) {
+        // No guarda nada del proceso en ejecución: SJF no desaloja
+    }
+
+    @Override
+    public void limpiarIndice() {
+        indice.limpiar();
+    }
+
+    @Override
+    public void avanzarCiclo(int ciclo) {
+        indice.avanzarCiclo(ciclo);
+    }
+
+    // Quien cambie el valor debe reconstruir el índice (Planificador lo hace)
+    public void setCiclosPorNivel(int ciclosPorNivel) {
+        indice.setCiclosPorNivel(ciclosPorNivel);
+    }
+
+    public int getCiclosPorNivel() {
+        return indice.getCiclosPorNivel();
+    }
+
     @Override
     public String getNombre() {
         return "SJF (Shortest Job First)";
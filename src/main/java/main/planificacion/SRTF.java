@@ -6,6 +6,8 @@ import main.estructuras.Ordenador;
 
 public class SRTF implements AlgoritmoPlanificacion {
 
+    private static final long serialVersionUID = 1L;
+
     @Override
     public Proceso seleccionarSiguiente(ListaSimple<Proceso> procesosListos) {
         if (procesosListos == null || procesosListos.estaVacia()) {
@@ -0,0 +1,137 @@
+package main.planificacion;
+
+import main.estructuras.ListaSimple;
+import main.estructuras.MonticuloIndexado;
+import main.modelo.Proceso;
+
+// Planificación por stride: la versión determinista de la lotería. Cada proceso avanza su
+// paso virtual en PASO_UNIDAD / boletos por quantum consumido y siempre se despacha el listo
+// de menor paso (montículo, O(log n)), así que la CPU se reparte en proporción exacta a los
+// boletos con un error acotado a un quantum. El cobro se hace al dejar la CPU y en proporción
+// a lo usado, así que quien se bloquea antes de agotar el turno no paga el quantum entero.
+// El paso global avanza al ritmo de la suma de boletos activos (listos y el que ejecuta); el
+// paso vive en el PCB y al volver a la cola tras un bloqueo se lo alinea con el global para
+// que no acapare la CPU.
+public class Stride implements AlgoritmoProporcional {
+
+    private static final long serialVersionUID = 1L;
+    public static final long PASO_UNIDAD = 1L << 20;
+
+    private final MonticuloIndexado<Proceso> listos; // clave = paso virtual
+    private long pasoGlobal;
+    private long restoPasoGlobal; // Fracción acumulada del paso global, para no perderla al redondear
+    private long boletosListos; // Suma de boletos de los procesos del índice
+
+    private int quantum;
+    private int boletosBase;
+
+    public Stride() {
+        this(QUANTUM_POR_DEFECTO, BOLETOS_BASE_POR_DEFECTO);
+    }
+
+    public Stride(int quantum, int boletosBase) {
+        this.listos = new MonticuloIndexado<>();
+        configurar(quantum, boletosBase);
+    }
+
+    @Override
+    public void procesoListo(Proceso proceso) {
+        long paso = Math.max(proceso.getPasoVirtual(), pasoGlobal);
+        proceso.setPasoVirtual(paso);
+        listos.insertar(proceso.getId(), proceso, paso);
+        boletosListos += AlgoritmoProporcional.boletos(proceso, boletosBase);
+    }
+
+    @Override
+    public void procesoRetirado(Proceso proceso) {
+        if (listos.remover(proceso.getId()) != null) {
+            boletosListos -= AlgoritmoProporcional.boletos(proceso, boletosBase);
+        }
+    }
+
+    @Override
+    public Proceso verSiguiente() {
+        return listos.verMinimo();
+    }
+
+    @Override
+    public void procesoDespachado(Proceso proceso) {
+        // Se cobra al dejar la CPU, según lo que haya usado
+    }
+
+    // Cobra zancada * usadas / quantum al proceso y avanza el paso global en la misma
+    // fracción de quantum, repartida entre todos los boletos activos
+    @Override
+    public void procesoLiberado(Proceso proceso, int usadas) {
+        if (usadas <= 0) {
+            return;
+        }
+        proceso.setPasoVirtual(proceso.getPasoVirtual() + zancada(proceso) * usadas / quantum);
+
+        long activos = boletosListos + AlgoritmoProporcional.boletos(proceso, boletosBase);
+        long divisor = activos * quantum;
+        restoPasoGlobal += PASO_UNIDAD * usadas;
+        pasoGlobal += restoPasoGlobal / divisor;
+        restoPasoGlobal %= divisor;
+    }
+
+    @Override
+    public void limpiarIndice() {
+        listos.limpiar();
+        boletosListos = 0;
+    }
+
+    @Override
+    public void avanzarCiclo(int ciclo) {
+    }
+
+    public long zancada(Proceso proceso) {
+        return PASO_UNIDAD / AlgoritmoProporcional.boletos(proceso, boletosBase);
+    }
+
+    @Override
+    public Proceso seleccionarSiguiente(ListaSimple<Proceso> procesosListos) {
+        if (procesosListos == null || procesosListos.estaVacia()) {
+            return null;
+        }
+
+        Proceso menor = procesosListos.obtener(0);
+        for (int i = 1; i < procesosListos.tamaño(); i++) {
+            Proceso proceso = procesosListos.obtener(i);
+            if (proceso.getPasoVirtual() < menor.getPasoVirtual()
+                    || (proceso.getPasoVirtual() == menor.getPasoVirtual() && proceso.getId() < menor.getId())) {
+                menor = proceso;
+            }
+        }
+        return menor;
+    }
+
+    @Override
+    public void reordenarCola(ListaSimple<Proceso> procesosListos) {
+        // La selección es por paso virtual, no por posición en la cola
+    }
+
+    @Override
+    public String getNombre() {
+        return "Stride (Quantum: " + quantum + ")";
+    }
+
+    // Sólo cambia las zancadas que se cobren desde ahora; si está activo, quien llama
+    // reconstruye el índice para recalcular los boletos de los listos
+    public void configurar(int quantum, int boletosBase) {
+        if (quantum < 1 || boletosBase < 1 || boletosBase > PASO_UNIDAD) {
+            throw new IllegalArgumentException("Quantum o boletos no válidos: " + quantum + ", " + boletosBase);
+        }
+        this.quantum = quantum;
+        this.boletosBase = boletosBase;
+    }
+
+    @Override
+    public int getQuantum() {
+        return quantum;
+    }
+
+    public int getBoletosBase() {
+        return boletosBase;
+    }
+}
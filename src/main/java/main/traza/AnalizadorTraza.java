@@ -0,0 +1,476 @@
+package main.traza;
+
+import main.estructuras.ListaSimple;
+import main.interrupciones.TipoInterrupcion;
+import main.metricas.HistogramaLogaritmico;
+import main.modelo.EstadoProceso;
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+// Análisis fuera de línea de una traza: diagrama de Gantt, línea de tiempo de un proceso,
+// histogramas de longitud de colas y resumen de métricas. Todo se calcula en una sola
+// pasada en streaming; el estado es proporcional al número de procesos, no al de eventos.
+//
+// Uso: AnalizadorTraza <traza> [--desde C] [--hasta C] [--pid P] [--gantt salida.csv] [--ancho N]
+// Con --desde/--hasta sólo se lee esa ventana (saltando con el índice); las métricas de los
+// procesos que ya existían antes de la ventana se miden desde su primer evento visible.
+public class AnalizadorTraza implements LectorTraza.ConsumidorEvento {
+
+    private static final int NUM_ESTADOS = EstadoProceso.values().length;
+    private static final int ESTADO_DESCONOCIDO = -1;
+    private static final int MAX_TRAMOS_GANTT = 200_000;
+    private static final int MAX_FILAS_GANTT = 16;
+
+    private final int pidSeguido;
+    private final Writer salidaGantt;
+    private final int cicloDesde;
+    private final int cicloHasta;
+
+    // Estado por PID en arreglos paralelos que crecen según el PID más alto visto
+    private byte[] estado;
+    private int[] cicloCambio;
+    private int[] llegada;
+    private int[] primeraEjecucion;
+    private int[] inicioEjecucion;
+    private int[] ciclosPorEstado; // NUM_ESTADOS por PID
+    private int capacidadPids;
+    private int maxPid;
+    private int procesosVistos;
+
+    private final int[] procesosPorEstado;
+    private int cicloActual;
+    private int primerCiclo;
+    private boolean hayCiclo;
+    private long ciclosConCPU;
+    private long ciclosTotales;
+
+    private final long[] eventosPorTipo;
+    private final long[] interrupcionesPorTipo;
+    private long despachos;
+    private long terminados;
+
+    private final HistogramaLogaritmico colaListos;
+    private final HistogramaLogaritmico colaBloqueados;
+    private final HistogramaLogaritmico retorno;
+    private final HistogramaLogaritmico espera;
+    private final HistogramaLogaritmico respuesta;
+    private final long[] distribucionListos; // Cubos potencia de dos: 0, 1, 2-3, 4-7, ...
+
+    // Tramos de CPU {pid, inicio, fin} para el Gantt en texto
+    private final ListaSimple<int[]> tramos;
+    private boolean tramosTruncados;
+
+    private final StringBuilder lineaTiempo;
+
+    public AnalizadorTraza(int cicloDesde, int cicloHasta, int pidSeguido, Writer salidaGantt) {
+        this.cicloDesde = cicloDesde;
+        this.cicloHasta = cicloHasta;
+        this.pidSeguido = pidSeguido;
+        this.salidaGantt = salidaGantt;
+
+        this.capacidadPids = 0;
+        asegurarPid(1024);
+        this.maxPid = -1;
+
+        this.procesosPorEstado = new int[NUM_ESTADOS];
+        this.eventosPorTipo = new long[TipoEvento.values().length];
+        this.interrupcionesPorTipo = new long[TipoInterrupcion.values().length];
+        this.colaListos = new HistogramaLogaritmico();
+        this.colaBloqueados = new HistogramaLogaritmico();
+        this.retorno = new HistogramaLogaritmico();
+        this.espera = new HistogramaLogaritmico();
+        this.respuesta = new HistogramaLogaritmico();
+        this.distribucionListos = new long[33];
+        this.tramos = new ListaSimple<>();
+        this.lineaTiempo = new StringBuilder();
+    }
+
+    @Override
+    public boolean evento(TipoEvento tipo, int ciclo, int[] campos) {
+        eventosPorTipo[tipo.ordinal()]++;
+        switch (tipo) {
+            case CICLO:
+                avanzarHasta(ciclo);
+                break;
+            case CREACION:
+                registrarPid(campos[0], ciclo);
+                seguir(campos[0], ciclo, "creado (" + campos[2] + " instrucciones, prioridad " + campos[3] + ")");
+                cambiarEstado(campos[0], EstadoProceso.NUEVO.ordinal(), ciclo);
+                break;
+            case CAMBIO_ESTADO:
+                registrarPid(campos[0], ciclo);
+                cambiarEstado(campos[0], campos[2], ciclo);
+                break;
+            case DESPACHO:
+                despachos++;
+                seguir(campos[0], ciclo, "despachado a la CPU");
+                break;
+            case INTERRUPCION:
+                if (campos[0] >= 0 && campos[0] < interrupcionesPorTipo.length) {
+                    interrupcionesPorTipo[campos[0]]++;
+                    seguir(campos[1], ciclo, "interrupción " + TipoInterrupcion.values()[campos[0]]);
+                }
+                break;
+            case MEMORIA_ASIGNACION:
+                seguir(campos[0], ciclo, campos[1] < 0 ? "asignado en memoria secundaria (" + campos[2] + " KB)"
+                        : "memoria asignada en " + campos[1] + " (" + campos[2] + " KB)");
+                break;
+            case MEMORIA_LIBERACION:
+                seguir(campos[0], ciclo, "memoria liberada (" + campos[1] + " KB)");
+                break;
+            case MEMORIA_SUSPENSION:
+                seguir(campos[0], ciclo, "suspendido a memoria secundaria");
+                break;
+            case MEMORIA_REACTIVACION:
+                seguir(campos[0], ciclo, "reactivado en " + campos[1]);
+                break;
+            default:
+                break;
+        }
+        return true;
+    }
+
+    // Las longitudes de cola se muestrean una vez por ciclo transcurrido
+    private void avanzarHasta(int ciclo) {
+        if (!hayCiclo) {
+            hayCiclo = true;
+            primerCiclo = ciclo;
+            cicloActual = ciclo;
+            return;
+        }
+        for (int c = cicloActual; c < ciclo; c++) {
+            int listos = procesosPorEstado[EstadoProceso.LISTO.ordinal()];
+            colaListos.registrar(listos);
+            colaBloqueados.registrar(procesosPorEstado[EstadoProceso.BLOQUEADO.ordinal()]);
+            distribucionListos[cubo(listos)]++;
+            if (procesosPorEstado[EstadoProceso.EJECUCION.ordinal()] > 0) {
+                ciclosConCPU++;
+            }
+            ciclosTotales++;
+        }
+        cicloActual = ciclo;
+    }
+
+    private void cambiarEstado(int pid, int nuevo, int ciclo) {
+        if (nuevo < 0 || nuevo >= NUM_ESTADOS) {
+            return;
+        }
+        int anterior = estado[pid];
+        int duracion = ciclo - cicloCambio[pid];
+        if (anterior != ESTADO_DESCONOCIDO) {
+            procesosPorEstado[anterior]--;
+            ciclosPorEstado[pid * NUM_ESTADOS + anterior] += ciclo - cicloCambio[pid];
+        }
+        estado[pid] = (byte) nuevo;
+        cicloCambio[pid] = ciclo;
+        procesosPorEstado[nuevo]++;
+
+        if (anterior == EstadoProceso.EJECUCION.ordinal()) {
+            cerrarTramo(pid, inicioEjecucion[pid], ciclo);
+        }
+        if (nuevo == EstadoProceso.EJECUCION.ordinal()) {
+            inicioEjecucion[pid] = ciclo;
+            if (primeraEjecucion[pid] < 0) {
+                primeraEjecucion[pid] = ciclo;
+            }
+        } else if (nuevo == EstadoProceso.TERMINADO.ordinal()) {
+            registrarFinalizacion(pid, ciclo);
+        }
+
+        if (pid == pidSeguido && anterior != ESTADO_DESCONOCIDO) {
+            lineaTiempo.append(String.format("%10d  %s -> %s (tras %d ciclos)%n", ciclo,
+                    EstadoProceso.values()[anterior], EstadoProceso.values()[nuevo], duracion));
+        }
+    }
+
+    private void registrarFinalizacion(int pid, int ciclo) {
+        terminados++;
+        retorno.registrar(ciclo - llegada[pid]);
+        // Mismo criterio que MotorMetricas: la espera es el tiempo en NUEVO y LISTO
+        int base = pid * NUM_ESTADOS;
+        espera.registrar(ciclosPorEstado[base + EstadoProceso.LISTO.ordinal()]
+                + ciclosPorEstado[base + EstadoProceso.NUEVO.ordinal()]);
+        respuesta.registrar(primeraEjecucion[pid] >= 0 ? primeraEjecucion[pid] - llegada[pid] : ciclo - llegada[pid]);
+    }
+
+    private void cerrarTramo(int pid, int inicio, int fin) {
+        if (salidaGantt != null) {
+            try {
+                salidaGantt.write(pid + "," + inicio + "," + fin + "\n");
+            } catch (IOException e) {
+                throw new IllegalStateException("Error al escribir el Gantt: " + e.getMessage(), e);
+            }
+        }
+        if (tramos.tamaño() < MAX_TRAMOS_GANTT) {
+            tramos.agregar(new int[] { pid, inicio, fin });
+        } else {
+            tramosTruncados = true;
+        }
+    }
+
+    private void seguir(int pid, int ciclo, String descripcion) {
+        if (pid == pidSeguido) {
+            lineaTiempo.append(String.format("%10d  %s%n", ciclo, descripcion));
+        }
+    }
+
+    // Primer evento de un PID: su llegada es la creación o, si no se vio, el primer evento
+    private void registrarPid(int pid, int ciclo) {
+        if (pid < 0) {
+            return;
+        }
+        asegurarPid(pid + 1);
+        if (pid > maxPid) {
+            for (int p = maxPid + 1; p <= pid; p++) {
+                estado[p] = ESTADO_DESCONOCIDO;
+                llegada[p] = -1;
+                primeraEjecucion[p] = -1;
+            }
+            maxPid = pid;
+        }
+        if (llegada[pid] < 0) {
+            llegada[pid] = ciclo;
+            procesosVistos++;
+        }
+    }
+
+    private void asegurarPid(int requeridos) {
+        if (requeridos <= capacidadPids) {
+            return;
+        }
+        int nueva = Math.max(requeridos, capacidadPids * 2);
+        estado = copiar(estado, nueva);
+        cicloCambio = copiar(cicloCambio, nueva);
+        llegada = copiar(llegada, nueva);
+        primeraEjecucion = copiar(primeraEjecucion, nueva);
+        inicioEjecucion = copiar(inicioEjecucion, nueva);
+        ciclosPorEstado = copiar(ciclosPorEstado, nueva * NUM_ESTADOS);
+        capacidadPids = nueva;
+    }
+
+    private static byte[] copiar(byte[] origen, int tamanio) {
+        byte[] destino = new byte[tamanio];
+        if (origen != null) {
+            System.arraycopy(origen, 0, destino, 0, origen.length);
+        }
+        return destino;
+    }
+
+    private static int[] copiar(int[] origen, int tamanio) {
+        int[] destino = new int[tamanio];
+        if (origen != null) {
+            System.arraycopy(origen, 0, destino, 0, origen.length);
+        }
+        return destino;
+    }
+
+    private static int cubo(int valor) {
+        return valor <= 0 ? 0 : 32 - Integer.numberOfLeadingZeros(valor);
+    }
+
+    // Cierra los tramos de CPU abiertos al final de lo leído
+    private void finalizar() {
+        for (int pid = 0; pid <= maxPid; pid++) {
+            if (estado[pid] == EstadoProceso.EJECUCION.ordinal()) {
+                cerrarTramo(pid, inicioEjecucion[pid], cicloActual);
+            }
+        }
+    }
+
+    public String obtenerInformacionDetallada(int ancho) {
+        StringBuilder info = new StringBuilder();
+        info.append("=== RESUMEN DE LA TRAZA ===\n");
+        info.append("Ciclos: ").append(hayCiclo ? primerCiclo : 0).append(" - ").append(cicloActual)
+                .append(" | Procesos vistos: ").append(procesosVistos).append(" | Terminados: ").append(terminados)
+                .append("\n");
+        for (TipoEvento tipo : TipoEvento.values()) {
+            if (eventosPorTipo[tipo.ordinal()] > 0) {
+                info.append("  ").append(tipo).append(": ").append(eventosPorTipo[tipo.ordinal()]).append("\n");
+            }
+        }
+
+        info.append("\n=== MÉTRICAS ===\n");
+        info.append(String.format("Utilización CPU: %.1f%% | Despachos: %d | Throughput: %.4f procesos/ciclo\n",
+                ciclosTotales > 0 ? 100.0 * ciclosConCPU / ciclosTotales : 0.0, despachos,
+                ciclosTotales > 0 ? (double) terminados / ciclosTotales : 0.0));
+        info.append("Retorno (ciclos): ").append(retorno.resumen()).append("\n");
+        info.append("Espera (ciclos): ").append(espera.resumen()).append("\n");
+        info.append("Respuesta (ciclos): ").append(respuesta.resumen()).append("\n");
+        info.append("Interrupciones:");
+        for (TipoInterrupcion tipo : TipoInterrupcion.values()) {
+            if (interrupcionesPorTipo[tipo.ordinal()] > 0) {
+                info.append(" ").append(tipo).append("=").append(interrupcionesPorTipo[tipo.ordinal()]);
+            }
+        }
+        info.append("\n");
+
+        info.append("\n=== LONGITUD DE COLAS (muestreo por ciclo) ===\n");
+        info.append("Listos: ").append(colaListos.resumen()).append("\n");
+        info.append("Bloqueados: ").append(colaBloqueados.resumen()).append("\n");
+        long maximo = 1;
+        for (long cantidad : distribucionListos) {
+            maximo = Math.max(maximo, cantidad);
+        }
+        for (int i = 0; i < distribucionListos.length; i++) {
+            if (distribucionListos[i] == 0) {
+                continue;
+            }
+            String rango = i == 0 ? "0" : i == 1 ? "1" : (1 << (i - 1)) + "-" + ((1L << i) - 1);
+            info.append(String.format("  %-15s %10d %s%n", rango, distribucionListos[i],
+                    barra(distribucionListos[i], maximo, 40)));
+        }
+
+        info.append("\n=== DIAGRAMA DE GANTT ===\n");
+        info.append(dibujarGantt(ancho));
+
+        if (pidSeguido >= 0) {
+            info.append("\n=== LÍNEA DE TIEMPO PID ").append(pidSeguido).append(" ===\n");
+            info.append(lineaTiempo.length() > 0 ? lineaTiempo : "(sin eventos)\n");
+        }
+        return info.toString();
+    }
+
+    // Una fila por proceso (los que más CPU usaron); cada columna agrupa varios ciclos
+    private String dibujarGantt(int ancho) {
+        if (tramos.estaVacia()) {
+            return "(sin ejecuciones en la ventana)\n";
+        }
+        int inicio = hayCiclo ? primerCiclo : 0;
+        int fin = Math.max(inicio + 1, cicloActual);
+        double ciclosPorColumna = (double) (fin - inicio) / ancho;
+
+        // Los MAX_FILAS_GANTT procesos con más CPU
+        long[] cpuPorPid = new long[maxPid + 1];
+        for (int i = 0; i < tramos.tamaño(); i++) {
+            int[] tramo = tramos.obtener(i);
+            cpuPorPid[tramo[0]] += tramo[2] - tramo[1];
+        }
+        int[] filas = new int[Math.min(MAX_FILAS_GANTT, cpuPorPid.length)];
+        int numFilas = 0;
+        for (int pid = 0; pid < cpuPorPid.length; pid++) {
+            if (cpuPorPid[pid] == 0) {
+                continue;
+            }
+            int pos = numFilas < filas.length ? numFilas++ : filas.length;
+            if (pos == filas.length) {
+                if (cpuPorPid[pid] <= cpuPorPid[filas[filas.length - 1]]) {
+                    continue;
+                }
+                pos = filas.length - 1;
+            }
+            while (pos > 0 && cpuPorPid[filas[pos - 1]] < cpuPorPid[pid]) {
+                filas[pos] = filas[pos - 1];
+                pos--;
+            }
+            filas[pos] = pid;
+        }
+
+        char[][] lienzo = new char[numFilas][ancho];
+        for (char[] fila : lienzo) {
+            java.util.Arrays.fill(fila, '.');
+        }
+        int[] filaDePid = new int[maxPid + 1];
+        java.util.Arrays.fill(filaDePid, -1);
+        for (int f = 0; f < numFilas; f++) {
+            filaDePid[filas[f]] = f;
+        }
+        for (int i = 0; i < tramos.tamaño(); i++) {
+            int[] tramo = tramos.obtener(i);
+            int f = filaDePid[tramo[0]];
+            if (f < 0) {
+                continue;
+            }
+            int desde = (int) ((tramo[1] - inicio) / ciclosPorColumna);
+            int hasta = (int) Math.ceil((tramo[2] - inicio) / ciclosPorColumna);
+            for (int c = Math.max(0, desde); c < Math.min(ancho, Math.max(hasta, desde + 1)); c++) {
+                lienzo[f][c] = '#';
+            }
+        }
+
+        StringBuilder gantt = new StringBuilder();
+        gantt.append(String.format("Ciclos %d - %d, %.1f ciclos por columna%n", inicio, fin, ciclosPorColumna));
+        for (int f = 0; f < numFilas; f++) {
+            gantt.append(String.format("PID %-6d %8d |", filas[f], cpuPorPid[filas[f]]))
+                    .append(lienzo[f]).append("|\n");
+        }
+        if (tramosTruncados) {
+            gantt.append("(Gantt en texto limitado a los primeros ").append(MAX_TRAMOS_GANTT)
+                    .append(" tramos; use --gantt para el detalle completo)\n");
+        }
+        return gantt.toString();
+    }
+
+    private static String barra(long valor, long maximo, int largo) {
+        int n = (int) Math.max(1, valor * largo / maximo);
+        StringBuilder barra = new StringBuilder(n);
+        for (int i = 0; i < n; i++) {
+            barra.append('#');
+        }
+        return barra.toString();
+    }
+
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.out.println("Uso: AnalizadorTraza <traza> [--desde C] [--hasta C] [--pid P] "
+                    + "[--gantt salida.csv] [--ancho N]");
+            return;
+        }
+
+        String archivo = args[0];
+        int desde = Integer.MIN_VALUE;
+        int hasta = Integer.MAX_VALUE;
+        int pid = -1;
+        int ancho = 100;
+        String rutaGantt = null;
+        try {
+            for (int i = 1; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--desde":
+                        desde = Integer.parseInt(args[++i]);
+                        break;
+                    case "--hasta":
+                        hasta = Integer.parseInt(args[++i]);
+                        break;
+                    case "--pid":
+                        pid = Integer.parseInt(args[++i]);
+                        break;
+                    case "--ancho":
+                        ancho = Math.max(10, Integer.parseInt(args[++i]));
+                        break;
+                    case "--gantt":
+                        rutaGantt = args[++i];
+                        break;
+                    default:
+                        System.err.println("Opción desconocida: " + args[i]);
+                        return;
+                }
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            System.err.println("Argumentos no válidos: " + e.getMessage());
+            return;
+        }
+
+        long inicio = System.nanoTime();
+        try (LectorTraza lector = new LectorTraza(archivo);
+             Writer gantt = rutaGantt != null ? new BufferedWriter(new FileWriter(rutaGantt), 1 << 16) : null) {
+            if (gantt != null) {
+                gantt.write("pid,inicio,fin\n");
+            }
+            AnalizadorTraza analizador = new AnalizadorTraza(desde, hasta, pid, gantt);
+            long eventos = lector.recorrer(desde, hasta, analizador);
+            analizador.finalizar();
+
+            double segundos = (System.nanoTime() - inicio) / 1e9;
+            System.out.println(analizador.obtenerInformacionDetallada(ancho));
+            System.out.println(String.format("Archivo: %s (%d bytes, %d bloques%s)", archivo,
+                    lector.getTamanioArchivo(), lector.getNumBloques(),
+                    lector.isIndiceCompleto() ? "" : ", índice reconstruido"));
+            System.out.println(String.format("Analizados %d eventos en %.2f s (%.2f millones de eventos/s)",
+                    eventos, segundos, eventos / 1e6 / Math.max(segundos, 1e-9)));
+        } catch (IOException e) {
+            System.err.println("Error al analizar la traza: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package main.traza;
+
+// Disposición del archivo de traza (enteros fijos en big-endian):
+//   cabecera:  MAGICO, VERSION, tamaño máximo de bloque sin comprimir, reservado
+//   bloques:   longitud comprimida, longitud original, número de eventos, ciclo inicial,
+//              datos comprimidos con Deflate
+//   índice:    MAGICO_INDICE, número de bloques, y por bloque (offset long, ciclo inicial int)
+//   cierre:    offset del índice (long), MAGICO_FIN
+// Si el programa se interrumpe antes de cerrar la traza falta el índice, pero los bloques
+// completos siguen siendo legibles de forma secuencial.
+final class FormatoTraza {
+
+    static final int MAGICO = 0x534F5452; // "SOTR"
+    static final int MAGICO_INDICE = 0x494E4458; // "INDX"
+    static final int MAGICO_FIN = 0x46494E21; // "FIN!"
+    static final int VERSION = 1;
+
+    static final int TAMANIO_CABECERA = 16;
+    static final int TAMANIO_CABECERA_BLOQUE = 16;
+    static final int TAMANIO_ENTRADA_INDICE = 12;
+    static final int TAMANIO_CIERRE = 12;
+
+    private FormatoTraza() {
+    }
+
+    // Zigzag: los negativos pequeños también ocupan pocos bytes
+    static int aZigzag(int valor) {
+        return (valor << 1) ^ (valor >> 31);
+    }
+
+    static int deZigzag(int valor) {
+        return (valor >>> 1) ^ -(valor & 1);
+    }
+}
@@ -0,0 +1,309 @@
+package main.traza;
+
+import main.estructuras.ListaSimple;
+import main.interrupciones.TipoInterrupcion;
+import main.modelo.EstadoProceso;
+import main.modelo.ObservadorEstado;
+import main.modelo.Proceso;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.Deflater;
+
+// Graba todos los eventos de la simulación en una traza binaria compacta (ver FormatoTraza).
+// Los eventos se codifican en varint dentro de un bloque en memoria; al llenarse, el bloque
+// se comprime con Deflate y se escribe por un búfer directo sobre un FileChannel.
+// Cuando la traza está desactivada quien la usa guarda una referencia null, así que el
+// coste es una comparación por evento. No es seguro para varios hilos escritores.
+public class GrabadorTraza implements ObservadorEstado, Closeable {
+
+    public static final int TAMANIO_BLOQUE_POR_DEFECTO = 64 * 1024;
+
+    // Un evento ocupa como mucho 1 byte de código + 4 campos de 5 bytes
+    private static final int MAX_BYTES_EVENTO = 1 + 4 * 5;
+
+    private final Path ruta;
+    private final FileChannel canal;
+    private final ByteBuffer salida;
+    private final Deflater compresor;
+    private final int tamanioBloque;
+
+    private final byte[] bloque;
+    private int posicion;
+    private int eventosBloque;
+    private int cicloInicialBloque;
+    private byte[] comprimido;
+
+    private int cicloActual;
+    private long offsetArchivo;
+    private final ListaSimple<long[]> indice; // {offset, ciclo inicial} por bloque
+
+    private long totalEventos;
+    private long totalBytesOriginales;
+    private final long[] eventosPorTipo;
+    private boolean cerrado;
+
+    public GrabadorTraza(String ruta) throws IOException {
+        this(Paths.get(ruta), TAMANIO_BLOQUE_POR_DEFECTO);
+    }
+
+    public GrabadorTraza(Path ruta, int tamanioBloque) throws IOException {
+        if (tamanioBloque < 1024) {
+            throw new IllegalArgumentException("El bloque debe ser de al menos 1 KB");
+        }
+        this.ruta = ruta;
+        this.tamanioBloque = tamanioBloque;
+        this.canal = FileChannel.open(ruta, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.salida = ByteBuffer.allocateDirect(4 * tamanioBloque);
+        this.compresor = new Deflater(Deflater.BEST_SPEED);
+        this.bloque = new byte[tamanioBloque + MAX_BYTES_EVENTO];
+        this.comprimido = new byte[tamanioBloque + tamanioBloque / 8 + 64];
+        this.indice = new ListaSimple<>();
+        this.eventosPorTipo = new long[TipoEvento.values().length];
+
+        salida.putInt(FormatoTraza.MAGICO);
+        salida.putInt(FormatoTraza.VERSION);
+        salida.putInt(tamanioBloque);
+        salida.putInt(0);
+        offsetArchivo = FormatoTraza.TAMANIO_CABECERA;
+    }
+
+    // Frontera de ciclo: los eventos siguientes pertenecen a este ciclo
+    public void ciclo(int ciclo) {
+        iniciarEvento(TipoEvento.CICLO);
+        escribirCampo(ciclo - cicloActual);
+        cicloActual = ciclo;
+        terminarEvento();
+    }
+
+    @Override
+    public void procesoCreado(Proceso proceso) {
+        iniciarEvento(TipoEvento.CREACION);
+        escribirCampo(proceso.getId());
+        escribirCampo(proceso.getTipo().ordinal());
+        escribirCampo(proceso.getNumInstrucciones());
+        escribirCampo(proceso.getPrioridad());
+        terminarEvento();
+    }
+
+    @Override
+    public void estadoCambiado(Proceso proceso, EstadoProceso anterior, EstadoProceso nuevo) {
+        iniciarEvento(TipoEvento.CAMBIO_ESTADO);
+        escribirCampo(proceso.getId());
+        escribirCampo(anterior != null ? anterior.ordinal() : -1);
+        escribirCampo(nuevo.ordinal());
+        terminarEvento();
+    }
+
+    public void despacho(Proceso proceso) {
+        iniciarEvento(TipoEvento.DESPACHO);
+        escribirCampo(proceso.getId());
+        terminarEvento();
+    }
+
+    public void interrupcion(TipoInterrupcion tipo, Proceso origen) {
+        iniciarEvento(TipoEvento.INTERRUPCION);
+        escribirCampo(tipo.ordinal());
+        escribirCampo(origen != null ? origen.getId() : -1);
+        terminarEvento();
+    }
+
+    public void memoriaAsignada(int pid, int direccion, int tamanioKB) {
+        iniciarEvento(TipoEvento.MEMORIA_ASIGNACION);
+        escribirCampo(pid);
+        escribirCampo(direccion);
+        escribirCampo(tamanioKB);
+        terminarEvento();
+    }
+
+    public void memoriaLiberada(int pid, int tamanioKB) {
+        iniciarEvento(TipoEvento.MEMORIA_LIBERACION);
+        escribirCampo(pid);
+        escribirCampo(tamanioKB);
+        terminarEvento();
+    }
+
+    public void procesoSuspendido(int pid) {
+        iniciarEvento(TipoEvento.MEMORIA_SUSPENSION);
+        escribirCampo(pid);
+        terminarEvento();
+    }
+
+    public void procesoReactivado(int pid, int direccion) {
+        iniciarEvento(TipoEvento.MEMORIA_REACTIVACION);
+        escribirCampo(pid);
+        escribirCampo(direccion);
+        terminarEvento();
+    }
+
+    public void memoriaCompactada(int bloquesReubicados) {
+        iniciarEvento(TipoEvento.MEMORIA_COMPACTACION);
+        escribirCampo(bloquesReubicados);
+        terminarEvento();
+    }
+
+    private void iniciarEvento(TipoEvento tipo) {
+        if (cerrado) {
+            throw new IllegalStateException("La traza ya está cerrada");
+        }
+        if (eventosBloque == 0) {
+            cicloInicialBloque = cicloActual;
+        }
+        bloque[posicion++] = (byte) tipo.getCodigo();
+        eventosPorTipo[tipo.ordinal()]++;
+    }
+
+    private void escribirCampo(int valor) {
+        int v = FormatoTraza.aZigzag(valor);
+        while ((v & ~0x7F) != 0) {
+            bloque[posicion++] = (byte) ((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        bloque[posicion++] = (byte) v;
+    }
+
+    private void terminarEvento() {
+        eventosBloque++;
+        totalEventos++;
+        if (posicion >= tamanioBloque) {
+            try {
+                volcarBloque();
+            } catch (IOException e) {
+                // Los llamadores son el núcleo de la simulación: se informa sin detenerla
+                throw new IllegalStateException("Error al escribir la traza " + ruta + ": " + e.getMessage(), e);
+            }
+        }
+    }
+
+    private void volcarBloque() throws IOException {
+        if (eventosBloque == 0) {
+            return;
+        }
+        compresor.reset();
+        compresor.setInput(bloque, 0, posicion);
+        compresor.finish();
+        int longitud = 0;
+        while (!compresor.finished()) {
+            if (longitud == comprimido.length) {
+                byte[] mayor = new byte[comprimido.length * 2];
+                System.arraycopy(comprimido, 0, mayor, 0, longitud);
+                comprimido = mayor;
+            }
+            longitud += compresor.deflate(comprimido, longitud, comprimido.length - longitud);
+        }
+
+        asegurarEspacio(FormatoTraza.TAMANIO_CABECERA_BLOQUE + longitud);
+        indice.agregar(new long[] { offsetArchivo, cicloInicialBloque });
+        salida.putInt(longitud);
+        salida.putInt(posicion);
+        salida.putInt(eventosBloque);
+        salida.putInt(cicloInicialBloque);
+        salida.put(comprimido, 0, longitud);
+        offsetArchivo += FormatoTraza.TAMANIO_CABECERA_BLOQUE + longitud;
+
+        totalBytesOriginales += posicion;
+        posicion = 0;
+        eventosBloque = 0;
+    }
+
+    private void asegurarEspacio(int bytes) throws IOException {
+        if (salida.remaining() < bytes) {
+            vaciarSalida();
+        }
+        if (salida.remaining() < bytes) {
+            // No debería ocurrir: el búfer es cuatro veces el bloque y Deflate casi no expande
+            throw new IOException("Bloque comprimido mayor que el búfer de salida (" + bytes + " bytes)");
+        }
+    }
+
+    private void vaciarSalida() throws IOException {
+        salida.flip();
+        while (salida.hasRemaining()) {
+            canal.write(salida);
+        }
+        salida.clear();
+    }
+
+    // Vuelca el bloque en curso; la traza sigue abierta
+    public void volcar() throws IOException {
+        volcarBloque();
+        vaciarSalida();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (cerrado) {
+            return;
+        }
+        try {
+            volcarBloque();
+            long offsetIndice = offsetArchivo;
+            asegurarEspacio(8);
+            salida.putInt(FormatoTraza.MAGICO_INDICE);
+            salida.putInt(indice.tamaño());
+            for (int i = 0; i < indice.tamaño(); i++) {
+                asegurarEspacio(FormatoTraza.TAMANIO_ENTRADA_INDICE);
+                long[] entrada = indice.obtener(i);
+                salida.putLong(entrada[0]);
+                salida.putInt((int) entrada[1]);
+            }
+            asegurarEspacio(FormatoTraza.TAMANIO_CIERRE);
+            salida.putLong(offsetIndice);
+            salida.putInt(FormatoTraza.MAGICO_FIN);
+            vaciarSalida();
+            canal.force(false);
+        } finally {
+            cerrado = true;
+            compresor.end();
+            canal.close();
+        }
+    }
+
+    public boolean isCerrado() {
+        return cerrado;
+    }
+
+    public Path getRuta() {
+        return ruta;
+    }
+
+    public long getTotalEventos() {
+        return totalEventos;
+    }
+
+    public long getEventos(TipoEvento tipo) {
+        return eventosPorTipo[tipo.ordinal()];
+    }
+
+    // Bytes de eventos sin comprimir (incluye el bloque en curso)
+    public long getBytesOriginales() {
+        return totalBytesOriginales + posicion;
+    }
+
+    // Bytes en disco hasta ahora (los del bloque en curso aún no cuentan)
+    public long getBytesEscritos() {
+        return offsetArchivo;
+    }
+
+    public String obtenerInformacionDetallada() {
+        StringBuilder info = new StringBuilder();
+        info.append("=== TRAZA ===\n");
+        info.append("Archivo: ").append(ruta).append(cerrado ? " (cerrada)" : "").append("\n");
+        info.append("Eventos: ").append(totalEventos).append(" | Bloques: ").append(indice.tamaño()).append("\n");
+        long originales = getBytesOriginales();
+        info.append(String.format("Bytes: %d sin comprimir, %d en disco (%.1f%%) | %.2f bytes/evento\n",
+                originales, offsetArchivo, originales > 0 ? 100.0 * offsetArchivo / originales : 0.0,
+                totalEventos > 0 ? (double) offsetArchivo / totalEventos : 0.0));
+        for (TipoEvento tipo : TipoEvento.values()) {
+            if (eventosPorTipo[tipo.ordinal()] > 0) {
+                info.append("  ").append(tipo).append(": ").append(eventosPorTipo[tipo.ordinal()]).append("\n");
+            }
+        }
+        return info.toString();
+    }
+}
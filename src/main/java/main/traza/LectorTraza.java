@@ -0,0 +1,292 @@
+package main.traza;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+// Lee una traza grabada por GrabadorTraza proyectando el archivo en memoria por ventanas
+// (MappedByteBuffer), de modo que el heap sólo contiene el bloque que se está decodificando
+// sin importar el tamaño del archivo. Con el índice del final salta directamente al bloque
+// de un ciclo; si la traza no se cerró, el índice se reconstruye leyendo sólo las cabeceras.
+public class LectorTraza implements Closeable {
+
+    // Recibe cada evento; campos sólo es válido durante la llamada. Devolver false detiene el recorrido
+    public interface ConsumidorEvento {
+        boolean evento(TipoEvento tipo, int ciclo, int[] campos);
+    }
+
+    private static final long TAMANIO_VENTANA = 256L * 1024 * 1024;
+
+    private final Path ruta;
+    private final FileChannel canal;
+    private final long tamanioArchivo;
+    private final int tamanioBloque;
+
+    private MappedByteBuffer ventana;
+    private long inicioVentana;
+    private long finVentana;
+
+    private final Inflater descompresor;
+    private byte[] comprimido;
+    private byte[] original;
+    private final int[] campos;
+
+    private long[] offsetsBloques;
+    private int[] ciclosBloques;
+    private int numBloques;
+    private boolean indiceCompleto;
+
+    public LectorTraza(String ruta) throws IOException {
+        this(Paths.get(ruta));
+    }
+
+    public LectorTraza(Path ruta) throws IOException {
+        this.ruta = ruta;
+        this.canal = FileChannel.open(ruta, StandardOpenOption.READ);
+        this.tamanioArchivo = canal.size();
+        this.descompresor = new Inflater();
+        this.campos = new int[4];
+
+        try {
+            if (tamanioArchivo < FormatoTraza.TAMANIO_CABECERA) {
+                throw new IOException("Archivo demasiado corto para ser una traza");
+            }
+            posicionar(0, FormatoTraza.TAMANIO_CABECERA);
+            if (leerEntero(0) != FormatoTraza.MAGICO) {
+                throw new IOException("No es un archivo de traza: " + ruta);
+            }
+            int version = leerEntero(4);
+            if (version != FormatoTraza.VERSION) {
+                throw new IOException("Versión de traza no soportada: " + version);
+            }
+            this.tamanioBloque = leerEntero(8);
+            this.comprimido = new byte[tamanioBloque + tamanioBloque / 8 + 64];
+            this.original = new byte[tamanioBloque + 64];
+
+            if (!cargarIndice()) {
+                reconstruirIndice();
+            }
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    // Recorre todos los eventos en orden; devuelve cuántos se entregaron
+    public long recorrer(ConsumidorEvento consumidor) throws IOException {
+        return recorrer(Integer.MIN_VALUE, Integer.MAX_VALUE, consumidor);
+    }
+
+    // Recorre sólo los eventos de los ciclos [cicloDesde, cicloHasta], saltando con el índice
+    public long recorrer(int cicloDesde, int cicloHasta, ConsumidorEvento consumidor) throws IOException {
+        long entregados = 0;
+        for (int b = primerBloque(cicloDesde); b < numBloques; b++) {
+            long offset = offsetsBloques[b];
+            posicionar(offset, FormatoTraza.TAMANIO_CABECERA_BLOQUE);
+            int longitudComprimida = leerEntero(offset);
+            int longitudOriginal = leerEntero(offset + 4);
+            int ciclo = leerEntero(offset + 12);
+            if (ciclo > cicloHasta) {
+                break;
+            }
+
+            descomprimir(offset + FormatoTraza.TAMANIO_CABECERA_BLOQUE, longitudComprimida, longitudOriginal);
+
+            int posicion = 0;
+            while (posicion < longitudOriginal) {
+                TipoEvento tipo = TipoEvento.deCodigo(original[posicion++]);
+                if (tipo == null) {
+                    throw new IOException("Código de evento no válido en el bloque " + b);
+                }
+                for (int i = 0; i < tipo.getNumCampos(); i++) {
+                    // Varint inline: es el bucle más caliente del análisis
+                    int valor = 0;
+                    int desplazamiento = 0;
+                    byte octeto;
+                    do {
+                        octeto = original[posicion++];
+                        valor |= (octeto & 0x7F) << desplazamiento;
+                        desplazamiento += 7;
+                    } while (octeto < 0);
+                    campos[i] = FormatoTraza.deZigzag(valor);
+                }
+                if (tipo == TipoEvento.CICLO) {
+                    ciclo += campos[0];
+                    if (ciclo > cicloHasta) {
+                        return entregados;
+                    }
+                }
+                if (ciclo >= cicloDesde) {
+                    entregados++;
+                    if (!consumidor.evento(tipo, ciclo, campos)) {
+                        return entregados;
+                    }
+                }
+            }
+        }
+        return entregados;
+    }
+
+    // Los eventos de un ciclo pueden empezar al final del bloque anterior al que lo
+    // tiene como ciclo inicial: se busca el último bloque que empieza antes de cicloDesde
+    private int primerBloque(int cicloDesde) {
+        int bajo = 0;
+        int alto = numBloques - 1;
+        int resultado = 0;
+        while (bajo <= alto) {
+            int medio = (bajo + alto) >>> 1;
+            if (ciclosBloques[medio] < cicloDesde) {
+                resultado = medio;
+                bajo = medio + 1;
+            } else {
+                alto = medio - 1;
+            }
+        }
+        return resultado;
+    }
+
+    private void descomprimir(long offset, int longitudComprimida, int longitudOriginal) throws IOException {
+        if (longitudComprimida > comprimido.length) {
+            comprimido = new byte[longitudComprimida];
+        }
+        if (longitudOriginal > original.length) {
+            original = new byte[longitudOriginal];
+        }
+        posicionar(offset, longitudComprimida);
+        ventana.get((int) (offset - inicioVentana), comprimido, 0, longitudComprimida);
+
+        descompresor.reset();
+        descompresor.setInput(comprimido, 0, longitudComprimida);
+        try {
+            int total = 0;
+            while (total < longitudOriginal && !descompresor.finished()) {
+                int leidos = descompresor.inflate(original, total, longitudOriginal - total);
+                if (leidos == 0 && descompresor.needsInput()) {
+                    break;
+                }
+                total += leidos;
+            }
+            if (total != longitudOriginal) {
+                throw new IOException("Bloque truncado en el offset " + offset);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Bloque corrupto en el offset " + offset + ": " + e.getMessage(), e);
+        }
+    }
+
+    private boolean cargarIndice() throws IOException {
+        long minimo = FormatoTraza.TAMANIO_CABECERA + 8 + FormatoTraza.TAMANIO_CIERRE;
+        if (tamanioArchivo < minimo) {
+            return false;
+        }
+        long cierre = tamanioArchivo - FormatoTraza.TAMANIO_CIERRE;
+        posicionar(cierre, FormatoTraza.TAMANIO_CIERRE);
+        long offsetIndice = ventana.getLong((int) (cierre - inicioVentana));
+        if (leerEntero(cierre + 8) != FormatoTraza.MAGICO_FIN || offsetIndice < FormatoTraza.TAMANIO_CABECERA
+                || offsetIndice + 8 > cierre) {
+            return false;
+        }
+
+        posicionar(offsetIndice, 8);
+        if (leerEntero(offsetIndice) != FormatoTraza.MAGICO_INDICE) {
+            return false;
+        }
+        int cantidad = leerEntero(offsetIndice + 4);
+        long inicioEntradas = offsetIndice + 8;
+        if (cantidad < 0 || inicioEntradas + (long) cantidad * FormatoTraza.TAMANIO_ENTRADA_INDICE != cierre) {
+            return false;
+        }
+
+        offsetsBloques = new long[Math.max(1, cantidad)];
+        ciclosBloques = new int[Math.max(1, cantidad)];
+        for (int i = 0; i < cantidad; i++) {
+            long entrada = inicioEntradas + (long) i * FormatoTraza.TAMANIO_ENTRADA_INDICE;
+            posicionar(entrada, FormatoTraza.TAMANIO_ENTRADA_INDICE);
+            offsetsBloques[i] = ventana.getLong((int) (entrada - inicioVentana));
+            ciclosBloques[i] = leerEntero(entrada + 8);
+        }
+        numBloques = cantidad;
+        indiceCompleto = true;
+        return true;
+    }
+
+    // Traza sin cerrar: se recorren las cabeceras de bloque hasta el primer bloque incompleto
+    private void reconstruirIndice() throws IOException {
+        offsetsBloques = new long[64];
+        ciclosBloques = new int[64];
+        numBloques = 0;
+        long offset = FormatoTraza.TAMANIO_CABECERA;
+        while (offset + FormatoTraza.TAMANIO_CABECERA_BLOQUE <= tamanioArchivo) {
+            posicionar(offset, FormatoTraza.TAMANIO_CABECERA_BLOQUE);
+            int longitudComprimida = leerEntero(offset);
+            if (longitudComprimida == FormatoTraza.MAGICO_INDICE || longitudComprimida <= 0
+                    || offset + FormatoTraza.TAMANIO_CABECERA_BLOQUE + longitudComprimida > tamanioArchivo) {
+                break;
+            }
+            if (numBloques == offsetsBloques.length) {
+                long[] offsets = new long[numBloques * 2];
+                int[] ciclos = new int[numBloques * 2];
+                System.arraycopy(offsetsBloques, 0, offsets, 0, numBloques);
+                System.arraycopy(ciclosBloques, 0, ciclos, 0, numBloques);
+                offsetsBloques = offsets;
+                ciclosBloques = ciclos;
+            }
+            offsetsBloques[numBloques] = offset;
+            ciclosBloques[numBloques] = leerEntero(offset + 12);
+            numBloques++;
+            offset += FormatoTraza.TAMANIO_CABECERA_BLOQUE + longitudComprimida;
+        }
+        indiceCompleto = false;
+    }
+
+    // Garantiza que [offset, offset + longitud) esté dentro de la ventana proyectada
+    private void posicionar(long offset, int longitud) throws IOException {
+        if (ventana != null && offset >= inicioVentana && offset + longitud <= finVentana) {
+            return;
+        }
+        if (offset + longitud > tamanioArchivo) {
+            throw new IOException("Lectura fuera del archivo de traza (offset " + offset + ")");
+        }
+        long tamanio = Math.min(Math.max(TAMANIO_VENTANA, longitud), tamanioArchivo - offset);
+        ventana = canal.map(FileChannel.MapMode.READ_ONLY, offset, tamanio);
+        inicioVentana = offset;
+        finVentana = offset + tamanio;
+    }
+
+    private int leerEntero(long offset) {
+        return ventana.getInt((int) (offset - inicioVentana));
+    }
+
+    public int getNumBloques() {
+        return numBloques;
+    }
+
+    public boolean isIndiceCompleto() {
+        return indiceCompleto;
+    }
+
+    public long getTamanioArchivo() {
+        return tamanioArchivo;
+    }
+
+    public int getCicloInicial() {
+        return numBloques > 0 ? ciclosBloques[0] : 0;
+    }
+
+    public Path getRuta() {
+        return ruta;
+    }
+
+    @Override
+    public void close() throws IOException {
+        descompresor.end();
+        ventana = null;
+        canal.close();
+    }
+}
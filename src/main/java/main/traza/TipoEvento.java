@@ -0,0 +1,37 @@
+package main.traza;
+
+// Tipos de evento de la traza. En el archivo cada evento es su código (un byte) seguido
+// de numCampos enteros en varint zigzag; el ciclo no se repite en cada evento, sino que
+// todos pertenecen al último evento CICLO.
+public enum TipoEvento {
+    CICLO(1), // Delta respecto al ciclo anterior
+    CREACION(4), // pid, tipo de proceso, instrucciones, prioridad
+    CAMBIO_ESTADO(3), // pid, estado anterior, estado nuevo
+    DESPACHO(1), // pid
+    INTERRUPCION(2), // tipo de interrupción, pid de origen (-1 si no hay)
+    MEMORIA_ASIGNACION(3), // pid, dirección (-1 = memoria secundaria), tamaño KB
+    MEMORIA_LIBERACION(2), // pid, tamaño KB
+    MEMORIA_SUSPENSION(1), // pid
+    MEMORIA_REACTIVACION(2), // pid, dirección
+    MEMORIA_COMPACTACION(1); // bloques reubicados
+
+    private static final TipoEvento[] POR_CODIGO = values();
+
+    private final int numCampos;
+
+    TipoEvento(int numCampos) {
+        this.numCampos = numCampos;
+    }
+
+    public int getCodigo() {
+        return ordinal();
+    }
+
+    public int getNumCampos() {
+        return numCampos;
+    }
+
+    public static TipoEvento deCodigo(int codigo) {
+        return codigo >= 0 && codigo < POR_CODIGO.length ? POR_CODIGO[codigo] : null;
+    }
+}
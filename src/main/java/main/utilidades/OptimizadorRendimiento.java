@@ -3,24 +3,35 @@ package main.utilidades;
 import main.modelo.Proceso;
 import main.modelo.EstadoProceso;
 import main.modelo.TipoProceso;
+import main.modelo.ObservadorEstado;
 import main.gestor.GestorProcesos;
+import main.gestor.PoolProcesos;
+import main.estructuras.CacheSLRU;
 import main.estructuras.ListaSimple;
-import main.estructuras.MapaSimple;
 import main.estructuras.ColaSimple;
 
-public class OptimizadorRendimiento {
+// Cachés de búsqueda de procesos acotadas (LRU segmentado) que se mantienen coherentes con el
+// gestor: se registra como observador de estados y descarta exactamente las entradas que cada
+// creación, cambio de estado o eliminación deja obsoletas. Las cachés sólo se usan para el
+// gestor conectado con conectar(); para cualquier otro se consulta directamente.
+// No es seguro entre hilos: se usa con el mismo cerrojo que protege al gestor.
+public class OptimizadorRendimiento implements ObservadorEstado {
 
     // Cache para procesos
-    private final MapaSimple<Integer, Proceso> cacheProcesos;
-    private final MapaSimple<String, ListaSimple<Proceso>> cacheBusquedas;
+    private final CacheSLRU<Integer, Proceso> cacheProcesos;
+    private final CacheSLRU<String, ListaSimple<Proceso>> cacheBusquedas; // Clave: nombre en minúsculas
+    private final ListaSimple<Proceso>[] cacheEstados; // Por ordinal del estado; null = invalidada
 
     // Pool de objetos
-    private final ObjectPool<Proceso> poolProcesos;
+    private final PoolProcesos poolProcesos;
     private final ObjectPool<StringBuilder> poolStringBuilders;
 
-    // Contadores de rendimiento
-    private int hitsCache;
-    private int missesCache;
+    private GestorProcesos gestorConectado;
+
+    // Contadores de rendimiento (los de las cachés por id y por nombre los lleva CacheSLRU)
+    private long hitsEstados;
+    private long missesEstados;
+    private long invalidacionesEstados;
     private int objetosReutilizados;
 
     // Configuración de optimización
@@ -30,96 +41,164 @@ public class OptimizadorRendimiento {
     private final boolean habilitarPool;
 
     public OptimizadorRendimiento() {
-        this.cacheProcesos = new MapaSimple<>();
-        this.cacheBusquedas = new MapaSimple<>();
-        this.poolProcesos = new ObjectPool<>(() -> new Proceso(0, "", TipoProceso.CPU_BOUND, 0, 0), 100);
-        this.poolStringBuilders = new ObjectPool<>(StringBuilder::new, 50);
-
-        this.hitsCache = 0;
-        this.missesCache = 0;
-        this.objetosReutilizados = 0;
-
         this.maxCacheSize = 1000;
         this.maxPoolSize = 100;
         this.habilitarCache = true;
         this.habilitarPool = true;
+
+        this.cacheProcesos = new CacheSLRU<>(maxCacheSize);
+        this.cacheBusquedas = new CacheSLRU<>(maxCacheSize / 4);
+        this.cacheEstados = crearListasPorEstado(EstadoProceso.values().length);
+        this.poolProcesos = new PoolProcesos(maxPoolSize);
+        this.poolStringBuilders = new ObjectPool<>(StringBuilder::new, 50);
+
+        this.objetosReutilizados = 0;
+    }
+
+    // Se suma a los observadores del gestor y parte con las cachés vacías
+    public void conectar(GestorProcesos gestorProcesos) {
+        if (gestorConectado == gestorProcesos) {
+            return;
+        }
+        gestorConectado = gestorProcesos;
+        gestorProcesos.setObservadorEstados(
+                ObservadorEstado.combinar(gestorProcesos.getObservadorEstados(), this));
+        limpiarCache();
+    }
+
+    // Java no permite crear arreglos de un tipo genérico: se crea el comodín y se convierte
+    @SuppressWarnings("unchecked")
+    private static ListaSimple<Proceso>[] crearListasPorEstado(int cantidad) {
+        return (ListaSimple<Proceso>[]) new ListaSimple<?>[cantidad];
+    }
+
+    private boolean usarCache(GestorProcesos gestorProcesos) {
+        return habilitarCache && gestorProcesos == gestorConectado;
+    }
+
+    @Override
+    public void procesoCreado(Proceso proceso) {
+        cacheBusquedas.invalidar(claveNombre(proceso.getNombre()));
+        invalidarEstado(proceso.getEstado());
+    }
+
+    @Override
+    public void estadoCambiado(Proceso proceso, EstadoProceso anterior, EstadoProceso nuevo) {
+        invalidarEstado(anterior);
+        invalidarEstado(nuevo);
+    }
+
+    @Override
+    public void procesoEliminado(Proceso proceso) {
+        cacheProcesos.invalidar(proceso.getId());
+        cacheBusquedas.invalidar(claveNombre(proceso.getNombre()));
+        invalidarEstado(proceso.getEstado());
+    }
+
+    private void invalidarEstado(EstadoProceso estado) {
+        if (estado != null && cacheEstados[estado.ordinal()] != null) {
+            cacheEstados[estado.ordinal()] = null;
+            invalidacionesEstados++;
+        }
+    }
+
+    private static String claveNombre(String nombre) {
+        return nombre == null ? "" : nombre.toLowerCase();
     }
 
     public Proceso obtenerProcesoOptimizado(int id, GestorProcesos gestorProcesos) {
-        if (!habilitarCache) {
+        if (!usarCache(gestorProcesos)) {
             return gestorProcesos.buscarProcesoPorId(id);
         }
 
         // Verificar cache
         Proceso proceso = cacheProcesos.obtener(id);
         if (proceso != null) {
-            hitsCache++;
             return proceso;
         }
 
-        // Cache miss - buscar en gestor
+        // Cache miss - buscar en gestor; sólo se guardan procesos que existen
         proceso = gestorProcesos.buscarProcesoPorId(id);
         if (proceso != null) {
-            // Agregar al cache si hay espacio
-            if (cacheProcesos.tamaño() < maxCacheSize) {
-                cacheProcesos.poner(id, proceso);
-            }
-            missesCache++;
+            cacheProcesos.poner(id, proceso);
         }
 
         return proceso;
     }
 
+    // Devuelve una copia: quien llama puede modificar la lista sin afectar a la caché
     public ListaSimple<Proceso> buscarProcesosPorNombreOptimizado(String nombre, GestorProcesos gestorProcesos) {
-        if (!habilitarCache) {
+        if (nombre == null || !usarCache(gestorProcesos)) {
             return gestorProcesos.buscarProcesosPorNombre(nombre);
         }
 
-        // Verificar cache
-        ListaSimple<Proceso> procesos = cacheBusquedas.obtener(nombre);
-        if (procesos != null) {
-            hitsCache++;
-            return procesos;
+        String clave = claveNombre(nombre);
+        ListaSimple<Proceso> procesos = cacheBusquedas.obtener(clave);
+        if (procesos == null) {
+            procesos = gestorProcesos.buscarProcesosPorNombre(nombre);
+            cacheBusquedas.poner(clave, procesos);
         }
+        return copiar(procesos);
+    }
 
-        // Cache miss - buscar en gestor
-        procesos = gestorProcesos.buscarProcesosPorNombre(nombre);
-        if (procesos != null && cacheBusquedas.tamaño() < maxCacheSize) {
-            cacheBusquedas.poner(nombre, procesos);
+    // Devuelve una copia (los algoritmos reordenan la lista de listos en su lugar)
+    public ListaSimple<Proceso> buscarProcesosPorEstadoOptimizado(EstadoProceso estado, GestorProcesos gestorProcesos) {
+        if (estado == null || !usarCache(gestorProcesos)) {
+            return gestorProcesos.getProcesosPorEstado(estado);
         }
-        missesCache++;
+        return copiar(listaPorEstado(estado));
+    }
 
+    public Proceso[] procesosPorEstadoEnArreglo(EstadoProceso estado, GestorProcesos gestorProcesos) {
+        ListaSimple<Proceso> procesos = estado != null && usarCache(gestorProcesos)
+                ? listaPorEstado(estado)
+                : gestorProcesos.getProcesosPorEstado(estado);
+        return procesos.aArray(new Proceso[procesos.tamaño()]);
+    }
+
+    public int contarProcesosPorEstadoOptimizado(EstadoProceso estado, GestorProcesos gestorProcesos) {
+        if (estado == null || !usarCache(gestorProcesos)) {
+            return gestorProcesos.contarProcesosPorEstado(estado);
+        }
+        return listaPorEstado(estado).tamaño();
+    }
+
+    private ListaSimple<Proceso> listaPorEstado(EstadoProceso estado) {
+        ListaSimple<Proceso> procesos = cacheEstados[estado.ordinal()];
+        if (procesos != null) {
+            hitsEstados++;
+            return procesos;
+        }
+        missesEstados++;
+        procesos = gestorConectado.getProcesosPorEstado(estado);
+        cacheEstados[estado.ordinal()] = procesos;
         return procesos;
     }
 
-    public ListaSimple<Proceso> buscarProcesosPorEstadoOptimizado(EstadoProceso estado, GestorProcesos gestorProcesos) {
-        return gestorProcesos.getProcesosPorEstado(estado);
+    private static ListaSimple<Proceso> copiar(ListaSimple<Proceso> procesos) {
+        ListaSimple<Proceso> copia = new ListaSimple<>(Math.max(1, procesos.tamaño()));
+        for (int i = 0; i < procesos.tamaño(); i++) {
+            copia.agregar(procesos.obtener(i));
+        }
+        return copia;
     }
 
+    // El proceso no queda registrado en el gestor: es para quien gestiona sus propios PCB
     public Proceso crearProcesoOptimizado(String nombre, int numInstrucciones, TipoProceso tipoProceso, int prioridad,
             GestorProcesos gestorProcesos) {
+        int id = gestorProcesos.reservarId();
         if (habilitarPool) {
-            Proceso proceso = poolProcesos.obtener();
-            if (proceso != null) {
-                // Reutilizar objeto del pool
-                proceso.setId(gestorProcesos.getSiguienteId());
-                proceso.setNombre(nombre);
-                proceso.setNumInstrucciones(numInstrucciones);
-                proceso.setTipo(tipoProceso);
-                proceso.setPrioridad(prioridad);
-                objetosReutilizados++;
-                return proceso;
-            }
+            // Reutiliza un PCB liberado, reiniciado por completo, si lo hay
+            return poolProcesos.obtener(id, nombre, tipoProceso, numInstrucciones, prioridad);
         }
 
         // Crear nuevo objeto
-        return new Proceso(gestorProcesos.getSiguienteId(), nombre, tipoProceso, numInstrucciones, prioridad);
+        return new Proceso(id, nombre, tipoProceso, numInstrucciones, prioridad);
     }
 
-    public void liberarProceso(Proceso proceso) {
-        if (habilitarPool && proceso != null) {
-            poolProcesos.liberar(proceso);
-        }
+    // Sólo procesos terminados que ya nadie referencia
+    public boolean liberarProceso(Proceso proceso) {
+        return habilitarPool && poolProcesos.liberar(proceso);
     }
 
     public StringBuilder obtenerStringBuilder() {
@@ -140,35 +219,64 @@ public class OptimizadorRendimiento {
         }
     }
 
+    // Vacía todas las cachés; no hace falta para mantenerlas coherentes, las invalidaciones
+    // llegan por el observador
     public void limpiarCache() {
-        if (cacheProcesos.tamaño() > maxCacheSize * 0.8) {
-            cacheProcesos.limpiar();
-            cacheBusquedas.limpiar();
+        cacheProcesos.limpiar();
+        cacheBusquedas.limpiar();
+        for (int i = 0; i < cacheEstados.length; i++) {
+            cacheEstados[i] = null;
         }
     }
 
+    public long getHitsCache() {
+        return cacheProcesos.getAciertos() + cacheBusquedas.getAciertos() + hitsEstados;
+    }
+
+    public long getMissesCache() {
+        return cacheProcesos.getFallos() + cacheBusquedas.getFallos() + missesEstados;
+    }
+
+    public long getExpulsionesCache() {
+        return cacheProcesos.getExpulsiones() + cacheBusquedas.getExpulsiones();
+    }
+
+    public long getInvalidacionesCache() {
+        return cacheProcesos.getInvalidaciones() + cacheBusquedas.getInvalidaciones() + invalidacionesEstados;
+    }
+
     public String getEstadisticasRendimiento() {
-        int totalHits = hitsCache + missesCache;
+        long hitsCache = getHitsCache();
+        long totalHits = hitsCache + getMissesCache();
         double hitRate = totalHits > 0 ? (double) hitsCache / totalHits * 100 : 0;
 
         return String.format(
                 "Optimizador Rendimiento:\n" +
                         "  Cache Hit Rate: %.2f%%\n" +
                         "  Hits: %d, Misses: %d\n" +
-                        "  Objetos reutilizados: %d\n" +
-                        "  Tamaño cache: %d/%d\n" +
+                        "  Expulsiones: %d, Invalidaciones: %d\n" +
+                        "  Por id: %.2f%% (%d/%d), por nombre: %.2f%% (%d/%d)\n" +
+                        "  Por estado: %d hits, %d misses\n" +
+                        "  Objetos reutilizados: %d (PCB: %d de %d)\n" +
                         "  Pool objetos: %d/%d",
-                hitRate, hitsCache, missesCache,
-                objetosReutilizados, cacheProcesos.tamaño(), maxCacheSize,
-                poolProcesos.tamaño(), maxPoolSize);
+                hitRate, hitsCache, getMissesCache(),
+                getExpulsionesCache(), getInvalidacionesCache(),
+                cacheProcesos.getTasaAciertos(), cacheProcesos.tamaño(), cacheProcesos.getCapacidad(),
+                cacheBusquedas.getTasaAciertos(), cacheBusquedas.tamaño(), cacheBusquedas.getCapacidad(),
+                hitsEstados, missesEstados,
+                objetosReutilizados + poolProcesos.getReutilizados(), poolProcesos.getReutilizados(),
+                poolProcesos.getCreados() + poolProcesos.getReutilizados(),
+                poolProcesos.getDisponibles(), maxPoolSize);
     }
 
     public void reiniciarEstadisticas() {
-        hitsCache = 0;
-        missesCache = 0;
+        cacheProcesos.reiniciarEstadisticas();
+        cacheBusquedas.reiniciarEstadisticas();
+        hitsEstados = 0;
+        missesEstados = 0;
+        invalidacionesEstados = 0;
         objetosReutilizados = 0;
-        cacheProcesos.limpiar();
-        cacheBusquedas.limpiar();
+        limpiarCache();
     }
 
     private static class ObjectPool<T> {
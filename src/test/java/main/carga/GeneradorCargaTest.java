@@ -0,0 +1,66 @@
+package main.carga;
+
+import main.config.ConfiguracionSistema;
+import main.core.SistemaOperativoSimulado;
+import main.modelo.TipoProceso;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class GeneradorCargaTest {
+
+    @Test
+    public void respetaRangosEIntervalo() {
+        GeneradorCarga generador = new GeneradorCarga(50, 5, 8, 2, 4, 0.5, 3, 11L);
+        int ioBound = 0;
+        for (int i = 0; i < 50; i++) {
+            assertNull(generador.siguienteHasta(i * 3 - 1));
+            LlegadaProceso llegada = generador.siguienteHasta(i * 3);
+            assertNotNull(llegada);
+            assertEquals(i * 3, llegada.getCiclo());
+            assertTrue(llegada.getInstrucciones() >= 5 && llegada.getInstrucciones() <= 8);
+            assertTrue(llegada.getPrioridad() >= 2 && llegada.getPrioridad() <= 4);
+            if (llegada.getTipo() == TipoProceso.IO_BOUND) {
+                ioBound++;
+            }
+        }
+        assertTrue(generador.isAgotado());
+        assertNull(generador.siguienteHasta(Integer.MAX_VALUE));
+        assertTrue(ioBound > 0 && ioBound < 50);
+    }
+
+    @Test
+    public void mismaSemillaMismaCarga() {
+        GeneradorCarga a = new GeneradorCarga(20, 1, 100, 1, 9, 0.4, 0, 42L);
+        GeneradorCarga b = new GeneradorCarga(20, 1, 100, 1, 9, 0.4, 0, 42L);
+        while (!a.isAgotado()) {
+            assertEquals(a.siguienteHasta(0).toString(), b.siguienteHasta(0).toString());
+        }
+        assertTrue(b.isAgotado());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rangoDeInstruccionesInvertido() {
+        new GeneradorCarga(1, 10, 5, 1, 1, 0.0, 0, 1L);
+    }
+
+    @Test
+    public void elSimuladorCreaLaCargaConfigurada() {
+        ConfiguracionSistema config = new ConfiguracionSistema();
+        config.setNumeroProcesos(6);
+        config.setIntervaloLlegadaCiclos(2);
+        SistemaOperativoSimulado sistema = new SistemaOperativoSimulado(config);
+        assertTrue(sistema.isCargaTrabajoPendiente());
+        sistema.iniciar();
+
+        sistema.ejecutarCiclo();
+        assertEquals(1, sistema.getGestorProcesos().buscarProcesosPorNombre("Carga1").tamaño());
+        assertEquals(0, sistema.getGestorProcesos().buscarProcesosPorNombre("Carga2").tamaño());
+        for (int ciclo = 1; ciclo < 10; ciclo++) {
+            sistema.ejecutarCiclo();
+        }
+        assertEquals(1, sistema.getGestorProcesos().buscarProcesosPorNombre("Carga6").tamaño());
+        assertFalse(sistema.isCargaTrabajoPendiente());
+        sistema.detener();
+    }
+}
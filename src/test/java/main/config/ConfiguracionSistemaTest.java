@@ -0,0 +1,73 @@
+package main.config;
+
+import main.core.SistemaOperativoSimulado;
+import main.estructuras.ListaSimple;
+import main.modelo.Proceso;
+import main.modelo.TipoProceso;
+import org.junit.Test;
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.Assert.*;
+
+public class ConfiguracionSistemaTest {
+
+    private static ConfiguracionSistema leer(String json) throws IOException {
+        return ConfiguracionSistema.leer(new StringReader(json));
+    }
+
+    @Test
+    public void porDefectoNoHayCargaGenerada() {
+        assertEquals(0, new ConfiguracionSistema().getNumeroProcesos());
+    }
+
+    @Test
+    public void elPerfilActivoSeAplicaAlLeer() throws IOException {
+        ConfiguracionSistema config = leer("{\"perfilActivo\": \"estres\", \"maxProcesos\": 10,"
+                + " \"perfiles\": {\"estres\": {\"maxProcesos\": 500, \"carga\": {\"numeroProcesos\": 400}}}}");
+        assertEquals("estres", config.getPerfilActivo());
+        assertEquals(500, config.getMaxProcesos());
+        assertEquals(400, config.getNumeroProcesos());
+        assertEquals(1, config.getNombresPerfiles().tamaño());
+    }
+
+    @Test
+    public void informaLosAjustesSinEfecto() throws IOException {
+        ConfiguracionSistema config = leer("{\"logActivo\": false, \"algoritmos\": {"
+                + "\"RoundRobin\": {\"quantum\": 2, \"quantumBase\": 3}, \"FCFS\": {\"niveles\": 2}}}");
+        ListaSimple<String> sinEfecto = config.getAjustesSinEfecto();
+        assertEquals(3, sinEfecto.tamaño());
+        assertTrue(sinEfecto.contiene("algoritmos.RoundRobin.quantumBase"));
+        assertTrue(sinEfecto.contiene("algoritmos.FCFS.niveles"));
+        assertTrue(sinEfecto.contiene("logActivo"));
+        assertTrue(new ConfiguracionSistema().getAjustesSinEfecto().estaVacia());
+    }
+
+    @Test
+    public void elSimuladorUsaElAlgoritmoInicialYSusParametros() throws IOException {
+        ConfiguracionSistema config = leer("{\"algoritmoInicial\": \"MULTINIVEL\","
+                + " \"algoritmos\": {\"RoundRobin\": {\"quantum\": 2}, \"Multinivel\": {\"niveles\": 5}}}");
+        SistemaOperativoSimulado sistema = new SistemaOperativoSimulado(config);
+        assertEquals("Multinivel (5 niveles)", sistema.getPlanificador().getNombreAlgoritmo());
+        sistema.configurarPlanificador("ROUND_ROBIN");
+        assertEquals("Round Robin (Quantum: 2)", sistema.getPlanificador().getNombreAlgoritmo());
+    }
+
+    // Con quantum 2 el segundo proceso llega a la CPU antes de que el primero termine
+    @Test
+    public void roundRobinDesalojaAlAgotarElQuantum() throws IOException {
+        ConfiguracionSistema config = leer("{\"algoritmoInicial\": \"ROUND_ROBIN\","
+                + " \"algoritmos\": {\"RoundRobin\": {\"quantum\": 2}}}");
+        SistemaOperativoSimulado sistema = new SistemaOperativoSimulado(config);
+        Proceso primero = sistema.crearProceso("primero", 50, TipoProceso.CPU_BOUND, 1);
+        Proceso segundo = sistema.crearProceso("segundo", 50, TipoProceso.CPU_BOUND, 1);
+        sistema.iniciar();
+        for (int ciclo = 0; ciclo < 10; ciclo++) {
+            sistema.ejecutarCiclo();
+        }
+        assertTrue(primero.getInstruccionesEjecutadas() > 0);
+        assertTrue(segundo.getInstruccionesEjecutadas() > 0);
+        assertTrue(primero.getInstruccionesEjecutadas() < 10);
+        sistema.detener();
+    }
+}
@@ -0,0 +1,105 @@
+package main.config;
+
+import main.config.LectorJSON.Token;
+import org.junit.Test;
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.Assert.*;
+
+public class LectorJSONTest {
+
+    @Test
+    public void recorreUnDocumentoTokenAToken() throws IOException {
+        LectorJSON lector = lector("{\"nombre\": \"disco\", \"ciclos\": [2, 4.5], \"activo\": true, \"x\": null}");
+
+        assertEquals(Token.INICIO_OBJETO, lector.siguiente());
+        assertEquals(Token.NOMBRE, lector.siguiente());
+        assertEquals("nombre", lector.getCadena());
+        assertEquals(Token.CADENA, lector.siguiente());
+        assertEquals("disco", lector.getCadena());
+
+        assertEquals(Token.NOMBRE, lector.siguiente());
+        assertEquals(Token.INICIO_ARREGLO, lector.siguiente());
+        assertEquals(Token.NUMERO, lector.siguiente());
+        assertTrue(lector.isNumeroEntero());
+        assertEquals(2, lector.getLargo());
+        assertEquals(Token.NUMERO, lector.siguiente());
+        assertFalse(lector.isNumeroEntero());
+        assertEquals(4.5, lector.getDecimal(), 1e-9);
+        assertEquals(Token.FIN_ARREGLO, lector.siguiente());
+
+        assertEquals(Token.NOMBRE, lector.siguiente());
+        assertEquals(Token.BOOLEANO, lector.siguiente());
+        assertTrue(lector.getBooleano());
+        assertEquals(Token.NOMBRE, lector.siguiente());
+        assertEquals(Token.NULO, lector.siguiente());
+        assertEquals(Token.FIN_OBJETO, lector.siguiente());
+        assertEquals(Token.FIN_DOCUMENTO, lector.siguiente());
+    }
+
+    @Test
+    public void saltarValorConsumeObjetosAnidados() throws IOException {
+        LectorJSON lector = lector("{\"a\": {\"b\": [1, {\"c\": 2}]}, \"d\": 3}");
+        assertEquals(Token.INICIO_OBJETO, lector.siguiente());
+        assertEquals(Token.NOMBRE, lector.siguiente());
+        lector.saltarValor(lector.siguiente());
+
+        assertEquals(Token.NOMBRE, lector.siguiente());
+        assertEquals("d", lector.getCadena());
+        assertEquals(Token.NUMERO, lector.siguiente());
+        assertEquals(3, lector.getLargo());
+    }
+
+    // Las posiciones de error son de 1 en 1 por línea y columna, y apuntan al token culpable
+    @Test
+    public void faltaDosPuntosSeñalaElValor() {
+        assertError("{\"a\": 1,\n  \"b\" 2}", 2, 7, "Se esperaba ':'");
+    }
+
+    @Test
+    public void cierreEquivocadoEnOtraLinea() {
+        assertError("{\"a\": [1, 2,\n\n   }", 3, 4, "Valor inesperado");
+    }
+
+    @Test
+    public void contenidoTrasElDocumento() {
+        assertError("{\"a\": 1} x", 1, 10, "después del fin");
+    }
+
+    @Test
+    public void literalNoValido() {
+        assertError("{\"a\": tru}", 1, 7, "Literal no válido");
+    }
+
+    @Test
+    public void arregloSinCerrar() {
+        assertError("[1, 2", 1, 5, "Se esperaba ',' o ']'");
+    }
+
+    @Test
+    public void documentoVacio() {
+        assertError("", 1, 0, "Documento vacío");
+    }
+
+    private static LectorJSON lector(String texto) {
+        return new LectorJSON(new StringReader(texto));
+    }
+
+    private static void assertError(String texto, int linea, int columna, String fragmento) {
+        LectorJSON lector = lector(texto);
+        try {
+            while (lector.siguiente() != Token.FIN_DOCUMENTO) {
+                // Sólo interesa dónde falla
+            }
+            fail("Se esperaba un error de sintaxis en: " + texto);
+        } catch (ErrorConfiguracion e) {
+            assertEquals(e.getMessage(), linea, lector.getLinea());
+            assertEquals(e.getMessage(), columna, lector.getColumna());
+            assertTrue(e.getMessage(), e.getMessage().startsWith("Línea " + linea + ", columna " + columna + ": "));
+            assertTrue(e.getMessage(), e.getMessage().contains(fragmento));
+        } catch (IOException e) {
+            fail("Error de lectura inesperado: " + e);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package main.core;
+
+import main.modelo.TipoProceso;
+import org.junit.Test;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class PuntoControlTest {
+
+    private static SistemaOperativoSimulado sistemaEnMarcha() {
+        SistemaOperativoSimulado sistema = new SistemaOperativoSimulado(0, 200, "FCFS");
+        sistema.configurarPlanificador("ROUND_ROBIN");
+        sistema.setSemilla(7);
+        for (int i = 0; i < 40; i++) {
+            sistema.crearProceso("P" + i, 20 + i * 3, i % 3 == 0 ? TipoProceso.IO_BOUND : TipoProceso.CPU_BOUND,
+                    1 + i % 9);
+        }
+        sistema.iniciar();
+        avanzar(sistema, 300);
+        return sistema;
+    }
+
+    private static void avanzar(SistemaOperativoSimulado sistema, int ciclos) {
+        for (int i = 0; i < ciclos; i++) {
+            sistema.ejecutarCiclo();
+        }
+    }
+
+    private static String firma(SistemaOperativoSimulado sistema) {
+        return Arrays.toString(sistema.obtenerEstadisticas()) + " ciclo=" + sistema.getCicloActual()
+                + " retorno=" + sistema.getMotorMetricas().getTiempoRetornoPromedio()
+                + " io=" + sistema.getGestorIO().obtenerInformacionDetallada();
+    }
+
+    private static File archivoTemporal() throws IOException {
+        File archivo = File.createTempFile("punto-control", ".bin");
+        archivo.deleteOnExit();
+        return archivo;
+    }
+
+    // Guardar, cargar y restaurar: la copia sigue exactamente el mismo camino que el original
+    @Test
+    public void guardarCargarYRestaurarContinuaIgual() throws IOException {
+        SistemaOperativoSimulado original = sistemaEnMarcha();
+        PuntoControl punto = original.crearPuntoControl();
+        assertEquals(original.getCicloActual(), punto.getCiclo());
+        File archivo = archivoTemporal();
+        punto.guardar(archivo.getPath());
+
+        avanzar(original, 300);
+        SistemaOperativoSimulado restaurado = PuntoControl.cargar(archivo.getPath()).restaurar();
+        assertEquals(punto.getCiclo(), restaurado.getCicloActual());
+        avanzar(restaurado, 300);
+
+        assertEquals(firma(original), firma(restaurado));
+    }
+
+    @Test
+    public void cadaRestauracionEsIndependiente() throws IOException {
+        SistemaOperativoSimulado original = sistemaEnMarcha();
+        PuntoControl punto = original.crearPuntoControl();
+        SistemaOperativoSimulado primera = punto.restaurar();
+        SistemaOperativoSimulado segunda = punto.restaurar();
+
+        avanzar(primera, 100);
+        assertEquals(punto.getCiclo(), segunda.getCicloActual());
+        assertEquals(punto.getCiclo(), original.getCicloActual());
+        avanzar(segunda, 100);
+        assertEquals(firma(primera), firma(segunda));
+    }
+
+    @Test(expected = IOException.class)
+    public void rechazaArchivosQueNoSonPuntosDeControl() throws IOException {
+        File archivo = archivoTemporal();
+        try (DataOutputStream salida = new DataOutputStream(new FileOutputStream(archivo))) {
+            salida.writeInt(0x12345678);
+        }
+        PuntoControl.cargar(archivo.getPath());
+    }
+
+    @Test
+    public void rechazaOtraVersion() throws IOException {
+        File archivo = archivoTemporal();
+        sistemaEnMarcha().crearPuntoControl().guardar(archivo.getPath());
+        byte[] bytes = Files.readAllBytes(archivo.toPath());
+        bytes[7]++; // Último byte de VERSION
+        Files.write(archivo.toPath(), bytes);
+        try {
+            PuntoControl.cargar(archivo.getPath());
+            fail("Se esperaba el rechazo de la versión");
+        } catch (IOException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("Versión"));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package main.dispositivos;
+
+import main.modelo.Proceso;
+import main.modelo.TipoProceso;
+import org.junit.Test;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class DispositivoIOTest {
+
+    // Devuelve los cilindros en el orden dado, para que el disco reciba solicitudes conocidas
+    private static class CilindrosFijos extends Random {
+        private static final long serialVersionUID = 1L;
+        private final int[] cilindros;
+        private int siguiente;
+
+        CilindrosFijos(int... cilindros) {
+            this.cilindros = cilindros;
+        }
+
+        @Override
+        public int nextInt(int limite) {
+            return cilindros[siguiente++];
+        }
+    }
+
+    private static Proceso proceso(int id) {
+        return new Proceso(id, "P" + id, TipoProceso.IO_BOUND, 10, 1);
+    }
+
+    // Deja la cabeza en el cilindro 110, encola 10, 120, 180, 50 y 105 y devuelve en qué
+    // orden se atendieron esos cilindros
+    private static String ordenDeServicio(PoliticaDisco politica) {
+        DispositivoIO disco = new DispositivoIO("Disco", TipoDispositivo.DISCO, DistribucionServicio.constante(1));
+        disco.setPolitica(politica);
+        Random random = new CilindrosFijos(110, 10, 120, 180, 50, 105);
+        int ciclo = 0;
+        disco.encolar(proceso(0), ciclo, random);
+        while (disco.avanzarCiclo(ciclo++, random) == null) {
+            // Hasta que la cabeza llegue al cilindro 110
+        }
+        for (int i = 1; i <= 5; i++) {
+            disco.encolar(proceso(i), ciclo, random);
+        }
+
+        StringBuilder orden = new StringBuilder();
+        for (int atendidas = 0; atendidas < 5; ) {
+            SolicitudIO completada = disco.avanzarCiclo(ciclo++, random);
+            if (completada != null) {
+                orden.append(atendidas++ == 0 ? "" : " ").append(completada.getCilindro());
+            }
+        }
+        assertFalse(disco.isOcupado());
+        return orden.toString();
+    }
+
+    @Test
+    public void fcfsRespetaElOrdenDeLlegada() {
+        assertEquals("10 120 180 50 105", ordenDeServicio(PoliticaDisco.FCFS));
+    }
+
+    @Test
+    public void sstfAtiendeLaMasCercana() {
+        assertEquals("105 120 180 50 10", ordenDeServicio(PoliticaDisco.SSTF));
+    }
+
+    @Test
+    public void scanSubeYLuegoBaja() {
+        assertEquals("120 180 105 50 10", ordenDeServicio(PoliticaDisco.SCAN));
+    }
+
+    @Test
+    public void cLookSubeYSaltaALaMasBaja() {
+        assertEquals("120 180 10 50 105", ordenDeServicio(PoliticaDisco.C_LOOK));
+    }
+
+    @Test
+    public void removerSolicitudesLiberaLaQueEstaEnServicio() {
+        DispositivoIO impresora = new DispositivoIO("Impresora", TipoDispositivo.IMPRESORA,
+                DistribucionServicio.constante(5));
+        Proceso eliminado = proceso(1);
+        Proceso otro = proceso(2);
+        Random random = new Random(1);
+        impresora.encolar(eliminado, 0, random);
+        impresora.encolar(otro, 0, random);
+        impresora.encolar(eliminado, 0, random);
+        assertNull(impresora.avanzarCiclo(0, random));
+        assertTrue(impresora.isOcupado());
+
+        assertTrue(impresora.removerSolicitudesDe(eliminado));
+        assertFalse(impresora.isOcupado());
+        assertEquals(1, impresora.getLongitudCola());
+        assertFalse(impresora.removerSolicitudesDe(eliminado));
+
+        SolicitudIO completada = null;
+        for (int ciclo = 1; completada == null && ciclo < 20; ciclo++) {
+            completada = impresora.avanzarCiclo(ciclo, random);
+        }
+        assertSame(otro, completada.getProceso());
+        assertEquals(1, impresora.getTotalCompletadas());
+    }
+}
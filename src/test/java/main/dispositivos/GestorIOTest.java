@@ -0,0 +1,76 @@
+package main.dispositivos;
+
+import main.config.ConfiguracionSistema;
+import main.core.SistemaOperativoSimulado;
+import main.interrupciones.Interrupcion;
+import main.interrupciones.ManejadorInterrupciones;
+import main.interrupciones.TipoInterrupcion;
+import main.modelo.EstadoProceso;
+import main.modelo.Proceso;
+import main.modelo.TipoProceso;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class GestorIOTest {
+
+    private static Proceso proceso(int id) {
+        return new Proceso(id, "P" + id, TipoProceso.IO_BOUND, 10, 1);
+    }
+
+    // Una solicitud en servicio y otra en espera del mismo proceso: ninguna se completa
+    @Test
+    public void cancelarNoGeneraIOCompletada() {
+        ManejadorInterrupciones manejador = new ManejadorInterrupciones();
+        GestorIO gestor = new GestorIO(manejador);
+        DispositivoIO red = new DispositivoIO("Red", TipoDispositivo.RED, DistribucionServicio.constante(3));
+        gestor.agregarDispositivo(red);
+        Proceso cancelado = proceso(1);
+        Proceso otro = proceso(2);
+        gestor.solicitarIO(cancelado, red, 0);
+        gestor.solicitarIO(otro, red, 0);
+        gestor.solicitarIO(cancelado, red, 0);
+        gestor.avanzarCiclo(0);
+
+        gestor.cancelarSolicitudes(cancelado);
+        assertEquals(1, gestor.getSolicitudesPendientes());
+        for (int ciclo = 1; ciclo < 20; ciclo++) {
+            gestor.avanzarCiclo(ciclo);
+        }
+
+        int completadas = 0;
+        Interrupcion interrupcion;
+        while ((interrupcion = manejador.procesarSiguienteInterrupcion()) != null) {
+            if (interrupcion.getTipo() == TipoInterrupcion.IO_COMPLETADA) {
+                assertSame(otro, interrupcion.getProcesoOrigen());
+                completadas++;
+            }
+        }
+        assertEquals(1, completadas);
+        assertEquals(0, gestor.getSolicitudesPendientes());
+    }
+
+    @Test
+    public void eliminarUnProcesoBloqueadoCancelaSuIO() {
+        SistemaOperativoSimulado sistema = new SistemaOperativoSimulado(new ConfiguracionSistema());
+        Proceso proceso = sistema.crearProceso("io", 50, TipoProceso.IO_BOUND, 1);
+        proceso.setCiclosParaExcepcionIO(2);
+        sistema.iniciar();
+        for (int ciclo = 0; ciclo < 20 && proceso.getEstado() != EstadoProceso.BLOQUEADO; ciclo++) {
+            sistema.ejecutarCiclo();
+        }
+        assertEquals(EstadoProceso.BLOQUEADO, proceso.getEstado());
+        GestorIO gestorIO = sistema.getGestorIO();
+        assertEquals(1, gestorIO.getSolicitudesPendientes());
+        int completadasAntes = gestorIO.obtenerEstadisticas()[2];
+
+        assertTrue(sistema.eliminarProceso(proceso.getId()));
+        assertEquals(0, gestorIO.getSolicitudesPendientes());
+        for (int ciclo = 0; ciclo < 50; ciclo++) {
+            sistema.ejecutarCiclo();
+        }
+        assertEquals(completadasAntes, gestorIO.obtenerEstadisticas()[2]);
+        assertNull(sistema.getGestorProcesos().buscarProcesoPorId(proceso.getId()));
+        sistema.detener();
+    }
+}
@@ -0,0 +1,83 @@
+package main.estructuras;
+
+import org.junit.Test;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ArbolFenwickTest {
+
+    @Test
+    public void prefijosYTotal() {
+        ArbolFenwick arbol = new ArbolFenwick();
+        long[] pesos = {3, 0, 5, 1, 7};
+        for (int i = 0; i < pesos.length; i++) {
+            arbol.poner(i, pesos[i]);
+        }
+        assertEquals(3, arbol.prefijo(0));
+        assertEquals(3, arbol.prefijo(1));
+        assertEquals(8, arbol.prefijo(2));
+        assertEquals(16, arbol.prefijo(4));
+        assertEquals(16, arbol.getTotal());
+
+        arbol.poner(2, 1);
+        assertEquals(1, arbol.obtener(2));
+        assertEquals(4, arbol.prefijo(2));
+        assertEquals(12, arbol.getTotal());
+    }
+
+    // buscar(v) es la primera posición cuyo prefijo supera v; las de peso 0 nunca salen
+    @Test
+    public void buscarDevuelveLaPosicionDelValorAcumulado() {
+        ArbolFenwick arbol = new ArbolFenwick();
+        arbol.poner(0, 3);
+        arbol.poner(1, 0);
+        arbol.poner(2, 5);
+        arbol.poner(3, 2);
+
+        assertEquals(0, arbol.buscar(0));
+        assertEquals(0, arbol.buscar(2));
+        assertEquals(2, arbol.buscar(3));
+        assertEquals(2, arbol.buscar(7));
+        assertEquals(3, arbol.buscar(8));
+        assertEquals(3, arbol.buscar(9));
+    }
+
+    @Test
+    public void buscarCoincideConRecorridoLinealTrasCrecer() {
+        ArbolFenwick arbol = new ArbolFenwick();
+        Random azar = new Random(3);
+        long[] pesos = new long[1000];
+        for (int i = 0; i < pesos.length; i++) {
+            pesos[i] = azar.nextInt(4);
+            arbol.poner(i, pesos[i]);
+        }
+        assertTrue(arbol.capacidad() >= pesos.length);
+
+        for (long objetivo = 0; objetivo < arbol.getTotal(); objetivo += 7) {
+            long acumulado = 0;
+            int esperada = 0;
+            while (acumulado + pesos[esperada] <= objetivo) {
+                acumulado += pesos[esperada++];
+            }
+            assertEquals("objetivo " + objetivo, esperada, arbol.buscar(objetivo));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void buscarFueraDelTotalFalla() {
+        ArbolFenwick arbol = new ArbolFenwick();
+        arbol.poner(0, 4);
+        arbol.buscar(4);
+    }
+
+    @Test
+    public void limpiarDejaTodoEnCero() {
+        ArbolFenwick arbol = new ArbolFenwick();
+        arbol.poner(5, 9);
+        arbol.limpiar();
+        assertEquals(0, arbol.getTotal());
+        assertEquals(0, arbol.prefijo(5));
+        assertEquals(0, arbol.obtener(5));
+    }
+}
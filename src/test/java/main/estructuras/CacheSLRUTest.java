@@ -0,0 +1,101 @@
+package main.estructuras;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class CacheSLRUTest {
+
+    @Test
+    public void falloYAciertoSeContabilizan() {
+        CacheSLRU<String, Integer> cache = new CacheSLRU<>(4);
+        assertNull(cache.obtener("a"));
+        cache.poner("a", 1);
+        assertEquals(Integer.valueOf(1), cache.obtener("a"));
+        assertEquals(1, cache.getFallos());
+        assertEquals(1, cache.getAciertos());
+        assertEquals(50.0, cache.getTasaAciertos(), 1e-9);
+    }
+
+    // Una entrada reutilizada pasa al segmento protegido y un recorrido de claves de un
+    // solo uso sólo expulsa del segmento de prueba
+    @Test
+    public void promovidaSobreviveAUnRecorrido() {
+        CacheSLRU<String, Integer> cache = new CacheSLRU<>(5);
+        cache.poner("caliente", 0);
+        cache.obtener("caliente");
+
+        for (int i = 0; i < 20; i++) {
+            cache.poner("frio" + i, i);
+        }
+        assertEquals(5, cache.tamaño());
+        assertEquals(16, cache.getExpulsiones());
+        assertEquals(Integer.valueOf(0), cache.obtener("caliente"));
+        assertNull(cache.obtener("frio0"));
+        assertEquals(Integer.valueOf(19), cache.obtener("frio19"));
+    }
+
+    @Test
+    public void sinPromocionSeExpulsaLaMasAntigua() {
+        CacheSLRU<Integer, Integer> cache = new CacheSLRU<>(3);
+        cache.poner(1, 1);
+        cache.poner(2, 2);
+        cache.poner(3, 3);
+        cache.poner(4, 4);
+
+        assertEquals(1, cache.getExpulsiones());
+        assertNull(cache.obtener(1));
+        assertEquals(Integer.valueOf(2), cache.obtener(2));
+    }
+
+    // Con capacidad 5 el protegido admite 4: la quinta promoción degrada a la menos
+    // reciente, que vuelve a prueba y es la primera en salir
+    @Test
+    public void protegidoLlenoDegradaSuMenosReciente() {
+        CacheSLRU<Integer, Integer> cache = new CacheSLRU<>(5);
+        for (int clave = 1; clave <= 5; clave++) {
+            cache.poner(clave, clave);
+            cache.obtener(clave);
+        }
+        assertEquals(5, cache.tamaño());
+
+        cache.poner(6, 6);
+        assertEquals(1, cache.getExpulsiones());
+        assertNull(cache.obtener(1));
+        for (int clave = 2; clave <= 6; clave++) {
+            assertEquals(Integer.valueOf(clave), cache.obtener(clave));
+        }
+    }
+
+    @Test
+    public void ponerSobreProtegidaActualizaElValor() {
+        CacheSLRU<String, Integer> cache = new CacheSLRU<>(4);
+        cache.poner("a", 1);
+        cache.obtener("a");
+        cache.poner("a", 2);
+        assertEquals(1, cache.tamaño());
+        assertEquals(Integer.valueOf(2), cache.obtener("a"));
+    }
+
+    @Test
+    public void invalidarYLimpiar() {
+        CacheSLRU<String, Integer> cache = new CacheSLRU<>(4);
+        cache.poner("a", 1);
+        cache.poner("b", 2);
+        cache.obtener("b");
+
+        assertTrue(cache.invalidar("a"));
+        assertFalse(cache.invalidar("a"));
+        assertNull(cache.obtener("a"));
+
+        cache.limpiar();
+        assertEquals(0, cache.tamaño());
+        assertEquals(2, cache.getInvalidaciones());
+        assertNull(cache.obtener("b"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void capacidadMenorQueDosFalla() {
+        new CacheSLRU<String, Integer>(1);
+    }
+}
@@ -0,0 +1,71 @@
+package main.estructuras;
+
+import org.junit.Test;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class ColaMPSCTest {
+
+    @Test
+    public void mantieneElOrdenDeLlegada() {
+        ColaMPSC<Integer> cola = new ColaMPSC<>();
+        assertTrue(cola.estaVacia());
+        assertNull(cola.desencolar());
+        for (int i = 0; i < 5; i++) {
+            cola.encolar(i);
+        }
+        assertFalse(cola.estaVacia());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(Integer.valueOf(i), cola.desencolar());
+        }
+        assertNull(cola.desencolar());
+        assertTrue(cola.estaVacia());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rechazaNull() {
+        new ColaMPSC<String>().encolar(null);
+    }
+
+    // Varios productores y el consumidor a la vez: nada se pierde ni se duplica y cada
+    // productor conserva su propio orden
+    @Test
+    public void variosProductoresConcurrentes() throws InterruptedException {
+        final int productores = 4;
+        final int porProductor = 20_000;
+        ColaMPSC<Integer> cola = new ColaMPSC<>();
+        Thread[] hilos = new Thread[productores];
+        for (int p = 0; p < productores; p++) {
+            final int base = p * porProductor;
+            hilos[p] = new Thread(() -> {
+                for (int i = 0; i < porProductor; i++) {
+                    cola.encolar(base + i);
+                }
+            });
+            hilos[p].start();
+        }
+
+        int[] ultimoPorProductor = new int[productores];
+        Arrays.fill(ultimoPorProductor, -1);
+        int recibidos = 0;
+        long limite = System.currentTimeMillis() + 30_000;
+        while (recibidos < productores * porProductor && System.currentTimeMillis() < limite) {
+            Integer valor = cola.desencolar();
+            if (valor == null) {
+                Thread.yield();
+                continue;
+            }
+            int productor = valor / porProductor;
+            int secuencia = valor % porProductor;
+            assertEquals(ultimoPorProductor[productor] + 1, secuencia);
+            ultimoPorProductor[productor] = secuencia;
+            recibidos++;
+        }
+        for (Thread hilo : hilos) {
+            hilo.join();
+        }
+        assertEquals(productores * porProductor, recibidos);
+        assertNull(cola.desencolar());
+    }
+}
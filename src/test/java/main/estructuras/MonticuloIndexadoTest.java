@@ -0,0 +1,110 @@
+package main.estructuras;
+
+import org.junit.Test;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.Assert.*;
+
+public class MonticuloIndexadoTest {
+
+    @Test
+    public void extraeEnOrdenDeClaveYDesempataPorId() {
+        MonticuloIndexado<String> monticulo = new MonticuloIndexado<>();
+        monticulo.insertar(3, "c", 10);
+        monticulo.insertar(1, "a", 20);
+        monticulo.insertar(2, "b", 10);
+
+        assertEquals("b", monticulo.extraerMinimo());
+        assertEquals("c", monticulo.extraerMinimo());
+        assertEquals("a", monticulo.extraerMinimo());
+        assertNull(monticulo.extraerMinimo());
+        assertTrue(monticulo.estaVacio());
+    }
+
+    @Test
+    public void rechazaIdRepetido() {
+        MonticuloIndexado<String> monticulo = new MonticuloIndexado<>();
+        assertTrue(monticulo.insertar(7, "x", 5));
+        assertFalse(monticulo.insertar(7, "y", 1));
+        assertEquals(1, monticulo.tamaño());
+        assertEquals(5, monticulo.clave(7));
+    }
+
+    @Test
+    public void actualizarSubeYBajaElElemento() {
+        MonticuloIndexado<String> monticulo = new MonticuloIndexado<>();
+        for (int id = 0; id < 10; id++) {
+            monticulo.insertar(id, "p" + id, id * 10);
+        }
+        assertTrue(monticulo.actualizar(9, -1));
+        assertEquals("p9", monticulo.verMinimo());
+        assertTrue(monticulo.actualizar(9, 1000));
+        assertEquals("p0", monticulo.verMinimo());
+        assertEquals(1000, monticulo.clave(9));
+        assertFalse(monticulo.actualizar(42, 0));
+    }
+
+    @Test
+    public void removerDelMedioMantieneElOrden() {
+        MonticuloIndexado<Integer> monticulo = new MonticuloIndexado<>();
+        for (int id = 0; id < 8; id++) {
+            monticulo.insertar(id, id, 8 - id);
+        }
+        assertEquals(Integer.valueOf(4), monticulo.remover(4));
+        assertNull(monticulo.remover(4));
+        assertFalse(monticulo.contiene(4));
+
+        int[] esperado = {7, 6, 5, 3, 2, 1, 0};
+        for (int id : esperado) {
+            assertEquals(Integer.valueOf(id), monticulo.extraerMinimo());
+        }
+    }
+
+    // Operaciones al azar contra un conjunto ordenado de referencia: tras cada paso el
+    // mínimo coincide, y al final se extrae todo en el mismo orden
+    @Test
+    public void invarianteTrasOperacionesAlAzar() {
+        MonticuloIndexado<Integer> monticulo = new MonticuloIndexado<>();
+        TreeSet<long[]> referencia = new TreeSet<>((a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0])
+                : Long.compare(a[1], b[1]));
+        long[] claves = new long[200];
+        boolean[] presente = new boolean[200];
+        Random azar = new Random(7);
+
+        for (int paso = 0; paso < 5000; paso++) {
+            int id = azar.nextInt(claves.length);
+            long clave = azar.nextInt(100);
+            int operacion = azar.nextInt(3);
+            if (!presente[id]) {
+                monticulo.insertar(id, id, clave);
+                referencia.add(new long[] {clave, id});
+                claves[id] = clave;
+                presente[id] = true;
+            } else if (operacion == 0) {
+                monticulo.remover(id);
+                referencia.remove(new long[] {claves[id], id});
+                presente[id] = false;
+            } else {
+                monticulo.actualizar(id, clave);
+                referencia.remove(new long[] {claves[id], id});
+                referencia.add(new long[] {clave, id});
+                claves[id] = clave;
+            }
+            assertEquals(referencia.size(), monticulo.tamaño());
+            if (!referencia.isEmpty()) {
+                assertEquals(Integer.valueOf((int) referencia.first()[1]), monticulo.verMinimo());
+                assertEquals(referencia.first()[0], monticulo.claveMinima());
+            }
+        }
+        while (!referencia.isEmpty()) {
+            assertEquals(Integer.valueOf((int) referencia.pollFirst()[1]), monticulo.extraerMinimo());
+        }
+        assertTrue(monticulo.estaVacio());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void claveMinimaDeVacioFalla() {
+        new MonticuloIndexado<String>().claveMinima();
+    }
+}
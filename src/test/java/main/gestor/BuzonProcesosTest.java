@@ -0,0 +1,94 @@
+package main.gestor;
+
+import main.core.SistemaOperativoSimulado;
+import main.estructuras.MapaSimple;
+import main.modelo.Proceso;
+import main.modelo.TipoProceso;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class BuzonProcesosTest {
+
+    @Test
+    public void reservaElPidAlEnviarYLoUsaAlCrear() {
+        GestorProcesos gestor = new GestorProcesos(10);
+        BuzonProcesos buzon = new BuzonProcesos(gestor);
+        int primero = buzon.enviar("A", 10, TipoProceso.CPU_BOUND, 1);
+        int segundo = buzon.enviar("B", 5, TipoProceso.IO_BOUND, 2);
+        assertTrue(primero != segundo);
+        assertEquals(2, buzon.getEnviadas());
+
+        BuzonProcesos.Solicitud solicitud = buzon.tomar();
+        assertEquals(primero, solicitud.getId());
+        assertEquals("A", solicitud.getNombre());
+        Proceso proceso = solicitud.crearEn(gestor);
+        assertEquals(primero, proceso.getId());
+        assertSame(proceso, gestor.buscarProcesoPorId(primero));
+
+        assertEquals(segundo, buzon.tomar().getId());
+        assertNull(buzon.tomar());
+        assertEquals(2, buzon.getTomadas());
+    }
+
+    @Test
+    public void rechazaParametrosNoValidosSinReservarPid() {
+        GestorProcesos gestor = new GestorProcesos(10);
+        BuzonProcesos buzon = new BuzonProcesos(gestor);
+        int siguiente = gestor.getSiguienteId();
+        assertEquals(-1, buzon.enviar(" ", 10, TipoProceso.CPU_BOUND, 1));
+        assertEquals(-1, buzon.enviar("A", 0, TipoProceso.CPU_BOUND, 1));
+        assertEquals(-1, buzon.enviar("A", 10, null, 1));
+        assertEquals(siguiente, gestor.getSiguienteId());
+        assertEquals(0, buzon.getEnviadas());
+    }
+
+    @Test
+    public void descartarPendientesVaciaElBuzon() {
+        BuzonProcesos buzon = new BuzonProcesos(new GestorProcesos(10));
+        buzon.enviar("A", 10, TipoProceso.CPU_BOUND, 1);
+        buzon.enviar("B", 10, TipoProceso.CPU_BOUND, 1);
+        assertEquals(2, buzon.descartarPendientes());
+        assertNull(buzon.tomar());
+    }
+
+    // Hilos que envían mientras la simulación avanza: cada PID es único y todos se crean
+    @Test
+    public void productoresConcurrentesContraElSimulador() throws InterruptedException {
+        final int productores = 4;
+        final int porProductor = 200;
+        SistemaOperativoSimulado sistema = new SistemaOperativoSimulado(0, 10_000, "FCFS");
+        sistema.iniciar();
+        int[][] pids = new int[productores][porProductor];
+        Thread[] hilos = new Thread[productores];
+        for (int p = 0; p < productores; p++) {
+            final int productor = p;
+            hilos[p] = new Thread(() -> {
+                for (int i = 0; i < porProductor; i++) {
+                    pids[productor][i] = sistema.enviarProceso("H" + productor + "-" + i, 1000,
+                            TipoProceso.CPU_BOUND, 1);
+                }
+            });
+            hilos[p].start();
+        }
+        for (Thread hilo : hilos) {
+            while (hilo.isAlive()) {
+                sistema.ejecutarCiclo();
+            }
+            hilo.join();
+        }
+        sistema.ejecutarCiclo();
+
+        MapaSimple<Integer, Boolean> vistos = new MapaSimple<>();
+        for (int p = 0; p < productores; p++) {
+            for (int i = 0; i < porProductor; i++) {
+                assertNull(vistos.obtener(pids[p][i]));
+                vistos.poner(pids[p][i], Boolean.TRUE);
+                Proceso proceso = sistema.getGestorProcesos().buscarProcesoPorId(pids[p][i]);
+                assertNotNull(proceso);
+                assertEquals("H" + p + "-" + i, proceso.getNombre());
+            }
+        }
+        sistema.detener();
+    }
+}
@@ -0,0 +1,83 @@
+package main.gestor;
+
+import main.modelo.EstadoProceso;
+import main.modelo.Proceso;
+import main.modelo.TipoProceso;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class GestorMemoriaTest {
+
+    private GestorMemoria gestor;
+    private Proceso p1;
+    private Proceso p2;
+    private Proceso p3;
+
+    @Before
+    public void preparar() {
+        gestor = new GestorMemoria(1024, 2048);
+        p1 = new Proceso(1, "P1", TipoProceso.CPU_BOUND, 10, 1);
+        p2 = new Proceso(2, "P2", TipoProceso.CPU_BOUND, 10, 2);
+        p3 = new Proceso(3, "P3", TipoProceso.CPU_BOUND, 10, 3);
+        assertTrue(gestor.asignarMemoria(p1));
+        assertTrue(gestor.asignarMemoria(p2));
+        assertTrue(gestor.asignarMemoria(p3));
+        assertTrue(gestor.estaEnMemoriaPrincipal(p3));
+    }
+
+    @Test
+    public void lruEligeAlMenosRecienteAccedido() {
+        gestor.setPoliticaReemplazo(GestorMemoria.PoliticaReemplazo.LRU);
+        gestor.accederMemoria(p1, false);
+        gestor.accederMemoria(p3, false);
+        assertSame(p2, gestor.seleccionarVictima());
+        gestor.accederMemoria(p2, false);
+        assertSame(p1, gestor.seleccionarVictima());
+    }
+
+    @Test
+    public void fifoIgnoraLosAccesos() {
+        gestor.setPoliticaReemplazo(GestorMemoria.PoliticaReemplazo.FIFO);
+        gestor.accederMemoria(p1, false);
+        assertSame(p1, gestor.seleccionarVictima());
+    }
+
+    @Test
+    public void nuncaEligeAlProcesoEnEjecucion() {
+        for (GestorMemoria.PoliticaReemplazo politica : GestorMemoria.PoliticaReemplazo.values()) {
+            gestor.setPoliticaReemplazo(politica);
+            p1.setEstado(EstadoProceso.EJECUCION);
+            p3.setEstado(EstadoProceso.EJECUCION);
+            assertSame(politica.name(), p2, gestor.seleccionarVictima());
+            p1.setEstado(EstadoProceso.LISTO);
+            p3.setEstado(EstadoProceso.LISTO);
+        }
+    }
+
+    // Todos entran referenciados: la primera vuelta limpia bits y sale P1; si P1 se vuelve a
+    // usar, recibe una segunda oportunidad y sale P2
+    @Test
+    public void clockDaSegundaOportunidad() {
+        gestor.setPoliticaReemplazo(GestorMemoria.PoliticaReemplazo.CLOCK);
+        assertSame(p1, gestor.seleccionarVictima());
+        gestor.accederMemoria(p1, false);
+        assertSame(p2, gestor.seleccionarVictima());
+    }
+
+    @Test
+    public void laVictimaSuspendidaSaleDelOrden() {
+        gestor.setPoliticaReemplazo(GestorMemoria.PoliticaReemplazo.FIFO);
+        assertTrue(gestor.suspenderProceso(gestor.seleccionarVictima()));
+        assertEquals(EstadoProceso.SUSPENDIDO, p1.getEstado());
+        assertTrue(gestor.estaEnMemoriaSecundaria(p1));
+        assertSame(p2, gestor.seleccionarVictima());
+
+        assertTrue(gestor.reactivarProceso(p1));
+        assertSame(p2, gestor.seleccionarVictima());
+        gestor.suspenderProceso(p2);
+        gestor.suspenderProceso(p3);
+        assertSame(p1, gestor.seleccionarVictima());
+    }
+}
@@ -0,0 +1,74 @@
+package main.gestor;
+
+import main.metricas.MotorMetricas;
+import main.modelo.EstadoProceso;
+import main.modelo.Proceso;
+import main.modelo.TipoProceso;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class GestorProcesosTest {
+
+    private GestorProcesos gestor;
+    private MotorMetricas metricas;
+
+    @Before
+    public void preparar() {
+        gestor = new GestorProcesos();
+        metricas = new MotorMetricas();
+        gestor.setObservadorEstados(metricas);
+    }
+
+    @Test
+    public void eliminarNoCuentaComoTerminado() {
+        Proceso proceso = gestor.crearProceso("P1", 10, TipoProceso.CPU_BOUND, 1);
+        gestor.cambiarEstadoProceso(proceso, EstadoProceso.LISTO);
+        gestor.cambiarEstadoProceso(proceso, EstadoProceso.EJECUCION);
+        assertEquals(1, metricas.getProcesosEnCurso());
+
+        assertTrue(gestor.eliminarProceso(proceso.getId()));
+        assertEquals(EstadoProceso.TERMINADO, proceso.getEstado());
+        assertNull(proceso.getObservador());
+        assertEquals(0, metricas.getProcesosTerminados());
+        assertEquals(1, metricas.getProcesosEliminados());
+        assertEquals(0, metricas.getProcesosEnCurso());
+        assertEquals(0, gestor.getNumeroProcesosVivos());
+    }
+
+    @Test
+    public void eliminarUnTerminadoMantieneLaCuenta() {
+        Proceso terminado = gestor.crearProceso("P1", 10, TipoProceso.CPU_BOUND, 1);
+        Proceso vivo = gestor.crearProceso("P2", 10, TipoProceso.CPU_BOUND, 1);
+        gestor.cambiarEstadoProceso(terminado, EstadoProceso.LISTO);
+        gestor.cambiarEstadoProceso(terminado, EstadoProceso.EJECUCION);
+        gestor.cambiarEstadoProceso(terminado, EstadoProceso.TERMINADO);
+        assertEquals(1, metricas.getProcesosTerminados());
+        assertEquals(1, gestor.getNumeroProcesosVivos());
+
+        assertTrue(gestor.eliminarProceso(terminado));
+        assertEquals(1, metricas.getProcesosTerminados());
+        assertEquals(0, metricas.getProcesosEliminados());
+        assertEquals(1, gestor.getNumeroProcesosVivos());
+        assertFalse("Ya no está en la tabla", gestor.eliminarProceso(terminado));
+        assertNotNull(vivo.getObservador());
+    }
+
+    @Test
+    public void limpiarTodosDesconectaLosObservadores() {
+        Proceso p1 = gestor.crearProceso("P1", 10, TipoProceso.CPU_BOUND, 1);
+        Proceso p2 = gestor.crearProceso("P2", 10, TipoProceso.IO_BOUND, 2);
+
+        gestor.limpiarTodosLosProcesos();
+        assertNull(p1.getObservador());
+        assertNull(p2.getObservador());
+        assertEquals(2, metricas.getProcesosEliminados());
+        assertEquals(0, metricas.getProcesosEnCurso());
+
+        // Un PCB suelto ya no informa a las métricas
+        p1.setEstado(EstadoProceso.TERMINADO);
+        assertEquals(0, metricas.getProcesosTerminados());
+        assertEquals(0, gestor.getNumeroProcesosActivos());
+    }
+}
@@ -0,0 +1,142 @@
+package main.gestor;
+
+import main.modelo.EstadoProceso;
+import main.modelo.Proceso;
+import main.modelo.TipoProceso;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class PlanificadorLargoPlazoTest {
+
+    private GestorMemoria memoria;
+    private GestorColas colas;
+    private PlanificadorLargoPlazo planificador;
+
+    private void preparar(int memoriaKB) {
+        memoria = new GestorMemoria(memoriaKB, 4096);
+        colas = new GestorColas(memoria);
+        planificador = new PlanificadorLargoPlazo(colas, memoria);
+    }
+
+    // 100 instrucciones = 14 KB (ver GestorMemoria.calcularTamanioProceso)
+    private Proceso encolar(int pid) {
+        Proceso proceso = new Proceso(pid, "P" + pid, TipoProceso.CPU_BOUND, 100, 1);
+        assertTrue(planificador.encolar(proceso));
+        return proceso;
+    }
+
+    @Test
+    public void soloAceptaProcesosNuevos() {
+        preparar(1024);
+        Proceso listo = new Proceso(1, "P1", TipoProceso.CPU_BOUND, 100, 1);
+        listo.setEstado(EstadoProceso.LISTO);
+        assertFalse(planificador.encolar(listo));
+        assertFalse(planificador.encolar(null));
+        assertFalse(planificador.hayEnEspera());
+    }
+
+    @Test
+    public void respetaElGradoDeMultiprogramacion() {
+        preparar(1024);
+        planificador.configurar(2, 16, 0);
+        Proceso p1 = encolar(1);
+        Proceso p2 = encolar(2);
+        Proceso p3 = encolar(3);
+
+        assertEquals(2, planificador.admitir());
+        assertEquals(EstadoProceso.LISTO, p1.getEstado());
+        assertEquals(EstadoProceso.LISTO, p2.getEstado());
+        assertEquals(EstadoProceso.NUEVO, p3.getEstado());
+        assertEquals(1, planificador.getEnEspera());
+        assertEquals(1, planificador.getTotalAplazamientos());
+
+        // Al liberar un lugar entra el que esperaba
+        memoria.liberarMemoria(p1);
+        assertEquals(1, planificador.admitir());
+        assertEquals(EstadoProceso.LISTO, p3.getEstado());
+        assertFalse(planificador.hayEnEspera());
+        assertEquals(3, planificador.getTotalAdmitidos());
+    }
+
+    @Test
+    public void admiteEnLotesAcotados() {
+        preparar(1024);
+        planificador.configurar(0, 2, 0);
+        for (int pid = 1; pid <= 5; pid++) {
+            encolar(pid);
+        }
+        assertEquals(2, planificador.admitir());
+        assertEquals(2, planificador.admitir());
+        assertEquals(1, planificador.admitir());
+        assertEquals(0, planificador.admitir());
+        assertEquals(5, planificador.getMaximoEnReserva());
+    }
+
+    @Test
+    public void noAdmiteSiNoCabeConLaReserva() {
+        preparar(30);
+        planificador.configurar(0, 16, 4);
+        Proceso p1 = encolar(1);
+        Proceso p2 = encolar(2);
+
+        // Con la memoria vacía se admite aunque no deje la reserva libre
+        assertEquals(1, planificador.admitir());
+        assertEquals(EstadoProceso.LISTO, p1.getEstado());
+        // Quedan 16 KB: caben 14 pero no 14 + 4 de reserva
+        assertEquals(0, planificador.admitir());
+        assertEquals(EstadoProceso.NUEVO, p2.getEstado());
+
+        planificador.configurar(0, 16, 0);
+        assertEquals(1, planificador.admitir());
+        assertEquals(EstadoProceso.LISTO, p2.getEstado());
+    }
+
+    @Test
+    public void elPrimeroQueNoCabeDetieneElLote() {
+        preparar(30);
+        encolar(1);
+        Proceso grande = new Proceso(2, "Grande", TipoProceso.CPU_BOUND, 200, 1); // 24 KB
+        assertTrue(planificador.encolar(grande));
+        Proceso chico = new Proceso(3, "Chico", TipoProceso.CPU_BOUND, 10, 1); // 5 KB
+        assertTrue(planificador.encolar(chico));
+
+        assertEquals(1, planificador.admitir());
+        assertEquals("No se adelanta al grande", EstadoProceso.NUEVO, chico.getEstado());
+        assertEquals(2, planificador.getEnEspera());
+    }
+
+    @Test
+    public void losSuspendidosTienenPreferencia() {
+        preparar(1024);
+        Proceso p1 = encolar(1);
+        Proceso p2 = encolar(2);
+        assertEquals(2, planificador.admitir());
+        assertTrue(colas.suspenderProceso(p2));
+
+        Proceso p3 = encolar(3);
+        assertEquals(0, planificador.admitir());
+        assertEquals(EstadoProceso.NUEVO, p3.getEstado());
+
+        assertTrue(colas.reactivarProceso(p2));
+        assertEquals(1, planificador.admitir());
+        assertEquals(EstadoProceso.LISTO, p3.getEstado());
+        assertEquals(EstadoProceso.LISTO, p1.getEstado());
+    }
+
+    @Test
+    public void descartaLosEliminadosMientrasEsperan() {
+        preparar(1024);
+        planificador.configurar(1, 16, 0);
+        encolar(1);
+        Proceso eliminado = encolar(2);
+        Proceso p3 = encolar(3);
+        assertEquals(1, planificador.admitir());
+
+        eliminado.setEstado(EstadoProceso.TERMINADO);
+        planificador.configurar(0, 16, 0);
+        assertEquals(1, planificador.admitir());
+        assertEquals(EstadoProceso.LISTO, p3.getEstado());
+        assertFalse(planificador.hayEnEspera());
+    }
+}
@@ -0,0 +1,107 @@
+package main.gestor;
+
+import main.modelo.EstadoProceso;
+import main.modelo.Proceso;
+import main.modelo.TipoProceso;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class PlanificadorMedioPlazoTest {
+
+    private GestorMemoria memoria;
+    private GestorColas colas;
+    private PlanificadorMedioPlazo planificador;
+    private Proceso[] procesos;
+
+    // 64 KB con cuatro procesos de 14 KB: quedan 8 KB libres
+    @Before
+    public void preparar() {
+        memoria = new GestorMemoria(64, 4096);
+        colas = new GestorColas(memoria);
+        planificador = new PlanificadorMedioPlazo(colas, memoria);
+        procesos = new Proceso[4];
+        for (int i = 0; i < procesos.length; i++) {
+            procesos[i] = new Proceso(i + 1, "P" + (i + 1), TipoProceso.CPU_BOUND, 100, 1);
+            assertTrue(colas.agregarAListos(procesos[i]));
+        }
+        assertEquals(8, memoria.getMemoriaDisponible());
+    }
+
+    @Test
+    public void suspendeHastaElUmbralAltoYLuegoNoSeMueve() {
+        planificador.configurar(10, 30, 0, 0, 10);
+        planificador.gestionar(100);
+        assertEquals(2, planificador.getTotalSuspensiones());
+        assertEquals(36, memoria.getMemoriaDisponible());
+        assertEquals(EstadoProceso.SUSPENDIDO, procesos[0].getEstado());
+        assertEquals(EstadoProceso.SUSPENDIDO, procesos[1].getEstado());
+
+        // Entre los dos umbrales: traer uno dejaría 22 KB < 30, así que no se hace nada
+        for (int ciclo = 101; ciclo < 200; ciclo++) {
+            planificador.gestionar(ciclo);
+        }
+        assertEquals(2, planificador.getTotalSuspensiones());
+        assertEquals(0, planificador.getTotalReactivaciones());
+        assertEquals(0, planificador.getVueltasRapidas());
+    }
+
+    @Test
+    public void reactivaSoloSiQuedaLibreElUmbralAlto() {
+        planificador.configurar(10, 30, 0, 0, 10);
+        planificador.gestionar(100);
+        memoria.liberarMemoria(procesos[2]);
+        assertEquals(50, memoria.getMemoriaDisponible());
+
+        planificador.gestionar(200);
+        assertEquals("Uno vuelve (quedan 36 KB), el otro no (quedarían 22)",
+                1, planificador.getTotalReactivaciones());
+        assertEquals(1, colas.getNumeroListosSuspendidos());
+        assertEquals(36, memoria.getMemoriaDisponible());
+    }
+
+    @Test
+    public void saltaLosCandidatosRecientes() {
+        planificador.configurar(10, 20, 0, 0, 10);
+        procesos[0].setCicloUltimoIntercambio(95);
+        procesos[1].setCicloUltimoIntercambio(95);
+
+        planificador.gestionar(100);
+        assertEquals(1, planificador.getTotalSuspensiones());
+        assertEquals(EstadoProceso.LISTO, procesos[0].getEstado());
+        assertEquals(EstadoProceso.LISTO, procesos[1].getEstado());
+        assertEquals(EstadoProceso.SUSPENDIDO, procesos[2].getEstado());
+    }
+
+    @Test
+    public void saltaLosQueNoSePuedenSuspender() {
+        planificador.configurar(10, 20, 0, 0, 10);
+        procesos[0].setEstado(EstadoProceso.EJECUCION);
+        procesos[1].setEstado(EstadoProceso.NUEVO);
+
+        planificador.gestionar(100);
+        assertEquals(1, planificador.getTotalSuspensiones());
+        assertEquals(EstadoProceso.SUSPENDIDO, procesos[2].getEstado());
+    }
+
+    @Test
+    public void sinCandidatosElegiblesNoSuspende() {
+        planificador.configurar(10, 20, 0, 0, 10);
+        for (Proceso proceso : procesos) {
+            proceso.setCicloUltimoIntercambio(95);
+        }
+        planificador.gestionar(100);
+        assertEquals(0, planificador.getTotalSuspensiones());
+        assertTrue(planificador.obtenerInformacionDetallada().contains("Residencia: 1"));
+
+        // Pasada la ventana ya se pueden mover
+        planificador.gestionar(105);
+        assertEquals(1, planificador.getTotalSuspensiones());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rechazaUmbralesInvertidos() {
+        planificador.configurar(30, 10, 0, 0, 10);
+    }
+}
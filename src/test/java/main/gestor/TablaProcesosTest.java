@@ -0,0 +1,81 @@
+package main.gestor;
+
+import main.modelo.Proceso;
+import main.modelo.TipoProceso;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TablaProcesosTest {
+
+    private static Proceso proceso(int pid) {
+        return new Proceso(pid, "P" + pid, TipoProceso.CPU_BOUND, 10, 1);
+    }
+
+    @Test
+    public void agregarYBuscarPorPid() {
+        TablaProcesos tabla = new TablaProcesos();
+        Proceso p1 = proceso(1);
+        Proceso p5000 = proceso(5000);
+        assertTrue(tabla.agregar(p1));
+        assertTrue(tabla.agregar(p5000));
+        assertFalse("PID repetido", tabla.agregar(proceso(1)));
+
+        assertEquals(2, tabla.tamaño());
+        assertSame(p1, tabla.obtener(1));
+        assertSame(p5000, tabla.obtener(5000));
+        assertNull(tabla.obtener(2));
+        assertNull(tabla.obtener(1 << 20));
+        assertTrue(tabla.contiene(p1));
+        assertFalse("Mismo PID, otro objeto", tabla.contiene(proceso(1)));
+        assertEquals(2, tabla.getBloquesReservados());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rechazaPidNoPositivo() {
+        new TablaProcesos().agregar(proceso(0));
+    }
+
+    @Test
+    public void removerSueltaElBloqueVacio() {
+        TablaProcesos tabla = new TablaProcesos();
+        tabla.agregar(proceso(1));
+        tabla.agregar(proceso(2));
+        tabla.agregar(proceso(4097));
+        assertEquals(2, tabla.getBloquesReservados());
+
+        assertNotNull(tabla.remover(4097));
+        assertNull("Ya no está", tabla.remover(4097));
+        assertEquals(1, tabla.getBloquesReservados());
+        assertNotNull(tabla.remover(1));
+        assertEquals(1, tabla.getBloquesReservados());
+        assertNotNull(tabla.remover(2));
+        assertEquals(0, tabla.getBloquesReservados());
+        assertTrue(tabla.estaVacia());
+    }
+
+    @Test
+    public void recorrerEnOrdenDePidQuitandoAlRecorrer() {
+        TablaProcesos tabla = new TablaProcesos();
+        int[] pids = {9000, 3, 4096, 1, 4097, 2};
+        for (int pid : pids) {
+            tabla.agregar(proceso(pid));
+        }
+
+        StringBuilder vistos = new StringBuilder();
+        tabla.recorrer(proceso -> {
+            vistos.append(proceso.getId()).append(' ');
+            if (proceso.getId() % 2 == 1) {
+                assertSame(proceso, tabla.remover(proceso.getId()));
+            }
+        });
+
+        assertEquals("1 2 3 4096 4097 9000 ", vistos.toString());
+        assertEquals(3, tabla.tamaño());
+        assertNull(tabla.obtener(4097));
+
+        StringBuilder restantes = new StringBuilder();
+        tabla.recorrer(proceso -> restantes.append(proceso.getId()).append(' '));
+        assertEquals("2 4096 9000 ", restantes.toString());
+    }
+}
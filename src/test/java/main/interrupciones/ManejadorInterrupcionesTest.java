@@ -0,0 +1,115 @@
+package main.interrupciones;
+
+import main.modelo.Proceso;
+import main.modelo.TipoProceso;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ManejadorInterrupcionesTest {
+
+    private ManejadorInterrupciones manejador;
+    private Proceso p1;
+    private Proceso p2;
+
+    @Before
+    public void preparar() {
+        manejador = new ManejadorInterrupciones();
+        p1 = new Proceso(1, "P1", TipoProceso.CPU_BOUND, 10, 1);
+        p2 = new Proceso(2, "P2", TipoProceso.IO_BOUND, 10, 1);
+    }
+
+    @Test
+    public void seAtiendePorPrioridadYEnOrdenDeLlegada() {
+        manejador.generarInterrupcionIO(p1, 1);
+        manejador.generarCambioContexto(p1, 1);
+        manejador.generarInterrupcionIOCompletada(p2, 1);
+        manejador.generarInterrupcionQuantum(p2, 1);
+        manejador.generarExcepcionMemoria(p1, 1);
+
+        assertEquals(TipoInterrupcion.TIMER_QUANTUM, manejador.procesarSiguienteInterrupcion().getTipo());
+        Interrupcion completada = manejador.procesarSiguienteInterrupcion();
+        assertEquals(TipoInterrupcion.IO_COMPLETADA, completada.getTipo());
+        assertEquals(TipoInterrupcion.ERROR_MEMORIA, manejador.procesarSiguienteInterrupcion().getTipo());
+        assertEquals(TipoInterrupcion.CAMBIO_CONTEXTO, manejador.procesarSiguienteInterrupcion().getTipo());
+        assertEquals(TipoInterrupcion.IO_SOLICITUD, manejador.procesarSiguienteInterrupcion().getTipo());
+        assertNull(manejador.procesarSiguienteInterrupcion());
+        assertFalse(manejador.hayInterrupciones());
+    }
+
+    @Test
+    public void lasEnmascaradasQuedanPendientes() {
+        manejador.enmascarar(TipoInterrupcion.TIMER_QUANTUM);
+        manejador.generarInterrupcionQuantum(p1, 1);
+        manejador.generarInterrupcionIO(p2, 1);
+
+        assertEquals(TipoInterrupcion.IO_SOLICITUD, manejador.procesarSiguienteInterrupcion().getTipo());
+        assertNull(manejador.procesarSiguienteInterrupcion());
+        assertTrue(manejador.tienePendientes(p1));
+        assertFalse(manejador.tienePendientesAtendibles(p1));
+
+        manejador.desenmascarar(TipoInterrupcion.TIMER_QUANTUM);
+        assertSame(p1, manejador.procesarSiguienteInterrupcion().getProcesoOrigen());
+        assertFalse(manejador.tienePendientes(p1));
+    }
+
+    // Quantum de P1, de P2 y otra vez de P1 en el mismo ciclo: la tercera se suma a la primera
+    @Test
+    public void coalesceConPidsIntercalados() {
+        manejador.generarInterrupcionQuantum(p1, 5);
+        manejador.generarInterrupcionQuantum(p2, 5);
+        manejador.generarInterrupcionQuantum(p1, 5);
+        manejador.generarCambioContexto(p2, 5);
+        manejador.generarInterrupcionQuantum(p2, 5);
+
+        assertEquals(2, manejador.getContadorCoalescidas());
+        assertEquals(3, manejador.getNumeroInterrupciones());
+        Interrupcion primera = manejador.procesarSiguienteInterrupcion();
+        assertSame(p1, primera.getProcesoOrigen());
+        assertEquals(2, primera.getOcurrencias());
+        assertEquals(2, manejador.procesarSiguienteInterrupcion().getOcurrencias());
+    }
+
+    @Test
+    public void noCoalesceEntreCiclosNiTrasAtender() {
+        manejador.generarInterrupcionQuantum(p1, 5);
+        manejador.generarInterrupcionQuantum(p1, 6);
+        assertEquals(0, manejador.getContadorCoalescidas());
+
+        manejador.procesarSiguienteInterrupcion();
+        manejador.procesarSiguienteInterrupcion();
+        manejador.generarInterrupcionQuantum(p1, 6);
+        assertEquals(0, manejador.getContadorCoalescidas());
+        assertEquals(1, manejador.getNumeroInterrupciones());
+    }
+
+    @Test
+    public void lasNoCoalesciblesSeEncolanTodas() {
+        manejador.generarInterrupcionIO(p1, 3);
+        manejador.generarInterrupcionIO(p1, 3);
+        assertEquals(0, manejador.getContadorCoalescidas());
+        assertEquals(2, manejador.getNumeroInterrupciones());
+    }
+
+    @Test
+    public void despacharInvocaLaRutinaDelTipo() {
+        int[] atendidas = new int[1];
+        manejador.registrarRutina(TipoInterrupcion.FINALIZACION_PROCESO, interrupcion -> atendidas[0]++);
+        manejador.generarInterrupcionFinalizacion(p1, 1);
+        manejador.generarInterrupcionFinalizacion(p2, 1);
+        manejador.generarInterrupcionIO(p1, 1);
+
+        assertEquals(3, manejador.despacharPendientes(10));
+        assertEquals(2, atendidas[0]);
+    }
+
+    @Test
+    public void limpiarOlvidaLasCoalescibles() {
+        manejador.generarInterrupcionQuantum(p1, 5);
+        manejador.limpiar();
+        manejador.generarInterrupcionQuantum(p1, 5);
+        assertEquals(0, manejador.getContadorCoalescidas());
+        assertEquals(1, manejador.getNumeroInterrupciones());
+    }
+}
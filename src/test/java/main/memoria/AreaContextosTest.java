@@ -0,0 +1,133 @@
+package main.memoria;
+
+import main.modelo.Proceso;
+import main.modelo.TipoProceso;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.junit.Assert.*;
+
+public class AreaContextosTest {
+
+    private AreaContextos area;
+
+    @Before
+    public void preparar() throws IOException {
+        area = new AreaContextos(null);
+    }
+
+    @After
+    public void cerrar() throws IOException {
+        area.cerrar();
+    }
+
+    private static Proceso proceso(int pid, int pc, int mar, int quantum) {
+        Proceso proceso = new Proceso(pid, "P" + pid, TipoProceso.CPU_BOUND, 100, 2);
+        proceso.setProgramCounter(pc);
+        proceso.setMemoryAddressRegister(mar);
+        proceso.setInstruccionesEjecutadas(pc);
+        proceso.setQuantumRestante(quantum);
+        return proceso;
+    }
+
+    private static void assertContexto(Proceso proceso, int pc, int mar, int quantum) {
+        assertEquals(pc, proceso.getProgramCounter());
+        assertEquals(mar, proceso.getMemoryAddressRegister());
+        assertEquals(pc, proceso.getInstruccionesEjecutadas());
+        assertEquals(quantum, proceso.getQuantumRestante());
+    }
+
+    @Test
+    public void guardarYCargarRestauraElContexto() {
+        Proceso proceso = proceso(7, 42, 4096, 3);
+        int ranura = area.guardar(proceso, 14);
+        assertEquals(1, area.getOcupadas());
+        // Mientras está guardado el contexto sólo vive en la ranura
+        assertContexto(proceso, 0, 0, 0);
+
+        area.cargar(ranura, proceso);
+        assertContexto(proceso, 42, 4096, 3);
+        assertEquals(0, area.getOcupadas());
+        assertEquals(1, area.getEscrituras());
+        assertEquals(1, area.getLecturas());
+    }
+
+    @Test
+    public void reutilizaLasRanurasLibres() {
+        Proceso p1 = proceso(1, 10, 100, 1);
+        Proceso p2 = proceso(2, 20, 200, 2);
+        int r1 = area.guardar(p1, 14);
+        int r2 = area.guardar(p2, 14);
+        assertTrue(r1 != r2);
+
+        area.cargar(r1, p1);
+        Proceso p3 = proceso(3, 30, 300, 3);
+        assertEquals(r1, area.guardar(p3, 14));
+        area.cargar(r2, p2);
+        assertContexto(p2, 20, 200, 2);
+    }
+
+    @Test
+    public void creceAlLlenarseSinPerderRanuras() {
+        long inicial = area.getBytesArchivo();
+        int cantidad = (int) (inicial / AreaContextos.TAMANIO_RANURA) + 1;
+        Proceso[] procesos = new Proceso[cantidad];
+        int[] ranuras = new int[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            procesos[i] = proceso(i + 1, i, i * 8, i % 5);
+            ranuras[i] = area.guardar(procesos[i], 5);
+        }
+        assertEquals(2 * inicial, area.getBytesArchivo());
+        for (int i = 0; i < cantidad; i++) {
+            area.cargar(ranuras[i], procesos[i]);
+            assertContexto(procesos[i], i, i * 8, i % 5);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rechazaLaRanuraDeOtroProceso() {
+        int ranura = area.guardar(proceso(1, 10, 100, 1), 14);
+        area.cargar(ranura, proceso(2, 0, 0, 0));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void liberarDosVecesFalla() {
+        int ranura = area.guardar(proceso(1, 10, 100, 1), 14);
+        area.liberar(ranura);
+        area.liberar(ranura);
+    }
+
+    @Test
+    public void lasRanurasSobrevivenALaSerializacion() throws IOException, ClassNotFoundException {
+        Proceso p1 = proceso(1, 10, 100, 1);
+        Proceso p2 = proceso(2, 20, 200, 2);
+        int r1 = area.guardar(p1, 14);
+        int r2 = area.guardar(p2, 14);
+        area.cargar(r1, p1);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream salida = new ObjectOutputStream(bytes)) {
+            salida.writeObject(area);
+        }
+        AreaContextos copia;
+        try (ObjectInputStream entrada = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copia = (AreaContextos) entrada.readObject();
+        }
+        try {
+            assertEquals(1, copia.getOcupadas());
+            // La ranura libre se vuelve a usar también en la copia
+            assertEquals(r1, copia.guardar(proceso(3, 30, 300, 3), 14));
+            Proceso restaurado = proceso(2, 0, 0, 0);
+            copia.cargar(r2, restaurado);
+            assertContexto(restaurado, 20, 200, 2);
+        } finally {
+            copia.cerrar();
+        }
+    }
+}
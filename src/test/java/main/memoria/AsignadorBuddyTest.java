@@ -0,0 +1,96 @@
+package main.memoria;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class AsignadorBuddyTest {
+
+    @Test
+    public void redondeaAPotenciaDeDos() {
+        AsignadorBuddy buddy = new AsignadorBuddy(64);
+        int direccion = buddy.asignar(10);
+
+        assertEquals(0, direccion);
+        assertEquals(48, buddy.getMemoriaLibre());
+        assertEquals(6, buddy.getFragmentacionInterna());
+        assertEquals(16, buddy.liberar(direccion));
+        assertEquals(0, buddy.getFragmentacionInterna());
+    }
+
+    // Dividir deja libres las mitades superiores; al liberar, cada bloque se fusiona con su
+    // compañero hasta recomponer el bloque original
+    @Test
+    public void liberarFusionaConLosCompañeros() {
+        AsignadorBuddy buddy = new AsignadorBuddy(64);
+        int a = buddy.asignar(16);
+        int b = buddy.asignar(16);
+        int c = buddy.asignar(32);
+        assertEquals(0, a);
+        assertEquals(16, b);
+        assertEquals(32, c);
+        assertEquals(0, buddy.getMemoriaLibre());
+        assertEquals(0, buddy.getNumBloquesLibres());
+
+        buddy.liberar(a);
+        assertEquals(1, buddy.getNumBloquesLibres());
+        assertEquals(16, buddy.getBloqueLibreMasGrande());
+
+        buddy.liberar(b);
+        assertEquals(1, buddy.getNumBloquesLibres());
+        assertEquals(32, buddy.getBloqueLibreMasGrande());
+
+        buddy.liberar(c);
+        assertEquals(1, buddy.getNumBloquesLibres());
+        assertEquals(64, buddy.getBloqueLibreMasGrande());
+        assertEquals(64, buddy.getMemoriaLibre());
+    }
+
+    @Test
+    public void noFusionaConUnVecinoQueNoEsSuCompañero() {
+        AsignadorBuddy buddy = new AsignadorBuddy(64);
+        int a = buddy.asignar(16);
+        int b = buddy.asignar(16);
+        int c = buddy.asignar(16);
+        buddy.asignar(16);
+
+        // b (16) y c (32) son vecinos pero no compañeros: quedan dos bloques de 16
+        buddy.liberar(b);
+        buddy.liberar(c);
+        assertEquals(2, buddy.getNumBloquesLibres());
+        assertEquals(16, buddy.getBloqueLibreMasGrande());
+
+        buddy.liberar(a);
+        assertEquals(2, buddy.getNumBloquesLibres());
+        assertEquals(32, buddy.getBloqueLibreMasGrande());
+    }
+
+    @Test
+    public void memoriaQueNoEsPotenciaDeDos() {
+        AsignadorBuddy buddy = new AsignadorBuddy(48);
+        assertEquals(2, buddy.getNumBloquesLibres());
+        assertEquals(32, buddy.getBloqueLibreMasGrande());
+
+        assertEquals(-1, buddy.asignar(33));
+        int a = buddy.asignar(32);
+        int b = buddy.asignar(16);
+        assertEquals(0, a);
+        assertEquals(32, b);
+
+        // El bloque de 16 en 32 no tiene compañero dentro de la memoria: no crece
+        buddy.liberar(b);
+        buddy.liberar(a);
+        assertEquals(2, buddy.getNumBloquesLibres());
+        assertEquals(48, buddy.getMemoriaLibre());
+    }
+
+    @Test
+    public void liberarDireccionNoAsignada() {
+        AsignadorBuddy buddy = new AsignadorBuddy(64);
+        assertEquals(-1, buddy.liberar(0));
+        int a = buddy.asignar(8);
+        assertEquals(8, buddy.liberar(a));
+        assertEquals(-1, buddy.liberar(a));
+        assertEquals(-1, buddy.liberar(-1));
+    }
+}
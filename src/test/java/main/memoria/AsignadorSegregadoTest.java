@@ -0,0 +1,64 @@
+package main.memoria;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class AsignadorSegregadoTest {
+
+    @Test
+    public void reutilizaElBloqueDeLaMismaClase() {
+        AsignadorSegregado asignador = new AsignadorSegregado(64);
+        int a = asignador.asignar(3);
+        assertEquals(1, asignador.getFragmentacionInterna());
+        assertEquals(4, asignador.liberar(a));
+        assertEquals(0, asignador.getFragmentacionInterna());
+
+        // Otro pedido de la clase de 4 KB sale de la lista de la clase, no de la reserva
+        assertEquals(a, asignador.asignar(4));
+        assertEquals(60, asignador.getMemoriaLibre());
+    }
+
+    @Test
+    public void losBloquesLiberadosNoCoalescen() {
+        AsignadorSegregado asignador = new AsignadorSegregado(64);
+        int a = asignador.asignar(8);
+        int b = asignador.asignar(8);
+        asignador.liberar(a);
+        asignador.liberar(b);
+
+        assertEquals(64, asignador.getMemoriaLibre());
+        assertEquals(3, asignador.getNumBloquesLibres());
+    }
+
+    // Sin hueco en la reserva, los bloques cacheados vuelven a ella y se fusionan
+    @Test
+    public void reservaAgotadaVaciaLasClases() {
+        AsignadorSegregado asignador = new AsignadorSegregado(16);
+        int[] bloques = new int[16];
+        for (int i = 0; i < bloques.length; i++) {
+            bloques[i] = asignador.asignar(1);
+            assertTrue(bloques[i] >= 0);
+        }
+        assertEquals(-1, asignador.asignar(1));
+        for (int bloque : bloques) {
+            asignador.liberar(bloque);
+        }
+        assertEquals(16, asignador.getNumBloquesLibres());
+
+        assertTrue(asignador.asignar(8) >= 0);
+        assertTrue(asignador.asignar(8) >= 0);
+        assertEquals(0, asignador.getMemoriaLibre());
+    }
+
+    @Test
+    public void pedidosGrandesVanALaReserva() {
+        AsignadorSegregado asignador = new AsignadorSegregado(512);
+        int grande = asignador.asignar(200);
+        assertTrue(grande >= 0);
+        assertEquals(0, asignador.getFragmentacionInterna());
+        assertEquals(200, asignador.liberar(grande));
+        assertEquals(512, asignador.getBloqueLibreMasGrande());
+        assertEquals(-1, asignador.liberar(grande));
+    }
+}
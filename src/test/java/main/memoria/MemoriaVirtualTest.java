@@ -0,0 +1,102 @@
+package main.memoria;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class MemoriaVirtualTest {
+
+    private static final int PID = 1;
+    private static final int BYTES_PAGINA = 1024;
+
+    // Tres marcos de 1 KB y un proceso de diez páginas
+    private static MemoriaVirtual memoria(PoliticaReemplazoPaginas politica) {
+        MemoriaVirtual memoria = new MemoriaVirtual(3, 1, politica);
+        memoria.crearTablaPaginas(PID, 10);
+        return memoria;
+    }
+
+    // true si el acceso a la página produjo un fallo
+    private static boolean acceder(MemoriaVirtual memoria, int pagina, int ciclo) {
+        assertTrue(memoria.traducir(PID, pagina * BYTES_PAGINA + 12, false, ciclo) >= 0);
+        return memoria.isUltimoAccesoFallo();
+    }
+
+    @Test
+    public void paginacionPorDemandaYTraduccion() {
+        MemoriaVirtual memoria = memoria(PoliticaReemplazoPaginas.FIFO);
+        int fisica = memoria.traducir(PID, 2 * BYTES_PAGINA + 100, true, 1);
+        assertTrue(memoria.isUltimoAccesoFallo());
+        assertEquals(100, fisica % BYTES_PAGINA);
+        assertEquals(fisica, memoria.traducir(PID, 2 * BYTES_PAGINA + 100, false, 2));
+        assertFalse(memoria.isUltimoAccesoFallo());
+
+        assertEquals(-1, memoria.traducir(PID, 10 * BYTES_PAGINA, false, 3));
+        assertEquals(-1, memoria.traducir(99, 0, false, 3));
+        assertEquals(1, memoria.getTotalFallosPagina());
+        assertEquals(2, memoria.getMarcosLibres());
+    }
+
+    @Test
+    public void fifoDesalojaLaPrimeraCargada() {
+        MemoriaVirtual memoria = memoria(PoliticaReemplazoPaginas.FIFO);
+        acceder(memoria, 0, 1);
+        acceder(memoria, 1, 1);
+        acceder(memoria, 2, 1);
+        assertFalse(acceder(memoria, 0, 2));
+
+        assertTrue(acceder(memoria, 3, 3));
+        assertFalse(acceder(memoria, 1, 4));
+        assertTrue(acceder(memoria, 0, 5));
+        assertEquals(2, memoria.getTotalReemplazos());
+    }
+
+    // La manecilla da una vuelta limpiando bits y desaloja la página 0; luego perdona a la
+    // página 1, que se volvió a usar, y desaloja la 2
+    @Test
+    public void clockPerdonaALasReferenciadas() {
+        MemoriaVirtual memoria = memoria(PoliticaReemplazoPaginas.CLOCK);
+        acceder(memoria, 0, 1);
+        acceder(memoria, 1, 1);
+        acceder(memoria, 2, 1);
+        assertTrue(acceder(memoria, 3, 2));
+        assertFalse(acceder(memoria, 1, 3));
+
+        assertTrue(acceder(memoria, 4, 4));
+        assertFalse(acceder(memoria, 1, 5));
+        assertTrue(acceder(memoria, 2, 6));
+    }
+
+    // Tras dos tics la página 1 quedó con el contador más bajo
+    @Test
+    public void agingDesalojaLaDeMenorContador() {
+        MemoriaVirtual memoria = memoria(PoliticaReemplazoPaginas.AGING);
+        acceder(memoria, 0, 1);
+        acceder(memoria, 1, 1);
+        acceder(memoria, 2, 1);
+        memoria.avanzarCiclo(10);
+        acceder(memoria, 0, 11);
+        acceder(memoria, 2, 11);
+        memoria.avanzarCiclo(20);
+
+        assertTrue(acceder(memoria, 3, 21));
+        assertFalse(acceder(memoria, 0, 22));
+        assertFalse(acceder(memoria, 2, 22));
+        assertTrue(acceder(memoria, 1, 23));
+    }
+
+    @Test
+    public void liberarProcesoDevuelveMarcosEInvalidaLaTLB() {
+        MemoriaVirtual memoria = memoria(PoliticaReemplazoPaginas.CLOCK);
+        acceder(memoria, 0, 1);
+        acceder(memoria, 1, 1);
+        assertEquals(1, memoria.getMarcosLibres());
+
+        memoria.liberarProceso(PID);
+        assertEquals(3, memoria.getMarcosLibres());
+        assertEquals(-1, memoria.traducir(PID, 0, false, 2));
+
+        memoria.crearTablaPaginas(PID, 10);
+        assertTrue(acceder(memoria, 0, 3));
+    }
+}
@@ -0,0 +1,49 @@
+package main.memoria;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TLBTest {
+
+    @Test
+    public void aciertosYFallos() {
+        TLB tlb = new TLB(4);
+        assertEquals(-1, tlb.buscar(1, 0));
+        tlb.insertar(1, 0, 7);
+        assertEquals(7, tlb.buscar(1, 0));
+        assertEquals(-1, tlb.buscar(2, 0));
+        assertEquals(1, tlb.getAciertos());
+        assertEquals(2, tlb.getFallos());
+    }
+
+    // Llena, usa la primera entrada y la siguiente inserción desplaza a la menos usada
+    @Test
+    public void reemplazaLaEntradaMenosRecienteUsada() {
+        TLB tlb = new TLB(2);
+        tlb.insertar(1, 0, 5);
+        tlb.insertar(1, 1, 6);
+        assertEquals(5, tlb.buscar(1, 0));
+        tlb.insertar(1, 2, 7);
+
+        assertEquals(-1, tlb.buscar(1, 1));
+        assertEquals(5, tlb.buscar(1, 0));
+        assertEquals(7, tlb.buscar(1, 2));
+    }
+
+    @Test
+    public void invalidarPorPaginaYPorProceso() {
+        TLB tlb = new TLB(4);
+        tlb.insertar(1, 0, 5);
+        tlb.insertar(1, 1, 6);
+        tlb.insertar(2, 0, 7);
+
+        tlb.invalidar(1, 1);
+        assertEquals(-1, tlb.buscar(1, 1));
+        assertEquals(5, tlb.buscar(1, 0));
+
+        tlb.invalidarProceso(1);
+        assertEquals(-1, tlb.buscar(1, 0));
+        assertEquals(7, tlb.buscar(2, 0));
+    }
+}
@@ -0,0 +1,90 @@
+package main.planificacion;
+
+import main.config.ConfiguracionSistema;
+import main.core.SistemaOperativoSimulado;
+import main.modelo.EstadoProceso;
+import main.modelo.Proceso;
+import main.modelo.TipoProceso;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class PrioridadTest {
+
+    private static Proceso proceso(int id, int prioridad) {
+        return new Proceso(id, "P" + id, TipoProceso.CPU_BOUND, 100, prioridad);
+    }
+
+    // El proceso en ejecución compite con su prioridad de ahora, no con la clave con la que
+    // salió de la cola hace cientos de ciclos
+    @Test
+    public void llegadaTardiaDeMayorPrioridadDesaloja() {
+        Prioridad prioridad = new Prioridad(20);
+        Proceso largo = proceso(1, 5);
+        prioridad.avanzarCiclo(0);
+        prioridad.procesoListo(largo);
+        prioridad.procesoDespachado(largo);
+        prioridad.procesoRetirado(largo);
+
+        prioridad.avanzarCiclo(400);
+        prioridad.procesoListo(proceso(2, 4));
+        assertTrue(prioridad.debeDesalojar(largo));
+    }
+
+    @Test
+    public void igualPrioridadNoDesaloja() {
+        Prioridad prioridad = new Prioridad(20);
+        Proceso actual = proceso(1, 5);
+        prioridad.avanzarCiclo(100);
+        prioridad.procesoListo(proceso(2, 5));
+        assertFalse(prioridad.debeDesalojar(actual));
+    }
+
+    // Unos ciclos de espera no bastan: hace falta un nivel completo de envejecimiento
+    @Test
+    public void envejecimientoMenorQueUnNivelNoDesaloja() {
+        Prioridad prioridad = new Prioridad(20);
+        Proceso actual = proceso(1, 5);
+        prioridad.avanzarCiclo(100);
+        prioridad.procesoListo(proceso(2, 5));
+
+        prioridad.avanzarCiclo(119);
+        assertFalse(prioridad.debeDesalojar(actual));
+        prioridad.avanzarCiclo(120);
+        assertTrue(prioridad.debeDesalojar(actual));
+    }
+
+    @Test
+    public void sinEnvejecimientoComparaLaPrioridadEstatica() {
+        Prioridad prioridad = new Prioridad(0);
+        Proceso actual = proceso(1, 3);
+        prioridad.procesoListo(proceso(2, 3));
+        assertFalse(prioridad.debeDesalojar(actual));
+        prioridad.procesoListo(proceso(3, 2));
+        assertTrue(prioridad.debeDesalojar(actual));
+    }
+
+    // Regresión: con un trabajo largo de prioridad 5 en ejecución, una llegada de prioridad 1
+    // muy posterior al despacho entra a la CPU en el mismo ciclo, no cuando el largo termina
+    @Test
+    public void simuladorDesalojaAnteLlegadaTardia() {
+        for (int llegada : new int[] {20, 100, 400}) {
+            SistemaOperativoSimulado sistema = new SistemaOperativoSimulado(new ConfiguracionSistema());
+            sistema.configurarPlanificador("PRIORIDAD");
+            sistema.iniciar();
+            Proceso largo = sistema.getGestorProcesos().crearProceso("largo", 2000, TipoProceso.CPU_BOUND, 5);
+            sistema.getGestorColas().agregarAListos(largo);
+
+            for (int ciclo = 0; ciclo < llegada; ciclo++) {
+                sistema.ejecutarCiclo();
+            }
+            Proceso urgente = sistema.getGestorProcesos().crearProceso("urgente", 10, TipoProceso.CPU_BOUND, 1);
+            sistema.getGestorColas().agregarAListos(urgente);
+            sistema.ejecutarCiclo();
+
+            assertEquals("llegada en el ciclo " + llegada, EstadoProceso.EJECUCION, urgente.getEstado());
+            assertEquals(EstadoProceso.LISTO, largo.getEstado());
+            sistema.detener();
+        }
+    }
+}